@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model.builder;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.WILDCARD_QUERY_TEXT;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.action.search.SearchRequest;
+
+/**
+ * Per-request cost of building the search request of a query text from a search configuration: compiling the query
+ * for every request, filling the slots of a template compiled once, and going through the cached templates of
+ * {@link SearchRequestBuilder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchRequestBuilderBenchmark {
+
+    private static final String INDEX = "products";
+    private static final int SIZE = 10;
+    private static final String[] QUERY_TEXTS = { "red shoes", "waterproof hiking boots", "12\" laptop sleeve", "kids rain jacket" };
+    private static final String SIMPLE_QUERY = "{\"query\":{\"multi_match\":{\"query\":\""
+        + WILDCARD_QUERY_TEXT
+        + "\",\"fields\":[\"title^2\",\"description\"]}},\"_source\":[\"title\",\"price\"]}";
+    private static final String HYBRID_QUERY = "{\"query\":{\"hybrid\":{\"queries\":["
+        + "{\"match\":{\"title\":\""
+        + WILDCARD_QUERY_TEXT
+        + "\"}},{\"multi_match\":{\"query\":\""
+        + WILDCARD_QUERY_TEXT
+        + "\",\"fields\":[\"description\",\"category\"]}}]}},\"aggs\":{\"brands\":{\"terms\":{\"field\":\"brand\"}}}}";
+
+    @Param({ "simple", "hybrid" })
+    public String queryType;
+
+    private String query;
+    private SearchRequestTemplate template;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        query = "hybrid".equals(queryType) ? HYBRID_QUERY : SIMPLE_QUERY;
+        template = SearchRequestTemplate.compile(query);
+    }
+
+    @Benchmark
+    public SearchRequest compilePerRequest() {
+        return SearchRequestTemplate.compile(query).buildSearchRequest(INDEX, nextQueryText(), null, SIZE, false);
+    }
+
+    @Benchmark
+    public SearchRequest compiledTemplate() {
+        return template.buildSearchRequest(INDEX, nextQueryText(), null, SIZE, false);
+    }
+
+    @Benchmark
+    public SearchRequest searchRequestBuilder() {
+        return SearchRequestBuilder.buildSearchRequest(INDEX, query, nextQueryText(), null, SIZE);
+    }
+
+    private String nextQueryText() {
+        next = (next + 1) % QUERY_TEXTS.length;
+        return QUERY_TEXTS[next];
+    }
+}
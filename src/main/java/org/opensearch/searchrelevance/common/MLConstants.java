@@ -53,10 +53,34 @@ public class MLConstants {
             + "You MUST include a rating for EVERY hit provided, even if the rating is 0. "
             + "Do not include any explanation or additional text."
     );
+    public static final String PROMPT_SEARCH_RELEVANCE_BATCH = escapeJson(
+        "You are an expert search relevance rater. You are given several numbered search queries, each with its own hits. "
+            + "Evaluate the relevance of every hit to the SearchText of its own query with these criteria:\n"
+            + "- Score 1.0: Perfect match, highly relevant\n"
+            + "- Score 0.7-0.9: Very relevant with minor variations\n"
+            + "- Score 0.4-0.6: Moderately relevant\n"
+            + "- Score 0.1-0.3: Slightly relevant\n"
+            + "- Score 0.0: Completely irrelevant\n"
+            + "Evaluate based on: exact matches, semantic relevance, and overall context between the SearchText and content in Hits.\n"
+            + "When a reference is provided, evaluate based on the relevance to both SearchText and its reference.\n\n"
+            + "IMPORTANT: Provide your response ONLY as a single JSON array of objects, each with \"query_index\", \"id\" and "
+            + "\"rating_score\" fields, where query_index is the number of the query the hit belongs to. "
+            + "You MUST include a rating for EVERY hit of EVERY query, even if the rating is 0. "
+            + "Do not include any explanation or additional text."
+    );
     public static final String PROMPT_JSON_MESSAGES_SHELL = "[{\"role\":\"system\",\"content\":\"%s\"},"
         + "{\"role\":\"user\",\"content\":\"%s\"}]";
     public static final String INPUT_FORMAT_SEARCH = "SearchText - %s; Hits - %s";
     public static final String INPUT_FORMAT_SEARCH_WITH_REFERENCE = "SearchText: %s; Reference: %s; Hits: %s";
+    public static final String INPUT_FORMAT_BATCH_QUERY = "Query %d - SearchText: %s; Hits: %s";
+    public static final String INPUT_FORMAT_BATCH_QUERY_WITH_REFERENCE = "Query %d - SearchText: %s; Reference: %s; Hits: %s";
+
+    /**
+     * LLM batched response field names
+     */
+    public static final String RESPONSE_QUERY_INDEX_FIELD = "query_index";
+    public static final String RESPONSE_ID_FIELD = "id";
+    public static final String RESPONSE_RATING_SCORE_FIELD = "rating_score";
 
     public static String escapeJson(String str) {
         if (str == null) {
@@ -26,12 +26,17 @@ public class PluginConstants {
     public static final String JUDGMENTS_URL = SEARCH_RELEVANCE_BASE_URI + "/judgments";
     /** The URI for this plugin's search configurations rest actions */
     public static final String SEARCH_CONFIGURATIONS_URL = SEARCH_RELEVANCE_BASE_URI + "/search_configurations";
+    /** The endpoint suffix for resuming an interrupted job */
+    public static final String RESUME_ENDPOINT = "_resume";
+    /** The endpoint suffix for the paginated results of an experiment */
+    public static final String RESULTS_ENDPOINT = "results";
     /** The URI for initializing the UBI indices */
     public static final String INITIALIZE_URL = "/_plugins/ubi/initialize";
 
     /** The URI PARAMS placeholders */
     public static final String DOCUMENT_ID = "id";
     public static final String QUERY_TEXT = "query_text";
+    public static final String SEARCH_AFTER = "search_after";
 
     /** Use %SearchText% to represent wildcard in queryBody and also refer to the text in the search bar */
     public static final String WILDCARD_QUERY_TEXT = "%SearchText%";
@@ -53,6 +58,8 @@ public class PluginConstants {
     public static final String JUDGMENT_CACHE_INDEX_MAPPING = "mappings/judgment_cache.json";
     public static final String EXPERIMENT_VARIANT_INDEX = "search-relevance-experiment-variant";
     public static final String EXPERIMENT_VARIANT_INDEX_MAPPING = "mappings/experiment_variant.json";
+    public static final String EXPERIMENT_RESULT_INDEX = "search-relevance-experiment-result";
+    public static final String EXPERIMENT_RESULT_INDEX_MAPPING = "mappings/experiment_result.json";
 
     /**
      * UBI
@@ -86,7 +93,32 @@ public class PluginConstants {
     public static final String JUDGMENT_RATINGS = "judgmentRatings";
     public static final String CONTEXT_FIELDS = "contextFields";
     public static final String IGNORE_FAILURE = "ignoreFailure";
+    public static final String BATCH_QUERIES = "batchQueries";
+    public static final String SCHEDULING_WEIGHT = "schedulingWeight";
+    public static final String COLLAPSE_NEAR_DUPLICATES = "collapseNearDuplicates";
+    public static final String POOLED_JUDGING = "pooledJudging";
+    public static final String POOLING_NDCG_AT = "poolingNdcgAt";
+    public static final String POOLING_TOLERANCE = "poolingTolerance";
+    public static final String DOC_TOKEN_BUDGET = "docTokenBudget";
+    public static final String MAX_INPUT_TOKENS = "maxInputTokens";
+    public static final String MAX_LLM_CALLS = "maxLLMCalls";
+    public static final String DISTRIBUTED_JUDGING = "distributedJudging";
+    public static final String PARTITION_QUERY_TEXTS = "partitionQueryTexts";
+    public static final String OPTIMIZER = "optimizer";
+    public static final String SEARCH_BUDGET = "searchBudget";
+    public static final String DISTRIBUTED_EXECUTION = "distributedExecution";
+    public static final String COORDINATOR_NODE_ID = "coordinatorNodeId";
 
     public static final int DEFAULTED_QUERY_SET_SIZE = 10;
+    public static final int DEFAULT_SCHEDULING_WEIGHT = 1;
+    public static final int MAX_SCHEDULING_WEIGHT = 100;
+    public static final int DEFAULT_POOLING_NDCG_AT = 10;
+    public static final double DEFAULT_POOLING_TOLERANCE = 0.01;
+    public static final int DEFAULT_SEARCH_BUDGET = 200;
+    public static final int DEFAULT_RESULTS_PAGE_SIZE = 100;
+    public static final int MAX_RESULTS_PAGE_SIZE = 1000;
     public static final String MANUAL = "manual";
+
+    /** Name of the circuit breaker of the judgment ratings loaded by running experiments */
+    public static final String JUDGMENT_CIRCUIT_BREAKER_NAME = "search_relevance_judgment";
 }
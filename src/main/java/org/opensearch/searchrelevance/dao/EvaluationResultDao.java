@@ -65,17 +65,17 @@ public class EvaluationResultDao {
     }
 
     /**
-     * Stores evaluation result to in the system index with efficient refresh policy (recommended for experiments)
+     * Stores evaluation result to in the system index through the bulk writer, searchable after the next refresh
      * @param evaluationResult - EvaluationResult content to be stored
      * @param listener - action lister for async operation
      */
-    public void putEvaluationResultEfficient(final EvaluationResult evaluationResult, final ActionListener listener) {
+    public void putEvaluationResultBulk(final EvaluationResult evaluationResult, final ActionListener listener) {
         if (evaluationResult == null) {
             listener.onFailure(new SearchRelevanceException("EvaluationResult cannot be null", RestStatus.BAD_REQUEST));
             return;
         }
         try {
-            searchRelevanceIndicesManager.putDocEfficient(
+            searchRelevanceIndicesManager.putDocBulk(
                 evaluationResult.id(),
                 evaluationResult.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS),
                 EVALUATION_RESULT,
@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.dao;
+
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EXPERIMENT_RESULT;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.opensearch.action.StepListener;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+
+/**
+ * Results of experiments, one document per query text routed by the experiment id, so the results of an experiment
+ * are written and paged through on a single shard.
+ */
+public class ExperimentResultDao {
+    private static final int COMPLETED_QUERY_TEXTS_PAGE_SIZE = 1000;
+
+    private final SearchRelevanceIndicesManager searchRelevanceIndicesManager;
+
+    public ExperimentResultDao(SearchRelevanceIndicesManager searchRelevanceIndicesManager) {
+        this.searchRelevanceIndicesManager = searchRelevanceIndicesManager;
+    }
+
+    /**
+     * Create experiment result index if not exists
+     * @param stepListener - step lister for async operation
+     */
+    public void createIndexIfAbsent(final StepListener<Void> stepListener) {
+        searchRelevanceIndicesManager.createIndexIfAbsent(EXPERIMENT_RESULT, stepListener);
+    }
+
+    /**
+     * Stores the results of a query text through the bulk writer, searchable after the next refresh
+     * @param experimentResult - ExperimentResult content to be stored
+     * @param listener - action lister for async operation
+     */
+    public void putExperimentResultBulk(final ExperimentResult experimentResult, final ActionListener listener) {
+        if (experimentResult == null) {
+            listener.onFailure(new SearchRelevanceException("ExperimentResult cannot be null", RestStatus.BAD_REQUEST));
+            return;
+        }
+        try {
+            searchRelevanceIndicesManager.putDocBulk(
+                experimentResult.getId(),
+                experimentResult.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS),
+                EXPERIMENT_RESULT,
+                experimentResult.getExperimentId(),
+                listener
+            );
+        } catch (IOException e) {
+            throw new SearchRelevanceException("Failed to store experiment result", e, RestStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Delete all the results of an experiment, only touching the shard they are routed to
+     * @param experimentId - experiment the results belong to
+     * @param listener - action lister for async operation
+     */
+    public void deleteExperimentResults(final String experimentId, final ActionListener<BulkByScrollResponse> listener) {
+        if (experimentId == null || experimentId.isEmpty()) {
+            listener.onFailure(new SearchRelevanceException("experimentId must not be null or empty", RestStatus.BAD_REQUEST));
+            return;
+        }
+        searchRelevanceIndicesManager.deleteDocsByQuery(
+            QueryBuilders.termQuery(ExperimentResult.EXPERIMENT_ID, experimentId),
+            EXPERIMENT_RESULT,
+            experimentId,
+            listener
+        );
+    }
+
+    /**
+     * List a page of the results of an experiment
+     * @param experimentId - experiment the results belong to
+     * @param sourceBuilder - source builder of the page, restricted to the results of the experiment
+     * @param listener - action lister for async operation
+     */
+    public SearchResponse listExperimentResults(
+        String experimentId,
+        SearchSourceBuilder sourceBuilder,
+        ActionListener<SearchResponse> listener
+    ) {
+        if (experimentId == null || experimentId.isEmpty()) {
+            listener.onFailure(new SearchRelevanceException("experimentId must not be null or empty", RestStatus.BAD_REQUEST));
+            return null;
+        }
+        if (sourceBuilder == null) {
+            sourceBuilder = new SearchSourceBuilder();
+        }
+        sourceBuilder.query(QueryBuilders.termQuery(ExperimentResult.EXPERIMENT_ID, experimentId));
+        return searchRelevanceIndicesManager.listDocsBySearchRequest(sourceBuilder, EXPERIMENT_RESULT, experimentId, listener);
+    }
+
+    /**
+     * Query texts of an experiment with stored results. A result is only written once every variant of its query text
+     * is evaluated, so it marks the query text as completed when the experiment is resumed.
+     * @param experimentId - experiment the results belong to
+     * @param listener - action lister for async operation
+     */
+    public void getCompletedQueryTexts(final String experimentId, final ActionListener<Set<String>> listener) {
+        collectCompletedQueryTexts(experimentId, null, new HashSet<>(), listener);
+    }
+
+    private void collectCompletedQueryTexts(
+        String experimentId,
+        Object[] searchAfter,
+        Set<String> completedQueryTexts,
+        ActionListener<Set<String>> listener
+    ) {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().size(COMPLETED_QUERY_TEXTS_PAGE_SIZE)
+            .fetchSource(new String[] { ExperimentResult.QUERY_TEXT }, null)
+            .sort(ExperimentResult.ID, SortOrder.ASC);
+        if (searchAfter != null) {
+            sourceBuilder.searchAfter(searchAfter);
+        }
+        listExperimentResults(experimentId, sourceBuilder, ActionListener.wrap(response -> {
+            SearchHit[] hits = response.getHits().getHits();
+            for (SearchHit hit : hits) {
+                completedQueryTexts.add((String) hit.getSourceAsMap().get(ExperimentResult.QUERY_TEXT));
+            }
+            if (hits.length < COMPLETED_QUERY_TEXTS_PAGE_SIZE) {
+                listener.onResponse(completedQueryTexts);
+            } else {
+                collectCompletedQueryTexts(experimentId, hits[hits.length - 1].getSortValues(), completedQueryTexts, listener);
+            }
+        }, listener::onFailure));
+    }
+}
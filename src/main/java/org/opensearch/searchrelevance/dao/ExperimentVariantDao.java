@@ -66,17 +66,17 @@ public class ExperimentVariantDao {
     }
 
     /**
-     * Stores experiment variant to in the system index with efficient refresh policy (recommended for experiments)
+     * Stores experiment variant to in the system index through the bulk writer, searchable after the next refresh
      * @param experimentVariant - Experiment content to be stored
      * @param listener - action lister for async operation
      */
-    public void putExperimentVariantEfficient(final ExperimentVariant experimentVariant, final ActionListener listener) {
+    public void putExperimentVariantBulk(final ExperimentVariant experimentVariant, final ActionListener listener) {
         if (Objects.isNull(experimentVariant)) {
             listener.onFailure(new SearchRelevanceException("Experiment cannot be null", RestStatus.BAD_REQUEST));
             return;
         }
         try {
-            searchRelevanceIndicesManager.putDocEfficient(
+            searchRelevanceIndicesManager.putDocBulk(
                 experimentVariant.getId(),
                 experimentVariant.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS),
                 EXPERIMENT_VARIANT,
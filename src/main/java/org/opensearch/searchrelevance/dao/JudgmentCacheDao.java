@@ -8,6 +8,7 @@
 package org.opensearch.searchrelevance.dao;
 
 import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.JUDGMENT_CACHE;
+import static org.opensearch.searchrelevance.model.JudgmentCache.CONTENT_HASH;
 import static org.opensearch.searchrelevance.model.JudgmentCache.CONTEXT_FIELDS_STR;
 import static org.opensearch.searchrelevance.model.JudgmentCache.DOCUMENT_ID;
 import static org.opensearch.searchrelevance.model.JudgmentCache.QUERY_TEXT;
@@ -36,6 +37,8 @@ import org.opensearch.searchrelevance.model.JudgmentCache;
 
 public class JudgmentCacheDao {
     private static final Logger LOGGER = LogManager.getLogger(JudgmentCacheDao.class);
+    private static final int CONTENT_HASH_LOOKUP_SIZE = 10;
+    private static final float DOCUMENT_ID_BOOST = 10.0f;
     private final SearchRelevanceIndicesManager searchRelevanceIndicesManager;
 
     @Inject
@@ -157,4 +160,49 @@ public class JudgmentCacheDao {
 
         return searchRelevanceIndicesManager.listDocsBySearchRequest(searchSourceBuilder, JUDGMENT_CACHE, wrappedListener);
     }
+
+    /**
+     * Get the judgment cache entries of a document in a single lookup: the entry cached for its documentId and the entries
+     * cached for the same query text and content hash under any other document id, e.g. before a reindex changed _id.
+     * Entries of the document itself score higher, so they are returned first.
+     * @param queryText - queryText to be searched
+     * @param documentId - documentId to be searched
+     * @param contentHash - hash of the context field content to be searched, null to look up by documentId only
+     * @param contextFields - contextFields to be searched
+     * @param listener - async operation
+     */
+    public SearchResponse getJudgmentCache(
+        String queryText,
+        String documentId,
+        String contentHash,
+        List<String> contextFields,
+        ActionListener<SearchResponse> listener
+    ) {
+        if (contentHash == null) {
+            return getJudgmentCache(queryText, documentId, contextFields, listener);
+        }
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
+            .must(QueryBuilders.matchQuery(QUERY_TEXT, queryText))
+            .filter(
+                QueryBuilders.boolQuery()
+                    .should(QueryBuilders.termQuery(DOCUMENT_ID, documentId))
+                    .should(QueryBuilders.termQuery(CONTENT_HASH, contentHash))
+                    .minimumShouldMatch(1)
+            )
+            .should(QueryBuilders.termQuery(DOCUMENT_ID, documentId).boost(DOCUMENT_ID_BOOST));
+
+        if (contextFields != null && !contextFields.isEmpty()) {
+            boolQuery.must(QueryBuilders.matchQuery(CONTEXT_FIELDS_STR, convertListToSortedStr(contextFields)));
+        }
+
+        searchSourceBuilder.query(boolQuery).size(CONTENT_HASH_LOOKUP_SIZE);
+
+        ActionListener<SearchResponse> wrappedListener = ActionListener.wrap(listener::onResponse, e -> {
+            LOGGER.debug("Cache lookup failed for docId: {} - continuing without cache", documentId);
+            listener.onFailure(e);
+        });
+
+        return searchRelevanceIndicesManager.listDocsBySearchRequest(searchSourceBuilder, JUDGMENT_CACHE, wrappedListener);
+    }
 }
@@ -10,22 +10,33 @@ package org.opensearch.searchrelevance.dao;
 import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.JUDGMENT;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 import org.opensearch.action.StepListener;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptType;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
 import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
 import org.opensearch.searchrelevance.model.Judgment;
 
 public class JudgmentDao {
+    private static final String APPEND_JUDGMENT_RATINGS_SCRIPT = "if (ctx._source.judgmentRatings == null) {"
+        + " ctx._source.judgmentRatings = new ArrayList(); }"
+        + " ctx._source.judgmentRatings.addAll(params.judgmentRatings);"
+        + " ctx._source.metadata.putAll(params.metadata);"
+        + " ctx._source.timestamp = params.timestamp;";
+
     private final SearchRelevanceIndicesManager searchRelevanceIndicesManager;
 
     @Inject
@@ -80,6 +91,34 @@ public class JudgmentDao {
         }
     }
 
+    /**
+     * Append judgment ratings to a stored judgment and update some of its metadata. Only the new ratings are sent, the
+     * ratings already stored are left as they are.
+     * @param judgmentId - id of the judgment to be updated
+     * @param judgmentRatings - ratings appended to the stored ones
+     * @param metadata - metadata entries to be added or replaced
+     * @param timestamp - new timestamp of the judgment
+     * @param listener - action lister for async operation
+     */
+    public void appendJudgmentRatings(
+        final String judgmentId,
+        final List<Map<String, Object>> judgmentRatings,
+        final Map<String, Object> metadata,
+        final String timestamp,
+        final ActionListener<UpdateResponse> listener
+    ) {
+        Map<String, Object> params = Map.of(
+            Judgment.JUDGMENT_RATINGS,
+            judgmentRatings,
+            Judgment.METADATA,
+            metadata,
+            Judgment.TIME_STAMP,
+            timestamp
+        );
+        Script script = new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, APPEND_JUDGMENT_RATINGS_SCRIPT, params);
+        searchRelevanceIndicesManager.updateDocByScript(judgmentId, script, JUDGMENT, listener);
+    }
+
     /**
      * Delete judgment by judgmentID
      * @param judgmentId - id to be deleted
@@ -99,6 +99,21 @@ public class QuerySetDao {
         return searchRelevanceIndicesManager.getDocByDocId(querySetId, QUERY_SET, listener);
     }
 
+    /**
+     * Get query set by querySetID, converted into a query set
+     * @param querySetId - id to be searched
+     * @param listener - action lister for async operation
+     */
+    public void getQuerySetAsync(String querySetId, ActionListener<QuerySet> listener) {
+        getQuerySet(querySetId, ActionListener.wrap(response -> {
+            if (response.getHits().getTotalHits().value() == 0) {
+                listener.onFailure(new SearchRelevanceException("QuerySet not found: " + querySetId, RestStatus.NOT_FOUND));
+                return;
+            }
+            listener.onResponse(convertToQuerySet(response));
+        }, listener::onFailure));
+    }
+
     public QuerySet getQuerySetSync(String querySetId) {
         if (querySetId == null || querySetId.isEmpty()) {
             throw new SearchRelevanceException("querySetId must not be null or empty", RestStatus.BAD_REQUEST);
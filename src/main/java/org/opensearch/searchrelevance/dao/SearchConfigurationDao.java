@@ -11,10 +11,12 @@ import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_IND
 import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.SEARCH_CONFIGURATION;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -95,12 +97,39 @@ public class SearchConfigurationDao {
         return searchRelevanceIndicesManager.getDocByDocId(searchConfigurationId, SEARCH_CONFIGURATION, listener);
     }
 
-    public SearchConfiguration getSearchConfigurationSync(String searchConfigurationId) {
-        if (searchConfigurationId == null || searchConfigurationId.isEmpty()) {
-            throw new SearchRelevanceException("searchConfigurationId must not be null or empty", RestStatus.BAD_REQUEST);
+    /**
+     * Get search configurations by ids, converted into search configurations in the order of the ids
+     * @param searchConfigurationIds - ids to be searched
+     * @param listener - action lister for async operation
+     */
+    public void getSearchConfigurationsAsync(List<String> searchConfigurationIds, ActionListener<List<SearchConfiguration>> listener) {
+        if (searchConfigurationIds.isEmpty()) {
+            listener.onResponse(List.of());
+            return;
+        }
+        AtomicReferenceArray<SearchConfiguration> searchConfigurations = new AtomicReferenceArray<>(searchConfigurationIds.size());
+        GroupedActionListener<SearchResponse> groupedListener = new GroupedActionListener<>(ActionListener.wrap(responses -> {
+            List<SearchConfiguration> ordered = new ArrayList<>(searchConfigurationIds.size());
+            for (int i = 0; i < searchConfigurationIds.size(); i++) {
+                ordered.add(searchConfigurations.get(i));
+            }
+            listener.onResponse(ordered);
+        }, listener::onFailure), searchConfigurationIds.size());
+
+        for (int i = 0; i < searchConfigurationIds.size(); i++) {
+            String searchConfigurationId = searchConfigurationIds.get(i);
+            int position = i;
+            getSearchConfiguration(searchConfigurationId, ActionListener.wrap(response -> {
+                if (response.getHits().getTotalHits().value() == 0) {
+                    groupedListener.onFailure(
+                        new SearchRelevanceException("SearchConfiguration not found: " + searchConfigurationId, RestStatus.NOT_FOUND)
+                    );
+                    return;
+                }
+                searchConfigurations.set(position, convertToSearchConfiguration(response));
+                groupedListener.onResponse(response);
+            }, groupedListener::onFailure));
         }
-        SearchResponse response = searchRelevanceIndicesManager.getDocByDocIdSync(searchConfigurationId, SEARCH_CONFIGURATION);
-        return convertToSearchConfiguration(response);
     }
 
     /**
@@ -73,7 +73,7 @@ public class ExperimentTaskContext {
     }
 
     /**
-     * Non-blocking variant write
+     * Non-blocking variant write, buffered by the plugin bulk writer
      */
     public void scheduleVariantWrite(ExperimentVariant variant, String evaluationId, boolean isSuccess) {
         // Store evaluationId immediately for successful variants before async write
@@ -84,11 +84,9 @@ public class ExperimentTaskContext {
             }
         }
 
-        CompletableFuture.runAsync(() -> {
-            experimentVariantDao.putExperimentVariantEfficient(variant, ActionListener.wrap(response -> {
-                log.debug("write successful for variant: {}", variant.getId());
-            }, error -> { log.error("write failed for variant {}: {}", variant.getId(), error.getMessage()); }));
-        });
+        experimentVariantDao.putExperimentVariantBulk(variant, ActionListener.wrap(response -> {
+            log.debug("write successful for variant: {}", variant.getId());
+        }, error -> { log.error("write failed for variant {}: {}", variant.getId(), error.getMessage()); }));
     }
 
     /**
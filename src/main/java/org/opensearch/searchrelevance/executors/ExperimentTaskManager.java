@@ -8,32 +8,44 @@
 package org.opensearch.searchrelevance.executors;
 
 import static org.opensearch.searchrelevance.executors.SearchRelevanceExecutor.SEARCH_RELEVANCE_EXEC_THREAD_POOL_NAME;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_COMBINATION_TECHNIQUE;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.cluster.block.ClusterBlockException;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
-import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.searchrelevance.dao.EvaluationResultDao;
 import org.opensearch.searchrelevance.dao.ExperimentVariantDao;
+import org.opensearch.searchrelevance.experiment.HybridScoreRecombiner;
 import org.opensearch.searchrelevance.experiment.QuerySourceUtil;
+import org.opensearch.searchrelevance.model.EvaluationResult;
 import org.opensearch.searchrelevance.model.ExperimentType;
 import org.opensearch.searchrelevance.model.ExperimentVariant;
-import org.opensearch.searchrelevance.model.builder.SearchRequestBuilder;
+import org.opensearch.searchrelevance.model.builder.SearchRequestTemplate;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
@@ -44,19 +56,36 @@ import lombok.extern.log4j.Log4j2;
 /**
  * Generic task manager for scheduling experiment tasks with concurrency control and backpressure handling.
  * Supports HYBRID_OPTIMIZER and POINTWISE_EVALUATION experiment types.
+ * <p>
+ * Variants run through a staged pipeline: query-build, search, metric and write. Each stage has a bounded
+ * queue and its own executor, CPU-bound stages on the search relevance pool and stages waiting on the cluster on the
+ * generic pool. A stage starts its next item as soon as one completes, and a full stage holds back the stage feeding
+ * it, so no variant is ever re-scheduled on a timer.
+ * <p>
+ * The variants of one query text and search configuration travel through the pipeline in batches, and the searches of
+ * a batch are sent as a single multi search request instead of one round trip per variant.
+ * <p>
+ * The query of a search configuration is compiled into a {@link SearchRequestTemplate} the first time it is run, and
+ * the requests of every query text and variant are built from that template.
  */
 @Log4j2
 public class ExperimentTaskManager {
-    public static final int TASK_RETRY_DELAY_MILLISECONDS = 1000;
     public static final int ALLOCATED_PROCESSORS = OpenSearchExecutors.allocatedProcessors(Settings.EMPTY);
 
     private static final int DEFAULT_MIN_CONCURRENT_THREADS = 24;
     private static final int PROCESSOR_NUMBER_DIVISOR = 2;
+    private static final int STAGE_QUEUE_CAPACITY_MULTIPLIER = 4;
+    static final int MAX_VARIANTS_PER_MULTI_SEARCH = 32;
     protected static final String THREAD_POOL_EXECUTOR_NAME = ThreadPool.Names.GENERIC;
 
     private final int maxConcurrentTasks;
     private final ConcurrentHashMap<String, ExperimentTaskContext> experimentTaskContexts = new ConcurrentHashMap<>();
-    private final Semaphore concurrencyControl;
+
+    // Pipeline stages, in the order variants flow through them
+    private final PipelineStage<VariantBatch> queryBuildStage;
+    private final PipelineStage<VariantBatch> searchStage;
+    private final PipelineStage<VariantBatch> metricStage;
+    private final PipelineStage<VariantBatch> writeStage;
 
     // Use LongAdder for better concurrent counting performance
     private final LongAdder activeTasks = new LongAdder();
@@ -67,22 +96,58 @@ public class ExperimentTaskManager {
     private final ExperimentVariantDao experimentVariantDao;
     private final ThreadPool threadPool;
     private final SearchResponseProcessor searchResponseProcessor;
+    private final IntSupplier maxConcurrentSearches;
+    private final BooleanSupplier idOnlySearch;
 
-    @Inject
     public ExperimentTaskManager(
         Client client,
         EvaluationResultDao evaluationResultDao,
         ExperimentVariantDao experimentVariantDao,
         ThreadPool threadPool
+    ) {
+        this(client, evaluationResultDao, experimentVariantDao, threadPool, () -> 0, () -> true);
+    }
+
+    @Inject
+    public ExperimentTaskManager(
+        Client client,
+        EvaluationResultDao evaluationResultDao,
+        ExperimentVariantDao experimentVariantDao,
+        ThreadPool threadPool,
+        SearchRelevanceSettingsAccessor settingsAccessor
+    ) {
+        this(
+            client,
+            evaluationResultDao,
+            experimentVariantDao,
+            threadPool,
+            settingsAccessor::getMaxConcurrentExperimentSearches,
+            settingsAccessor::isIdOnlyExperimentSearchEnabled
+        );
+    }
+
+    private ExperimentTaskManager(
+        Client client,
+        EvaluationResultDao evaluationResultDao,
+        ExperimentVariantDao experimentVariantDao,
+        ThreadPool threadPool,
+        IntSupplier maxConcurrentSearches,
+        BooleanSupplier idOnlySearch
     ) {
         this.client = client;
+        this.maxConcurrentSearches = maxConcurrentSearches;
+        this.idOnlySearch = idOnlySearch;
         this.evaluationResultDao = evaluationResultDao;
         this.experimentVariantDao = experimentVariantDao;
         this.threadPool = threadPool;
         this.searchResponseProcessor = new SearchResponseProcessor(evaluationResultDao, experimentVariantDao);
 
         this.maxConcurrentTasks = Math.max(2, Math.min(DEFAULT_MIN_CONCURRENT_THREADS, ALLOCATED_PROCESSORS / PROCESSOR_NUMBER_DIVISOR));
-        this.concurrencyControl = new Semaphore(maxConcurrentTasks, true);
+        this.queryBuildStage = createStage("query_build", SEARCH_RELEVANCE_EXEC_THREAD_POOL_NAME, this::buildQuery);
+        this.searchStage = createStage("search", THREAD_POOL_EXECUTOR_NAME, this::search);
+        this.metricStage = createStage("metric", SEARCH_RELEVANCE_EXEC_THREAD_POOL_NAME, this::calculateMetrics);
+        this.writeStage = createStage("write", THREAD_POOL_EXECUTOR_NAME, this::writeResults);
+        queryBuildStage.then(searchStage).then(metricStage).then(writeStage);
 
         log.info(
             "ExperimentTaskManager initialized with max {} concurrent tasks (processors: {})",
@@ -107,6 +172,234 @@ public class ExperimentTaskManager {
         Map<String, String> docIdToScores,
         Map<String, Object> configToExperimentVariants,
         AtomicBoolean hasFailure
+    ) {
+        ExperimentTaskContext taskContext = createTaskContext(
+            experimentType,
+            experimentId,
+            searchConfigId,
+            queryText,
+            experimentVariants.size(),
+            configToExperimentVariants,
+            hasFailure
+        );
+
+        log.info(
+            "Scheduling {} {} experiment tasks for experiment {} with non-blocking concurrency",
+            experimentVariants.size(),
+            experimentType,
+            experimentId
+        );
+
+        // Schedule tasks asynchronously, in batches searched with one multi search request each
+        List<VariantTaskParameters> variantParams = experimentVariants.stream()
+            .map(
+                variant -> createTaskParameters(
+                    experimentType,
+                    experimentId,
+                    searchConfigId,
+                    index,
+                    query,
+                    queryText,
+                    size,
+                    variant,
+                    judgmentIds,
+                    docIdToScores,
+                    taskContext
+                )
+            )
+            .toList();
+        List<CompletableFuture<Void>> batchFutures = new ArrayList<>();
+        for (int from = 0; from < variantParams.size(); from += MAX_VARIANTS_PER_MULTI_SEARCH) {
+            int to = Math.min(from + MAX_VARIANTS_PER_MULTI_SEARCH, variantParams.size());
+            batchFutures.add(scheduleVariantBatchAsync(variantParams.subList(from, to)));
+        }
+
+        // When all variants complete, clean up
+        CompletableFuture.allOf(batchFutures.toArray(new CompletableFuture[0])).whenComplete((v, ex) -> {
+            experimentTaskContexts.remove(experimentId);
+        });
+
+        return taskContext.getResultFuture();
+    }
+
+    /**
+     * Evaluate hybrid optimizer variants without a hybrid search per variant: the sub-queries of the hybrid query are
+     * searched once with a multi search request, and every variant ranks the retrieved candidates in-process with its
+     * own normalization, combination and weights.
+     */
+    public CompletableFuture<Map<String, Object>> scheduleRecombinedTasksAsync(
+        String experimentId,
+        String searchConfigId,
+        String index,
+        String query,
+        String queryText,
+        int size,
+        List<ExperimentVariant> experimentVariants,
+        List<String> judgmentIds,
+        Map<String, String> docIdToScores,
+        Map<String, Object> configToExperimentVariants,
+        AtomicBoolean hasFailure
+    ) {
+        ExperimentTaskContext taskContext = createTaskContext(
+            ExperimentType.HYBRID_OPTIMIZER,
+            experimentId,
+            searchConfigId,
+            queryText,
+            experimentVariants.size(),
+            configToExperimentVariants,
+            hasFailure
+        );
+
+        log.info(
+            "Evaluating {} hybrid optimizer variants for experiment {} from a single retrieval of the sub-queries",
+            experimentVariants.size(),
+            experimentId
+        );
+
+        activeTasks.add(experimentVariants.size());
+        CompletableFuture<Void> variantsFuture = new CompletableFuture<>();
+        variantsFuture.whenComplete((v, ex) -> {
+            activeTasks.add(-experimentVariants.size());
+            experimentTaskContexts.remove(experimentId);
+        });
+
+        retrieveSubQueryScoresAsync(index, query, queryText, size).whenComplete((recombiner, e) -> {
+            if (e != null) {
+                failRecombinedVariants(experimentVariants, experimentId, unwrapCompletionException(e), taskContext, variantsFuture);
+            } else {
+                evaluateRecombinedVariants(recombiner, experimentVariants, taskContext, judgmentIds, size, docIdToScores, variantsFuture);
+            }
+        });
+
+        return taskContext.getResultFuture();
+    }
+
+    /**
+     * Search every sub-query of a hybrid query once, with a single multi search request, and collect the raw scores of
+     * their hits. The returned future completes on the search relevance thread pool.
+     * @param size number of candidates retrieved for each sub-query
+     */
+    public CompletableFuture<HybridScoreRecombiner> retrieveSubQueryScoresAsync(String index, String query, String queryText, int size) {
+        CompletableFuture<HybridScoreRecombiner> future = new CompletableFuture<>();
+        MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+        try {
+            getSearchRequestTemplate(query).buildRequestsForHybridSubQueries(index, queryText, size).forEach(multiSearchRequest::add);
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+        int maxConcurrentSearchRequests = maxConcurrentSearches.getAsInt();
+        if (maxConcurrentSearchRequests > 0) {
+            multiSearchRequest.maxConcurrentSearchRequests(maxConcurrentSearchRequests);
+        }
+
+        client.multiSearch(multiSearchRequest, ActionListener.wrap(response -> {
+            List<SearchResponse> subQueryResponses = new ArrayList<>();
+            for (MultiSearchResponse.Item item : response.getResponses()) {
+                if (item.isFailure()) {
+                    future.completeExceptionally(item.getFailure());
+                    return;
+                }
+                subQueryResponses.add(item.getResponse());
+            }
+            // continue on the search relevance pool, the response arrives on a transport thread
+            threadPool.executor(SEARCH_RELEVANCE_EXEC_THREAD_POOL_NAME).execute(() -> {
+                try {
+                    future.complete(HybridScoreRecombiner.fromResponses(subQueryResponses));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        }, future::completeExceptionally));
+        return future;
+    }
+
+    private static Exception unwrapCompletionException(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        return cause instanceof Exception exception ? exception : new RuntimeException(cause);
+    }
+
+    private void evaluateRecombinedVariants(
+        HybridScoreRecombiner recombiner,
+        List<ExperimentVariant> experimentVariants,
+        ExperimentTaskContext taskContext,
+        List<String> judgmentIds,
+        int size,
+        Map<String, String> docIdToScores,
+        CompletableFuture<Void> variantsFuture
+    ) {
+        if (experimentVariants.isEmpty()) {
+            variantsFuture.complete(null);
+            return;
+        }
+        AtomicInteger pendingWrites = new AtomicInteger(experimentVariants.size());
+        Runnable onVariantDone = () -> {
+            if (pendingWrites.decrementAndGet() == 0) {
+                variantsFuture.complete(null);
+            }
+        };
+        for (ExperimentVariant variant : experimentVariants) {
+            if (taskContext.getHasFailure().get()) {
+                variantsFuture.complete(null);
+                return;
+            }
+            String evaluationId = UUID.randomUUID().toString();
+            Map<String, Object> parameters = variant.getParameters();
+            try {
+                List<String> docIds = recombiner.rank(
+                    (String) parameters.get(EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE),
+                    (String) parameters.get(EXPERIMENT_OPTION_COMBINATION_TECHNIQUE),
+                    (float[]) parameters.get(EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION),
+                    size
+                );
+                EvaluationResult evaluationResult = searchResponseProcessor.buildEvaluationResult(
+                    docIds,
+                    variant,
+                    taskContext.getExperimentId(),
+                    taskContext.getSearchConfigId(),
+                    taskContext.getQueryText(),
+                    size,
+                    judgmentIds,
+                    docIdToScores,
+                    evaluationId
+                );
+                searchResponseProcessor.writeEvaluationResult(
+                    evaluationResult,
+                    variant,
+                    taskContext.getExperimentId(),
+                    taskContext.getSearchConfigId(),
+                    evaluationId,
+                    taskContext,
+                    ActionListener.wrap(v -> onVariantDone.run(), e -> onVariantDone.run())
+                );
+            } catch (Exception e) {
+                searchResponseProcessor.handleTaskFailure(variant, e, taskContext);
+                onVariantDone.run();
+            }
+        }
+    }
+
+    private void failRecombinedVariants(
+        List<ExperimentVariant> experimentVariants,
+        String experimentId,
+        Exception e,
+        ExperimentTaskContext taskContext,
+        CompletableFuture<Void> variantsFuture
+    ) {
+        for (ExperimentVariant variant : experimentVariants) {
+            handleSearchFailure(e, variant, experimentId, UUID.randomUUID().toString(), taskContext);
+        }
+        variantsFuture.complete(null);
+    }
+
+    private ExperimentTaskContext createTaskContext(
+        ExperimentType experimentType,
+        String experimentId,
+        String searchConfigId,
+        String queryText,
+        int variantCount,
+        Map<String, Object> configToExperimentVariants,
+        AtomicBoolean hasFailure
     ) {
         // Create a CompletableFuture to track the overall completion
         CompletableFuture<Map<String, Object>> resultFuture = new CompletableFuture<>();
@@ -116,7 +409,7 @@ public class ExperimentTaskManager {
             experimentId,
             searchConfigId,
             queryText,
-            experimentVariants.size(),
+            variantCount,
             new ConcurrentHashMap<>(configToExperimentVariants),
             resultFuture,
             hasFailure,
@@ -129,40 +422,7 @@ public class ExperimentTaskManager {
 
         // Initialize config map using computeIfAbsent (non-blocking)
         taskContext.getConfigToExperimentVariants().computeIfAbsent(searchConfigId, k -> new ConcurrentHashMap<String, Object>());
-
-        log.info(
-            "Scheduling {} {} experiment tasks for experiment {} with non-blocking concurrency",
-            experimentVariants.size(),
-            experimentType,
-            experimentId
-        );
-
-        // Schedule tasks asynchronously
-        List<CompletableFuture<Void>> variantFutures = experimentVariants.stream().map(variant -> {
-            VariantTaskParameters params = createTaskParameters(
-                experimentType,
-                experimentId,
-                searchConfigId,
-                index,
-                query,
-                queryText,
-                size,
-                variant,
-                judgmentIds,
-                docIdToScores,
-                taskContext
-            );
-
-            return scheduleVariantTaskAsync(params);
-        }).toList();
-
-        // When all variants complete, clean up
-        CompletableFuture.allOf(variantFutures.toArray(new CompletableFuture[0])).whenComplete((v, ex) -> {
-            experimentTaskContexts.remove(experimentId);
-            activeTasks.decrement();
-        });
-
-        return resultFuture;
+        return taskContext;
     }
 
     /**
@@ -219,122 +479,145 @@ public class ExperimentTaskManager {
         return (String) variant.getParameters().get("searchPipeline");
     }
 
+    private PipelineStage<VariantBatch> createStage(String name, String executorName, PipelineStage.Handler<VariantBatch> handler) {
+        // resolve the executor on use, thread pools are only available once the node has started
+        Executor executor = command -> threadPool.executor(executorName).execute(command);
+        return new PipelineStage<>(
+            name,
+            executor,
+            maxConcurrentTasks,
+            maxConcurrentTasks * STAGE_QUEUE_CAPACITY_MULTIPLIER,
+            handler,
+            this::onBatchFinished,
+            this::onBatchFailed
+        );
+    }
+
     /**
-     * Schedule a single variant task asynchronously
+     * Feed a batch of variants into the pipeline
      */
-    private CompletableFuture<Void> scheduleVariantTaskAsync(VariantTaskParameters params) {
-        CompletableFuture<Void> future = new CompletableFuture<>();
+    private CompletableFuture<Void> scheduleVariantBatchAsync(List<VariantTaskParameters> variantParams) {
+        VariantBatch batch = new VariantBatch(variantParams.stream().map(VariantTask::new).toList());
+        activeTasks.add(batch.tasks.size());
+        queryBuildStage.submit(batch, () -> {});
+        return batch.future;
+    }
 
-        if (params.getTaskContext().getHasFailure().get()) {
-            future.complete(null);
-            return future;
+    private void buildQuery(VariantBatch batch, ActionListener<Boolean> listener) {
+        if (batch.hasFailure()) {
+            listener.onResponse(false);
+            return;
+        }
+        MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+        int maxConcurrentSearchRequests = maxConcurrentSearches.getAsInt();
+        if (maxConcurrentSearchRequests > 0) {
+            multiSearchRequest.maxConcurrentSearchRequests(maxConcurrentSearchRequests);
+        }
+        for (VariantTask task : batch.tasks) {
+            multiSearchRequest.add(buildSearchRequest(task.params, task.evaluationId));
         }
+        batch.multiSearchRequest = multiSearchRequest;
+        listener.onResponse(true);
+    }
 
-        // Try to acquire permit non-blocking
-        if (concurrencyControl.tryAcquire()) {
-            activeTasks.increment();
-            submitTaskToThreadPool(params, future);
-        } else {
-            // Schedule with backpressure using CompletableFuture
-            CompletableFuture.delayedExecutor(
-                TASK_RETRY_DELAY_MILLISECONDS,
-                TimeUnit.MILLISECONDS,
-                threadPool.executor(THREAD_POOL_EXECUTOR_NAME)
-            ).execute(() -> {
-                scheduleVariantTaskAsync(params).whenComplete((v, ex) -> {
-                    if (ex != null) {
-                        future.completeExceptionally(ex);
-                    } else {
-                        future.complete(v);
-                    }
-                });
-            });
+    private void search(VariantBatch batch, ActionListener<Boolean> listener) {
+        if (batch.hasFailure()) {
+            listener.onResponse(false);
+            return;
         }
+        client.multiSearch(batch.multiSearchRequest, ActionListener.wrap(response -> {
+            batch.multiSearchRequest = null;
+            // item responses are in the order the requests were added
+            MultiSearchResponse.Item[] items = response.getResponses();
+            for (int i = 0; i < batch.tasks.size(); i++) {
+                VariantTask task = batch.tasks.get(i);
+                if (items[i].isFailure()) {
+                    onSearchFailure(task, items[i].getFailure());
+                } else {
+                    task.searchResponse = items[i].getResponse();
+                }
+            }
+            listener.onResponse(true);
+        }, e -> {
+            batch.multiSearchRequest = null;
+            batch.tasks.forEach(task -> onSearchFailure(task, e));
+            listener.onResponse(false);
+        }));
+    }
 
-        return future;
+    private void onSearchFailure(VariantTask task, Exception e) {
+        VariantTaskParameters params = task.params;
+        task.completed = true;
+        handleSearchFailure(e, params.getExperimentVariant(), params.getExperimentId(), task.evaluationId, params.getTaskContext());
     }
 
-    private void submitTaskToThreadPool(VariantTaskParameters params, CompletableFuture<Void> future) {
-        try {
-            threadPool.executor(SEARCH_RELEVANCE_EXEC_THREAD_POOL_NAME).execute(new OptimizedVariantTaskRunnable(params, future));
-        } catch (RejectedExecutionException e) {
-            concurrencyControl.release();
-            activeTasks.decrement();
-            log.warn("Thread pool queue full, retrying for variant: {}", params.getExperimentVariant().getId());
-
-            // Retry with backpressure
-            CompletableFuture.delayedExecutor(
-                TASK_RETRY_DELAY_MILLISECONDS,
-                TimeUnit.MILLISECONDS,
-                threadPool.executor(THREAD_POOL_EXECUTOR_NAME)
-            ).execute(() -> scheduleVariantTaskAsync(params));
+    private void calculateMetrics(VariantBatch batch, ActionListener<Boolean> listener) {
+        if (batch.hasFailure()) {
+            listener.onResponse(false);
+            return;
+        }
+        for (VariantTask task : batch.pendingTasks()) {
+            VariantTaskParameters params = task.params;
+            try {
+                task.evaluationResult = searchResponseProcessor.buildEvaluationResult(
+                    task.searchResponse,
+                    params.getExperimentVariant(),
+                    params.getExperimentId(),
+                    params.getSearchConfigId(),
+                    params.getQueryText(),
+                    params.getSize(),
+                    params.getJudgmentIds(),
+                    params.getDocIdToScores(),
+                    task.evaluationId
+                );
+            } catch (Exception e) {
+                task.completed = true;
+                searchResponseProcessor.handleTaskFailure(params.getExperimentVariant(), e, params.getTaskContext());
+            }
+            task.searchResponse = null;
         }
+        listener.onResponse(true);
     }
 
-    /**
-     * Execute variant task using CompletableFuture for better async handling
-     */
-    private void executeVariantTaskAsync(VariantTaskParameters params, CompletableFuture<Void> future) {
-        if (params.getTaskContext().getHasFailure().get()) {
-            concurrencyControl.release();
-            activeTasks.decrement();
-            future.complete(null);
+    private void writeResults(VariantBatch batch, ActionListener<Boolean> listener) {
+        List<VariantTask> pendingTasks = batch.pendingTasks();
+        if (batch.hasFailure() || pendingTasks.isEmpty()) {
+            listener.onResponse(false);
             return;
         }
+        AtomicInteger pendingWrites = new AtomicInteger(pendingTasks.size());
+        ActionListener<Boolean> batchListener = ActionListener.notifyOnce(listener);
+        for (VariantTask task : pendingTasks) {
+            VariantTaskParameters params = task.params;
+            searchResponseProcessor.writeEvaluationResult(
+                task.evaluationResult,
+                params.getExperimentVariant(),
+                params.getExperimentId(),
+                params.getSearchConfigId(),
+                task.evaluationId,
+                params.getTaskContext(),
+                ActionListener.wrap(v -> {
+                    task.completed = true;
+                    if (pendingWrites.decrementAndGet() == 0) {
+                        batchListener.onResponse(true);
+                    }
+                }, batchListener::onFailure)
+            );
+        }
+    }
 
-        final String evaluationId = UUID.randomUUID().toString();
-        SearchRequest searchRequest = buildSearchRequest(params, evaluationId);
-
-        // Convert ActionListener to CompletableFuture
-        CompletableFuture<Void> searchFuture = new CompletableFuture<>();
-
-        client.search(searchRequest, new ActionListener<>() {
-            @Override
-            public void onResponse(org.opensearch.action.search.SearchResponse response) {
-                try {
-                    searchResponseProcessor.processSearchResponse(
-                        response,
-                        params.getExperimentVariant(),
-                        params.getExperimentId(),
-                        params.getSearchConfigId(),
-                        params.getQueryText(),
-                        params.getSize(),
-                        params.getJudgmentIds(),
-                        params.getDocIdToScores(),
-                        evaluationId,
-                        params.getTaskContext()
-                    );
-                    searchFuture.complete(null);
-                } catch (Exception e) {
-                    searchFuture.completeExceptionally(e);
-                } finally {
-                    concurrencyControl.release();
-                    activeTasks.decrement();
-                }
-            }
-
-            @Override
-            public void onFailure(Exception e) {
-                try {
-                    handleSearchFailure(e, params.getExperimentVariant(), params.getExperimentId(), evaluationId, params.getTaskContext());
-                    searchFuture.complete(null);
-                } catch (Exception ex) {
-                    searchFuture.completeExceptionally(ex);
-                } finally {
-                    concurrencyControl.release();
-                    activeTasks.decrement();
-                }
-            }
-        });
+    private void onBatchFinished(VariantBatch batch) {
+        activeTasks.add(-batch.tasks.size());
+        batch.future.complete(null);
+    }
 
-        // Chain the futures
-        searchFuture.whenComplete((v, ex) -> {
-            if (ex != null) {
-                future.completeExceptionally(ex);
-            } else {
-                future.complete(null);
-            }
-        });
+    private void onBatchFailed(VariantBatch batch, Exception e) {
+        activeTasks.add(-batch.tasks.size());
+        for (VariantTask task : batch.pendingTasks()) {
+            task.completed = true;
+            handleTaskFailure(task.params.getExperimentVariant(), e, task.params.getTaskContext());
+        }
+        batch.future.completeExceptionally(e);
     }
 
     /**
@@ -343,28 +626,37 @@ public class ExperimentTaskManager {
     private SearchRequest buildSearchRequest(VariantTaskParameters params, String evaluationId) {
         if (params instanceof PointwiseTaskParameters) {
             PointwiseTaskParameters pointwiseParams = (PointwiseTaskParameters) params;
-            return SearchRequestBuilder.buildSearchRequest(
+            return getSearchRequestTemplate(pointwiseParams.getQuery()).buildSearchRequest(
                 pointwiseParams.getIndex(),
-                pointwiseParams.getQuery(),
                 pointwiseParams.getQueryText(),
                 pointwiseParams.getSearchPipeline(),
-                pointwiseParams.getSize()
+                pointwiseParams.getSize(),
+                idOnlySearch.getAsBoolean()
             );
         } else {
             Map<String, Object> temporarySearchPipeline = QuerySourceUtil.createDefinitionOfTemporarySearchPipeline(
                 params.getExperimentVariant()
             );
 
-            return SearchRequestBuilder.buildRequestForHybridSearch(
+            return getSearchRequestTemplate(params.getQuery()).buildRequestForHybridSearch(
                 params.getIndex(),
-                params.getQuery(),
                 temporarySearchPipeline,
                 params.getQueryText(),
-                params.getSize()
+                params.getSize(),
+                idOnlySearch.getAsBoolean()
             );
         }
     }
 
+    /**
+     * Compiled query of a search configuration, compiled on first use
+     * @throws IllegalArgumentException if the query is not valid
+     */
+    @VisibleForTesting
+    SearchRequestTemplate getSearchRequestTemplate(String query) {
+        return SearchRequestTemplate.forQuery(query);
+    }
+
     private void handleSearchFailure(
         Exception e,
         ExperimentVariant experimentVariant,
@@ -397,10 +689,15 @@ public class ExperimentTaskManager {
     }
 
     /**
-     * Get current concurrency metrics
+     * Get current concurrency metrics, including queue depth and service time of every pipeline stage
      */
-    @VisibleForTesting
-    protected Map<String, Object> getConcurrencyMetrics() {
+    public Map<String, Object> getConcurrencyMetrics() {
+        Map<String, Object> stageMetrics = new LinkedHashMap<>();
+        int queuedTasks = 0;
+        for (PipelineStage<VariantBatch> stage : List.of(queryBuildStage, searchStage, metricStage, writeStage)) {
+            stageMetrics.put(stage.getName(), stage.getMetrics());
+            queuedTasks += stage.getQueueDepth();
+        }
         return Map.of(
             "active_experiments",
             experimentTaskContexts.size(),
@@ -409,49 +706,52 @@ public class ExperimentTaskManager {
             "max_concurrent_tasks",
             maxConcurrentTasks,
             "available_permits",
-            concurrencyControl.availablePermits(),
+            searchStage.getConcurrency() - searchStage.getRunning(),
             "queued_threads",
-            concurrencyControl.getQueueLength(),
+            queuedTasks,
             "thread_pool",
-            SEARCH_RELEVANCE_EXEC_THREAD_POOL_NAME
+            SEARCH_RELEVANCE_EXEC_THREAD_POOL_NAME,
+            "stages",
+            stageMetrics
         );
     }
 
     /**
-     * Optimized runnable using CompletableFuture
+     * A variant flowing through the pipeline, carrying the output of each stage to the next one
      */
-    private class OptimizedVariantTaskRunnable extends AbstractRunnable {
+    private static final class VariantTask {
         private final VariantTaskParameters params;
-        private final CompletableFuture<Void> future;
-
-        OptimizedVariantTaskRunnable(VariantTaskParameters params, CompletableFuture<Void> future) {
+        private final String evaluationId = UUID.randomUUID().toString();
+        private SearchResponse searchResponse;
+        private EvaluationResult evaluationResult;
+        /**
+         * Whether the outcome of the variant was already reported to its task context
+         */
+        private volatile boolean completed = false;
+
+        private VariantTask(VariantTaskParameters params) {
             this.params = params;
-            this.future = future;
         }
+    }
 
-        @Override
-        public void onFailure(Exception e) {
-            concurrencyControl.release();
-            activeTasks.decrement();
-
-            if (e.getCause() instanceof RejectedExecutionException) {
-                log.warn("Thread pool queue full, retrying task for variant: {}", params.getExperimentVariant().getId());
-                scheduleVariantTaskAsync(params).whenComplete((v, ex) -> {
-                    if (ex != null) {
-                        future.completeExceptionally(ex);
-                    } else {
-                        future.complete(v);
-                    }
-                });
-            } else {
-                handleTaskFailure(params.getExperimentVariant(), e, params.getTaskContext());
-                future.completeExceptionally(e);
-            }
+    /**
+     * Variants of one query text and search configuration that are searched with a single multi search request
+     */
+    private static final class VariantBatch {
+        private final List<VariantTask> tasks;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private MultiSearchRequest multiSearchRequest;
+
+        private VariantBatch(List<VariantTask> tasks) {
+            this.tasks = tasks;
+        }
+
+        private boolean hasFailure() {
+            return tasks.get(0).params.getTaskContext().getHasFailure().get();
         }
 
-        @Override
-        protected void doRun() {
-            executeVariantTaskAsync(params, future);
+        private List<VariantTask> pendingTasks() {
+            return tasks.stream().filter(task -> !task.completed).toList();
         }
     }
 
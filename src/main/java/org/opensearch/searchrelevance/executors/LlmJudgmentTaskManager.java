@@ -7,12 +7,21 @@
  */
 package org.opensearch.searchrelevance.executors;
 
+import static org.opensearch.searchrelevance.common.PluginConstants.DEFAULT_SCHEDULING_WEIGHT;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Semaphore;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.opensearch.common.inject.Inject;
 import org.opensearch.core.action.ActionListener;
@@ -24,7 +33,12 @@ import org.opensearch.threadpool.ThreadPool;
 import lombok.extern.log4j.Log4j2;
 
 /**
- * Manages concurrent execution of LLM judgment tasks at the query text level
+ * Manages concurrent execution of LLM judgment tasks at the query text level.
+ * Query text tasks are asynchronous: a task holds a permit from the moment it is dispatched until its listener
+ * is completed, but no thread is parked while it waits on search, cache or LLM responses.
+ * A single instance is shared by every judgment job on the node. Tasks that cannot get a permit are queued per job,
+ * and free permits are handed out across jobs with deficit round-robin, so a large job cannot starve the jobs
+ * submitted after it. Every query text task has unit cost, and a job may dispatch as many tasks per round as its weight.
  */
 @Log4j2
 public class LlmJudgmentTaskManager {
@@ -34,14 +48,24 @@ public class LlmJudgmentTaskManager {
     private static final int ALLOCATED_PROCESSORS = Runtime.getRuntime().availableProcessors();
 
     private final ThreadPool threadPool;
-    private final Semaphore rateLimiter;
     private final int maxConcurrentTasks;
 
+    private final Object lock = new Object();
+    private int availablePermits;
+    /**
+     * Jobs with queued or running tasks
+     */
+    private final Map<String, JobQueue> jobs = new HashMap<>();
+    /**
+     * Jobs with queued tasks, in round-robin order
+     */
+    private final Deque<JobQueue> activeJobs = new ArrayDeque<>();
+
     @Inject
     public LlmJudgmentTaskManager(ThreadPool threadPool) {
         this.threadPool = threadPool;
         this.maxConcurrentTasks = Math.max(2, Math.min(DEFAULT_MIN_CONCURRENT_THREADS, ALLOCATED_PROCESSORS / PROCESSOR_NUMBER_DIVISOR));
-        this.rateLimiter = new Semaphore(maxConcurrentTasks);
+        this.availablePermits = maxConcurrentTasks;
         log.info(
             "LlmJudgmentTaskManager initialized with {} max concurrent tasks (processors: {})",
             maxConcurrentTasks,
@@ -49,66 +73,72 @@ public class LlmJudgmentTaskManager {
         );
     }
 
+    /**
+     * Schedule query text judgment tasks as a job of default weight.
+     * @see #scheduleTasksAsync(String, int, List, BiConsumer, boolean, ActionListener)
+     */
     public void scheduleTasksAsync(
         List<String> queryTextWithReferences,
-        Function<String, Map<String, Object>> queryProcessor,
+        BiConsumer<String, ActionListener<Map<String, Object>>> queryProcessor,
+        boolean ignoreFailure,
+        ActionListener<List<Map<String, Object>>> listener
+    ) {
+        scheduleTasksAsync(
+            UUID.randomUUID().toString(),
+            DEFAULT_SCHEDULING_WEIGHT,
+            queryTextWithReferences,
+            queryProcessor,
+            ignoreFailure,
+            listener
+        );
+    }
+
+    /**
+     * Schedule query text judgment tasks.
+     * @param jobId - identifier of the judgment job the tasks belong to
+     * @param weight - share of the permits the job gets while other jobs are waiting, relative to their weights
+     * @param queryTextWithReferences - query texts, optionally with reference answers
+     * @param queryProcessor - asynchronous processor that completes the given listener with the judgment result of one query text
+     * @param ignoreFailure - whether a scheduling failure should be reported as an empty result instead of a failure
+     * @param listener - completed once every query text task has completed
+     */
+    public void scheduleTasksAsync(
+        String jobId,
+        int weight,
+        List<String> queryTextWithReferences,
+        BiConsumer<String, ActionListener<Map<String, Object>>> queryProcessor,
         boolean ignoreFailure,
         ActionListener<List<Map<String, Object>>> listener
     ) {
         int totalQueries = queryTextWithReferences.size();
-        log.info("Scheduling {} query text tasks for concurrent processing", totalQueries);
+        log.info("Scheduling {} query text tasks of job {} with weight {}", totalQueries, jobId, weight);
+
+        if (totalQueries == 0) {
+            listener.onResponse(List.of());
+            return;
+        }
 
         try {
-            List<CompletableFuture<Map<String, Object>>> futures = queryTextWithReferences.stream()
-                .map(queryTextWithReference -> CompletableFuture.supplyAsync(() -> {
-                    try {
-                        rateLimiter.acquire();
-                        try {
-                            return queryProcessor.apply(queryTextWithReference);
-                        } finally {
-                            rateLimiter.release();
-                        }
-                    } catch (Exception e) {
-                        log.warn("Query processing failed, returning empty result for: {}", queryTextWithReference, e);
-                        return JudgmentDataTransformer.createJudgmentResult(queryTextWithReference, Map.of());
-                    }
-                }, threadPool.executor(THREAD_POOL_EXECUTOR_NAME)))
-                .collect(Collectors.toList());
-
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((v, ex) -> {
-                List<Map<String, Object>> results = futures.stream().map(future -> {
-                    try {
-                        return future.join();
-                    } catch (Exception e) {
-                        log.warn("Individual query future failed, skipping", e);
-                        return null;
-                    }
-                }).filter(result -> result != null).collect(Collectors.toList());
-
-                int processedQueries = results.size();
-                int successQueries = (int) results.stream().mapToLong(result -> {
-                    List<Map<String, String>> ratings = (List<Map<String, String>>) result.get("ratings");
-                    return ratings != null && !ratings.isEmpty() ? 1 : 0;
-                }).sum();
-                int failureQueries = totalQueries - processedQueries;
-
-                if (results.isEmpty() && ex != null) {
-                    log.error("Task manager failed - Total: {}, Processed: 0, Success: 0, Failure: {}", totalQueries, totalQueries, ex);
-                    listener.onFailure(
-                        new SearchRelevanceException("All query text judgments failed", ex, RestStatus.INTERNAL_SERVER_ERROR)
-                    );
-                } else {
-                    log.info(
-                        "Task manager completed - Total: {}, Processed: {}, Success: {}, Failure: {}",
-                        totalQueries,
-                        processedQueries,
-                        successQueries,
-                        failureQueries
-                    );
-                    log.info("Task manager calling listener.onResponse with {} results", results.size());
-                    listener.onResponse(results);
-                }
-            });
+            AtomicReferenceArray<Map<String, Object>> results = new AtomicReferenceArray<>(totalQueries);
+            AtomicInteger remainingQueries = new AtomicInteger(totalQueries);
+            AtomicInteger failedQueries = new AtomicInteger(0);
+
+            List<Consumer<Runnable>> tasks = new ArrayList<>(totalQueries);
+            for (int i = 0; i < totalQueries; i++) {
+                final int position = i;
+                final String queryTextWithReference = queryTextWithReferences.get(i);
+                tasks.add(createTask(queryTextWithReference, queryProcessor, ActionListener.wrap(result -> {
+                    results.set(position, result);
+                    onQueryCompleted(jobId, remainingQueries, failedQueries, results, totalQueries, listener);
+                }, e -> {
+                    log.warn("Query processing failed, returning empty result for: {}", queryTextWithReference, e);
+                    failedQueries.incrementAndGet();
+                    results.set(position, JudgmentDataTransformer.createJudgmentResult(queryTextWithReference, Map.of()));
+                    onQueryCompleted(jobId, remainingQueries, failedQueries, results, totalQueries, listener);
+                })));
+            }
+            enqueue(jobId, weight, tasks);
+            dispatchPendingTasks();
         } catch (Exception e) {
             log.error("Failed to schedule tasks - Total: {}", totalQueries, e);
             if (!ignoreFailure) {
@@ -118,4 +148,215 @@ public class LlmJudgmentTaskManager {
             }
         }
     }
+
+    private void onQueryCompleted(
+        String jobId,
+        AtomicInteger remainingQueries,
+        AtomicInteger failedQueries,
+        AtomicReferenceArray<Map<String, Object>> results,
+        int totalQueries,
+        ActionListener<List<Map<String, Object>>> listener
+    ) {
+        if (remainingQueries.decrementAndGet() != 0) {
+            return;
+        }
+        List<Map<String, Object>> finalResults = new ArrayList<>(totalQueries);
+        for (int i = 0; i < totalQueries; i++) {
+            finalResults.add(results.get(i));
+        }
+        int successQueries = (int) finalResults.stream().mapToLong(result -> {
+            List<Map<String, String>> ratings = (List<Map<String, String>>) result.get("ratings");
+            return ratings != null && !ratings.isEmpty() ? 1 : 0;
+        }).sum();
+
+        log.info(
+            "Task manager completed job {} - Total: {}, Processed: {}, Success: {}, Failure: {}",
+            jobId,
+            totalQueries,
+            finalResults.size(),
+            successQueries,
+            failedQueries.get()
+        );
+        listener.onResponse(finalResults);
+    }
+
+    /**
+     * Create a task that runs the query processor and calls the given permit release hook once its listener completes.
+     */
+    private Consumer<Runnable> createTask(
+        String queryTextWithReference,
+        BiConsumer<String, ActionListener<Map<String, Object>>> queryProcessor,
+        ActionListener<Map<String, Object>> taskListener
+    ) {
+        return releasePermit -> {
+            ActionListener<Map<String, Object>> releasingListener = ActionListener.runBefore(taskListener, releasePermit::run);
+            try {
+                queryProcessor.accept(queryTextWithReference, releasingListener);
+            } catch (Exception e) {
+                releasingListener.onFailure(e);
+            }
+        };
+    }
+
+    private void enqueue(String jobId, int weight, List<Consumer<Runnable>> tasks) {
+        long now = System.nanoTime();
+        synchronized (lock) {
+            JobQueue job = jobs.computeIfAbsent(jobId, id -> new JobQueue(id, Math.max(1, weight)));
+            for (Consumer<Runnable> task : tasks) {
+                job.tasks.offer(new QueuedTask(task, now));
+            }
+            job.outstandingTasks += tasks.size();
+            if (!job.active) {
+                job.active = true;
+                activeJobs.offerLast(job);
+            }
+        }
+    }
+
+    /**
+     * Hand out free permits with deficit round-robin: the job at the head of the round receives its weight as quantum
+     * once per visit and dispatches tasks while it has deficit left. A job whose deficit is spent moves to the tail,
+     * while a job interrupted by a lack of permits keeps its place and its remaining deficit.
+     */
+    private void dispatchPendingTasks() {
+        List<Runnable> dispatched = new ArrayList<>();
+        synchronized (lock) {
+            while (availablePermits > 0 && !activeJobs.isEmpty()) {
+                JobQueue job = activeJobs.peekFirst();
+                if (job.tasks.isEmpty()) {
+                    activeJobs.pollFirst();
+                    job.active = false;
+                    job.deficit = 0;
+                    job.quantumGranted = false;
+                    continue;
+                }
+                if (!job.quantumGranted) {
+                    job.deficit += job.weight;
+                    job.quantumGranted = true;
+                }
+                if (job.deficit <= 0) {
+                    activeJobs.offerLast(activeJobs.pollFirst());
+                    job.quantumGranted = false;
+                    continue;
+                }
+                QueuedTask queuedTask = job.tasks.poll();
+                job.deficit--;
+                availablePermits--;
+                job.recordDispatch(System.nanoTime() - queuedTask.enqueuedAtNanos);
+                dispatched.add(() -> queuedTask.task.accept(() -> releasePermit(job)));
+            }
+        }
+
+        for (Runnable task : dispatched) {
+            try {
+                threadPool.executor(THREAD_POOL_EXECUTOR_NAME).execute(task);
+            } catch (Exception e) {
+                // tasks only chain asynchronous calls, so running on the caller is safe when the pool rejects them
+                log.warn("Failed to dispatch query text task to thread pool, running it on the caller thread", e);
+                task.run();
+            }
+        }
+    }
+
+    private void releasePermit(JobQueue job) {
+        synchronized (lock) {
+            availablePermits++;
+            job.runningTasks--;
+            if (--job.outstandingTasks == 0 && jobs.get(job.jobId) == job) {
+                jobs.remove(job.jobId);
+                log.info(
+                    "Job {} finished scheduling: {} tasks dispatched, average queue wait {} ms, max queue wait {} ms",
+                    job.jobId,
+                    job.dispatchedTasks,
+                    job.getAverageWaitMillis(),
+                    TimeUnit.NANOSECONDS.toMillis(job.maxWaitNanos)
+                );
+            }
+        }
+        dispatchPendingTasks();
+    }
+
+    /**
+     * Queue depth and queue wait time of every job with queued or running tasks, keyed by job id.
+     */
+    public Map<String, Map<String, Object>> getJobMetrics() {
+        Map<String, Map<String, Object>> jobMetrics = new HashMap<>();
+        synchronized (lock) {
+            for (JobQueue job : jobs.values()) {
+                Map<String, Object> metrics = new HashMap<>();
+                metrics.put("weight", job.weight);
+                metrics.put("queue_depth", job.tasks.size());
+                metrics.put("running_tasks", job.runningTasks);
+                metrics.put("dispatched_tasks", job.dispatchedTasks);
+                metrics.put("avg_queue_wait_ms", job.getAverageWaitMillis());
+                metrics.put("max_queue_wait_ms", TimeUnit.NANOSECONDS.toMillis(job.maxWaitNanos));
+                QueuedTask oldest = job.tasks.peek();
+                metrics.put(
+                    "oldest_queued_ms",
+                    oldest == null ? 0L : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.enqueuedAtNanos)
+                );
+                jobMetrics.put(job.jobId, metrics);
+            }
+        }
+        return jobMetrics;
+    }
+
+    /**
+     * Permits, queue depth and per-job scheduling metrics of this node, reported by the stats API
+     */
+    public Map<String, Object> getConcurrencyMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        synchronized (lock) {
+            metrics.put("max_concurrent_tasks", maxConcurrentTasks);
+            metrics.put("available_permits", availablePermits);
+            metrics.put("queued_tasks", jobs.values().stream().mapToInt(job -> job.tasks.size()).sum());
+            metrics.put("active_jobs", jobs.size());
+        }
+        metrics.put("thread_pool", THREAD_POOL_EXECUTOR_NAME);
+        metrics.put("jobs", getJobMetrics());
+        return metrics;
+    }
+
+    private static final class QueuedTask {
+        private final Consumer<Runnable> task;
+        private final long enqueuedAtNanos;
+
+        private QueuedTask(Consumer<Runnable> task, long enqueuedAtNanos) {
+            this.task = task;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+    }
+
+    /**
+     * Scheduling state of a single judgment job, guarded by the task manager lock
+     */
+    private static final class JobQueue {
+        private final String jobId;
+        private final int weight;
+        private final Queue<QueuedTask> tasks = new ArrayDeque<>();
+        private int deficit = 0;
+        private boolean quantumGranted = false;
+        private boolean active = false;
+        private int outstandingTasks = 0;
+        private int runningTasks = 0;
+        private long dispatchedTasks = 0;
+        private long totalWaitNanos = 0;
+        private long maxWaitNanos = 0;
+
+        private JobQueue(String jobId, int weight) {
+            this.jobId = jobId;
+            this.weight = weight;
+        }
+
+        private void recordDispatch(long waitNanos) {
+            runningTasks++;
+            dispatchedTasks++;
+            totalWaitNanos += waitNanos;
+            maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+        }
+
+        private long getAverageWaitMillis() {
+            return dispatchedTasks == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos / dispatchedTasks);
+        }
+    }
 }
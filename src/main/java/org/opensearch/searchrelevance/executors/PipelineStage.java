@@ -0,0 +1,243 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.opensearch.core.action.ActionListener;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * One stage of a staged task pipeline. A stage works on a bounded number of items at a time and keeps up to
+ * {@code queueCapacity} more waiting. Work is driven purely by completions: whenever an item leaves the stage the next
+ * queued item is started, so nothing is polled or retried on a timer.
+ * <p>
+ * Back-pressure is propagated upstream: an item handed to a full stage stays parked, and the upstream stage keeps the
+ * slot it occupies until this stage accepts it, which in turn stops the upstream stage from starting more work.
+ *
+ * @param <T> type of the items flowing through the pipeline
+ */
+@Log4j2
+public class PipelineStage<T> {
+
+    /**
+     * Asynchronous work of a stage.
+     */
+    @FunctionalInterface
+    public interface Handler<T> {
+        /**
+         * Process an item and complete the listener with whether it should be passed on to the next stage.
+         */
+        void handle(T item, ActionListener<Boolean> listener);
+    }
+
+    @Getter
+    private final String name;
+    private final Executor executor;
+    @Getter
+    private final int concurrency;
+    private final int queueCapacity;
+    private final Handler<T> handler;
+    private final Consumer<T> onFinished;
+    private final BiConsumer<T, Exception> onFailure;
+    private PipelineStage<T> next;
+
+    private final Deque<T> queue = new ArrayDeque<>();
+    private final Deque<Map.Entry<T, Runnable>> parked = new ArrayDeque<>();
+    private int running = 0;
+
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder serviceTimeNanos = new LongAdder();
+
+    /**
+     * @param name name of the stage reported in metrics
+     * @param executor executor the stage's handler is started on
+     * @param concurrency max items processed at a time
+     * @param queueCapacity max items waiting for a free slot
+     * @param handler work of the stage
+     * @param onFinished called once an item leaves the pipeline, after the last stage or when a stage drops it
+     * @param onFailure called instead of {@code onFinished} when a stage fails on an item
+     */
+    public PipelineStage(
+        String name,
+        Executor executor,
+        int concurrency,
+        int queueCapacity,
+        Handler<T> handler,
+        Consumer<T> onFinished,
+        BiConsumer<T, Exception> onFailure
+    ) {
+        this.name = name;
+        this.executor = executor;
+        this.concurrency = concurrency;
+        this.queueCapacity = queueCapacity;
+        this.handler = handler;
+        this.onFinished = onFinished;
+        this.onFailure = onFailure;
+    }
+
+    /**
+     * Chain the stage items are passed on to.
+     * @return the next stage, to chain further stages
+     */
+    public PipelineStage<T> then(PipelineStage<T> next) {
+        this.next = next;
+        return next;
+    }
+
+    /**
+     * Hand an item to this stage.
+     * @param item item to process
+     * @param onAccepted run once the item was started or queued by this stage
+     */
+    public void submit(T item, Runnable onAccepted) {
+        boolean start = false;
+        synchronized (this) {
+            if (running < concurrency) {
+                running++;
+                start = true;
+            } else if (queue.size() < queueCapacity) {
+                queue.add(item);
+            } else {
+                parked.add(Map.entry(item, onAccepted));
+                return;
+            }
+        }
+        onAccepted.run();
+        if (start) {
+            start(item);
+        }
+    }
+
+    private void start(T item) {
+        long startTime = System.nanoTime();
+        // the slot of an item is released exactly once, even if its handler completes the listener twice or throws after
+        // completing it
+        AtomicBoolean completed = new AtomicBoolean(false);
+        ActionListener<Boolean> listener = new ActionListener<>() {
+            @Override
+            public void onResponse(Boolean passOn) {
+                if (!completed.compareAndSet(false, true)) {
+                    return;
+                }
+                recordServiceTime(startTime);
+                if (passOn && next != null) {
+                    // keep the slot until the next stage accepted the item
+                    next.submit(item, PipelineStage.this::release);
+                } else {
+                    release();
+                    onFinished.accept(item);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (completed.compareAndSet(false, true)) {
+                    fail(item, startTime, e);
+                } else {
+                    log.warn("Pipeline stage {} failed on an item it already completed", name, e);
+                }
+            }
+        };
+        try {
+            executor.execute(() -> {
+                try {
+                    handler.handle(item, listener);
+                } catch (Exception e) {
+                    listener.onFailure(e);
+                }
+            });
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private void fail(T item, long startTime, Exception e) {
+        log.warn("Pipeline stage {} failed on an item", name, e);
+        recordServiceTime(startTime);
+        release();
+        onFailure.accept(item, e);
+    }
+
+    private void recordServiceTime(long startTime) {
+        processed.increment();
+        serviceTimeNanos.add(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Free the slot of a finished item: start the next queued item in it, and let a parked item into the queue.
+     */
+    private void release() {
+        T nextItem;
+        Map.Entry<T, Runnable> admitted;
+        boolean startAdmitted = false;
+        synchronized (this) {
+            nextItem = queue.poll();
+            admitted = parked.poll();
+            if (admitted != null) {
+                if (nextItem == null) {
+                    startAdmitted = true;
+                } else {
+                    queue.add(admitted.getKey());
+                }
+            } else if (nextItem == null) {
+                running--;
+            }
+        }
+        if (nextItem != null) {
+            start(nextItem);
+        }
+        if (admitted != null) {
+            admitted.getValue().run();
+            if (startAdmitted) {
+                start(admitted.getKey());
+            }
+        }
+    }
+
+    /**
+     * Items waiting for this stage, queued or parked upstream.
+     */
+    public synchronized int getQueueDepth() {
+        return queue.size() + parked.size();
+    }
+
+    public synchronized int getRunning() {
+        return running;
+    }
+
+    /**
+     * Queue depth, running items and mean service time of the stage.
+     */
+    public Map<String, Object> getMetrics() {
+        long processedCount = processed.sum();
+        double meanServiceTimeMillis = processedCount == 0
+            ? 0.0
+            : (double) TimeUnit.NANOSECONDS.toMicros(serviceTimeNanos.sum()) / processedCount / 1000.0;
+        return Map.of(
+            "queue_depth",
+            getQueueDepth(),
+            "running",
+            getRunning(),
+            "processed",
+            processedCount,
+            "mean_service_time_ms",
+            meanServiceTimeMillis
+        );
+    }
+}
@@ -38,9 +38,10 @@ public class SearchResponseProcessor {
     private final ExperimentVariantDao experimentVariantDao;
 
     /**
-     * Process search response and create evaluation results
+     * Calculate the evaluation metrics of a search response
+     * @return the evaluation result to persist, or null if the search returned no hits
      */
-    public void processSearchResponse(
+    public EvaluationResult buildEvaluationResult(
         SearchResponse response,
         ExperimentVariant experimentVariant,
         String experimentId,
@@ -49,50 +50,92 @@ public class SearchResponseProcessor {
         int size,
         List<String> judgmentIds,
         Map<String, String> docIdToScores,
+        String evaluationId
+    ) {
+        // experiment searches do not track the total hit count
+        if (response.getHits().getHits().length == 0) {
+            return null;
+        }
+
+        SearchHit[] hits = response.getHits().getHits();
+        List<String> docIds = Arrays.stream(hits).map(SearchHit::getId).collect(Collectors.toList());
+        return buildEvaluationResult(
+            docIds,
+            experimentVariant,
+            experimentId,
+            searchConfigId,
+            queryText,
+            size,
+            judgmentIds,
+            docIdToScores,
+            evaluationId
+        );
+    }
+
+    /**
+     * Calculate the evaluation metrics of a ranked list of documents
+     * @return the evaluation result to persist, or null if no document was ranked
+     */
+    public EvaluationResult buildEvaluationResult(
+        List<String> docIds,
+        ExperimentVariant experimentVariant,
+        String experimentId,
+        String searchConfigId,
+        String queryText,
+        int size,
+        List<String> judgmentIds,
+        Map<String, String> docIdToScores,
+        String evaluationId
+    ) {
+        if (docIds.isEmpty()) {
+            return null;
+        }
+
+        List<Map<String, Object>> metrics = calculateEvaluationMetrics(docIds, docIdToScores, size);
+
+        // Pass null for experiment variant parameters if not a hybrid experiment
+        String experimentVariantParameters = experimentVariant.getType() == ExperimentType.HYBRID_OPTIMIZER
+            ? experimentVariant.getTextualParameters()
+            : null;
+
+        return new EvaluationResult(
+            evaluationId,
+            TimeUtils.getTimestamp(),
+            searchConfigId,
+            queryText,
+            judgmentIds,
+            docIds,
+            metrics,
+            experimentId,
+            experimentVariant.getId(),
+            experimentVariantParameters
+        );
+    }
+
+    /**
+     * Persist an evaluation result and complete its variant, or record a variant without search hits.
+     * The outcome of the variant is reported to the task context; the listener only tells when the write is done.
+     */
+    public void writeEvaluationResult(
+        EvaluationResult evaluationResult,
+        ExperimentVariant experimentVariant,
+        String experimentId,
+        String searchConfigId,
         String evaluationId,
-        ExperimentTaskContext taskContext
+        ExperimentTaskContext taskContext,
+        ActionListener<Void> listener
     ) {
-        if (taskContext.getHasFailure().get()) return;
-
-        try {
-            if (response.getHits().getTotalHits().value() == 0) {
-                handleNoHits(experimentVariant, experimentId, searchConfigId, evaluationId, taskContext);
-                return;
-            }
-
-            SearchHit[] hits = response.getHits().getHits();
-            List<String> docIds = Arrays.stream(hits).map(SearchHit::getId).collect(Collectors.toList());
-
-            List<Map<String, Object>> metrics = calculateEvaluationMetrics(docIds, docIdToScores, size);
-
-            // Pass null for experiment variant parameters if not a hybrid experiment
-            String experimentVariantParameters = experimentVariant.getType() == ExperimentType.HYBRID_OPTIMIZER
-                ? experimentVariant.getTextualParameters()
-                : null;
-
-            EvaluationResult evaluationResult = new EvaluationResult(
-                evaluationId,
-                TimeUtils.getTimestamp(),
-                searchConfigId,
-                queryText,
-                judgmentIds,
-                docIds,
-                metrics,
-                experimentId,
-                experimentVariant.getId(),
-                experimentVariantParameters
-            );
-
-            evaluationResultDao.putEvaluationResultEfficient(
-                evaluationResult,
-                ActionListener.wrap(
-                    success -> updateExperimentVariant(experimentVariant, experimentId, searchConfigId, evaluationId, taskContext),
-                    error -> handleTaskFailure(experimentVariant, error, taskContext)
-                )
-            );
-        } catch (Exception e) {
-            handleTaskFailure(experimentVariant, e, taskContext);
+        if (evaluationResult == null) {
+            handleNoHits(experimentVariant, experimentId, searchConfigId, evaluationId, taskContext, listener);
+            return;
         }
+        evaluationResultDao.putEvaluationResultBulk(evaluationResult, ActionListener.wrap(success -> {
+            updateExperimentVariant(experimentVariant, experimentId, searchConfigId, evaluationId, taskContext);
+            listener.onResponse(null);
+        }, error -> {
+            handleTaskFailure(experimentVariant, error, taskContext);
+            listener.onResponse(null);
+        }));
     }
 
     private void handleNoHits(
@@ -100,7 +143,8 @@ public class SearchResponseProcessor {
         String experimentId,
         String searchConfigId,
         String evaluationId,
-        ExperimentTaskContext taskContext
+        ExperimentTaskContext taskContext,
+        ActionListener<Void> listener
     ) {
         log.warn("No hits found for search config: {} and variant: {}", searchConfigId, experimentVariant.getId());
 
@@ -114,10 +158,14 @@ public class SearchResponseProcessor {
             Map.of("evaluationResultId", evaluationId, "details", "no search hits found")
         );
 
-        experimentVariantDao.putExperimentVariantEfficient(noHitsVariant, ActionListener.wrap(success -> {
+        experimentVariantDao.putExperimentVariantBulk(noHitsVariant, ActionListener.wrap(success -> {
             log.debug("Persisted no-hits variant: {}", experimentVariant.getId());
             taskContext.completeVariantFailure();
-        }, error -> handleTaskFailure(experimentVariant, error, taskContext)));
+            listener.onResponse(null);
+        }, error -> {
+            handleTaskFailure(experimentVariant, error, taskContext);
+            listener.onResponse(null);
+        }));
     }
 
     private void updateExperimentVariant(
@@ -144,7 +192,10 @@ public class SearchResponseProcessor {
         taskContext.completeVariantSuccess();
     }
 
-    private void handleTaskFailure(ExperimentVariant experimentVariant, Exception e, ExperimentTaskContext taskContext) {
+    /**
+     * Record a failed variant
+     */
+    public void handleTaskFailure(ExperimentVariant experimentVariant, Exception e, ExperimentTaskContext taskContext) {
         log.error("Variant failure for {}: {}", experimentVariant.getId(), e.getMessage());
         taskContext.completeVariantFailure();
     }
@@ -169,7 +220,7 @@ public class SearchResponseProcessor {
             Map.of("evaluationResultId", evaluationId, "error", e.getMessage())
         );
 
-        experimentVariantDao.putExperimentVariantEfficient(experimentVariantResult, ActionListener.wrap(success -> {
+        experimentVariantDao.putExperimentVariantBulk(experimentVariantResult, ActionListener.wrap(success -> {
             log.error("Error executing variant {}: {}", experimentVariant.getId(), e.getMessage());
             taskContext.completeVariantFailure();
         }, error -> {
@@ -8,6 +8,7 @@
 package org.opensearch.searchrelevance.experiment;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -36,6 +37,64 @@ public class ExperimentOptionsForHybridSearch implements ExperimentOptions {
         private float increment;
     }
 
+    /**
+     * Parameter combinations for a hybrid query with the given number of sub-queries. Two sub-queries sweep the weight
+     * of the first one over the weights range; more sub-queries take every point of the simplex lattice with a spacing
+     * of the increment whose weights are all within the weights range.
+     */
+    public List<ExperimentVariantHybridSearchDTO> getParameterCombinations(boolean includeWeights, int numberOfSubQueries) {
+        if (numberOfSubQueries == 2) {
+            return getParameterCombinations(includeWeights);
+        }
+        List<float[]> weightCombinations = new ArrayList<>();
+        if (includeWeights) {
+            int divisions = getWeightDivisions();
+            for (int[] point : SimplexLattice.points(numberOfSubQueries, divisions)) {
+                float[] weights = SimplexLattice.toWeights(point, divisions);
+                if (isWithinWeightsRange(weights)) {
+                    weightCombinations.add(weights);
+                }
+            }
+        } else {
+            float[] equalWeights = new float[numberOfSubQueries];
+            Arrays.fill(equalWeights, 1.0f / numberOfSubQueries);
+            weightCombinations.add(equalWeights);
+        }
+
+        List<ExperimentVariantHybridSearchDTO> allPossibleParameterCombinations = new ArrayList<>();
+        for (String normalizationTechnique : normalizationTechniques) {
+            for (String combinationTechnique : combinationTechniques) {
+                for (float[] weights : weightCombinations) {
+                    allPossibleParameterCombinations.add(
+                        ExperimentVariantHybridSearchDTO.builder()
+                            .normalizationTechnique(normalizationTechnique)
+                            .combinationTechnique(combinationTechnique)
+                            .queryWeightsForCombination(weights)
+                            .build()
+                    );
+                }
+            }
+        }
+        return allPossibleParameterCombinations;
+    }
+
+    /**
+     * Number of increments that add up to a weight of one, the resolution of the weights of more than two sub-queries
+     */
+    public int getWeightDivisions() {
+        return Math.max(1, Math.round(1.0f / weightsRange.getIncrement()));
+    }
+
+    boolean isWithinWeightsRange(float[] weights) {
+        float tolerance = 1e-6f;
+        for (float weight : weights) {
+            if (weight < weightsRange.getRangeMin() - tolerance || weight > weightsRange.getRangeMax() + tolerance) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public List<ExperimentVariantHybridSearchDTO> getParameterCombinations(boolean includeWeights) {
         List<ExperimentVariantHybridSearchDTO> allPossibleParameterCombinations = new ArrayList<>();
         for (String normalizationTechnique : normalizationTechniques) {
@@ -11,25 +11,27 @@ import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_F
 import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_COMBINATION_TECHNIQUE;
 import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE;
 import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION;
+import static org.opensearch.searchrelevance.experiment.QuerySourceUtil.MIN_NUMBER_OF_SUBQUERIES_IN_HYBRID_QUERY;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import org.opensearch.action.search.SearchResponse;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.searchrelevance.dao.JudgmentDao;
 import org.opensearch.searchrelevance.executors.ExperimentTaskManager;
 import org.opensearch.searchrelevance.model.AsyncStatus;
 import org.opensearch.searchrelevance.model.ExperimentType;
 import org.opensearch.searchrelevance.model.ExperimentVariant;
+import org.opensearch.searchrelevance.model.HybridOptimizerStrategy;
 import org.opensearch.searchrelevance.model.SearchConfigurationDetails;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
 import org.opensearch.searchrelevance.utils.TimeUtils;
 
 import lombok.AllArgsConstructor;
@@ -42,8 +44,39 @@ import lombok.extern.log4j.Log4j2;
 @AllArgsConstructor
 public class HybridOptimizerExperimentProcessor {
 
-    private final JudgmentDao judgmentDao;
+    private final JudgmentRatingIndexCache judgmentRatingIndexCache;
     private final ExperimentTaskManager taskManager;
+    private final SearchRelevanceSettingsAccessor settingsAccessor;
+
+    /**
+     * Outcome of a budgeted search over the hybrid search parameters
+     * @param bestConfiguration best configuration found
+     * @param summary strategy, budget usage and objective of the best configuration, reported with the experiment results
+     */
+    public record OptimizationResult(ExperimentVariantHybridSearchDTO bestConfiguration, Map<String, Object> summary) {
+    }
+
+    /**
+     * Best configuration reported in the summary of an optimization, so a resumed experiment keeps evaluating the
+     * configuration its earlier run found
+     * @param summary summary of an {@link OptimizationResult}, as stored with the experiment
+     * @return the best configuration, null if the summary does not hold one
+     */
+    public static ExperimentVariantHybridSearchDTO bestConfigurationOf(Map<String, Object> summary) {
+        if (!(summary.get("bestConfiguration") instanceof Map<?, ?> bestConfiguration)
+            || !(bestConfiguration.get(EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION) instanceof List<?> weights)) {
+            return null;
+        }
+        float[] queryWeights = new float[weights.size()];
+        for (int i = 0; i < weights.size(); i++) {
+            queryWeights[i] = ((Number) weights.get(i)).floatValue();
+        }
+        return ExperimentVariantHybridSearchDTO.builder()
+            .normalizationTechnique((String) bestConfiguration.get(EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE))
+            .combinationTechnique((String) bestConfiguration.get(EXPERIMENT_OPTION_COMBINATION_TECHNIQUE))
+            .queryWeightsForCombination(queryWeights)
+            .build();
+    }
 
     /**
      * Process hybrid optimizer experiment using non-blocking async operations
@@ -65,12 +98,33 @@ public class HybridOptimizerExperimentProcessor {
         AtomicBoolean hasFailure,
         ActionListener<Map<String, Object>> listener
     ) {
-        // Create parameter combinations for hybrid search
-        Map<String, Object> defaultParametersForHybridSearch = ExperimentOptionsFactory.createDefaultExperimentParametersForHybridSearch();
-        ExperimentOptionsForHybridSearch experimentOptionForHybridSearch = (ExperimentOptionsForHybridSearch) ExperimentOptionsFactory
-            .createExperimentOptions(ExperimentOptionsFactory.HYBRID_SEARCH_EXPERIMENT_OPTIONS, defaultParametersForHybridSearch);
+        processHybridOptimizerExperiment(
+            experimentId,
+            queryText,
+            searchConfigurations,
+            judgmentList,
+            size,
+            createDefaultExperimentOptions().getParameterCombinations(true, getNumberOfSubQueries(searchConfigurations)),
+            hasFailure,
+            listener
+        );
+    }
 
-        List<ExperimentVariantHybridSearchDTO> experimentVariantDTOs = experimentOptionForHybridSearch.getParameterCombinations(true);
+    /**
+     * Process hybrid optimizer experiment for the given parameter combinations only
+     *
+     * @param experimentVariantDTOs parameter combinations evaluated as experiment variants
+     */
+    public void processHybridOptimizerExperiment(
+        String experimentId,
+        String queryText,
+        Map<String, SearchConfigurationDetails> searchConfigurations,
+        List<String> judgmentList,
+        int size,
+        List<ExperimentVariantHybridSearchDTO> experimentVariantDTOs,
+        AtomicBoolean hasFailure,
+        ActionListener<Map<String, Object>> listener
+    ) {
         List<ExperimentVariant> experimentVariants = new ArrayList<>();
 
         log.info(
@@ -113,7 +167,7 @@ public class HybridOptimizerExperimentProcessor {
         );
 
         // Process judgments asynchronously
-        processJudgmentsAsync(queryText, judgmentList).thenAccept(docIdToScores -> {
+        processJudgmentsAsync(experimentId, queryText, judgmentList).thenAccept(docIdToScores -> {
             log.info("Processing search configurations for query '{}' with {} document ratings", queryText, docIdToScores.size());
 
             // Process search configurations with optimized task manager
@@ -137,62 +191,168 @@ public class HybridOptimizerExperimentProcessor {
     }
 
     /**
-     * Process judgments asynchronously using CompletableFuture
+     * Search the hybrid search parameters of the search configuration within a budget instead of evaluating the full
+     * grid on every query text. Trials are ranked locally from one retrieval of the sub-queries per query text.
+     *
+     * @param experimentId Experiment ID
+     * @param queryTexts Query texts of the query set
+     * @param searchConfigurations Map of search configuration IDs to SearchConfigurationDetails, the first one is tuned
+     * @param judgmentList List of judgment IDs
+     * @param size Result size
+     * @param strategy Search strategy, other than the grid
+     * @param searchBudget Max number of query texts evaluated over all trials
+     * @param listener Listener notified with the best configuration found
      */
-    private CompletableFuture<Map<String, String>> processJudgmentsAsync(String queryText, List<String> judgmentList) {
-        log.info("Processing {} judgments for query: {}", judgmentList.size(), queryText);
-
-        List<CompletableFuture<SearchResponse>> judgmentFutures = judgmentList.stream().map(judgmentId -> {
-            CompletableFuture<SearchResponse> future = new CompletableFuture<>();
-            judgmentDao.getJudgment(judgmentId, ActionListener.wrap(future::complete, future::completeExceptionally));
-            return future;
-        }).toList();
-
-        return CompletableFuture.allOf(judgmentFutures.toArray(new CompletableFuture[0])).thenApply(v -> {
-            Map<String, String> docIdToScores = new HashMap<>();
-            for (CompletableFuture<SearchResponse> future : judgmentFutures) {
-                try {
-                    SearchResponse response = future.join();
-                    extractJudgmentScores(queryText, response, docIdToScores);
-                } catch (Exception e) {
-                    log.error("Failed to process judgment response: {}", e.getMessage());
-                }
-            }
+    public void optimizeHybridParameters(
+        String experimentId,
+        List<String> queryTexts,
+        Map<String, SearchConfigurationDetails> searchConfigurations,
+        List<String> judgmentList,
+        int size,
+        HybridOptimizerStrategy strategy,
+        int searchBudget,
+        ActionListener<OptimizationResult> listener
+    ) {
+        SearchConfigurationDetails configDetails = searchConfigurations.values().iterator().next();
+        int numberOfSubQueries = getNumberOfSubQueries(searchConfigurations);
+        ExperimentOptionsForHybridSearch options = createDefaultExperimentOptions();
+        List<String> normalizationTechniques = options.getNormalizationTechniques().stream().sorted().toList();
+        List<String> combinationTechniques = options.getCombinationTechniques().stream().sorted().toList();
+        // shuffle reproducibly, so that the query texts a strategy starts with are not biased by the query set order
+        Random random = new Random(experimentId.hashCode());
+        List<String> shuffledQueryTexts = new ArrayList<>(queryTexts);
+        Collections.shuffle(shuffledQueryTexts, random);
 
-            if (docIdToScores.isEmpty()) {
-                log.warn("No ratings found for query: {} in any judgment responses", queryText);
-            } else {
-                log.info("Found {} document ratings for query: {}", docIdToScores.size(), queryText);
-            }
+        HybridParameterSearch search = switch (strategy) {
+            case SUCCESSIVE_HALVING -> new SuccessiveHalvingSearch(
+                options.getParameterCombinations(true, numberOfSubQueries),
+                shuffledQueryTexts,
+                searchBudget
+            );
+            case TPE -> new TreeParzenEstimatorSearch(
+                normalizationTechniques,
+                combinationTechniques,
+                numberOfSubQueries,
+                options.getWeightsRange().getRangeMin(),
+                options.getWeightsRange().getRangeMax(),
+                shuffledQueryTexts,
+                searchBudget,
+                random
+            );
+            case COORDINATE_DESCENT -> new SimplexCoordinateDescentSearch(
+                normalizationTechniques,
+                combinationTechniques,
+                numberOfSubQueries,
+                options.getWeightDivisions(),
+                shuffledQueryTexts,
+                searchBudget
+            );
+            default -> throw new IllegalArgumentException("Unsupported hybrid optimizer strategy: " + strategy);
+        };
+        HybridParameterOptimizer optimizer = new HybridParameterOptimizer(
+            queryText -> taskManager.retrieveSubQueryScoresAsync(configDetails.getIndex(), configDetails.getQuery(), queryText, size),
+            queryText -> processJudgmentsAsync(experimentId, queryText, judgmentList),
+            size,
+            searchBudget
+        );
 
-            return docIdToScores;
+        log.info(
+            "Searching hybrid parameters of experiment {} with {} within a budget of {} query texts",
+            experimentId,
+            strategy,
+            searchBudget
+        );
+        optimizer.optimize(search).whenComplete((completedSearch, e) -> {
+            if (e != null) {
+                listener.onFailure(new Exception("Failed to search hybrid parameters", e));
+                return;
+            }
+            HybridParameterSearch.Trial bestTrial = completedSearch.getBestTrial();
+            if (bestTrial == null) {
+                listener.onFailure(new IllegalStateException("No hybrid parameters were evaluated within the search budget"));
+                return;
+            }
+            ExperimentVariantHybridSearchDTO bestConfiguration = bestTrial.configuration();
+            List<Double> bestWeights = new ArrayList<>();
+            for (float weight : bestConfiguration.getQueryWeightsForCombination()) {
+                bestWeights.add((double) weight);
+            }
+            Map<String, Object> summary = new HashMap<>();
+            summary.put("strategy", strategy.name());
+            summary.put("searchBudget", searchBudget);
+            summary.put("evaluatedQueryTexts", optimizer.getEvaluatedQueryTexts());
+            summary.put("evaluatedTrials", optimizer.getEvaluatedTrials());
+            summary.put("objective", "NDCG@" + size);
+            summary.put("bestObjectiveValue", completedSearch.getBestObjective());
+            summary.put(
+                "bestConfiguration",
+                Map.of(
+                    EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE,
+                    bestConfiguration.getNormalizationTechnique(),
+                    EXPERIMENT_OPTION_COMBINATION_TECHNIQUE,
+                    bestConfiguration.getCombinationTechnique(),
+                    EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION,
+                    bestWeights
+                )
+            );
+            listener.onResponse(new OptimizationResult(bestConfiguration, summary));
         });
     }
 
     /**
-     * Extract judgment scores from SearchResponse
+     * Strategy of a hybrid optimizer experiment: the requested one, or by default the full grid for two sub-queries and
+     * a coordinate descent on the weights for more of them.
+     *
+     * @param requested Strategy of the request, null if none was requested
+     * @param searchConfigurations Map of search configuration IDs to SearchConfigurationDetails
+     * @return strategy to run the experiment with
+     */
+    public HybridOptimizerStrategy resolveStrategy(
+        HybridOptimizerStrategy requested,
+        Map<String, SearchConfigurationDetails> searchConfigurations
+    ) {
+        if (requested != null) {
+            return requested;
+        }
+        return getNumberOfSubQueries(searchConfigurations) > MIN_NUMBER_OF_SUBQUERIES_IN_HYBRID_QUERY
+            ? HybridOptimizerStrategy.COORDINATE_DESCENT
+            : HybridOptimizerStrategy.GRID;
+    }
+
+    /**
+     * Number of sub-queries of the hybrid query of the tuned search configuration. An invalid query counts as the
+     * minimum, so that it fails when its search request is built, as for any other experiment.
      */
-    private void extractJudgmentScores(String queryText, SearchResponse response, Map<String, String> docIdToScores) {
-        if (response.getHits().getTotalHits().value() == 0) {
-            log.warn("No judgment found in response");
-            return;
+    private int getNumberOfSubQueries(Map<String, SearchConfigurationDetails> searchConfigurations) {
+        SearchConfigurationDetails configDetails = searchConfigurations.values().iterator().next();
+        try {
+            return QuerySourceUtil.getNumberOfSubQueries(configDetails.getQuery());
+        } catch (IllegalArgumentException e) {
+            log.debug("Query of search configuration on index {} is not a valid hybrid query", configDetails.getIndex(), e);
+            return MIN_NUMBER_OF_SUBQUERIES_IN_HYBRID_QUERY;
         }
+    }
 
-        Map<String, Object> sourceAsMap = response.getHits().getHits()[0].getSourceAsMap();
-        List<Map<String, Object>> judgmentRatings = (List<Map<String, Object>>) sourceAsMap.getOrDefault(
-            "judgmentRatings",
-            Collections.emptyList()
+    private ExperimentOptionsForHybridSearch createDefaultExperimentOptions() {
+        Map<String, Object> defaultParametersForHybridSearch = ExperimentOptionsFactory.createDefaultExperimentParametersForHybridSearch();
+        return (ExperimentOptionsForHybridSearch) ExperimentOptionsFactory.createExperimentOptions(
+            ExperimentOptionsFactory.HYBRID_SEARCH_EXPERIMENT_OPTIONS,
+            defaultParametersForHybridSearch
         );
+    }
 
-        for (Map<String, Object> rating : judgmentRatings) {
-            if (queryText.equals(rating.get("query"))) {
-                List<Map<String, String>> docScoreRatings = (List<Map<String, String>>) rating.get("ratings");
-                if (docScoreRatings != null) {
-                    docScoreRatings.forEach(docScoreRating -> docIdToScores.put(docScoreRating.get("docId"), docScoreRating.get("rating")));
-                }
-                break;
+    /**
+     * Ratings of a query text from the judgments of the experiment, loaded once for all its query texts
+     */
+    private CompletableFuture<Map<String, String>> processJudgmentsAsync(String experimentId, String queryText, List<String> judgmentList) {
+        return judgmentRatingIndexCache.getRatingsAsync(experimentId, judgmentList, queryText).thenApply(docIdToScores -> {
+            if (docIdToScores.isEmpty()) {
+                log.warn("No ratings found for query: {} in any judgment responses", queryText);
+            } else {
+                log.debug("Found {} document ratings for query: {}", docIdToScores.size(), queryText);
             }
-        }
+            return docIdToScores;
+        });
     }
 
     /**
@@ -214,6 +374,7 @@ public class HybridOptimizerExperimentProcessor {
 
         // Create futures for each search configuration
         List<CompletableFuture<Map<String, Object>>> configFutures = new ArrayList<>();
+        boolean recombineLocally = settingsAccessor.isHybridLocalRecombinationEnabled();
 
         for (Map.Entry<String, SearchConfigurationDetails> entry : searchConfigurations.entrySet()) {
             String searchConfigId = entry.getKey();
@@ -221,21 +382,36 @@ public class HybridOptimizerExperimentProcessor {
             String index = configDetails.getIndex();
             String query = configDetails.getQuery();
 
-            // Use optimized task manager to process variants
-            CompletableFuture<Map<String, Object>> configFuture = taskManager.scheduleTasksAsync(
-                ExperimentType.HYBRID_OPTIMIZER,
-                experimentId,
-                searchConfigId,
-                index,
-                query,
-                queryText,
-                size,
-                experimentVariants,
-                judgmentList,
-                docIdToScores,
-                hydratedResults,
-                hasFailure
-            );
+            // Use optimized task manager to process variants, either retrieving the sub-queries once for all variants
+            // or running a hybrid search per variant
+            CompletableFuture<Map<String, Object>> configFuture = recombineLocally
+                ? taskManager.scheduleRecombinedTasksAsync(
+                    experimentId,
+                    searchConfigId,
+                    index,
+                    query,
+                    queryText,
+                    size,
+                    experimentVariants,
+                    judgmentList,
+                    docIdToScores,
+                    hydratedResults,
+                    hasFailure
+                )
+                : taskManager.scheduleTasksAsync(
+                    ExperimentType.HYBRID_OPTIMIZER,
+                    experimentId,
+                    searchConfigId,
+                    index,
+                    query,
+                    queryText,
+                    size,
+                    experimentVariants,
+                    judgmentList,
+                    docIdToScores,
+                    hydratedResults,
+                    hasFailure
+                );
 
             // Transform the result for this search configuration
             CompletableFuture<Map<String, Object>> transformedFuture = configFuture.thenApply(results -> {
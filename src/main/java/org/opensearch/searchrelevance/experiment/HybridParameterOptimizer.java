@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import static org.opensearch.searchrelevance.metrics.calculator.Evaluation.calculateNDCGAtK;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Drives a {@link HybridParameterSearch} within a search budget. A trial is scored by the mean NDCG of its
+ * configuration over the query texts of the trial, ranking the candidates of every query text locally with a
+ * {@link HybridScoreRecombiner}. Sub-query scores and judgments of a query text are fetched once and shared by all
+ * trials evaluating it.
+ */
+@Log4j2
+public class HybridParameterOptimizer {
+
+    private record QueryEvaluationData(HybridScoreRecombiner recombiner, Map<String, String> docIdToScores) {
+    }
+
+    private final Function<String, CompletableFuture<HybridScoreRecombiner>> subQueryScoresProvider;
+    private final Function<String, CompletableFuture<Map<String, String>>> judgmentsProvider;
+    private final int size;
+    private final int budget;
+
+    private final Map<String, CompletableFuture<QueryEvaluationData>> queryEvaluationData = new ConcurrentHashMap<>();
+    private final AtomicInteger evaluatedQueryTexts = new AtomicInteger(0);
+    private final AtomicInteger evaluatedTrials = new AtomicInteger(0);
+
+    /**
+     * @param subQueryScoresProvider retrieves the sub-query scores of a query text
+     * @param judgmentsProvider looks up the ratings of the documents of a query text
+     * @param size number of ranked documents the objective is calculated on
+     * @param budget max number of query texts evaluated over all trials
+     */
+    public HybridParameterOptimizer(
+        Function<String, CompletableFuture<HybridScoreRecombiner>> subQueryScoresProvider,
+        Function<String, CompletableFuture<Map<String, String>>> judgmentsProvider,
+        int size,
+        int budget
+    ) {
+        this.subQueryScoresProvider = subQueryScoresProvider;
+        this.judgmentsProvider = judgmentsProvider;
+        this.size = size;
+        this.budget = budget;
+    }
+
+    /**
+     * Run the search until it completes or the budget is spent.
+     * @return future completed with the search once it finished, holding the best trial
+     */
+    public CompletableFuture<HybridParameterSearch> optimize(HybridParameterSearch search) {
+        CompletableFuture<HybridParameterSearch> future = new CompletableFuture<>();
+        runNextTrials(search, future);
+        return future;
+    }
+
+    public int getEvaluatedQueryTexts() {
+        return evaluatedQueryTexts.get();
+    }
+
+    public int getEvaluatedTrials() {
+        return evaluatedTrials.get();
+    }
+
+    private void runNextTrials(HybridParameterSearch search, CompletableFuture<HybridParameterSearch> future) {
+        while (true) {
+            List<HybridParameterSearch.Trial> trials = new ArrayList<>();
+            int remainingBudget = budget - evaluatedQueryTexts.get();
+            for (HybridParameterSearch.Trial trial : search.nextTrials()) {
+                if (trial.queryTexts().size() > remainingBudget) {
+                    break;
+                }
+                remainingBudget -= trial.queryTexts().size();
+                trials.add(trial);
+            }
+            if (trials.isEmpty()) {
+                log.debug("Hybrid parameter search finished after {} trials on {} query texts", evaluatedTrials, evaluatedQueryTexts);
+                future.complete(search);
+                return;
+            }
+
+            List<CompletableFuture<Void>> trialFutures = trials.stream()
+                .map(trial -> evaluate(trial).thenAccept(objective -> search.report(trial, objective)))
+                .toList();
+            CompletableFuture<Void> round = CompletableFuture.allOf(trialFutures.toArray(new CompletableFuture[0]));
+            if (round.isDone() && !round.isCompletedExceptionally()) {
+                // all query texts were fetched before, keep going without growing the stack
+                continue;
+            }
+            round.whenComplete((v, e) -> {
+                if (e != null) {
+                    future.completeExceptionally(e);
+                } else {
+                    runNextTrials(search, future);
+                }
+            });
+            return;
+        }
+    }
+
+    /**
+     * Mean NDCG of the configuration of a trial over its query texts
+     */
+    CompletableFuture<Double> evaluate(HybridParameterSearch.Trial trial) {
+        List<CompletableFuture<QueryEvaluationData>> queryFutures = trial.queryTexts()
+            .stream()
+            .map(queryText -> queryEvaluationData.computeIfAbsent(queryText, this::fetchQueryEvaluationData))
+            .toList();
+        evaluatedTrials.incrementAndGet();
+        evaluatedQueryTexts.addAndGet(trial.queryTexts().size());
+
+        return CompletableFuture.allOf(queryFutures.toArray(new CompletableFuture[0])).thenApply(v -> {
+            ExperimentVariantHybridSearchDTO configuration = trial.configuration();
+            double sum = 0;
+            for (CompletableFuture<QueryEvaluationData> queryFuture : queryFutures) {
+                QueryEvaluationData data = queryFuture.join();
+                List<String> docIds = data.recombiner()
+                    .rank(
+                        configuration.getNormalizationTechnique(),
+                        configuration.getCombinationTechnique(),
+                        configuration.getQueryWeightsForCombination(),
+                        size
+                    );
+                sum += calculateNDCGAtK(docIds, data.docIdToScores(), size);
+            }
+            return queryFutures.isEmpty() ? 0.0 : sum / queryFutures.size();
+        });
+    }
+
+    private CompletableFuture<QueryEvaluationData> fetchQueryEvaluationData(String queryText) {
+        return subQueryScoresProvider.apply(queryText).thenCombine(judgmentsProvider.apply(queryText), QueryEvaluationData::new);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.List;
+
+/**
+ * Budgeted search over the hybrid search parameters. The search proposes trials, a configuration to evaluate on a set
+ * of query texts, and is told the objective each trial achieved before it proposes the next ones.
+ */
+public interface HybridParameterSearch {
+
+    /**
+     * Evaluation of one configuration on a set of query texts. Every query text of a trial costs one unit of budget.
+     */
+    record Trial(ExperimentVariantHybridSearchDTO configuration, List<String> queryTexts) {
+    }
+
+    /**
+     * Trials to evaluate next; all of them are reported before this is called again.
+     * @return the next trials, empty once the search is complete
+     */
+    List<Trial> nextTrials();
+
+    /**
+     * Report the objective of an evaluated trial, higher is better.
+     */
+    void report(Trial trial, double objective);
+
+    /**
+     * @return the best trial evaluated so far, null if nothing was reported yet
+     */
+    Trial getBestTrial();
+
+    /**
+     * @return the objective of the best trial
+     */
+    double getBestObjective();
+}
@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.search.SearchHit;
+
+/**
+ * Ranks the candidates of a hybrid query for any normalization and combination technique from the raw scores of its
+ * sub-queries, mirroring the normalization processor of the neural search plugin. The sub-queries are searched once,
+ * and every hybrid optimizer variant is then evaluated in-process instead of with a hybrid search of its own.
+ * <p>
+ * Scores are normalized over the candidates retrieved for a sub-query rather than per shard, and a candidate missing
+ * from the results of a sub-query scores 0 for it.
+ */
+public class HybridScoreRecombiner {
+    public static final String NORMALIZATION_MIN_MAX = "min_max";
+    public static final String NORMALIZATION_L2 = "l2";
+    public static final String COMBINATION_ARITHMETIC_MEAN = "arithmetic_mean";
+    public static final String COMBINATION_GEOMETRIC_MEAN = "geometric_mean";
+    public static final String COMBINATION_HARMONIC_MEAN = "harmonic_mean";
+
+    private static final float SINGLE_RESULT_SCORE = 1.0f;
+    private static final float MIN_SCORE = 0.001f;
+
+    private final int subQueryCount;
+    private final List<String> candidates;
+    // raw scores by candidate and sub-query
+    private final float[][] rawScores;
+    // normalized scores by technique, computed once and shared by all variants using the technique
+    private final Map<String, float[][]> normalizedScores = new ConcurrentHashMap<>();
+
+    /**
+     * @param subQueryScores raw scores of the hits of every sub-query by document id, in the order of the sub-queries
+     */
+    public HybridScoreRecombiner(List<Map<String, Float>> subQueryScores) {
+        this.subQueryCount = subQueryScores.size();
+        Map<String, float[]> scoresByCandidate = new LinkedHashMap<>();
+        for (int i = 0; i < subQueryCount; i++) {
+            for (Map.Entry<String, Float> hit : subQueryScores.get(i).entrySet()) {
+                scoresByCandidate.computeIfAbsent(hit.getKey(), k -> new float[subQueryCount])[i] = hit.getValue();
+            }
+        }
+        this.candidates = new ArrayList<>(scoresByCandidate.keySet());
+        this.rawScores = scoresByCandidate.values().toArray(new float[0][]);
+    }
+
+    /**
+     * Collect the raw sub-query scores from the responses of the sub-query searches.
+     * @param responses responses in the order of the sub-queries
+     */
+    public static HybridScoreRecombiner fromResponses(List<SearchResponse> responses) {
+        List<Map<String, Float>> subQueryScores = new ArrayList<>(responses.size());
+        for (SearchResponse response : responses) {
+            Map<String, Float> scores = new LinkedHashMap<>();
+            for (SearchHit hit : response.getHits().getHits()) {
+                scores.putIfAbsent(hit.getId(), hit.getScore());
+            }
+            subQueryScores.add(scores);
+        }
+        return new HybridScoreRecombiner(subQueryScores);
+    }
+
+    public int getCandidateCount() {
+        return candidates.size();
+    }
+
+    /**
+     * Rank the candidates the way a hybrid search with the given normalization processor settings would.
+     * @param normalizationTechnique normalization technique of the variant
+     * @param combinationTechnique combination technique of the variant
+     * @param weights weight of every sub-query, null for equal weights
+     * @param size max number of document ids returned
+     * @return ids of the best scoring documents, best first
+     */
+    public List<String> rank(String normalizationTechnique, String combinationTechnique, float[] weights, int size) {
+        if (weights != null && weights.length != subQueryCount) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "expected [%d] weights for combination but found [%d]", subQueryCount, weights.length)
+            );
+        }
+        float[] subQueryWeights = weights;
+        if (subQueryWeights == null) {
+            subQueryWeights = new float[subQueryCount];
+            Arrays.fill(subQueryWeights, 1.0f);
+        }
+        float[][] scores = normalizedScores.computeIfAbsent(normalizationTechnique, this::normalize);
+        float[] combinedScores = new float[candidates.size()];
+        for (int i = 0; i < candidates.size(); i++) {
+            combinedScores[i] = combine(combinationTechnique, scores[i], subQueryWeights);
+        }
+        // best scoring candidates first, earlier retrieved candidates first on ties
+        return IntStream.range(0, candidates.size())
+            .boxed()
+            .sorted(Comparator.<Integer>comparingDouble(i -> combinedScores[i]).reversed().thenComparing(i -> i))
+            .limit(size)
+            .map(candidates::get)
+            .collect(Collectors.toList());
+    }
+
+    private float[][] normalize(String normalizationTechnique) {
+        float[][] normalized = new float[candidates.size()][subQueryCount];
+        for (int subQuery = 0; subQuery < subQueryCount; subQuery++) {
+            switch (normalizationTechnique) {
+                case NORMALIZATION_MIN_MAX -> normalizeMinMax(normalized, subQuery);
+                case NORMALIZATION_L2 -> normalizeL2(normalized, subQuery);
+                default -> throw new IllegalArgumentException(
+                    "provided normalization technique is not supported: " + normalizationTechnique
+                );
+            }
+        }
+        return normalized;
+    }
+
+    private void normalizeMinMax(float[][] normalized, int subQuery) {
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+        for (float[] candidateScores : rawScores) {
+            if (candidateScores[subQuery] > 0) {
+                min = Math.min(min, candidateScores[subQuery]);
+                max = Math.max(max, candidateScores[subQuery]);
+            }
+        }
+        for (int i = 0; i < rawScores.length; i++) {
+            float score = rawScores[i][subQuery];
+            if (score <= 0) {
+                continue;
+            }
+            if (max == min) {
+                normalized[i][subQuery] = SINGLE_RESULT_SCORE;
+            } else {
+                float normalizedScore = (score - min) / (max - min);
+                normalized[i][subQuery] = normalizedScore == 0.0f ? MIN_SCORE : normalizedScore;
+            }
+        }
+    }
+
+    private void normalizeL2(float[][] normalized, int subQuery) {
+        double sumOfSquares = 0;
+        for (float[] candidateScores : rawScores) {
+            sumOfSquares += (double) candidateScores[subQuery] * candidateScores[subQuery];
+        }
+        double l2Norm = Math.sqrt(sumOfSquares);
+        for (int i = 0; i < rawScores.length; i++) {
+            float score = rawScores[i][subQuery];
+            if (score <= 0) {
+                continue;
+            }
+            normalized[i][subQuery] = l2Norm == 0 ? MIN_SCORE : (float) (score / l2Norm);
+        }
+    }
+
+    private static float combine(String combinationTechnique, float[] scores, float[] weights) {
+        double combined = 0;
+        double sumOfWeights = 0;
+        switch (combinationTechnique) {
+            case COMBINATION_ARITHMETIC_MEAN -> {
+                for (int i = 0; i < scores.length; i++) {
+                    combined += weights[i] * scores[i];
+                    sumOfWeights += weights[i];
+                }
+                return sumOfWeights == 0 ? 0.0f : (float) (combined / sumOfWeights);
+            }
+            case COMBINATION_GEOMETRIC_MEAN -> {
+                for (int i = 0; i < scores.length; i++) {
+                    if (scores[i] > 0) {
+                        combined += weights[i] * Math.log(scores[i]);
+                        sumOfWeights += weights[i];
+                    }
+                }
+                return sumOfWeights == 0 ? 0.0f : (float) Math.exp(combined / sumOfWeights);
+            }
+            case COMBINATION_HARMONIC_MEAN -> {
+                for (int i = 0; i < scores.length; i++) {
+                    if (scores[i] > 0) {
+                        combined += weights[i] / scores[i];
+                        sumOfWeights += weights[i];
+                    }
+                }
+                return combined == 0 ? 0.0f : (float) (sumOfWeights / combined);
+            }
+            default -> throw new IllegalArgumentException("provided combination technique is not supported: " + combinationTechnique);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Ratings of all the judgments of an experiment, merged into one index from query text to the rating of every judged
+ * document. It is built once and shared by the evaluation of every query text, instead of fetching the judgment
+ * documents and scanning their ratings for the matching query again for each of them. When several judgments rate
+ * the same document for the same query, the judgment listed last wins.
+ */
+@Log4j2
+public final class JudgmentRatingIndex implements Accountable {
+    private static final String JUDGMENT_RATINGS = "judgmentRatings";
+    private static final String QUERY = "query";
+    private static final String RATINGS = "ratings";
+    private static final String DOC_ID = "docId";
+    private static final String RATING = "rating";
+
+    private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(JudgmentRatingIndex.class);
+    private static final long QUERY_ENTRY_BYTES = RamUsageEstimator.HASHTABLE_RAM_BYTES_PER_ENTRY
+        + RamUsageEstimator.shallowSizeOfInstance(HashMap.class);
+    private static final long RATING_ENTRY_BYTES = RamUsageEstimator.HASHTABLE_RAM_BYTES_PER_ENTRY
+        + RamUsageEstimator.shallowSizeOfInstance(Float.class);
+
+    private final Map<String, Map<String, Float>> ratingsByQuery;
+    private final long ramBytesUsed;
+
+    private JudgmentRatingIndex(Map<String, Map<String, Float>> ratingsByQuery, long ramBytesUsed) {
+        this.ratingsByQuery = ratingsByQuery;
+        this.ramBytesUsed = ramBytesUsed;
+    }
+
+    /**
+     * Merge the ratings of judgment documents
+     * @param judgmentSources sources of the judgment documents, in the order of the judgment ids of the experiment
+     * @return index of the ratings of every query text
+     */
+    public static JudgmentRatingIndex fromJudgments(List<Map<String, Object>> judgmentSources) {
+        Map<String, Map<String, Float>> ratingsByQuery = new HashMap<>();
+        for (Map<String, Object> judgmentSource : judgmentSources) {
+            List<Map<String, Object>> judgmentRatings = (List<Map<String, Object>>) judgmentSource.getOrDefault(
+                JUDGMENT_RATINGS,
+                Collections.emptyList()
+            );
+            for (Map<String, Object> judgmentRating : judgmentRatings) {
+                Object queryText = judgmentRating.get(QUERY);
+                List<Map<String, Object>> docRatings = (List<Map<String, Object>>) judgmentRating.get(RATINGS);
+                if (queryText == null || docRatings == null) {
+                    continue;
+                }
+                Map<String, Float> queryRatings = ratingsByQuery.computeIfAbsent(queryText.toString(), k -> new HashMap<>());
+                for (Map<String, Object> docRating : docRatings) {
+                    Object docId = docRating.get(DOC_ID);
+                    Object rating = docRating.get(RATING);
+                    if (docId == null || rating == null) {
+                        continue;
+                    }
+                    try {
+                        queryRatings.put(docId.toString(), Float.parseFloat(rating.toString()));
+                    } catch (NumberFormatException e) {
+                        log.warn("Ignoring rating [{}] of doc [{}] for query [{}], it is not a number", rating, docId, queryText);
+                    }
+                }
+            }
+        }
+
+        long ramBytesUsed = SHALLOW_SIZE + RamUsageEstimator.shallowSizeOfInstance(HashMap.class);
+        for (Map.Entry<String, Map<String, Float>> queryRatings : ratingsByQuery.entrySet()) {
+            ramBytesUsed += QUERY_ENTRY_BYTES + RamUsageEstimator.sizeOf(queryRatings.getKey());
+            for (String docId : queryRatings.getValue().keySet()) {
+                ramBytesUsed += RATING_ENTRY_BYTES + RamUsageEstimator.sizeOf(docId);
+            }
+        }
+        return new JudgmentRatingIndex(ratingsByQuery, ramBytesUsed);
+    }
+
+    /**
+     * Ratings of the documents judged for a query text, as the evaluation metrics read them
+     * @param queryText query text
+     * @return rating of every judged document by doc id, empty if the query text was not judged
+     */
+    public Map<String, String> getRatings(String queryText) {
+        Map<String, Float> queryRatings = ratingsByQuery.getOrDefault(queryText, Map.of());
+        Map<String, String> docIdToScores = new HashMap<>(queryRatings.size());
+        queryRatings.forEach((docId, rating) -> docIdToScores.put(docId, Float.toString(rating)));
+        return docIdToScores;
+    }
+
+    /**
+     * @return number of judged query texts
+     */
+    public int getQueryCount() {
+        return ratingsByQuery.size();
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return ramBytesUsed;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Judgment rating indices of the running experiments. The judgments of an experiment are fetched and merged into a
+ * {@link JudgmentRatingIndex} the first time one of its query texts is evaluated, accounted against the judgment
+ * circuit breaker of the plugin, and released once the experiment completes or fails.
+ * <p>
+ * A node running partitions of a distributed experiment does not learn when the experiment completes. Every partition
+ * holds the index while it runs, and the index is only released once no partition has held it for
+ * {@link #IDLE_RELEASE_DELAY}, so the following partitions of the experiment on the same node reuse it.
+ */
+@Log4j2
+public class JudgmentRatingIndexCache {
+    private static final int MAX_FAILED_JUDGMENTS = 5;
+    public static final TimeValue IDLE_RELEASE_DELAY = TimeValue.timeValueMinutes(5);
+
+    private final JudgmentDao judgmentDao;
+    private final Supplier<CircuitBreaker> circuitBreaker;
+    private final ThreadPool threadPool;
+    private final Map<String, CompletableFuture<JudgmentRatingIndex>> indices = new ConcurrentHashMap<>();
+    // partitions currently holding the index of an experiment, and the pending releases of indices nobody holds
+    private final Map<String, Integer> holders = new HashMap<>();
+    private final Map<String, Scheduler.ScheduledCancellable> idleReleases = new HashMap<>();
+
+    public JudgmentRatingIndexCache(JudgmentDao judgmentDao) {
+        this(judgmentDao, () -> new NoopCircuitBreaker(CircuitBreaker.REQUEST));
+    }
+
+    public JudgmentRatingIndexCache(JudgmentDao judgmentDao, Supplier<CircuitBreaker> circuitBreaker) {
+        this(judgmentDao, circuitBreaker, null);
+    }
+
+    /**
+     * @param judgmentDao dao of the judgments
+     * @param circuitBreaker breaker the memory of the indices is accounted against, resolved on use as plugin breakers are
+     *                       only set once the node has started
+     * @param threadPool thread pool the releases of idle indices are scheduled on, null to release them right away
+     */
+    public JudgmentRatingIndexCache(JudgmentDao judgmentDao, Supplier<CircuitBreaker> circuitBreaker, ThreadPool threadPool) {
+        this.judgmentDao = judgmentDao;
+        this.circuitBreaker = circuitBreaker;
+        this.threadPool = threadPool;
+    }
+
+    /**
+     * Ratings of the documents judged for a query text of an experiment, loading the judgments of the experiment if
+     * they are not loaded yet
+     * @param experimentId experiment id
+     * @param judgmentIds judgment ids of the experiment
+     * @param queryText query text
+     * @return rating of every judged document by doc id
+     */
+    public CompletableFuture<Map<String, String>> getRatingsAsync(String experimentId, List<String> judgmentIds, String queryText) {
+        return getIndexAsync(experimentId, judgmentIds).thenApply(index -> index.getRatings(queryText));
+    }
+
+    /**
+     * Index of the ratings of an experiment, loaded once for all its query texts
+     */
+    CompletableFuture<JudgmentRatingIndex> getIndexAsync(String experimentId, List<String> judgmentIds) {
+        return indices.computeIfAbsent(experimentId, id -> loadAsync(id, judgmentIds));
+    }
+
+    /**
+     * Hold the index of an experiment while a partition of it runs on this node
+     * @param experimentId experiment id
+     */
+    public synchronized void acquire(String experimentId) {
+        holders.merge(experimentId, 1, Integer::sum);
+        Scheduler.ScheduledCancellable idleRelease = idleReleases.remove(experimentId);
+        if (Objects.nonNull(idleRelease)) {
+            idleRelease.cancel();
+        }
+    }
+
+    /**
+     * Drop the hold of a partition on the index of an experiment. The index is released once no partition has held it
+     * for {@link #IDLE_RELEASE_DELAY}.
+     * @param experimentId experiment id
+     */
+    public synchronized void releaseWhenIdle(String experimentId) {
+        if (Objects.nonNull(holders.computeIfPresent(experimentId, (id, count) -> count > 1 ? count - 1 : null))) {
+            return;
+        }
+        if (Objects.isNull(threadPool)) {
+            release(experimentId);
+            return;
+        }
+        Scheduler.ScheduledCancellable previous = idleReleases.put(
+            experimentId,
+            threadPool.schedule(() -> releaseIfIdle(experimentId), IDLE_RELEASE_DELAY, ThreadPool.Names.GENERIC)
+        );
+        if (Objects.nonNull(previous)) {
+            previous.cancel();
+        }
+    }
+
+    private synchronized void releaseIfIdle(String experimentId) {
+        if (holders.containsKey(experimentId) == false) {
+            release(experimentId);
+        }
+    }
+
+    /**
+     * Release the index of an experiment and the memory accounted for it
+     * @param experimentId experiment id
+     */
+    public synchronized void release(String experimentId) {
+        Scheduler.ScheduledCancellable idleRelease = idleReleases.remove(experimentId);
+        if (Objects.nonNull(idleRelease)) {
+            idleRelease.cancel();
+        }
+        CompletableFuture<JudgmentRatingIndex> index = indices.remove(experimentId);
+        if (Objects.nonNull(index)) {
+            // an index still loading is released as soon as it is loaded
+            index.thenAccept(loadedIndex -> {
+                circuitBreaker.get().addWithoutBreaking(-loadedIndex.ramBytesUsed());
+                log.debug("Released judgment ratings of experiment {} ({} bytes)", experimentId, loadedIndex.ramBytesUsed());
+            });
+        }
+    }
+
+    int getLoadedExperiments() {
+        return indices.size();
+    }
+
+    private CompletableFuture<JudgmentRatingIndex> loadAsync(String experimentId, List<String> judgmentIds) {
+        List<CompletableFuture<SearchResponse>> judgmentFutures = judgmentIds.stream().map(judgmentId -> {
+            CompletableFuture<SearchResponse> future = new CompletableFuture<>();
+            judgmentDao.getJudgment(judgmentId, ActionListener.wrap(future::complete, future::completeExceptionally));
+            return future;
+        }).toList();
+
+        return CompletableFuture.allOf(judgmentFutures.toArray(new CompletableFuture[0])).thenApply(v -> {
+            List<Map<String, Object>> judgmentSources = new ArrayList<>(judgmentFutures.size());
+            int failureThreshold = Math.min(MAX_FAILED_JUDGMENTS, judgmentIds.size());
+            int failureCount = 0;
+            for (CompletableFuture<SearchResponse> future : judgmentFutures) {
+                try {
+                    SearchResponse response = future.join();
+                    if (Objects.isNull(response.getHits()) || response.getHits().getTotalHits().value() == 0) {
+                        log.warn("No judgment found in response");
+                        continue;
+                    }
+                    judgmentSources.add(response.getHits().getHits()[0].getSourceAsMap());
+                } catch (Exception e) {
+                    log.error("Failed to process judgment response: {}", e.getMessage());
+                    if (++failureCount >= failureThreshold) {
+                        throw new RuntimeException(
+                            String.format(
+                                Locale.ROOT,
+                                "Failed to load judgments: exceeded failure threshold %d/%d",
+                                failureCount,
+                                failureThreshold
+                            ),
+                            e
+                        );
+                    }
+                }
+            }
+
+            JudgmentRatingIndex index = JudgmentRatingIndex.fromJudgments(judgmentSources);
+            circuitBreaker.get()
+                .addEstimateBytesAndMaybeBreak(index.ramBytesUsed(), "judgment ratings of experiment [" + experimentId + "]");
+            log.info(
+                "Loaded judgment ratings of {} query texts for experiment {} ({} bytes)",
+                index.getQueryCount(),
+                experimentId,
+                index.ramBytesUsed()
+            );
+            return index;
+        });
+    }
+}
@@ -19,6 +19,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.searchrelevance.model.ExperimentVariant;
 
 /**
@@ -26,7 +30,9 @@ import org.opensearch.searchrelevance.model.ExperimentVariant;
  */
 public class QuerySourceUtil {
 
-    public static final int NUMBER_OF_SUBQUERIES_IN_HYBRID_QUERY = 2;
+    public static final int MIN_NUMBER_OF_SUBQUERIES_IN_HYBRID_QUERY = 2;
+    // max number of sub-queries the hybrid query of the neural search plugin accepts
+    public static final int MAX_NUMBER_OF_SUBQUERIES_IN_HYBRID_QUERY = 5;
 
     /**
      * Creates a definition of a temporary search pipeline for hybrid search.
@@ -61,11 +67,36 @@ public class QuerySourceUtil {
     }
 
     /**
-     * Validate that the query in the search configuration is a hybrid query with two sub-queries.
+     * Validate that the query in the search configuration is a hybrid query with a supported number of sub-queries.
      * @param fullQueryMap
      * @throws IOException
      */
     public static void validateHybridQuery(Map<String, Object> fullQueryMap) throws IOException {
+        getNumberOfSubQueries(fullQueryMap);
+    }
+
+    /**
+     * Number of sub-queries of the hybrid query of a search configuration, which is the number of weights of its
+     * combination technique.
+     * @param query DSL query of the search configuration
+     * @return number of sub-queries
+     * @throws IllegalArgumentException if the query is not a valid hybrid query
+     */
+    public static int getNumberOfSubQueries(String query) {
+        try (
+            XContentParser parser = JsonXContent.jsonXContent.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.IGNORE_DEPRECATIONS,
+                query
+            )
+        ) {
+            return getNumberOfSubQueries(parser.map());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("failed to parse query of search configuration", e);
+        }
+    }
+
+    private static int getNumberOfSubQueries(Map<String, Object> fullQueryMap) {
         if (fullQueryMap.containsKey("query") == false || fullQueryMap.get("query") instanceof Map == false) {
             throw new IllegalArgumentException("search configuration must have at least one query");
         }
@@ -78,15 +109,17 @@ public class QuerySourceUtil {
             throw new IllegalArgumentException("hybrid query in search configuration does not have sub-queries");
         }
         List<?> queriesMap = (List<?>) hybridMap.get("queries");
-        if (queriesMap.size() != NUMBER_OF_SUBQUERIES_IN_HYBRID_QUERY) {
+        if (queriesMap.size() < MIN_NUMBER_OF_SUBQUERIES_IN_HYBRID_QUERY || queriesMap.size() > MAX_NUMBER_OF_SUBQUERIES_IN_HYBRID_QUERY) {
             throw new IllegalArgumentException(
                 String.format(
                     Locale.ROOT,
-                    "invalid hybrid query: expected exactly [%d] sub-queries but found [%d]",
-                    NUMBER_OF_SUBQUERIES_IN_HYBRID_QUERY,
+                    "invalid hybrid query: expected between [%d] and [%d] sub-queries but found [%d]",
+                    MIN_NUMBER_OF_SUBQUERIES_IN_HYBRID_QUERY,
+                    MAX_NUMBER_OF_SUBQUERIES_IN_HYBRID_QUERY,
                     queriesMap.size()
                 )
             );
         }
+        return queriesMap.size();
     }
 }
@@ -0,0 +1,234 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Search over the weights of any number of sub-queries that avoids the full grid, whose size grows exponentially with
+ * the number of sub-queries. Every pair of normalization and combination technique is first evaluated on a few probe
+ * weightings, the centroid of the simplex and one point leaning towards each sub-query, and pairs that are dominated
+ * by another pair on every probe are pruned. The remaining pairs descend on the simplex lattice from their best probe:
+ * each round evaluates the neighbours reached by moving a step of weight from one sub-query to another one, moves to
+ * the best neighbour if it improves, and halves the step otherwise, until the step falls below the lattice spacing.
+ * <p>
+ * Every trial is evaluated on the same query texts, as many of them as the budget allows for {@code TARGET_TRIALS}
+ * trials.
+ */
+public class SimplexCoordinateDescentSearch implements HybridParameterSearch {
+    static final int TARGET_TRIALS = 100;
+
+    private final int numberOfSubQueries;
+    private final int divisions;
+    private final List<String> trialQueryTexts;
+    private final List<Descent> descents = new ArrayList<>();
+
+    private final Map<Trial, RoundTrial> roundTrials = new LinkedHashMap<>();
+    private final Map<Trial, Double> roundObjectives = new IdentityHashMap<>();
+    private boolean probed = false;
+
+    private Trial bestTrial;
+    private double bestObjective = Double.NEGATIVE_INFINITY;
+
+    private record RoundTrial(Descent descent, int[] point) {
+    }
+
+    /**
+     * Descent of one pair of normalization and combination technique, the objectives are keyed by lattice point
+     */
+    private static final class Descent {
+        private final String normalizationTechnique;
+        private final String combinationTechnique;
+        private final Map<List<Integer>, Double> objectives = new HashMap<>();
+        private int[] incumbent;
+        private double incumbentObjective = Double.NEGATIVE_INFINITY;
+        private int step;
+
+        private Descent(String normalizationTechnique, String combinationTechnique, int step) {
+            this.normalizationTechnique = normalizationTechnique;
+            this.combinationTechnique = combinationTechnique;
+            this.step = step;
+        }
+    }
+
+    /**
+     * @param normalizationTechniques normalization techniques to choose from
+     * @param combinationTechniques combination techniques to choose from
+     * @param numberOfSubQueries number of sub-queries, and of weights of a configuration
+     * @param divisions lattice resolution, weights are multiples of {@code 1 / divisions}
+     * @param queryTexts query texts, shuffled by the caller, the first ones are used when the budget does not cover all
+     * @param budget max number of query texts evaluated over all trials
+     */
+    public SimplexCoordinateDescentSearch(
+        List<String> normalizationTechniques,
+        List<String> combinationTechniques,
+        int numberOfSubQueries,
+        int divisions,
+        List<String> queryTexts,
+        int budget
+    ) {
+        this.numberOfSubQueries = numberOfSubQueries;
+        this.divisions = divisions;
+        int queriesPerTrial = Math.min(queryTexts.size(), Math.max(1, budget / TARGET_TRIALS));
+        this.trialQueryTexts = List.copyOf(queryTexts.subList(0, queriesPerTrial));
+        for (String normalizationTechnique : normalizationTechniques) {
+            for (String combinationTechnique : combinationTechniques) {
+                descents.add(new Descent(normalizationTechnique, combinationTechnique, Math.max(1, divisions / 4)));
+            }
+        }
+    }
+
+    @Override
+    public synchronized List<Trial> nextTrials() {
+        if (trialQueryTexts.isEmpty()) {
+            return List.of();
+        }
+        if (probed == false) {
+            probed = true;
+            List<int[]> probes = probes();
+            for (Descent descent : descents) {
+                probes.forEach(probe -> addTrial(descent, probe));
+            }
+            return List.copyOf(roundTrials.keySet());
+        }
+
+        boolean probeRound = descents.stream().allMatch(descent -> descent.incumbent == null);
+        completeRound();
+        if (probeRound) {
+            pruneDominatedDescents();
+        }
+        for (Descent descent : descents) {
+            for (boolean added = false; added == false && descent.step > 0;) {
+                for (int[] neighbour : SimplexLattice.neighbours(descent.incumbent, descent.step)) {
+                    if (descent.objectives.containsKey(key(neighbour)) == false) {
+                        addTrial(descent, neighbour);
+                        added = true;
+                    }
+                }
+                if (added == false) {
+                    // every neighbour was evaluated before and none of them improved, refine the step
+                    descent.step /= 2;
+                }
+            }
+        }
+        return List.copyOf(roundTrials.keySet());
+    }
+
+    @Override
+    public synchronized void report(Trial trial, double objective) {
+        if (roundTrials.containsKey(trial) == false) {
+            return;
+        }
+        roundObjectives.put(trial, objective);
+        if (objective > bestObjective) {
+            bestObjective = objective;
+            bestTrial = trial;
+        }
+    }
+
+    @Override
+    public synchronized Trial getBestTrial() {
+        return bestTrial;
+    }
+
+    @Override
+    public synchronized double getBestObjective() {
+        return bestObjective;
+    }
+
+    /**
+     * Record the objectives of the previous round, and move every descent to its best neighbour if it improved or
+     * halve its step otherwise. Trials that were not reported, because the budget ran out, are left unevaluated.
+     */
+    private void completeRound() {
+        Set<Descent> improved = new HashSet<>();
+        for (Map.Entry<Trial, Double> entry : roundObjectives.entrySet()) {
+            Descent descent = roundTrials.get(entry.getKey()).descent();
+            int[] point = roundTrials.get(entry.getKey()).point();
+            descent.objectives.put(key(point), entry.getValue());
+            if (entry.getValue() > descent.incumbentObjective) {
+                descent.incumbent = point;
+                descent.incumbentObjective = entry.getValue();
+                improved.add(descent);
+            }
+        }
+        for (Descent descent : descents) {
+            if (improved.contains(descent) == false && descent.incumbent != null) {
+                descent.step /= 2;
+            }
+        }
+        // a descent without any evaluated point cannot continue
+        descents.removeIf(descent -> descent.incumbent == null);
+        roundTrials.clear();
+        roundObjectives.clear();
+    }
+
+    /**
+     * Drop every descent whose objectives on the probes are all matched by another descent and beaten on at least one
+     */
+    private void pruneDominatedDescents() {
+        List<List<Integer>> probeKeys = probes().stream().map(SimplexCoordinateDescentSearch::key).toList();
+        List<Descent> dominated = descents.stream()
+            .filter(descent -> descents.stream().anyMatch(other -> other != descent && dominates(other, descent, probeKeys)))
+            .toList();
+        descents.removeAll(dominated);
+    }
+
+    private static boolean dominates(Descent descent, Descent other, List<List<Integer>> probeKeys) {
+        boolean better = false;
+        for (List<Integer> probeKey : probeKeys) {
+            Double objective = descent.objectives.get(probeKey);
+            Double otherObjective = other.objectives.get(probeKey);
+            if (objective == null || otherObjective == null || objective < otherObjective) {
+                return false;
+            }
+            better |= objective > otherObjective;
+        }
+        return better;
+    }
+
+    /**
+     * Centroid of the simplex and, for every sub-query, the point giving it twice the weight of every other one
+     */
+    private List<int[]> probes() {
+        Map<List<Integer>, int[]> probes = new LinkedHashMap<>();
+        double[] centroid = new double[numberOfSubQueries];
+        Arrays.fill(centroid, 1.0 / numberOfSubQueries);
+        int[] centroidPoint = SimplexLattice.round(centroid, divisions);
+        probes.put(key(centroidPoint), centroidPoint);
+        for (int i = 0; i < numberOfSubQueries; i++) {
+            double[] leaning = new double[numberOfSubQueries];
+            Arrays.fill(leaning, 1.0 / (numberOfSubQueries + 1));
+            leaning[i] = 2.0 / (numberOfSubQueries + 1);
+            int[] leaningPoint = SimplexLattice.round(leaning, divisions);
+            probes.putIfAbsent(key(leaningPoint), leaningPoint);
+        }
+        return new ArrayList<>(probes.values());
+    }
+
+    private void addTrial(Descent descent, int[] point) {
+        ExperimentVariantHybridSearchDTO configuration = ExperimentVariantHybridSearchDTO.builder()
+            .normalizationTechnique(descent.normalizationTechnique)
+            .combinationTechnique(descent.combinationTechnique)
+            .queryWeightsForCombination(SimplexLattice.toWeights(point, divisions))
+            .build();
+        roundTrials.put(new Trial(configuration, trialQueryTexts), new RoundTrial(descent, point));
+    }
+
+    private static List<Integer> key(int[] point) {
+        return Arrays.stream(point).boxed().toList();
+    }
+}
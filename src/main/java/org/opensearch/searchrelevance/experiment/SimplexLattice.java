@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Weights of the sub-queries of a hybrid query on a simplex lattice: every weight is a multiple of
+ * {@code 1 / divisions} and the weights add up to one. A point is given by the number of divisions of every weight.
+ */
+final class SimplexLattice {
+
+    private SimplexLattice() {}
+
+    /**
+     * All points of the lattice, their number is {@code (divisions + dimensions - 1) choose (dimensions - 1)}.
+     */
+    static List<int[]> points(int dimensions, int divisions) {
+        List<int[]> points = new ArrayList<>();
+        addPoints(new int[dimensions], 0, divisions, points);
+        return points;
+    }
+
+    private static void addPoints(int[] point, int dimension, int remaining, List<int[]> points) {
+        if (dimension == point.length - 1) {
+            point[dimension] = remaining;
+            points.add(point.clone());
+            return;
+        }
+        for (int units = remaining; units >= 0; units--) {
+            point[dimension] = units;
+            addPoints(point, dimension + 1, remaining - units, points);
+        }
+    }
+
+    /**
+     * Points reached by moving {@code step} divisions of weight from one sub-query to another one.
+     */
+    static List<int[]> neighbours(int[] point, int step) {
+        List<int[]> neighbours = new ArrayList<>();
+        for (int from = 0; from < point.length; from++) {
+            if (point[from] < step) {
+                continue;
+            }
+            for (int to = 0; to < point.length; to++) {
+                if (to != from) {
+                    int[] neighbour = point.clone();
+                    neighbour[from] -= step;
+                    neighbour[to] += step;
+                    neighbours.add(neighbour);
+                }
+            }
+        }
+        return neighbours;
+    }
+
+    /**
+     * Nearest point of the lattice to weights adding up to one, rounding by the largest remainders.
+     */
+    static int[] round(double[] weights, int divisions) {
+        int[] point = new int[weights.length];
+        int assigned = 0;
+        for (int i = 0; i < weights.length; i++) {
+            point[i] = (int) Math.floor(weights[i] * divisions);
+            assigned += point[i];
+        }
+        List<Integer> byRemainder = IntStream.range(0, weights.length)
+            .boxed()
+            .sorted(Comparator.comparingDouble((Integer i) -> weights[i] * divisions - point[i]).reversed())
+            .toList();
+        for (int i = 0; assigned < divisions; i++, assigned++) {
+            point[byRemainder.get(i % weights.length)]++;
+        }
+        return point;
+    }
+
+    static float[] toWeights(int[] point, int divisions) {
+        float[] weights = new float[point.length];
+        for (int i = 0; i < point.length; i++) {
+            weights[i] = (float) point[i] / divisions;
+        }
+        return weights;
+    }
+}
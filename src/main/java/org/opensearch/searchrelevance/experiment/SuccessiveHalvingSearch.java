@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Successive halving over a fixed set of configurations. All configurations are evaluated on a small subset of the
+ * query texts, and only the best {@code 1 / REDUCTION_FACTOR} of them are promoted to the next rung, which evaluates
+ * them on more query texts. The budget is spread evenly over the rungs, so the last configurations standing are
+ * evaluated on the most query texts.
+ */
+public class SuccessiveHalvingSearch implements HybridParameterSearch {
+    static final int REDUCTION_FACTOR = 3;
+
+    private final List<String> queryTexts;
+    private final int budget;
+    private final int rungCount;
+
+    private List<ExperimentVariantHybridSearchDTO> survivors;
+    private List<Trial> rungTrials = List.of();
+    private final Map<Trial, Double> rungObjectives = new IdentityHashMap<>();
+    private int rung = 0;
+    private int usedBudget = 0;
+    private int queriesPerTrial = 0;
+
+    private Trial bestTrial;
+    private double bestObjective = Double.NEGATIVE_INFINITY;
+
+    /**
+     * @param configurations configurations to choose from
+     * @param queryTexts query texts in the order they are taken into rungs, shuffled by the caller
+     * @param budget max number of query texts evaluated over all trials
+     */
+    public SuccessiveHalvingSearch(List<ExperimentVariantHybridSearchDTO> configurations, List<String> queryTexts, int budget) {
+        this.survivors = new ArrayList<>(configurations);
+        this.queryTexts = queryTexts;
+        this.budget = budget;
+        // rungs needed to narrow the configurations down to one
+        int rungs = 0;
+        for (int remaining = configurations.size(); remaining > 1; remaining = ceilDiv(remaining, REDUCTION_FACTOR)) {
+            rungs++;
+        }
+        this.rungCount = Math.max(1, rungs);
+    }
+
+    @Override
+    public synchronized List<Trial> nextTrials() {
+        if (rung >= rungCount || survivors.isEmpty() || queryTexts.isEmpty()) {
+            return List.of();
+        }
+        int remainingBudget = budget - usedBudget;
+        int rungBudget = remainingBudget / (rungCount - rung);
+        // a rung never evaluates on fewer query texts than the previous one
+        int queries = Math.min(queryTexts.size(), Math.max(Math.max(1, queriesPerTrial), rungBudget / survivors.size()));
+        if ((long) queries * survivors.size() > remainingBudget) {
+            queries = remainingBudget / survivors.size();
+        }
+        if (queries < 1) {
+            return List.of();
+        }
+        if (queries == queryTexts.size()) {
+            // more rungs cannot add query texts, rank the survivors on all of them once
+            rung = rungCount - 1;
+        }
+        queriesPerTrial = queries;
+        usedBudget += queries * survivors.size();
+
+        List<String> rungQueryTexts = List.copyOf(queryTexts.subList(0, queries));
+        rungTrials = survivors.stream().map(configuration -> new Trial(configuration, rungQueryTexts)).toList();
+        rungObjectives.clear();
+        return rungTrials;
+    }
+
+    @Override
+    public synchronized void report(Trial trial, double objective) {
+        rungObjectives.put(trial, objective);
+        if (rungObjectives.size() < rungTrials.size()) {
+            return;
+        }
+        List<Trial> ranked = rungTrials.stream()
+            .sorted(Comparator.comparingDouble((Trial rungTrial) -> rungObjectives.get(rungTrial)).reversed())
+            .toList();
+        // the latest rung is evaluated on the most query texts, so its best trial is the most reliable one
+        bestTrial = ranked.get(0);
+        bestObjective = rungObjectives.get(bestTrial);
+
+        rung++;
+        survivors = ranked.subList(0, ceilDiv(ranked.size(), REDUCTION_FACTOR)).stream().map(Trial::configuration).toList();
+        if (survivors.size() == 1) {
+            rung = rungCount;
+        }
+    }
+
+    @Override
+    public synchronized Trial getBestTrial() {
+        return bestTrial;
+    }
+
+    @Override
+    public synchronized double getBestObjective() {
+        return bestObjective;
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
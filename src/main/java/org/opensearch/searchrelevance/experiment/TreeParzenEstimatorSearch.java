@@ -0,0 +1,269 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Tree-structured Parzen estimator over the normalization technique, the combination technique and the continuous
+ * weights of all sub-queries but the last one, which gets the rest of a total weight of one. After a few random trials,
+ * the observed trials are split into the best {@code GOOD_FRACTION} and the rest; the next trial is the candidate,
+ * sampled around the good trials, that maximizes the ratio of the density of the good trials to the density of the
+ * other ones.
+ * <p>
+ * Every trial is evaluated on the same query texts, as many of them as the budget allows while still running
+ * {@code MIN_TRIALS} trials.
+ */
+public class TreeParzenEstimatorSearch implements HybridParameterSearch {
+    static final int MIN_TRIALS = 20;
+    static final int MIN_STARTUP_TRIALS = 5;
+    static final double GOOD_FRACTION = 0.25;
+    static final int CANDIDATES_PER_PROPOSAL = 24;
+    private static final double MIN_BANDWIDTH_FRACTION = 0.05;
+    private static final int MAX_WEIGHT_SAMPLING_ATTEMPTS = 1000;
+
+    private final List<String> normalizationTechniques;
+    private final List<String> combinationTechniques;
+    private final int freeWeights;
+    private final float weightMin;
+    private final float weightMax;
+    private final List<String> trialQueryTexts;
+    private final int trialCount;
+    private final int startupTrials;
+    private final Random random;
+
+    private final List<Observation> observations = new ArrayList<>();
+    private int proposedTrials = 0;
+
+    private record Observation(ExperimentVariantHybridSearchDTO configuration, double objective) {
+    }
+
+    /**
+     * @param normalizationTechniques normalization techniques to choose from
+     * @param combinationTechniques combination techniques to choose from
+     * @param numberOfSubQueries number of sub-queries, and of weights of a configuration
+     * @param weightMin lowest weight of every sub-query but the last one
+     * @param weightMax highest weight of every sub-query but the last one
+     * @param queryTexts query texts, shuffled by the caller, the first ones are used when the budget does not cover all
+     * @param budget max number of query texts evaluated over all trials
+     * @param random source of randomness, seeded by the caller for reproducible searches
+     */
+    public TreeParzenEstimatorSearch(
+        List<String> normalizationTechniques,
+        List<String> combinationTechniques,
+        int numberOfSubQueries,
+        float weightMin,
+        float weightMax,
+        List<String> queryTexts,
+        int budget,
+        Random random
+    ) {
+        this.normalizationTechniques = List.copyOf(normalizationTechniques);
+        this.combinationTechniques = List.copyOf(combinationTechniques);
+        this.freeWeights = numberOfSubQueries - 1;
+        this.weightMin = weightMin;
+        this.weightMax = weightMax;
+        int queriesPerTrial = Math.min(queryTexts.size(), Math.max(1, budget / MIN_TRIALS));
+        this.trialQueryTexts = List.copyOf(queryTexts.subList(0, queriesPerTrial));
+        this.trialCount = queriesPerTrial == 0 ? 0 : budget / queriesPerTrial;
+        this.startupTrials = Math.min(trialCount, Math.max(MIN_STARTUP_TRIALS, trialCount / 4));
+        this.random = random;
+    }
+
+    @Override
+    public synchronized List<Trial> nextTrials() {
+        if (proposedTrials >= trialCount) {
+            return List.of();
+        }
+        List<Trial> trials = new ArrayList<>();
+        if (proposedTrials < startupTrials) {
+            // no model yet, explore the space uniformly
+            while (proposedTrials < startupTrials) {
+                trials.add(new Trial(sampleUniform(), trialQueryTexts));
+                proposedTrials++;
+            }
+        } else {
+            trials.add(new Trial(propose(), trialQueryTexts));
+            proposedTrials++;
+        }
+        return trials;
+    }
+
+    @Override
+    public synchronized void report(Trial trial, double objective) {
+        observations.add(new Observation(trial.configuration(), objective));
+    }
+
+    @Override
+    public synchronized Trial getBestTrial() {
+        return observations.stream()
+            .max(Comparator.comparingDouble(Observation::objective))
+            .map(observation -> new Trial(observation.configuration(), trialQueryTexts))
+            .orElse(null);
+    }
+
+    @Override
+    public synchronized double getBestObjective() {
+        return observations.stream().mapToDouble(Observation::objective).max().orElse(Double.NEGATIVE_INFINITY);
+    }
+
+    private ExperimentVariantHybridSearchDTO sampleUniform() {
+        return configuration(
+            normalizationTechniques.get(random.nextInt(normalizationTechniques.size())),
+            combinationTechniques.get(random.nextInt(combinationTechniques.size())),
+            sampleUniformWeights()
+        );
+    }
+
+    /**
+     * Weights drawn uniformly from the range, rejecting draws that add up to more than one
+     */
+    private float[] sampleUniformWeights() {
+        float[] weights = new float[freeWeights];
+        for (int attempt = 0; attempt < MAX_WEIGHT_SAMPLING_ATTEMPTS; attempt++) {
+            float sum = 0;
+            for (int i = 0; i < freeWeights; i++) {
+                weights[i] = weightMin + random.nextFloat() * (weightMax - weightMin);
+                sum += weights[i];
+            }
+            if (sum <= 1.0f) {
+                break;
+            }
+        }
+        return weights;
+    }
+
+    private ExperimentVariantHybridSearchDTO propose() {
+        List<Observation> ranked = observations.stream().sorted(Comparator.comparingDouble(Observation::objective).reversed()).toList();
+        int goodCount = Math.max(1, (int) Math.ceil(GOOD_FRACTION * ranked.size()));
+        List<Observation> good = ranked.subList(0, goodCount);
+        List<Observation> bad = ranked.subList(goodCount, ranked.size());
+        double bandwidth = bandwidth(good.size());
+
+        ExperimentVariantHybridSearchDTO bestCandidate = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < CANDIDATES_PER_PROPOSAL; i++) {
+            ExperimentVariantHybridSearchDTO candidate = sampleFrom(good, bandwidth);
+            double score = logDensity(candidate, good, bandwidth) - logDensity(candidate, bad, bandwidth(bad.size()));
+            if (score > bestScore) {
+                bestScore = score;
+                bestCandidate = candidate;
+            }
+        }
+        return bestCandidate;
+    }
+
+    private ExperimentVariantHybridSearchDTO sampleFrom(List<Observation> good, double bandwidth) {
+        // draw from the uniform prior as often as from any single good trial, so the whole range stays reachable
+        int component = random.nextInt(good.size() + 1);
+        float[] weights;
+        if (component == good.size()) {
+            weights = sampleUniformWeights();
+        } else {
+            float[] center = good.get(component).configuration().getQueryWeightsForCombination();
+            weights = new float[freeWeights];
+            for (int i = 0; i < freeWeights; i++) {
+                weights[i] = (float) (center[i] + random.nextGaussian() * bandwidth);
+            }
+        }
+        return configuration(
+            sampleCategory(normalizationTechniques, good, ExperimentVariantHybridSearchDTO::getNormalizationTechnique),
+            sampleCategory(combinationTechniques, good, ExperimentVariantHybridSearchDTO::getCombinationTechnique),
+            weights
+        );
+    }
+
+    private String sampleCategory(
+        List<String> categories,
+        List<Observation> observed,
+        Function<ExperimentVariantHybridSearchDTO, String> category
+    ) {
+        // observed frequencies with a prior of one for every category, so no category is ever ruled out
+        double draw = random.nextDouble() * (observed.size() + categories.size());
+        for (String candidate : categories) {
+            draw -= 1 + observed.stream().filter(observation -> candidate.equals(category.apply(observation.configuration()))).count();
+            if (draw < 0) {
+                return candidate;
+            }
+        }
+        return categories.get(categories.size() - 1);
+    }
+
+    private double logDensity(ExperimentVariantHybridSearchDTO candidate, List<Observation> observed, double bandwidth) {
+        double normalizationProbability = categoryProbability(
+            normalizationTechniques,
+            observed,
+            candidate.getNormalizationTechnique(),
+            ExperimentVariantHybridSearchDTO::getNormalizationTechnique
+        );
+        double combinationProbability = categoryProbability(
+            combinationTechniques,
+            observed,
+            candidate.getCombinationTechnique(),
+            ExperimentVariantHybridSearchDTO::getCombinationTechnique
+        );
+        // product kernel density of the weights, mixed with a uniform prior over the range
+        float[] weights = candidate.getQueryWeightsForCombination();
+        double range = Math.max(weightMax - weightMin, Float.MIN_VALUE);
+        double weightDensity = Math.pow(range, -freeWeights);
+        for (Observation observation : observed) {
+            double kernel = 1.0;
+            for (int i = 0; i < freeWeights; i++) {
+                double distance = (weights[i] - observation.configuration().getQueryWeightsForCombination()[i]) / bandwidth;
+                kernel *= Math.exp(-0.5 * distance * distance) / (bandwidth * Math.sqrt(2 * Math.PI));
+            }
+            weightDensity += kernel;
+        }
+        weightDensity /= observed.size() + 1;
+        return Math.log(normalizationProbability) + Math.log(combinationProbability) + Math.log(weightDensity);
+    }
+
+    private static double categoryProbability(
+        List<String> categories,
+        List<Observation> observed,
+        String value,
+        Function<ExperimentVariantHybridSearchDTO, String> category
+    ) {
+        long count = observed.stream().filter(observation -> value.equals(category.apply(observation.configuration()))).count();
+        return (count + 1.0) / (observed.size() + categories.size());
+    }
+
+    private double bandwidth(int observedCount) {
+        double range = weightMax - weightMin;
+        return Math.max(Math.max(range * MIN_BANDWIDTH_FRACTION, range / (observedCount + 1)), Float.MIN_NORMAL);
+    }
+
+    /**
+     * Configuration with the free weights clamped to the range and scaled down to add up to at most one, the last
+     * sub-query gets the rest
+     */
+    private ExperimentVariantHybridSearchDTO configuration(String normalization, String combination, float[] freeWeightValues) {
+        float[] weights = new float[freeWeights + 1];
+        float sum = 0;
+        for (int i = 0; i < freeWeights; i++) {
+            weights[i] = Math.max(weightMin, Math.min(weightMax, freeWeightValues[i]));
+            sum += weights[i];
+        }
+        if (sum > 1.0f) {
+            for (int i = 0; i < freeWeights; i++) {
+                weights[i] /= sum;
+            }
+            sum = 1.0f;
+        }
+        weights[freeWeights] = Math.max(0.0f, 1.0f - sum);
+        return ExperimentVariantHybridSearchDTO.builder()
+            .normalizationTechnique(normalization)
+            .combinationTechnique(combination)
+            .queryWeightsForCombination(weights)
+            .build();
+    }
+}
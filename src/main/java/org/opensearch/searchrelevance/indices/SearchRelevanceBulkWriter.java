@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.indices;
+
+import java.io.Closeable;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkProcessor;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Buffers document writes of the plugin into bulk requests. A bulk is sent once it holds {@code MAX_BULK_ACTIONS}
+ * documents or {@code MAX_BULK_SIZE} bytes, or {@code FLUSH_INTERVAL} after the previous one, with at most
+ * {@code MAX_IN_FLIGHT_BULKS} bulks in flight. Items rejected by a busy node are retried with an exponential backoff,
+ * and every document write is acknowledged to its own listener once its bulk item completes.
+ * <p>
+ * Bulks are sent without a refresh, callers that need the documents to be searchable refresh the indices once after
+ * {@link #flush(ActionListener)}.
+ */
+@Log4j2
+public class SearchRelevanceBulkWriter implements Closeable {
+    static final int MAX_BULK_ACTIONS = 500;
+    static final ByteSizeValue MAX_BULK_SIZE = new ByteSizeValue(5, ByteSizeUnit.MB);
+    static final TimeValue FLUSH_INTERVAL = TimeValue.timeValueMillis(200);
+    static final int MAX_IN_FLIGHT_BULKS = 2;
+    static final BackoffPolicy RETRY_BACKOFF_POLICY = BackoffPolicy.exponentialBackoff(TimeValue.timeValueMillis(50), 5);
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private final BulkProcessor bulkProcessor;
+    private final Map<String, CompletableFuture<DocWriteResponse>> pendingWrites = new ConcurrentHashMap<>();
+
+    /**
+     * @param bulkConsumer sends a bulk request, e.g. through the node client
+     */
+    public SearchRelevanceBulkWriter(BiConsumer<BulkRequest, ActionListener<BulkResponse>> bulkConsumer) {
+        this(bulkConsumer, MAX_BULK_ACTIONS, MAX_BULK_SIZE, FLUSH_INTERVAL, MAX_IN_FLIGHT_BULKS, RETRY_BACKOFF_POLICY);
+    }
+
+    SearchRelevanceBulkWriter(
+        BiConsumer<BulkRequest, ActionListener<BulkResponse>> bulkConsumer,
+        int bulkActions,
+        ByteSizeValue bulkSize,
+        TimeValue flushInterval,
+        int inFlightBulks,
+        BackoffPolicy backoffPolicy
+    ) {
+        this.bulkProcessor = BulkProcessor.builder(bulkConsumer, new CompletionListener())
+            .setBulkActions(bulkActions)
+            .setBulkSize(bulkSize)
+            .setFlushInterval(flushInterval)
+            .setConcurrentRequests(inFlightBulks)
+            .setBackoffPolicy(backoffPolicy)
+            .build();
+    }
+
+    /**
+     * Buffer a document write
+     * @param request - write request, keyed by its index and id until its bulk item completes
+     * @param listener - notified with the response of the bulk item
+     */
+    public void add(DocWriteRequest<?> request, ActionListener<DocWriteResponse> listener) {
+        CompletableFuture<DocWriteResponse> pendingWrite = new CompletableFuture<>();
+        if (pendingWrites.putIfAbsent(key(request.index(), request.id()), pendingWrite) != null) {
+            listener.onFailure(
+                new SearchRelevanceException(
+                    String.format(Locale.ROOT, "a write of doc [%s] to index [%s] is already pending", request.id(), request.index()),
+                    RestStatus.CONFLICT
+                )
+            );
+            return;
+        }
+        pendingWrite.whenComplete((response, error) -> {
+            if (error != null) {
+                listener.onFailure(error instanceof Exception exception ? exception : new RuntimeException(error));
+            } else {
+                listener.onResponse(response);
+            }
+        });
+        bulkProcessor.add(request);
+    }
+
+    /**
+     * Send the buffered documents right away
+     * @param listener - notified once every write added before this call completed, whatever its outcome
+     */
+    public void flush(ActionListener<Void> listener) {
+        CompletableFuture<?>[] writes = pendingWrites.values().toArray(new CompletableFuture[0]);
+        bulkProcessor.flush();
+        CompletableFuture.allOf(writes).whenComplete((v, e) -> listener.onResponse(null));
+    }
+
+    int getPendingWrites() {
+        return pendingWrites.size();
+    }
+
+    @Override
+    public void close() {
+        try {
+            bulkProcessor.awaitClose(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // writes that could not be sent before closing are never acknowledged otherwise
+        pendingWrites.values().forEach(write -> write.completeExceptionally(new IllegalStateException("bulk writer is closed")));
+        pendingWrites.clear();
+    }
+
+    private static String key(String index, String id) {
+        return index + "/" + id;
+    }
+
+    private void completeWrite(String index, String id, DocWriteResponse response, Exception error) {
+        CompletableFuture<DocWriteResponse> pendingWrite = pendingWrites.remove(key(index, id));
+        if (pendingWrite == null) {
+            return;
+        }
+        if (error != null) {
+            pendingWrite.completeExceptionally(error);
+        } else {
+            pendingWrite.complete(response);
+        }
+    }
+
+    /**
+     * Acknowledges the items of a completed bulk, after the retries of rejected items
+     */
+    private class CompletionListener implements BulkProcessor.Listener {
+        @Override
+        public void beforeBulk(long executionId, BulkRequest request) {
+            log.debug("Sending bulk [{}] of {} documents", executionId, request.numberOfActions());
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {
+            if (response.hasFailures()) {
+                log.warn("Bulk [{}] completed with failures: {}", executionId, response.buildFailureMessage());
+            }
+            for (BulkItemResponse item : response.getItems()) {
+                if (item.isFailed()) {
+                    completeWrite(item.getIndex(), item.getId(), null, item.getFailure().getCause());
+                } else {
+                    completeWrite(item.getIndex(), item.getId(), item.getResponse(), null);
+                }
+            }
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
+            log.error("Bulk [{}] of {} documents failed", executionId, request.numberOfActions(), failure);
+            Exception error = failure instanceof Exception exception ? exception : new RuntimeException(failure);
+            for (DocWriteRequest<?> item : request.requests()) {
+                completeWrite(item.index(), item.id(), null, error);
+            }
+        }
+    }
+}
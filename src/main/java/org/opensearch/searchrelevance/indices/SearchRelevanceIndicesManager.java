@@ -7,31 +7,52 @@
  */
 package org.opensearch.searchrelevance.indices;
 
+import java.io.Closeable;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 
 import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.DocWriteRequest.OpType;
+import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.admin.indices.mapping.put.PutMappingRequest;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.admin.indices.refresh.RefreshResponse;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.ShardSearchFailure;
 import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.io.Streams;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.index.reindex.DeleteByQueryAction;
+import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.script.Script;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
@@ -47,10 +68,14 @@ import reactor.util.annotation.NonNull;
  * Manager for common search relevance system indices actions.
  */
 @Log4j2
-public class SearchRelevanceIndicesManager {
+public class SearchRelevanceIndicesManager implements Closeable {
+    private static final String PROPERTIES = "properties";
 
     private final ClusterService clusterService;
     private final Client client;
+    private volatile SearchRelevanceBulkWriter bulkWriter;
+    // indices whose mapping was already checked against the plugin mapping on this node
+    private final Set<String> upToDateIndices = ConcurrentHashMap.newKeySet();
 
     public SearchRelevanceIndicesManager(@NonNull ClusterService clusterService, @NonNull Client client) {
         this.clusterService = clusterService;
@@ -68,7 +93,7 @@ public class SearchRelevanceIndicesManager {
 
         if (clusterService.state().metadata().hasIndex(indexName)) {
             log.debug("Index [{}] already exists, skipping creation", indexName);
-            stepListener.onResponse(null);
+            updateMappingIfOutdated(index, stepListener);
             return;
         }
 
@@ -93,6 +118,47 @@ public class SearchRelevanceIndicesManager {
         }));
     }
 
+    /**
+     * Add the fields of the plugin mapping that are missing from an index created by an older version of the plugin.
+     * Only new fields are put, the types of existing fields cannot change. A failed update is logged and the index is
+     * used with its existing mapping.
+     * @param index - existing index to be checked
+     * @param stepListener - step lister
+     */
+    private void updateMappingIfOutdated(final SearchRelevanceIndices index, final StepListener<Void> stepListener) {
+        String indexName = index.getIndexName();
+        if (upToDateIndices.contains(indexName)) {
+            stepListener.onResponse(null);
+            return;
+        }
+        IndexMetadata indexMetadata = clusterService.state().metadata().index(indexName);
+        if (indexMetadata == null || !hasMissingFields(indexMetadata.mapping(), index.getMapping())) {
+            upToDateIndices.add(indexName);
+            stepListener.onResponse(null);
+            return;
+        }
+
+        final PutMappingRequest putMappingRequest = new PutMappingRequest(indexName).source(index.getMapping(), XContentType.JSON);
+        StashedThreadContext.run(client, () -> client.admin().indices().putMapping(putMappingRequest, ActionListener.wrap(response -> {
+            log.info("Updated mapping of index [{}] with the fields added by this version", indexName);
+            upToDateIndices.add(indexName);
+            stepListener.onResponse(null);
+        }, e -> {
+            log.warn("Failed to update mapping of index [{}] - continuing with its existing mapping", indexName, e);
+            stepListener.onResponse(null);
+        })));
+    }
+
+    @SuppressWarnings("unchecked")
+    static boolean hasMissingFields(final MappingMetadata currentMapping, final String mapping) {
+        Map<String, Object> expectedFields = (Map<String, Object>) XContentHelper.convertToMap(JsonXContent.jsonXContent, mapping, false)
+            .getOrDefault(PROPERTIES, Map.of());
+        Map<String, Object> currentFields = currentMapping == null
+            ? Map.of()
+            : (Map<String, Object>) currentMapping.sourceAsMap().getOrDefault(PROPERTIES, Map.of());
+        return !currentFields.keySet().containsAll(expectedFields.keySet());
+    }
+
     /**
      * Create a search relevance index if not exists, using synchronize calls
      * @param index
@@ -133,22 +199,6 @@ public class SearchRelevanceIndicesManager {
         putDocWithRefreshPolicy(docId, xContentBuilder, index, WriteRequest.RefreshPolicy.IMMEDIATE, listener);
     }
 
-    /**
-     * Put a doc to the system index with efficient refresh policy (recommended for experiments)
-     * @param docId - document id need to be executed
-     * @param xContentBuilder - content need to be executed
-     * @param index - system index
-     * @param listener - action lister for async action
-     */
-    public void putDocEfficient(
-        final String docId,
-        final XContentBuilder xContentBuilder,
-        final SearchRelevanceIndices index,
-        final ActionListener<?> listener
-    ) {
-        putDocWithRefreshPolicy(docId, xContentBuilder, index, WriteRequest.RefreshPolicy.WAIT_UNTIL, listener);
-    }
-
     /**
      * Put a doc to the system index with specified refresh policy
      * @param docId - document id need to be executed
@@ -186,6 +236,116 @@ public class SearchRelevanceIndicesManager {
         executeAction(listener, searchOperationContext, action);
     }
 
+    /**
+     * Put a doc to the system index through the plugin bulk writer, without a refresh. The listener is notified once
+     * the bulk holding the doc completed; the doc becomes searchable after {@link #flushAndRefresh}.
+     * @param docId - document id need to be executed
+     * @param xContentBuilder - content need to be executed
+     * @param index - system index
+     * @param listener - action lister for async action
+     */
+    public void putDocBulk(
+        final String docId,
+        final XContentBuilder xContentBuilder,
+        final SearchRelevanceIndices index,
+        final ActionListener<?> listener
+    ) {
+        putDocBulk(docId, xContentBuilder, index, null, listener);
+    }
+
+    /**
+     * Put a routed doc to the system index through the plugin bulk writer, without a refresh
+     * @param docId - document id need to be executed
+     * @param xContentBuilder - content need to be executed
+     * @param index - system index
+     * @param routing - routing of the doc, null for the doc id
+     * @param listener - action lister for async action
+     */
+    public void putDocBulk(
+        final String docId,
+        final XContentBuilder xContentBuilder,
+        final SearchRelevanceIndices index,
+        final String routing,
+        final ActionListener<?> listener
+    ) {
+        SearchOperationContext searchOperationContext = SearchOperationContext.builder()
+            .documentId(docId)
+            .xContentBuilder(xContentBuilder)
+            .index(index)
+            .routing(routing)
+            .build();
+        BiConsumer<SearchOperationContext, ActionListener<?>> action = (context, actionListener) -> {
+            @SuppressWarnings("unchecked")
+            ActionListener<DocWriteResponse> typedListener = (ActionListener<DocWriteResponse>) actionListener;
+            IndexRequest indexRequest = new IndexRequest(context.getIndex().getIndexName()).id(context.getDocumentId())
+                .routing(context.getRouting())
+                .opType(OpType.CREATE)
+                .source(context.getXContentBuilder());
+            getBulkWriter().add(indexRequest, typedListener);
+        };
+        executeAction(listener, searchOperationContext, action);
+    }
+
+    /**
+     * Send the docs buffered by the bulk writer and refresh the indices once all of them were written
+     * @param listener - action lister for async action
+     * @param indices - system indices to refresh
+     */
+    public void flushAndRefresh(final ActionListener<RefreshResponse> listener, final SearchRelevanceIndices... indices) {
+        String[] indexNames = Arrays.stream(indices)
+            .map(SearchRelevanceIndices::getIndexName)
+            .filter(indexName -> clusterService.state().metadata().hasIndex(indexName))
+            .toArray(String[]::new);
+        ActionListener<Void> refreshStep = ActionListener.wrap(v -> {
+            if (indexNames.length == 0) {
+                listener.onResponse(null);
+                return;
+            }
+            StashedThreadContext.run(client, () -> client.admin().indices().refresh(new RefreshRequest(indexNames), listener));
+        }, listener::onFailure);
+        flush(refreshStep);
+    }
+
+    /**
+     * Send the docs buffered by the bulk writer of this node, without a refresh
+     * @param listener - action lister notified once all of them were written
+     */
+    public void flush(final ActionListener<Void> listener) {
+        SearchRelevanceBulkWriter writer = bulkWriter;
+        if (writer == null) {
+            listener.onResponse(null);
+        } else {
+            writer.flush(listener);
+        }
+    }
+
+    /**
+     * The bulk writer is created on its first use, as it runs its own flush scheduler
+     */
+    private SearchRelevanceBulkWriter getBulkWriter() {
+        if (bulkWriter == null) {
+            synchronized (this) {
+                if (bulkWriter == null) {
+                    bulkWriter = new SearchRelevanceBulkWriter(
+                        (bulkRequest, bulkListener) -> StashedThreadContext.run(client, () -> client.bulk(bulkRequest, bulkListener))
+                    );
+                }
+            }
+        }
+        return bulkWriter;
+    }
+
+    /**
+     * Send the docs still buffered by the bulk writer and stop it
+     */
+    @Override
+    public synchronized void close() {
+        if (bulkWriter != null) {
+            bulkWriter.close();
+            bulkWriter = null;
+        }
+    }
+
     /**
      * Update a doc to the system index
      * @param docId - document id need to be executed
@@ -254,6 +414,34 @@ public class SearchRelevanceIndicesManager {
         executeAction(listener, searchOperationContext, action);
     }
 
+    /**
+     * Partially update a doc of the system index with a script, so only the script parameters are sent instead of the
+     * whole document. There is no refresh, the update becomes searchable with the next refresh of the index.
+     * @param docId - document id need to be executed
+     * @param script - script applied to the source of the document
+     * @param index - system index
+     * @param listener - action lister for async action
+     */
+    public void updateDocByScript(
+        final String docId,
+        final Script script,
+        final SearchRelevanceIndices index,
+        final ActionListener<UpdateResponse> listener
+    ) {
+        SearchOperationContext searchOperationContext = SearchOperationContext.builder().index(index).documentId(docId).build();
+        BiConsumer<SearchOperationContext, ActionListener<?>> action = (searchOperationContext1, actionListener) -> StashedThreadContext
+            .run(client, () -> {
+                try {
+                    client.prepareUpdate(searchOperationContext1.getIndex().getIndexName(), searchOperationContext1.getDocumentId())
+                        .setScript(script)
+                        .execute((ActionListener) actionListener);
+                } catch (Exception e) {
+                    throw new SearchRelevanceException("Failed to update doc", e, RestStatus.INTERNAL_SERVER_ERROR);
+                }
+            });
+        executeAction(listener, searchOperationContext, action);
+    }
+
     /**
      * Delete a doc by doc id
      * @param docId - document id need to be executed
@@ -289,6 +477,57 @@ public class SearchRelevanceIndicesManager {
         executeAction(listener, searchOperationContext, action);
     }
 
+    /**
+     * Delete the docs matching a query, e.g. all the docs belonging to a parent object
+     * @param query - query matching the docs to delete
+     * @param index - system index
+     * @param routing - routing of the docs, null to delete from all shards
+     * @param listener - action lister for async action
+     */
+    public void deleteDocsByQuery(
+        final QueryBuilder query,
+        final SearchRelevanceIndices index,
+        final String routing,
+        final ActionListener<BulkByScrollResponse> listener
+    ) {
+        SearchOperationContext searchOperationContext = SearchOperationContext.builder()
+            .searchSourceBuilder(new SearchSourceBuilder().query(query))
+            .index(index)
+            .routing(routing)
+            .build();
+        BiConsumer<SearchOperationContext, ActionListener<?>> action = (context, actionListener) -> {
+            DeleteByQueryRequest deleteByQueryRequest = new DeleteByQueryRequest(context.getIndex().getIndexName()).setQuery(
+                context.getSearchSourceBuilder().query()
+            ).setAbortOnVersionConflict(false).setRefresh(true);
+            if (context.getRouting() != null) {
+                deleteByQueryRequest.setRouting(context.getRouting());
+            }
+            StashedThreadContext.run(client, () -> {
+                try {
+                    @SuppressWarnings("unchecked")
+                    ActionListener<BulkByScrollResponse> typedListener = (ActionListener<BulkByScrollResponse>) actionListener;
+                    client.execute(DeleteByQueryAction.INSTANCE, deleteByQueryRequest, new ActionListener<>() {
+                        @Override
+                        public void onResponse(BulkByScrollResponse response) {
+                            log.debug("Deleted {} docs of index [{}]", response.getDeleted(), context.getIndex().getIndexName());
+                            typedListener.onResponse(response);
+                        }
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            typedListener.onFailure(
+                                new SearchRelevanceException("Failed to delete docs", e, RestStatus.INTERNAL_SERVER_ERROR)
+                            );
+                        }
+                    });
+                } catch (Exception e) {
+                    actionListener.onFailure(new SearchRelevanceException("Failed to delete docs", e, RestStatus.INTERNAL_SERVER_ERROR));
+                }
+            });
+        };
+        executeAction(listener, searchOperationContext, action);
+    }
+
     /**
      * Get a doc by doc id
      * @param docId - document id need to be executed
@@ -351,14 +590,32 @@ public class SearchRelevanceIndicesManager {
         final SearchSourceBuilder searchSourceBuilder,
         final SearchRelevanceIndices index,
         final ActionListener<SearchResponse> listener
+    ) {
+        return listDocsBySearchRequest(searchSourceBuilder, index, null, listener);
+    }
+
+    /**
+     * List docs by search request, searching only the shard the routing points to
+     * @param searchSourceBuilder - search source builder to be executed
+     * @param index - index to be executed
+     * @param routing - routing of the docs, null to search all shards
+     * @param listener - action listener for async action
+     */
+    public SearchResponse listDocsBySearchRequest(
+        final SearchSourceBuilder searchSourceBuilder,
+        final SearchRelevanceIndices index,
+        final String routing,
+        final ActionListener<SearchResponse> listener
     ) {
         SearchOperationContext searchOperationContext = SearchOperationContext.builder()
             .searchSourceBuilder(searchSourceBuilder)
             .index(index)
+            .routing(routing)
             .build();
         BiConsumer<SearchOperationContext, ActionListener<?>> action = (context, actionListener) -> {
             SearchRequest searchRequest = new SearchRequest(context.getIndex().getIndexName());
             searchRequest.source(context.getSearchSourceBuilder());
+            searchRequest.routing(context.getRouting());
             StashedThreadContext.run(client, () -> {
                 try {
                     client.search(searchRequest, new ActionListener<SearchResponse>() {
@@ -491,5 +748,6 @@ public class SearchRelevanceIndicesManager {
         private final SearchSourceBuilder searchSourceBuilder;
         private final XContentBuilder xContentBuilder;
         private final String documentId;
+        private final String routing;
     }
 }
@@ -9,6 +9,9 @@ package org.opensearch.searchrelevance.judgments;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.searchrelevance.model.JudgmentType;
@@ -29,4 +32,42 @@ public interface BaseJudgmentsProcessor {
      * @param listener async action
      */
     public void generateJudgmentRating(Map<String, Object> metadata, ActionListener<List<Map<String, Object>>> listener);
+
+    /**
+     * Generate judgment rating based on metadata, skipping query texts that were already judged and reporting
+     * every per-query result as soon as it is available. Processors that cannot judge query texts independently
+     * fall back to {@link #generateJudgmentRating(Map, ActionListener)}.
+     * @param metadata used to generate judgment ratings for various judgment type
+     * @param completedQueryTexts query texts already judged by a previous run of the same job
+     * @param queryResultConsumer receives each per-query result as it completes
+     * @param listener async action, completed with the results of the query texts judged in this run
+     */
+    public default void generateJudgmentRating(
+        Map<String, Object> metadata,
+        Set<String> completedQueryTexts,
+        Consumer<Map<String, Object>> queryResultConsumer,
+        ActionListener<List<Map<String, Object>>> listener
+    ) {
+        generateJudgmentRating(metadata, listener);
+    }
+
+    /**
+     * Generate judgment rating like {@link #generateJudgmentRating(Map, Set, Consumer, ActionListener)}, stopping
+     * before the next query text or model call once the job is cancelled. Processors that cannot stop early ignore
+     * the cancellation.
+     * @param metadata used to generate judgment ratings for various judgment type
+     * @param completedQueryTexts query texts already judged by a previous run of the same job
+     * @param queryResultConsumer receives each per-query result as it completes
+     * @param cancelled whether the job was cancelled
+     * @param listener async action, completed with the results of the query texts judged in this run
+     */
+    public default void generateJudgmentRating(
+        Map<String, Object> metadata,
+        Set<String> completedQueryTexts,
+        Consumer<Map<String, Object>> queryResultConsumer,
+        BooleanSupplier cancelled,
+        ActionListener<List<Map<String, Object>>> listener
+    ) {
+        generateJudgmentRating(metadata, completedQueryTexts, queryResultConsumer, listener);
+    }
 }
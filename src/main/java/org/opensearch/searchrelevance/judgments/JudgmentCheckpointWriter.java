@@ -0,0 +1,333 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.judgments;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Judgment;
+import org.opensearch.searchrelevance.model.JudgmentType;
+import org.opensearch.searchrelevance.utils.TimeUtils;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Persists the progress of a running judgment job to the judgment index.
+ * Per-query results are checkpointed as they complete so that an interrupted job can be resumed, and the final
+ * status write is serialized behind any in-flight checkpoint so it can never be overwritten by a stale one. A
+ * checkpoint only appends the results recorded since the previous one, the full judgment is written once at the end.
+ * Results of query texts cut short by the LLM call budget are kept in the final judgment but never checkpointed, and
+ * the judgment is marked so that it can be resumed with a larger budget.
+ */
+@Log4j2
+public class JudgmentCheckpointWriter {
+    public static final String ERROR = "error";
+    public static final String COMPLETED_QUERIES = "completedQueries";
+    /**
+     * Flags the result of a query text cut short by the LLM call budget, and marks a judgment holding such results
+     */
+    public static final String BUDGET_EXHAUSTED = "budgetExhausted";
+    public static final String BUDGET_EXHAUSTED_QUERIES = "budgetExhaustedQueries";
+    public static final int CHECKPOINT_BATCH_SIZE = 10;
+
+    /**
+     * Judgment ids with a job currently running on this node
+     */
+    private static final Set<String> ACTIVE_JUDGMENTS = ConcurrentHashMap.newKeySet();
+
+    private final JudgmentDao judgmentDao;
+    private final String judgmentId;
+    private final String name;
+    private final JudgmentType type;
+    private final Map<String, Object> metadata;
+    private final Map<String, Map<String, Object>> resultsByQuery = new LinkedHashMap<>();
+    private final List<Map<String, Object>> uncheckpointedResults = new ArrayList<>();
+    private final Set<String> budgetExhaustedQueries = new LinkedHashSet<>();
+    private final AtomicBoolean writeInProgress = new AtomicBoolean(false);
+
+    private boolean checkpointRequested = false;
+    private Judgment finalJudgment;
+    private ActionListener<Void> finalListener;
+    private boolean closed = false;
+
+    public JudgmentCheckpointWriter(
+        JudgmentDao judgmentDao,
+        String judgmentId,
+        String name,
+        JudgmentType type,
+        Map<String, Object> metadata,
+        List<Map<String, Object>> completedResults
+    ) {
+        this.judgmentDao = judgmentDao;
+        this.judgmentId = judgmentId;
+        this.name = name;
+        this.type = type;
+        this.metadata = metadata;
+        if (completedResults != null) {
+            completedResults.forEach(result -> resultsByQuery.put((String) result.get("query"), result));
+        }
+    }
+
+    /**
+     * Register a judgment job as running on this node.
+     * @return false if a job for the same judgment is already running on this node
+     */
+    public static boolean markActive(String judgmentId) {
+        return ACTIVE_JUDGMENTS.add(judgmentId);
+    }
+
+    public static void markInactive(String judgmentId) {
+        ACTIVE_JUDGMENTS.remove(judgmentId);
+    }
+
+    public static boolean isActive(String judgmentId) {
+        return ACTIVE_JUDGMENTS.contains(judgmentId);
+    }
+
+    /**
+     * Query texts that have a completed, non-empty rating list and do not need to be judged again.
+     * Queries that finished without ratings are re-run on resume since they are indistinguishable from failures.
+     */
+    public static Set<String> completedQueryTexts(List<Map<String, Object>> judgmentRatings) {
+        if (judgmentRatings == null) {
+            return Set.of();
+        }
+        return judgmentRatings.stream().filter(result -> {
+            List<?> ratings = (List<?>) result.get("ratings");
+            return ratings != null && !ratings.isEmpty();
+        }).map(result -> (String) result.get("query")).collect(Collectors.toSet());
+    }
+
+    /**
+     * Query texts of a stored judgment that do not need to be judged again, leaving out those cut short by the budget
+     * even if some of their documents were rated.
+     */
+    public static Set<String> completedQueryTexts(List<Map<String, Object>> judgmentRatings, Map<String, Object> metadata) {
+        Set<String> completed = new HashSet<>(completedQueryTexts(judgmentRatings));
+        if (metadata != null && metadata.get(BUDGET_EXHAUSTED_QUERIES) instanceof List<?> cutShort) {
+            cutShort.forEach(completed::remove);
+        }
+        return completed;
+    }
+
+    /**
+     * Whether a stored judgment stopped because its LLM call budget was exhausted
+     */
+    public static boolean isBudgetExhausted(Map<String, Object> metadata) {
+        return metadata != null && Boolean.TRUE.equals(metadata.get(BUDGET_EXHAUSTED));
+    }
+
+    /**
+     * Record the result of a single query text and checkpoint once enough results have accumulated.
+     */
+    public void recordQueryResult(Map<String, Object> result) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            Map<String, Object> queryResult = putResult(result);
+            if (queryResult == null) {
+                // not checkpointed, so a resumed job judges the query text again
+                return;
+            }
+            uncheckpointedResults.add(queryResult);
+            if (uncheckpointedResults.size() < CHECKPOINT_BATCH_SIZE) {
+                return;
+            }
+            checkpointRequested = true;
+        }
+        drain();
+    }
+
+    public synchronized List<Map<String, Object>> getResults() {
+        return new ArrayList<>(resultsByQuery.values());
+    }
+
+    /**
+     * Merge the final results of the job and persist the judgment as COMPLETED.
+     */
+    public void complete(List<Map<String, Object>> results, ActionListener<Void> listener) {
+        synchronized (this) {
+            if (results != null) {
+                results.forEach(this::putResult);
+            }
+            finishWith(AsyncStatus.COMPLETED, metadata, listener);
+        }
+        drain();
+    }
+
+    /**
+     * Persist the judgment as ERROR, keeping the job parameters and every result checkpointed so far so the job
+     * can be resumed later.
+     */
+    public void fail(Exception error, ActionListener<Void> listener) {
+        synchronized (this) {
+            Map<String, Object> errorMetadata = new HashMap<>(metadata);
+            errorMetadata.put(ERROR, error.getMessage());
+            finishWith(AsyncStatus.ERROR, errorMetadata, listener);
+        }
+        drain();
+    }
+
+    /**
+     * Store the result of a query text without the budget flag.
+     * @return the stored result, or null if the query text was cut short by the budget
+     */
+    private Map<String, Object> putResult(Map<String, Object> result) {
+        String queryText = (String) result.get("query");
+        if (!result.containsKey(BUDGET_EXHAUSTED)) {
+            budgetExhaustedQueries.remove(queryText);
+            resultsByQuery.put(queryText, result);
+            return result;
+        }
+        Map<String, Object> queryResult = new HashMap<>(result);
+        queryResult.remove(BUDGET_EXHAUSTED);
+        budgetExhaustedQueries.add(queryText);
+        resultsByQuery.put(queryText, queryResult);
+        return null;
+    }
+
+    private void finishWith(AsyncStatus status, Map<String, Object> finalMetadata, ActionListener<Void> listener) {
+        if (closed) {
+            listener.onResponse(null);
+            return;
+        }
+        closed = true;
+        finalJudgment = buildJudgment(status, finalMetadata);
+        finalListener = listener;
+    }
+
+    private void drain() {
+        if (!writeInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        Judgment finalWrite = null;
+        ActionListener<Void> completionListener = null;
+        List<Map<String, Object>> checkpointBatch = null;
+        synchronized (this) {
+            if (finalJudgment != null) {
+                finalWrite = finalJudgment;
+                completionListener = finalListener;
+                finalJudgment = null;
+                finalListener = null;
+            } else if (checkpointRequested && !closed) {
+                checkpointRequested = false;
+                checkpointBatch = new ArrayList<>(uncheckpointedResults);
+                uncheckpointedResults.clear();
+            } else {
+                writeInProgress.set(false);
+                return;
+            }
+        }
+
+        if (finalWrite != null) {
+            writeFinalJudgment(finalWrite, completionListener);
+        } else {
+            writeCheckpoint(checkpointBatch);
+        }
+    }
+
+    private void writeFinalJudgment(Judgment judgment, ActionListener<Void> completionListener) {
+        try {
+            judgmentDao.updateJudgment(judgment, ActionListener.wrap(response -> {
+                log.debug(
+                    "Persisted judgment {} with status {} and {} query results",
+                    judgmentId,
+                    judgment.getStatus(),
+                    judgment.getJudgmentRatings().size()
+                );
+                onFinalWriteDone(completionListener, null);
+            }, e -> {
+                log.warn("Failed to persist judgment {} with status {}", judgmentId, judgment.getStatus(), e);
+                onFinalWriteDone(completionListener, e);
+            }));
+        } catch (Exception e) {
+            log.warn("Failed to persist judgment {} with status {}", judgmentId, judgment.getStatus(), e);
+            onFinalWriteDone(completionListener, e);
+        }
+    }
+
+    private void writeCheckpoint(List<Map<String, Object>> batch) {
+        int completedQueries;
+        synchronized (this) {
+            completedQueries = countCompletedQueries();
+        }
+        try {
+            judgmentDao.appendJudgmentRatings(
+                judgmentId,
+                batch,
+                Map.of(COMPLETED_QUERIES, completedQueries),
+                TimeUtils.getTimestamp(),
+                ActionListener.wrap(response -> {
+                    log.debug("Checkpointed {} query results of judgment {}", batch.size(), judgmentId);
+                    onCheckpointDone();
+                }, e -> onCheckpointFailed(batch, e))
+            );
+        } catch (Exception e) {
+            onCheckpointFailed(batch, e);
+        }
+    }
+
+    private void onCheckpointFailed(List<Map<String, Object>> batch, Exception e) {
+        log.warn("Failed to checkpoint judgment {}, its results are kept for the next checkpoint", judgmentId, e);
+        synchronized (this) {
+            uncheckpointedResults.addAll(0, batch);
+        }
+        onCheckpointDone();
+    }
+
+    private void onCheckpointDone() {
+        writeInProgress.set(false);
+        drain();
+    }
+
+    private void onFinalWriteDone(ActionListener<Void> completionListener, Exception error) {
+        writeInProgress.set(false);
+        // every final write ends the job on this node, even a failed one: the caller either gives up or writes the
+        // failure status, and a later resume must not be rejected as a conflict
+        ACTIVE_JUDGMENTS.remove(judgmentId);
+        if (error == null) {
+            completionListener.onResponse(null);
+        } else {
+            // reopen so that a follow-up failure status can still be written
+            synchronized (this) {
+                closed = false;
+            }
+            completionListener.onFailure(error);
+        }
+    }
+
+    private synchronized int countCompletedQueries() {
+        Set<String> completed = new HashSet<>(completedQueryTexts(getResults()));
+        completed.removeAll(budgetExhaustedQueries);
+        return completed.size();
+    }
+
+    private synchronized Judgment buildJudgment(AsyncStatus status, Map<String, Object> judgmentMetadata) {
+        Map<String, Object> progressMetadata = new HashMap<>(judgmentMetadata);
+        List<Map<String, Object>> results = getResults();
+        progressMetadata.put(COMPLETED_QUERIES, countCompletedQueries());
+        if (!budgetExhaustedQueries.isEmpty()) {
+            progressMetadata.put(BUDGET_EXHAUSTED, true);
+            progressMetadata.put(BUDGET_EXHAUSTED_QUERIES, new ArrayList<>(budgetExhaustedQueries));
+        }
+        return new Judgment(judgmentId, TimeUtils.getTimestamp(), name, status, type, progressMetadata, results);
+    }
+}
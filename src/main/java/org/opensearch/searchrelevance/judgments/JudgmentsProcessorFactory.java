@@ -11,6 +11,7 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.searchrelevance.dao.JudgmentCacheDao;
 import org.opensearch.searchrelevance.dao.QuerySetDao;
 import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
+import org.opensearch.searchrelevance.executors.LlmJudgmentTaskManager;
 import org.opensearch.searchrelevance.ml.MLAccessor;
 import org.opensearch.searchrelevance.model.JudgmentType;
 import org.opensearch.threadpool.ThreadPool;
@@ -23,6 +24,7 @@ public class JudgmentsProcessorFactory {
     private final JudgmentCacheDao judgmentCacheDao;
     private final Client client;
     private final ThreadPool threadPool;
+    private final LlmJudgmentTaskManager llmJudgmentTaskManager;
 
     @Inject
     public JudgmentsProcessorFactory(
@@ -31,7 +33,8 @@ public class JudgmentsProcessorFactory {
         SearchConfigurationDao searchConfigurationDao,
         JudgmentCacheDao judgmentCacheDao,
         Client client,
-        ThreadPool threadPool
+        ThreadPool threadPool,
+        LlmJudgmentTaskManager llmJudgmentTaskManager
     ) {
         this.mlAccessor = mlAccessor;
         this.querySetDao = querySetDao;
@@ -39,6 +42,7 @@ public class JudgmentsProcessorFactory {
         this.judgmentCacheDao = judgmentCacheDao;
         this.client = client;
         this.threadPool = threadPool;
+        this.llmJudgmentTaskManager = llmJudgmentTaskManager;
     }
 
     public BaseJudgmentsProcessor getProcessor(JudgmentType type) {
@@ -49,7 +53,8 @@ public class JudgmentsProcessorFactory {
                 searchConfigurationDao,
                 judgmentCacheDao,
                 client,
-                threadPool
+                threadPool,
+                llmJudgmentTaskManager
             );
             case UBI_JUDGMENT -> new UbiJudgmentsProcessor(client);
             case IMPORT_JUDGMENT -> new ImportJudgmentsProcessor(client);
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.judgments;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.ml.LlmCallBudget;
+import org.opensearch.searchrelevance.ml.MLAccessor;
+import org.opensearch.searchrelevance.ml.MLInputOutputTransformer;
+import org.opensearch.searchrelevance.ml.QueryHitsGroup;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Collects the uncached hits of sparse query texts within one judgment job and rates them together in shared LLM
+ * prompts. A batch is flushed as soon as it reaches the token limit, or after a short linger time otherwise.
+ * Groups that are not rated by their batch are reported as missing so callers can fall back to per-query prediction.
+ */
+@Log4j2
+public class LlmJudgmentBatcher {
+    /**
+     * Only queries whose single-query prompt uses at most this fraction of the token limit are batched
+     */
+    public static final int SPARSE_QUERY_TOKEN_DIVISOR = 2;
+    private static final TimeValue BATCH_LINGER_TIME = TimeValue.timeValueMillis(50);
+
+    private final MLAccessor mlAccessor;
+    private final MLInputOutputTransformer transformer;
+    private final ThreadPool threadPool;
+    private final String modelId;
+    private final int tokenLimit;
+    private final LlmCallBudget budget;
+
+    private List<QueryHitsGroup> pendingGroups = new ArrayList<>();
+    private List<ActionListener<Map<String, Double>>> pendingListeners = new ArrayList<>();
+    private int pendingTokens = 0;
+    private boolean flushScheduled = false;
+
+    public LlmJudgmentBatcher(MLAccessor mlAccessor, ThreadPool threadPool, String modelId, int tokenLimit) {
+        this(mlAccessor, threadPool, modelId, tokenLimit, LlmCallBudget.unlimited());
+    }
+
+    public LlmJudgmentBatcher(MLAccessor mlAccessor, ThreadPool threadPool, String modelId, int tokenLimit, LlmCallBudget budget) {
+        this.mlAccessor = mlAccessor;
+        this.transformer = new MLInputOutputTransformer();
+        this.threadPool = threadPool;
+        this.modelId = modelId;
+        this.tokenLimit = tokenLimit;
+        this.budget = budget;
+    }
+
+    /**
+     * Whether the hits of a query text are sparse enough to share a prompt with other query texts.
+     */
+    public boolean isBatchable(QueryHitsGroup group) {
+        return transformer.countGroupTokens(0, group) <= tokenLimit / SPARSE_QUERY_TOKEN_DIVISOR;
+    }
+
+    /**
+     * Queue a query group for batched rating.
+     * @param listener receives the ratings keyed by hit identifier, or null if the group was not rated by its batch
+     */
+    public void submit(QueryHitsGroup group, ActionListener<Map<String, Double>> listener) {
+        int groupTokens = transformer.countGroupTokens(0, group);
+        boolean flushNow = false;
+        boolean scheduleFlush = false;
+        synchronized (this) {
+            pendingGroups.add(group);
+            pendingListeners.add(listener);
+            pendingTokens += groupTokens;
+            if (pendingTokens >= tokenLimit) {
+                flushNow = true;
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                scheduleFlush = true;
+            }
+        }
+        if (flushNow) {
+            flush();
+        } else if (scheduleFlush) {
+            threadPool.schedule(this::flush, BATCH_LINGER_TIME, ThreadPool.Names.GENERIC);
+        }
+    }
+
+    private void flush() {
+        List<QueryHitsGroup> groups;
+        List<ActionListener<Map<String, Double>>> listeners;
+        synchronized (this) {
+            flushScheduled = false;
+            if (pendingGroups.isEmpty()) {
+                return;
+            }
+            groups = pendingGroups;
+            listeners = pendingListeners;
+            pendingGroups = new ArrayList<>();
+            pendingListeners = new ArrayList<>();
+            pendingTokens = 0;
+        }
+
+        log.debug("Flushing batch of {} query groups", groups.size());
+        try {
+            mlAccessor.predictBatch(modelId, tokenLimit, groups, budget, ActionListener.wrap(ratingsByGroup -> {
+                for (int i = 0; i < listeners.size(); i++) {
+                    notifyListener(listeners.get(i), ratingsByGroup.get(i));
+                }
+            }, e -> {
+                log.warn("Batched LLM prediction failed for {} query groups", groups.size(), e);
+                listeners.forEach(listener -> notifyListener(listener, null));
+            }));
+        } catch (Exception e) {
+            log.warn("Failed to submit batched LLM prediction for {} query groups", groups.size(), e);
+            listeners.forEach(listener -> notifyListener(listener, null));
+        }
+    }
+
+    private void notifyListener(ActionListener<Map<String, Double>> listener, Map<String, Double> ratings) {
+        try {
+            listener.onResponse(ratings);
+        } catch (Exception e) {
+            log.warn("Failed to deliver batched ratings", e);
+        }
+    }
+}
@@ -8,27 +8,45 @@
 package org.opensearch.searchrelevance.judgments;
 
 import static org.opensearch.searchrelevance.common.MLConstants.sanitizeLLMResponse;
+import static org.opensearch.searchrelevance.common.PluginConstants.BATCH_QUERIES;
+import static org.opensearch.searchrelevance.common.PluginConstants.COLLAPSE_NEAR_DUPLICATES;
+import static org.opensearch.searchrelevance.common.PluginConstants.DEFAULT_POOLING_TOLERANCE;
+import static org.opensearch.searchrelevance.common.PluginConstants.DEFAULT_SCHEDULING_WEIGHT;
+import static org.opensearch.searchrelevance.common.PluginConstants.DOC_TOKEN_BUDGET;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_INPUT_TOKENS;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_LLM_CALLS;
+import static org.opensearch.searchrelevance.common.PluginConstants.PARTITION_QUERY_TEXTS;
+import static org.opensearch.searchrelevance.common.PluginConstants.POOLED_JUDGING;
+import static org.opensearch.searchrelevance.common.PluginConstants.POOLING_NDCG_AT;
+import static org.opensearch.searchrelevance.common.PluginConstants.POOLING_TOLERANCE;
+import static org.opensearch.searchrelevance.common.PluginConstants.SCHEDULING_WEIGHT;
 import static org.opensearch.searchrelevance.model.QueryWithReference.DELIMITER;
 import static org.opensearch.searchrelevance.model.builder.SearchRequestBuilder.buildSearchRequest;
 import static org.opensearch.searchrelevance.utils.ParserUtils.combinedIndexAndDocId;
+import static org.opensearch.searchrelevance.utils.ParserUtils.generateContentHash;
 import static org.opensearch.searchrelevance.utils.ParserUtils.generateUniqueId;
 import static org.opensearch.searchrelevance.utils.ParserUtils.getDocIdFromCompositeKey;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.opensearch.action.StepListener;
 import org.opensearch.action.search.SearchRequest;
-import org.opensearch.action.search.SearchResponse;
-import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
@@ -39,13 +57,19 @@ import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
 import org.opensearch.searchrelevance.executors.LlmJudgmentTaskManager;
 import org.opensearch.searchrelevance.ml.ChunkResult;
+import org.opensearch.searchrelevance.ml.ContextFragmentExtractor;
+import org.opensearch.searchrelevance.ml.LlmCallBudget;
 import org.opensearch.searchrelevance.ml.MLAccessor;
+import org.opensearch.searchrelevance.ml.MLInputOutputTransformer;
+import org.opensearch.searchrelevance.ml.QueryHitsGroup;
+import org.opensearch.searchrelevance.ml.TokenizerUtil;
 import org.opensearch.searchrelevance.model.JudgmentCache;
 import org.opensearch.searchrelevance.model.JudgmentType;
 import org.opensearch.searchrelevance.model.QuerySet;
 import org.opensearch.searchrelevance.model.SearchConfiguration;
 import org.opensearch.searchrelevance.stats.events.EventStatName;
 import org.opensearch.searchrelevance.stats.events.EventStatsManager;
+import org.opensearch.searchrelevance.utils.SimHashUtil;
 import org.opensearch.searchrelevance.utils.TimeUtils;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
@@ -59,6 +83,11 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final MLInputOutputTransformer PROMPT_TRANSFORMER = new MLInputOutputTransformer();
+    /**
+     * Maximum Hamming distance between the SimHash fingerprints of two hits considered near-duplicates
+     */
+    private static final int NEAR_DUPLICATE_MAX_HAMMING_DISTANCE = 3;
     private final MLAccessor mlAccessor;
     private final QuerySetDao querySetDao;
     private final SearchConfigurationDao searchConfigurationDao;
@@ -74,7 +103,8 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         SearchConfigurationDao searchConfigurationDao,
         JudgmentCacheDao judgmentCacheDao,
         Client client,
-        ThreadPool threadPool
+        ThreadPool threadPool,
+        LlmJudgmentTaskManager taskManager
     ) {
         this.mlAccessor = mlAccessor;
         this.querySetDao = querySetDao;
@@ -82,7 +112,7 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         this.judgmentCacheDao = judgmentCacheDao;
         this.client = client;
         this.threadPool = threadPool;
-        this.taskManager = new LlmJudgmentTaskManager(threadPool);
+        this.taskManager = taskManager;
     }
 
     @Override
@@ -92,11 +122,39 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
 
     @Override
     public void generateJudgmentRating(Map<String, Object> metadata, ActionListener<List<Map<String, Object>>> listener) {
-        // Execute entire method on generic thread pool to avoid transport thread blocking
-        threadPool.executor(ThreadPool.Names.GENERIC).execute(() -> { generateJudgmentRatingInternal(metadata, listener); });
+        generateJudgmentRating(metadata, Set.of(), result -> {}, listener);
     }
 
-    private void generateJudgmentRatingInternal(Map<String, Object> metadata, ActionListener<List<Map<String, Object>>> listener) {
+    @Override
+    public void generateJudgmentRating(
+        Map<String, Object> metadata,
+        Set<String> completedQueryTexts,
+        Consumer<Map<String, Object>> queryResultConsumer,
+        ActionListener<List<Map<String, Object>>> listener
+    ) {
+        generateJudgmentRating(metadata, completedQueryTexts, queryResultConsumer, () -> false, listener);
+    }
+
+    @Override
+    public void generateJudgmentRating(
+        Map<String, Object> metadata,
+        Set<String> completedQueryTexts,
+        Consumer<Map<String, Object>> queryResultConsumer,
+        BooleanSupplier cancelled,
+        ActionListener<List<Map<String, Object>>> listener
+    ) {
+        // set the job up on the generic thread pool, every later step continues from the listener of the previous one
+        threadPool.executor(ThreadPool.Names.GENERIC)
+            .execute(() -> generateJudgmentRatingInternal(metadata, completedQueryTexts, queryResultConsumer, cancelled, listener));
+    }
+
+    private void generateJudgmentRatingInternal(
+        Map<String, Object> metadata,
+        Set<String> completedQueryTexts,
+        Consumer<Map<String, Object>> queryResultConsumer,
+        BooleanSupplier cancelled,
+        ActionListener<List<Map<String, Object>>> listener
+    ) {
         try {
             EventStatsManager.increment(EventStatName.LLM_JUDGMENT_RATING_GENERATIONS);
             String querySetId = (String) metadata.get("querySetId");
@@ -105,32 +163,126 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
 
             String modelId = (String) metadata.get("modelId");
             int tokenLimit = (int) metadata.get("tokenLimit");
+            int docTokenBudget = metadata.get(DOC_TOKEN_BUDGET) instanceof Number tokenBudget ? tokenBudget.intValue() : 0;
+            long maxInputTokens = metadata.get(MAX_INPUT_TOKENS) instanceof Number tokens ? tokens.longValue() : 0;
+            int maxLLMCalls = metadata.get(MAX_LLM_CALLS) instanceof Number calls ? calls.intValue() : 0;
             List<String> contextFields = (List<String>) metadata.get("contextFields");
             boolean ignoreFailure = (boolean) metadata.get("ignoreFailure");
+            boolean batchQueries = Boolean.TRUE.equals(metadata.get(BATCH_QUERIES));
+            boolean collapseNearDuplicates = Boolean.TRUE.equals(metadata.get(COLLAPSE_NEAR_DUPLICATES));
+            int schedulingWeight = metadata.get(SCHEDULING_WEIGHT) instanceof Number weight
+                ? weight.intValue()
+                : DEFAULT_SCHEDULING_WEIGHT;
+            Function<List<List<String>>, RankPooler> rankPoolerFactory = rankPoolerFactory(metadata);
+            Consumer<Exception> onFailure = e -> {
+                log.error("Failed to generate LLM judgments", e);
+                listener.onFailure(new SearchRelevanceException("Failed to generate LLM judgments", e, RestStatus.INTERNAL_SERVER_ERROR));
+            };
+
+            // fetch the query set, then the search configurations, without holding a thread while they are read
+            StepListener<QuerySet> querySetStep = new StepListener<>();
+            querySetDao.getQuerySetAsync(querySetId, querySetStep);
+
+            StepListener<List<SearchConfiguration>> searchConfigurationsStep = new StepListener<>();
+            querySetStep.whenComplete(
+                querySet -> searchConfigurationDao.getSearchConfigurationsAsync(searchConfigurationList, searchConfigurationsStep),
+                onFailure
+            );
 
-            QuerySet querySet = querySetDao.getQuerySetSync(querySetId);
-            List<SearchConfiguration> searchConfigurations = searchConfigurationList.stream()
-                .map(id -> searchConfigurationDao.getSearchConfigurationSync(id))
-                .collect(Collectors.toList());
+            searchConfigurationsStep.whenComplete(searchConfigurations -> {
+                QuerySet querySet = querySetStep.result();
+                // a partition of a distributed job only judges the query texts assigned to this node
+                Set<String> partitionQueryTexts = metadata.get(PARTITION_QUERY_TEXTS) instanceof List<?> partition
+                    ? partition.stream().map(String::valueOf).collect(Collectors.toSet())
+                    : null;
+                List<String> queryTextWithReferences = querySet.querySetQueries()
+                    .stream()
+                    .map(e -> e.queryText())
+                    .filter(queryText -> !completedQueryTexts.contains(queryText))
+                    .filter(queryText -> partitionQueryTexts == null || partitionQueryTexts.contains(queryText))
+                    .collect(Collectors.toList());
+                if (!completedQueryTexts.isEmpty()) {
+                    log.info(
+                        "Resuming LLM judgment generation, skipping {} already judged query texts of query set {}",
+                        completedQueryTexts.size(),
+                        querySetId
+                    );
+                }
+
+                // a cancelled job refuses all further model calls and skips its remaining query texts
+                LlmCallBudget budget = new LlmCallBudget(maxInputTokens, maxLLMCalls, cancelled);
+                if (budget.isLimited()) {
+                    logBudgetEstimate(budget, queryTextWithReferences, searchConfigurations.size(), size, tokenLimit, docTokenBudget);
+                }
+                LlmJudgmentBatcher batcher = batchQueries
+                    ? new LlmJudgmentBatcher(mlAccessor, threadPool, modelId, tokenLimit, budget)
+                    : null;
 
-            generateLLMJudgmentsAsync(modelId, size, tokenLimit, contextFields, querySet, searchConfigurations, ignoreFailure, listener);
+                generateLLMJudgmentsAsync(
+                    modelId,
+                    size,
+                    tokenLimit,
+                    docTokenBudget,
+                    contextFields,
+                    queryTextWithReferences,
+                    searchConfigurations,
+                    ignoreFailure,
+                    schedulingWeight,
+                    batcher,
+                    budget,
+                    collapseNearDuplicates,
+                    rankPoolerFactory,
+                    queryResultConsumer,
+                    listener
+                );
+            }, onFailure);
         } catch (Exception e) {
             log.error("Failed to generate LLM judgments", e);
             listener.onFailure(new SearchRelevanceException("Failed to generate LLM judgments", e, RestStatus.INTERNAL_SERVER_ERROR));
         }
     }
 
+    /**
+     * Factory of the rank pooler of each query text when pooled judging is enabled, null otherwise
+     */
+    private static Function<List<List<String>>, RankPooler> rankPoolerFactory(Map<String, Object> metadata) {
+        if (!Boolean.TRUE.equals(metadata.get(POOLED_JUDGING))) {
+            return null;
+        }
+        int size = (int) metadata.get("size");
+        int poolingNdcgAt = metadata.get(POOLING_NDCG_AT) instanceof Number ndcgAt
+            ? ndcgAt.intValue()
+            : RankPooler.defaultNdcgAt(size);
+        double poolingTolerance = metadata.get(POOLING_TOLERANCE) instanceof Number tolerance
+            ? tolerance.doubleValue()
+            : DEFAULT_POOLING_TOLERANCE;
+        if (poolingNdcgAt >= size) {
+            log.warn(
+                "Pooled judging with poolingNdcgAt {} and size {} judges every hit, it only stops early when size is larger",
+                poolingNdcgAt,
+                size
+            );
+        }
+        return rankedDocIds -> new RankPooler(rankedDocIds, poolingNdcgAt, poolingTolerance);
+    }
+
     private void generateLLMJudgmentsAsync(
         String modelId,
         int size,
         int tokenLimit,
+        int docTokenBudget,
         List<String> contextFields,
-        QuerySet querySet,
+        List<String> queryTextWithReferences,
         List<SearchConfiguration> searchConfigurations,
         boolean ignoreFailure,
+        int schedulingWeight,
+        LlmJudgmentBatcher batcher,
+        LlmCallBudget budget,
+        boolean collapseNearDuplicates,
+        Function<List<List<String>>, RankPooler> rankPoolerFactory,
+        Consumer<Map<String, Object>> queryResultConsumer,
         ActionListener<List<Map<String, Object>>> listener
     ) {
-        List<String> queryTextWithReferences = querySet.querySetQueries().stream().map(e -> e.queryText()).collect(Collectors.toList());
         int totalQueries = queryTextWithReferences.size();
 
         log.info("Starting LLM judgment generation for {} total queries", totalQueries);
@@ -138,30 +290,96 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         // Create judgment cache index upfront to prevent concurrent creation attempts
         StepListener<Void> cacheIndexListener = new StepListener<>();
         judgmentCacheDao.createIndexIfAbsent(cacheIndexListener);
-        cacheIndexListener.whenComplete(indexResult -> {
-            log.debug("Judgment cache index creation completed, proceeding with task scheduling");
+        cacheIndexListener.whenComplete(
+            indexResult -> {
+                log.debug("Judgment cache index creation completed, proceeding with task scheduling");
+                scheduleQueryTextTasks(
+                    modelId,
+                    size,
+                    tokenLimit,
+                    docTokenBudget,
+                    contextFields,
+                    searchConfigurations,
+                    queryTextWithReferences,
+                    ignoreFailure,
+                    schedulingWeight,
+                    batcher,
+                    budget,
+                    collapseNearDuplicates,
+                    rankPoolerFactory,
+                    queryResultConsumer,
+                    listener
+                );
+            },
+            indexError -> {
+                log.warn("Failed to create judgment cache index, proceeding without cache optimization", indexError);
+                scheduleQueryTextTasks(
+                    modelId,
+                    size,
+                    tokenLimit,
+                    docTokenBudget,
+                    contextFields,
+                    searchConfigurations,
+                    queryTextWithReferences,
+                    ignoreFailure,
+                    schedulingWeight,
+                    batcher,
+                    budget,
+                    collapseNearDuplicates,
+                    rankPoolerFactory,
+                    queryResultConsumer,
+                    listener
+                );
+            }
+        );
+    }
 
-            taskManager.scheduleTasksAsync(queryTextWithReferences, queryTextWithReference -> {
-                try {
-                    return processQueryTextAsync(
-                        modelId,
-                        size,
-                        tokenLimit,
-                        contextFields,
-                        searchConfigurations,
-                        queryTextWithReference,
-                        ignoreFailure
-                    );
-                } catch (Exception e) {
-                    if (ignoreFailure) {
-                        log.warn("Query processing failed, returning empty result for: {}", queryTextWithReference, e);
-                        return JudgmentDataTransformer.createJudgmentResult(queryTextWithReference, Map.of());
-                    } else {
-                        log.error("Query processing failed for: {}", queryTextWithReference, e);
-                        throw new RuntimeException("Query processing failed: " + queryTextWithReference, e);
+    private void scheduleQueryTextTasks(
+        String modelId,
+        int size,
+        int tokenLimit,
+        int docTokenBudget,
+        List<String> contextFields,
+        List<SearchConfiguration> searchConfigurations,
+        List<String> queryTextWithReferences,
+        boolean ignoreFailure,
+        int schedulingWeight,
+        LlmJudgmentBatcher batcher,
+        LlmCallBudget budget,
+        boolean collapseNearDuplicates,
+        Function<List<List<String>>, RankPooler> rankPoolerFactory,
+        Consumer<Map<String, Object>> queryResultConsumer,
+        ActionListener<List<Map<String, Object>>> listener
+    ) {
+        int totalQueries = queryTextWithReferences.size();
+        taskManager.scheduleTasksAsync(
+            UUID.randomUUID().toString(),
+            schedulingWeight,
+            queryTextWithReferences,
+            (queryTextWithReference, queryListener) -> processQueryTextAsync(
+                modelId,
+                size,
+                tokenLimit,
+                docTokenBudget,
+                contextFields,
+                searchConfigurations,
+                queryTextWithReference,
+                ignoreFailure,
+                batcher,
+                budget,
+                collapseNearDuplicates,
+                rankPoolerFactory,
+                ActionListener.wrap(result -> {
+                    try {
+                        queryResultConsumer.accept(result);
+                    } catch (Exception e) {
+                        log.warn("Failed to record progress for query text: {}", queryTextWithReference, e);
                     }
-                }
-            }, ignoreFailure, ActionListener.wrap(results -> {
+                    queryListener.onResponse(result);
+                }, queryListener::onFailure)
+            ),
+            ignoreFailure,
+            ActionListener.wrap(results -> {
                 int processedQueries = results.size();
                 int successQueries = (int) results.stream().mapToLong(result -> {
                     List<Map<String, String>> ratings = (List<Map<String, String>>) result.get("ratings");
@@ -176,108 +394,304 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
                     successQueries,
                     failureQueries
                 );
-                log.info("Calling final listener.onResponse with {} results", results.size());
-                listener.onResponse(results);
-            }, error -> {
-                log.error("LLM judgment generation failed - Total: {}, All failed", totalQueries, error);
-                listener.onFailure(error);
-            }));
-        }, indexError -> {
-            log.warn("Failed to create judgment cache index, proceeding without cache optimization", indexError);
-
-            taskManager.scheduleTasksAsync(queryTextWithReferences, queryTextWithReference -> {
-                try {
-                    return processQueryTextAsync(
-                        modelId,
-                        size,
-                        tokenLimit,
-                        contextFields,
-                        searchConfigurations,
-                        queryTextWithReference,
-                        ignoreFailure
+                if (budget.isCancelled()) {
+                    log.warn(
+                        "LLM judgment cancelled after {} LLM calls and {} input tokens",
+                        budget.getUsedCalls(),
+                        budget.getUsedInputTokens()
+                    );
+                } else if (budget.isExhausted()) {
+                    log.warn(
+                        "LLM judgment budget exhausted after {} LLM calls and {} input tokens, keeping the ratings collected so far",
+                        budget.getUsedCalls(),
+                        budget.getUsedInputTokens()
                     );
-                } catch (Exception e) {
-                    if (ignoreFailure) {
-                        log.warn("Query processing failed, returning empty result for: {}", queryTextWithReference, e);
-                        return JudgmentDataTransformer.createJudgmentResult(queryTextWithReference, Map.of());
-                    } else {
-                        log.error("Query processing failed for: {}", queryTextWithReference, e);
-                        throw new RuntimeException("Query processing failed: " + queryTextWithReference, e);
-                    }
                 }
-            }, ignoreFailure, ActionListener.wrap(results -> {
-                int processedQueries = results.size();
-                int successQueries = (int) results.stream().mapToLong(result -> {
-                    List<Map<String, String>> ratings = (List<Map<String, String>>) result.get("ratings");
-                    return ratings != null && !ratings.isEmpty() ? 1 : 0;
-                }).sum();
-                int failureQueries = processedQueries - successQueries;
-
-                log.info(
-                    "LLM judgment generation completed - Total: {}, Processed: {}, Success: {}, Failure: {}",
-                    totalQueries,
-                    processedQueries,
-                    successQueries,
-                    failureQueries
-                );
-                log.info("Calling final listener.onResponse with {} results", results.size());
                 listener.onResponse(results);
             }, error -> {
                 log.error("LLM judgment generation failed - Total: {}, All failed", totalQueries, error);
                 listener.onFailure(error);
-            }));
-        });
+            })
+        );
     }
 
-    private Map<String, Object> processQueryTextAsync(
+    /**
+     * Judge a single query text without blocking: search, then cache lookup, then LLM, each stage completing
+     * the next through a listener. The listener always receives a result carrying whatever ratings were collected.
+     */
+    private void processQueryTextAsync(
         String modelId,
         int size,
         int tokenLimit,
+        int docTokenBudget,
         List<String> contextFields,
         List<SearchConfiguration> searchConfigurations,
         String queryTextWithReference,
-        boolean ignoreFailure
+        boolean ignoreFailure,
+        LlmJudgmentBatcher batcher,
+        LlmCallBudget jobBudget,
+        boolean collapseNearDuplicates,
+        Function<List<List<String>>, RankPooler> rankPoolerFactory,
+        ActionListener<Map<String, Object>> listener
     ) {
+        LlmCallBudget queryBudget = jobBudget.forQueryText();
+        if (queryBudget.isExhausted()) {
+            log.debug("LLM judgment budget exhausted, skipping query text: {}", queryTextWithReference);
+            queryBudget.markCutShort();
+            listener.onResponse(createQueryResult(queryTextWithReference, Map.of(), queryBudget));
+            return;
+        }
         log.info("Processing query text judgment: {}", queryTextWithReference);
 
-        ConcurrentMap<String, SearchHit> allHits = new ConcurrentHashMap<>();
+        // docId -> context source, trimmed to the context fields as soon as hits arrive
+        ConcurrentMap<String, String> allHits = new ConcurrentHashMap<>();
+        // docId -> hash of the context source, compared against the cached one before a cached rating is reused
+        ConcurrentMap<String, String> contentHashes = new ConcurrentHashMap<>();
+        // search configuration position -> docIds in rank order
+        ConcurrentMap<Integer, List<String>> rankedDocIds = new ConcurrentHashMap<>();
         ConcurrentMap<String, String> docIdToScore = new ConcurrentHashMap<>();
         String queryText = queryTextWithReference.split(DELIMITER, 2)[0];
+        String index = searchConfigurations.get(0).index();
 
-        try {
-            // Step 1: Execute searches concurrently within this query text task
-            processSearchConfigurationsAsync(searchConfigurations, queryText, size, allHits, ignoreFailure);
+        ActionListener<Void> completionListener = ActionListener.wrap(v -> {
+            log.debug("Query processing completed for: {} with {} ratings", queryTextWithReference, docIdToScore.size());
+            listener.onResponse(createQueryResult(queryTextWithReference, docIdToScore, queryBudget));
+        }, e -> {
+            log.warn(
+                "Query processing failed for: {} with {} ratings collected. Error: {}",
+                queryTextWithReference,
+                docIdToScore.size(),
+                e.getMessage(),
+                e
+            );
+            // Always return a result with whatever ratings we managed to collect
+            listener.onResponse(createQueryResult(queryTextWithReference, docIdToScore, queryBudget));
+        });
 
-            // Step 2: Deduplicate from cache
-            List<String> docIds = new ArrayList<>(allHits.keySet());
-            String index = searchConfigurations.get(0).index();
-            List<String> unprocessedDocIds = deduplicateFromCache(
+        // Step 1: Execute searches concurrently within this query text task
+        StepListener<Void> searchStep = new StepListener<>();
+        processSearchConfigurationsAsync(
+            searchConfigurations,
+            queryText,
+            size,
+            contextFields,
+            docTokenBudget,
+            allHits,
+            rankedDocIds,
+            searchStep
+        );
+
+        // Step 2: Deduplicate from cache
+        StepListener<List<String>> cacheStep = new StepListener<>();
+        searchStep.whenComplete(v -> {
+            allHits.forEach((docId, contextSource) -> {
+                String contentHash = generateContentHash(contextSource);
+                if (contentHash != null) {
+                    contentHashes.put(docId, contentHash);
+                }
+            });
+            if (rankPoolerFactory != null) {
+                // pooled judging runs its own cache and LLM rounds, so the steps below are skipped
+                List<List<String>> configRankings = new ArrayList<>();
+                for (int i = 0; i < searchConfigurations.size(); i++) {
+                    configRankings.add(rankedDocIds.getOrDefault(i, List.of()));
+                }
+                judgeInPooledRounds(
+                    modelId,
+                    queryTextWithReference,
+                    tokenLimit,
+                    contextFields,
+                    rankPoolerFactory.apply(configRankings),
+                    allHits,
+                    contentHashes,
+                    index,
+                    docIdToScore,
+                    batcher,
+                    queryBudget,
+                    collapseNearDuplicates,
+                    completionListener
+                );
+                return;
+            }
+            deduplicateFromCache(
                 index,
                 queryTextWithReference,
                 contextFields,
-                docIds,
+                new ArrayList<>(allHits.keySet()),
+                contentHashes,
                 docIdToScore,
-                ignoreFailure
+                cacheStep
             );
+        }, completionListener::onFailure);
 
-            // Step 3: Process with LLM if needed
-            if (!unprocessedDocIds.isEmpty()) {
-                processWithLLM(modelId, queryTextWithReference, tokenLimit, contextFields, unprocessedDocIds, allHits, index, docIdToScore);
+        // Step 3: Process with LLM if needed
+        cacheStep.whenComplete(unprocessedDocIds -> {
+            if (unprocessedDocIds.isEmpty()) {
+                completionListener.onResponse(null);
+                return;
             }
+            processWithLLM(
+                modelId,
+                queryTextWithReference,
+                tokenLimit,
+                contextFields,
+                unprocessedDocIds,
+                allHits,
+                contentHashes,
+                index,
+                docIdToScore,
+                batcher,
+                queryBudget,
+                collapseNearDuplicates,
+                completionListener
+            );
+        }, completionListener::onFailure);
+    }
 
-            Map<String, Object> result = JudgmentDataTransformer.createJudgmentResult(queryTextWithReference, docIdToScore);
-            log.debug("Query processing completed for: {} with {} ratings", queryTextWithReference, docIdToScore.size());
-            return result;
-        } catch (Exception e) {
-            log.warn(
-                "Query processing failed for: {} with {} ratings collected. Error: {}",
+    /**
+     * Result of one query text, flagged when the budget cut it short so that it is neither checkpointed nor skipped as
+     * completed by a resumed job
+     */
+    private static Map<String, Object> createQueryResult(
+        String queryTextWithReference,
+        Map<String, String> docIdToScore,
+        LlmCallBudget queryBudget
+    ) {
+        Map<String, Object> result = JudgmentDataTransformer.createJudgmentResult(queryTextWithReference, docIdToScore);
+        if (queryBudget.isCutShort()) {
+            result.put(JudgmentCheckpointWriter.BUDGET_EXHAUSTED, true);
+        }
+        return result;
+    }
+
+    /**
+     * Judge the pooled hits of a query text a few ranks at a time, stopping early once more judgments would not change
+     * how the search configurations compare on NDCG@k.
+     */
+    private void judgeInPooledRounds(
+        String modelId,
+        String queryTextWithReference,
+        int tokenLimit,
+        List<String> contextFields,
+        RankPooler rankPooler,
+        ConcurrentMap<String, String> allHits,
+        Map<String, String> contentHashes,
+        String index,
+        ConcurrentMap<String, String> docIdToScore,
+        LlmJudgmentBatcher batcher,
+        LlmCallBudget budget,
+        boolean collapseNearDuplicates,
+        ActionListener<Void> listener
+    ) {
+        List<String> round = rankPooler.nextRound();
+        if (!round.isEmpty() && budget.isExhausted()) {
+            log.debug("LLM judgment budget exhausted, stopping pooled judging of query: {}", queryTextWithReference);
+            budget.markCutShort();
+            listener.onResponse(null);
+            return;
+        }
+        if (round.isEmpty()) {
+            log.debug("Pool exhausted for query: {} after judging {} docs", queryTextWithReference, rankPooler.pooledCount());
+            listener.onResponse(null);
+            return;
+        }
+
+        ActionListener<Void> roundListener = ActionListener.wrap(v -> {
+            if (rankPooler.isStable(docIdToScore)) {
+                log.info(
+                    "NDCG comparison stable for query: {}, stopped after judging {} of {} pooled docs",
+                    queryTextWithReference,
+                    rankPooler.pooledCount(),
+                    allHits.size()
+                );
+                listener.onResponse(null);
+                return;
+            }
+            judgeInPooledRounds(
+                modelId,
                 queryTextWithReference,
-                docIdToScore.size(),
-                e.getMessage(),
-                e
+                tokenLimit,
+                contextFields,
+                rankPooler,
+                allHits,
+                contentHashes,
+                index,
+                docIdToScore,
+                batcher,
+                budget,
+                collapseNearDuplicates,
+                listener
+            );
+        }, listener::onFailure);
+
+        StepListener<List<String>> cacheStep = new StepListener<>();
+        deduplicateFromCache(index, queryTextWithReference, contextFields, round, contentHashes, docIdToScore, cacheStep);
+        cacheStep.whenComplete(unprocessedDocIds -> {
+            if (unprocessedDocIds.isEmpty()) {
+                roundListener.onResponse(null);
+                return;
+            }
+            processWithLLM(
+                modelId,
+                queryTextWithReference,
+                tokenLimit,
+                contextFields,
+                unprocessedDocIds,
+                allHits,
+                contentHashes,
+                index,
+                docIdToScore,
+                batcher,
+                budget,
+                collapseNearDuplicates,
+                roundListener
+            );
+        }, listener::onFailure);
+    }
+
+    /**
+     * Log a pre-flight estimate of the input tokens and LLM calls of the job, assuming no cached judgments. Document
+     * tokens are only known upfront when a per-document token budget is set, otherwise only the prompts are counted.
+     */
+    private void logBudgetEstimate(
+        LlmCallBudget budget,
+        List<String> queryTextWithReferences,
+        int searchConfigurationCount,
+        int size,
+        int tokenLimit,
+        int docTokenBudget
+    ) {
+        long docTokensPerQuery = (long) docTokenBudget * searchConfigurationCount * size;
+        long estimatedTokens = 0;
+        long estimatedCalls = 0;
+        for (String queryTextWithReference : queryTextWithReferences) {
+            String[] queryTextRefArr = queryTextWithReference.split(DELIMITER, 2);
+            String referenceAnswer = queryTextRefArr.length > 1 ? queryTextRefArr[1] : null;
+            long queryTokens = TokenizerUtil.countTokens(PROMPT_TRANSFORMER.formatMessages(queryTextRefArr[0], referenceAnswer, Map.of()))
+                + docTokensPerQuery;
+            estimatedTokens += queryTokens;
+            estimatedCalls += Math.max(1, (queryTokens + tokenLimit - 1) / tokenLimit);
+        }
+        boolean overBudget = (budget.getMaxInputTokens() > 0 && estimatedTokens > budget.getMaxInputTokens())
+            || (budget.getMaxCalls() > 0 && estimatedCalls > budget.getMaxCalls());
+        String estimate = docTokenBudget > 0 ? "up to" : "at least";
+        if (overBudget) {
+            log.warn(
+                "LLM judgment job is estimated to need {} {} input tokens and {} LLM calls, over its budget of {} tokens and {} calls."
+                    + " The job stops once the budget is exhausted",
+                estimate,
+                estimatedTokens,
+                estimatedCalls,
+                budget.getMaxInputTokens(),
+                budget.getMaxCalls()
+            );
+        } else {
+            log.info(
+                "LLM judgment job is estimated to need {} {} input tokens and {} LLM calls",
+                estimate,
+                estimatedTokens,
+                estimatedCalls
             );
-            // Always return a result with whatever ratings we managed to collect
-            return JudgmentDataTransformer.createJudgmentResult(queryTextWithReference, docIdToScore);
         }
     }
 
@@ -285,73 +699,175 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         List<SearchConfiguration> searchConfigurations,
         String queryText,
         int size,
-        ConcurrentMap<String, SearchHit> allHits,
-        boolean ignoreFailure
-    ) throws Exception {
-        List<CompletableFuture<Void>> searchFutures = searchConfigurations.stream().map(config -> {
-            CompletableFuture<SearchResponse> future = new CompletableFuture<>();
-            SearchRequest searchRequest = buildSearchRequest(config.index(), config.query(), queryText, config.searchPipeline(), size);
-            client.search(searchRequest, ActionListener.wrap(future::complete, future::completeExceptionally));
-
-            return future.thenAccept(response -> {
-                if (response.getHits().getTotalHits().value() > 0) {
-                    for (SearchHit hit : response.getHits().getHits()) {
-                        allHits.put(hit.getId(), hit);
-                    }
-                    log.debug("Collected {} hits from index: {}", response.getHits().getHits().length, config.index());
-                }
-            }).exceptionally(e -> {
-                log.warn("Search failed for index: {}, continuing with other searches", config.index(), e);
-                return null; // Continue processing other searches
-            });
-        }).toList();
+        List<String> contextFields,
+        int docTokenBudget,
+        ConcurrentMap<String, String> allHits,
+        ConcurrentMap<Integer, List<String>> rankedDocIds,
+        ActionListener<Void> listener
+    ) {
+        if (searchConfigurations.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        AtomicInteger pendingSearches = new AtomicInteger(searchConfigurations.size());
+        Runnable onSearchDone = () -> {
+            if (pendingSearches.decrementAndGet() == 0) {
+                log.info("Search phase completed. Total hits collected: {}", allHits.size());
+                listener.onResponse(null);
+            }
+        };
 
-        CompletableFuture.allOf(searchFutures.toArray(new CompletableFuture[0])).join();
-        log.info("Search phase completed. Total hits collected: {}", allHits.size());
+        for (int i = 0; i < searchConfigurations.size(); i++) {
+            SearchConfiguration config = searchConfigurations.get(i);
+            int configPosition = i;
+            try {
+                SearchRequest searchRequest = buildSearchRequest(config.index(), config.query(), queryText, config.searchPipeline(), size);
+                if (contextFields != null && !contextFields.isEmpty()) {
+                    // only the context fields are sent to the LLM, so there is no need to fetch the rest of the source
+                    searchRequest.source().fetchSource(contextFields.toArray(new String[0]), null);
+                }
+                client.search(searchRequest, ActionListener.wrap(response -> {
+                    if (response.getHits().getTotalHits().value() > 0) {
+                        List<String> docIds = new ArrayList<>();
+                        for (SearchHit hit : response.getHits().getHits()) {
+                            allHits.computeIfAbsent(
+                                hit.getId(),
+                                docId -> ContextFragmentExtractor.extractFragments(
+                                    queryText,
+                                    getContextSource(hit, contextFields),
+                                    docTokenBudget
+                                )
+                            );
+                            docIds.add(hit.getId());
+                        }
+                        rankedDocIds.put(configPosition, docIds);
+                        log.debug("Collected {} hits from index: {}", response.getHits().getHits().length, config.index());
+                    }
+                    onSearchDone.run();
+                }, e -> {
+                    log.warn("Search failed for index: {}, continuing with other searches", config.index(), e);
+                    onSearchDone.run();
+                }));
+            } catch (Exception e) {
+                log.warn("Failed to build search request for index: {}, continuing with other searches", config.index(), e);
+                onSearchDone.run();
+            }
+        }
     }
 
-    private List<String> deduplicateFromCache(
+    private void deduplicateFromCache(
         String index,
         String queryTextWithReference,
         List<String> contextFields,
         List<String> docIds,
+        Map<String, String> contentHashes,
         ConcurrentMap<String, String> docIdToScore,
-        boolean ignoreFailure
-    ) throws Exception {
-        List<String> processedDocIds = Collections.synchronizedList(new ArrayList<>());
-        AtomicBoolean hasFailure = new AtomicBoolean(false);
-
-        List<CompletableFuture<Void>> cacheFutures = docIds.stream().map(docId -> {
-            String compositeKey = combinedIndexAndDocId(index, docId);
-            CompletableFuture<SearchResponse> future = new CompletableFuture<>();
-            judgmentCacheDao.getJudgmentCache(
-                queryTextWithReference,
-                compositeKey,
-                contextFields,
-                ActionListener.wrap(future::complete, future::completeExceptionally)
-            );
+        ActionListener<List<String>> listener
+    ) {
+        if (docIds.isEmpty()) {
+            listener.onResponse(List.of());
+            return;
+        }
 
-            return future.thenAccept(response -> {
-                if (response.getHits().getTotalHits().value() > 0) {
-                    SearchHit hit = response.getHits().getHits()[0];
-                    Map<String, Object> source = hit.getSourceAsMap();
-                    String rating = (String) source.get("rating");
+        Set<String> processedDocIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger pendingLookups = new AtomicInteger(docIds.size());
+        Runnable onLookupDone = () -> {
+            if (pendingLookups.decrementAndGet() == 0) {
+                List<String> unprocessedDocIds = docIds.stream()
+                    .filter(docId -> !processedDocIds.contains(docId))
+                    .collect(Collectors.toList());
+                log.info("Cache deduplication completed. Cached: {}, Unprocessed: {}", processedDocIds.size(), unprocessedDocIds.size());
+                listener.onResponse(unprocessedDocIds);
+            }
+        };
 
-                    log.debug("Found cached judgment for docId: {}, rating: {}", docId, rating);
-                    docIdToScore.put(docId, rating);
-                    processedDocIds.add(docId);
-                }
-            }).exceptionally(e -> {
+        for (String docId : docIds) {
+            String compositeKey = combinedIndexAndDocId(index, docId);
+            String contentHash = contentHashes.get(docId);
+            try {
+                judgmentCacheDao.getJudgmentCache(
+                    queryTextWithReference,
+                    compositeKey,
+                    contentHash,
+                    contextFields,
+                    ActionListener.wrap(response -> {
+                        List<Map<String, Object>> entries = Arrays.stream(response.getHits().getHits())
+                            .map(SearchHit::getSourceAsMap)
+                            .collect(Collectors.toList());
+                        if (reuseCachedJudgment(queryTextWithReference, compositeKey, contextFields, contentHash, entries, docIdToScore)) {
+                            processedDocIds.add(docId);
+                        }
+                        onLookupDone.run();
+                    }, e -> {
+                        log.debug("Cache lookup failed for docId: {} - continuing without cache", docId);
+                        onLookupDone.run();
+                    })
+                );
+            } catch (Exception e) {
                 log.debug("Cache lookup failed for docId: {} - continuing without cache", docId);
-                return null;
-            });
-        }).toList();
+                onLookupDone.run();
+            }
+        }
+    }
+
+    /**
+     * Pick a reusable rating from the cache entries found for a document: its own entry if the content is unchanged,
+     * otherwise an entry of the same query text and content rated under another doc id, e.g. before a reindex.
+     * @return true if a cached rating was reused
+     */
+    private boolean reuseCachedJudgment(
+        String queryTextWithReference,
+        String compositeKey,
+        List<String> contextFields,
+        String contentHash,
+        List<Map<String, Object>> entries,
+        ConcurrentMap<String, String> docIdToScore
+    ) {
+        String docId = getDocIdFromCompositeKey(compositeKey);
+        Optional<Map<String, Object>> ownEntry = entries.stream()
+            .filter(source -> compositeKey.equals(source.get(JudgmentCache.DOCUMENT_ID)))
+            .findFirst();
+        if (ownEntry.isPresent()) {
+            String rating = (String) ownEntry.get().get(JudgmentCache.RATING);
+            String cachedContentHash = (String) ownEntry.get().get(JudgmentCache.CONTENT_HASH);
+            // entries written before content hashing cannot be checked and are trusted as before
+            if (cachedContentHash == null || contentHash == null || cachedContentHash.equals(contentHash)) {
+                log.debug("Found cached judgment for docId: {}, rating: {}", docId, rating);
+                docIdToScore.put(docId, rating);
+                return true;
+            }
+            log.debug("Content of docId: {} changed since it was judged, cached rating is discarded", docId);
+        }
+        if (contentHash == null) {
+            return false;
+        }
 
-        CompletableFuture.allOf(cacheFutures.toArray(new CompletableFuture[0])).join();
+        // the query text is matched as analyzed text, so only an exact match may lend its rating
+        Optional<Map<String, Object>> sameContent = entries.stream()
+            .filter(source -> contentHash.equals(source.get(JudgmentCache.CONTENT_HASH)))
+            .filter(source -> queryTextWithReference.trim().equals(source.get(JudgmentCache.QUERY_TEXT)))
+            .findFirst();
+        if (sameContent.isEmpty()) {
+            return false;
+        }
+        Map<String, Object> source = sameContent.get();
+        String rating = (String) source.get(JudgmentCache.RATING);
+        String ratedDocumentId = (String) Optional.ofNullable(source.get(JudgmentCache.RATED_DOCUMENT_ID))
+            .orElse(source.get(JudgmentCache.DOCUMENT_ID));
 
-        List<String> unprocessedDocIds = docIds.stream().filter(docId -> !processedDocIds.contains(docId)).collect(Collectors.toList());
-        log.info("Cache deduplication completed. Cached: {}, Unprocessed: {}", processedDocIds.size(), unprocessedDocIds.size());
-        return unprocessedDocIds;
+        log.debug("Reusing cached judgment of {} for docId: {} with unchanged content, rating: {}", ratedDocumentId, docId, rating);
+        docIdToScore.put(docId, rating);
+        // cache the rating under the new doc id so that the next lookup is a direct hit
+        updateJudgmentCache(
+            compositeKey,
+            queryTextWithReference,
+            contextFields,
+            rating,
+            (String) source.get(JudgmentCache.MODEL_ID),
+            ratedDocumentId,
+            contentHash
+        );
+        return true;
     }
 
     private void processWithLLM(
@@ -360,30 +876,205 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         int tokenLimit,
         List<String> contextFields,
         List<String> unprocessedDocIds,
-        ConcurrentMap<String, SearchHit> allHits,
+        ConcurrentMap<String, String> allHits,
+        Map<String, String> contentHashes,
         String index,
-        ConcurrentMap<String, String> docIdToScore
-    ) throws Exception {
-        Map<String, String> unionHits = new HashMap<>();
+        ConcurrentMap<String, String> docIdToScore,
+        LlmJudgmentBatcher batcher,
+        LlmCallBudget budget,
+        boolean collapseNearDuplicates,
+        ActionListener<Void> completionListener
+    ) {
+        Map<String, String> unionHits = new LinkedHashMap<>();
 
         // Prepare union hits for LLM
         for (String docId : unprocessedDocIds) {
-            SearchHit hit = allHits.get(docId);
-            String compositeKey = combinedIndexAndDocId(index, docId);
-            String contextSource = getContextSource(hit, contextFields);
-            unionHits.put(compositeKey, contextSource);
+            unionHits.put(combinedIndexAndDocId(index, docId), allHits.get(docId));
         }
 
+        // only one representative of each near-duplicate cluster is sent to the LLM
+        Map<String, List<String>> duplicatesByRepresentative = collapseNearDuplicates
+            ? SimHashUtil.clusterNearDuplicates(unionHits, NEAR_DUPLICATE_MAX_HAMMING_DISTANCE)
+            : Map.of();
+        ActionListener<Void> listener = completionListener;
+        if (!duplicatesByRepresentative.isEmpty()) {
+            duplicatesByRepresentative.values().forEach(duplicates -> duplicates.forEach(unionHits::remove));
+            log.info(
+                "Collapsed {} near-duplicate docs into {} representatives for query: {}",
+                duplicatesByRepresentative.values().stream().mapToInt(List::size).sum(),
+                duplicatesByRepresentative.size(),
+                queryTextWithReference
+            );
+            listener = ActionListener.runBefore(
+                completionListener,
+                () -> copyRatingsToDuplicates(
+                    duplicatesByRepresentative,
+                    queryTextWithReference,
+                    contextFields,
+                    modelId,
+                    contentHashes,
+                    docIdToScore
+                )
+            );
+        }
+        processRepresentativesWithLLM(
+            modelId,
+            queryTextWithReference,
+            tokenLimit,
+            contextFields,
+            unionHits,
+            contentHashes,
+            docIdToScore,
+            batcher,
+            budget,
+            listener
+        );
+    }
+
+    private void processRepresentativesWithLLM(
+        String modelId,
+        String queryTextWithReference,
+        int tokenLimit,
+        List<String> contextFields,
+        Map<String, String> unionHits,
+        Map<String, String> contentHashes,
+        ConcurrentMap<String, String> docIdToScore,
+        LlmJudgmentBatcher batcher,
+        LlmCallBudget budget,
+        ActionListener<Void> listener
+    ) {
         log.info("Processing {} uncached docs with LLM", unionHits.size());
 
-        // Synchronous LLM call
-        PlainActionFuture<Map<String, String>> llmFuture = PlainActionFuture.newFuture();
-        generateLLMJudgmentForQueryText(modelId, queryTextWithReference, tokenLimit, contextFields, unionHits, new HashMap<>(), llmFuture);
+        if (batcher != null) {
+            String[] queryTextRefArr = queryTextWithReference.split(DELIMITER, 2);
+            String referenceAnswer = queryTextRefArr.length > 1 ? queryTextRefArr[1] : null;
+            QueryHitsGroup group = new QueryHitsGroup(queryTextRefArr[0], referenceAnswer, unionHits);
+            if (batcher.isBatchable(group)) {
+                batcher.submit(group, ActionListener.wrap(batchRatings -> {
+                    if (batchRatings == null || !batchRatings.keySet().containsAll(unionHits.keySet())) {
+                        // hits left unrated by the batched prompt are judged with a dedicated prompt
+                        Map<String, String> unratedHits = new HashMap<>(unionHits);
+                        if (batchRatings != null) {
+                            applyBatchRatings(batchRatings, queryTextWithReference, contextFields, modelId, contentHashes, docIdToScore);
+                            unratedHits.keySet().removeAll(batchRatings.keySet());
+                        }
+                        predictWithDedicatedPrompt(
+                            modelId,
+                            queryTextWithReference,
+                            tokenLimit,
+                            contextFields,
+                            unratedHits,
+                            contentHashes,
+                            docIdToScore,
+                            budget,
+                            listener
+                        );
+                        return;
+                    }
+                    applyBatchRatings(batchRatings, queryTextWithReference, contextFields, modelId, contentHashes, docIdToScore);
+                    log.info("Batched LLM processing completed. Generated {} ratings", batchRatings.size());
+                    listener.onResponse(null);
+                }, e -> {
+                    // the batched prompt is reserved from the job budget, so its refusal is attributed here
+                    if (budget.isExhausted()) {
+                        budget.markCutShort();
+                    }
+                    listener.onFailure(e);
+                }));
+                return;
+            }
+        }
 
-        Map<String, String> llmResults = llmFuture.actionGet();
-        docIdToScore.putAll(llmResults);
+        predictWithDedicatedPrompt(
+            modelId,
+            queryTextWithReference,
+            tokenLimit,
+            contextFields,
+            unionHits,
+            contentHashes,
+            docIdToScore,
+            budget,
+            listener
+        );
+    }
 
-        log.info("LLM processing completed. Generated {} ratings", llmResults.size());
+    /**
+     * Copy the rating of every cluster representative to its near-duplicates, recording the representative in their
+     * cache entries. Duplicates of a representative that could not be rated stay unrated.
+     */
+    private void copyRatingsToDuplicates(
+        Map<String, List<String>> duplicatesByRepresentative,
+        String queryTextWithReference,
+        List<String> contextFields,
+        String modelId,
+        Map<String, String> contentHashes,
+        ConcurrentMap<String, String> docIdToScore
+    ) {
+        for (Map.Entry<String, List<String>> cluster : duplicatesByRepresentative.entrySet()) {
+            String representative = cluster.getKey();
+            String rating = docIdToScore.get(getDocIdFromCompositeKey(representative));
+            if (rating == null) {
+                continue;
+            }
+            for (String duplicate : cluster.getValue()) {
+                String duplicateDocId = getDocIdFromCompositeKey(duplicate);
+                docIdToScore.put(duplicateDocId, rating);
+                updateJudgmentCache(
+                    duplicate,
+                    queryTextWithReference,
+                    contextFields,
+                    rating,
+                    modelId,
+                    representative,
+                    contentHashes.get(duplicateDocId)
+                );
+            }
+        }
+    }
+
+    private void applyBatchRatings(
+        Map<String, Double> batchRatings,
+        String queryTextWithReference,
+        List<String> contextFields,
+        String modelId,
+        Map<String, String> contentHashes,
+        ConcurrentMap<String, String> docIdToScore
+    ) {
+        for (Map.Entry<String, Double> rating : batchRatings.entrySet()) {
+            String compositeKey = rating.getKey();
+            String ratingScore = rating.getValue().toString();
+            String docId = getDocIdFromCompositeKey(compositeKey);
+            docIdToScore.put(docId, ratingScore);
+            updateJudgmentCache(compositeKey, queryTextWithReference, contextFields, ratingScore, modelId, null, contentHashes.get(docId));
+        }
+    }
+
+    private void predictWithDedicatedPrompt(
+        String modelId,
+        String queryTextWithReference,
+        int tokenLimit,
+        List<String> contextFields,
+        Map<String, String> unionHits,
+        Map<String, String> contentHashes,
+        ConcurrentMap<String, String> docIdToScore,
+        LlmCallBudget budget,
+        ActionListener<Void> listener
+    ) {
+        generateLLMJudgmentForQueryText(
+            modelId,
+            queryTextWithReference,
+            tokenLimit,
+            contextFields,
+            unionHits,
+            contentHashes,
+            new HashMap<>(),
+            budget,
+            ActionListener.wrap(llmResults -> {
+                docIdToScore.putAll(llmResults);
+                log.info("LLM processing completed. Generated {} ratings", llmResults.size());
+                listener.onResponse(null);
+            }, listener::onFailure)
+        );
     }
 
     private void generateLLMJudgmentForQueryText(
@@ -392,7 +1083,9 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         int tokenLimit,
         List<String> contextFields,
         Map<String, String> unprocessedUnionHits,
+        Map<String, String> contentHashes,
         Map<String, String> docIdToRating,
+        LlmCallBudget budget,
         ActionListener<Map<String, String>> listener
     ) {
         log.debug("calculating LLM evaluation with modelId: {} and unprocessed unionHits: {}", modelId, unprocessedUnionHits);
@@ -412,7 +1105,7 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         ConcurrentMap<Integer, List<Map<String, Object>>> combinedResponses = new ConcurrentHashMap<>();
         AtomicBoolean hasFailure = new AtomicBoolean(false);
 
-        mlAccessor.predict(modelId, tokenLimit, queryText, referenceAnswer, unprocessedUnionHits, new ActionListener<ChunkResult>() {
+        ActionListener<ChunkResult> chunkListener = new ActionListener<ChunkResult>() {
             @Override
             public void onResponse(ChunkResult chunkResult) {
                 try {
@@ -452,7 +1145,15 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
                                 Double ratingScore = ((Number) rating.get("rating_score")).doubleValue();
                                 String docId = getDocIdFromCompositeKey(compositeKey);
                                 processedRatings.put(docId, ratingScore.toString());
-                                updateJudgmentCache(compositeKey, queryTextWithReference, contextFields, ratingScore.toString(), modelId);
+                                updateJudgmentCache(
+                                    compositeKey,
+                                    queryTextWithReference,
+                                    contextFields,
+                                    ratingScore.toString(),
+                                    modelId,
+                                    null,
+                                    contentHashes.get(docId)
+                                );
                             }
                         }
 
@@ -476,10 +1177,19 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
                     );
                 }
             }
-        });
+        };
+        mlAccessor.predict(modelId, tokenLimit, queryText, referenceAnswer, unprocessedUnionHits, budget, chunkListener);
     }
 
-    private void updateJudgmentCache(String compositeKey, String queryText, List<String> contextFields, String rating, String modelId) {
+    private void updateJudgmentCache(
+        String compositeKey,
+        String queryText,
+        List<String> contextFields,
+        String rating,
+        String modelId,
+        String ratedDocumentId,
+        String contentHash
+    ) {
         try {
             JudgmentCache judgmentCache = new JudgmentCache(
                 generateUniqueId(queryText, compositeKey, contextFields),
@@ -488,7 +1198,9 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
                 compositeKey,
                 contextFields,
                 rating,
-                modelId
+                modelId,
+                ratedDocumentId,
+                contentHash
             );
             StepListener<Void> createIndexStep = new StepListener<>();
             judgmentCacheDao.createIndexIfAbsent(createIndexStep);
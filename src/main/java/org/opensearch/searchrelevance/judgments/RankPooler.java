@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.judgments;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.DEFAULT_POOLING_NDCG_AT;
+import static org.opensearch.searchrelevance.metrics.calculator.Evaluation.calculateNDCGAtK;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hands out the pooled hits of one query text in ascending rank order, a few ranks at a time across all search
+ * configurations, and tells when judging deeper would no longer change how the configurations compare on NDCG@k.
+ * The top k of every configuration is always judged, so pooling only saves LLM calls when more than k hits are
+ * retrieved per configuration.
+ */
+public class RankPooler {
+    private final List<List<String>> rankedDocIds;
+    private final int ndcgAt;
+    private final double tolerance;
+    private final int depthStep;
+    private final int maxDepth;
+    private final Set<String> pooledDocIds = new HashSet<>();
+
+    private int depth = 0;
+    private double[] previousComparison;
+
+    /**
+     * @param rankedDocIds hits of every search configuration, in rank order
+     * @param ndcgAt rank cut-off of the NDCG used to compare configurations
+     * @param tolerance largest change of the comparison between two rounds that still counts as stable
+     */
+    public RankPooler(List<List<String>> rankedDocIds, int ndcgAt, double tolerance) {
+        this.rankedDocIds = rankedDocIds;
+        this.ndcgAt = ndcgAt;
+        this.tolerance = tolerance;
+        this.depthStep = Math.max(1, ndcgAt / 2);
+        this.maxDepth = rankedDocIds.stream().mapToInt(List::size).max().orElse(0);
+    }
+
+    /**
+     * NDCG cut-off used when none is given: half the hits retrieved per configuration, capped at
+     * {@link org.opensearch.searchrelevance.common.PluginConstants#DEFAULT_POOLING_NDCG_AT}, so that ranks below the
+     * cut-off are left for the comparison to stabilise on before every hit is judged.
+     * @param size number of hits retrieved per search configuration
+     */
+    public static int defaultNdcgAt(int size) {
+        return Math.max(1, Math.min(DEFAULT_POOLING_NDCG_AT, size / 2));
+    }
+
+    /**
+     * Documents first pooled at the next ranks, or an empty list once the pool is exhausted.
+     */
+    public List<String> nextRound() {
+        List<String> round = new ArrayList<>();
+        while (round.isEmpty() && depth < maxDepth) {
+            int nextDepth = Math.min(depth + depthStep, maxDepth);
+            for (int rank = depth; rank < nextDepth; rank++) {
+                for (List<String> docIds : rankedDocIds) {
+                    if (rank < docIds.size() && pooledDocIds.add(docIds.get(rank))) {
+                        round.add(docIds.get(rank));
+                    }
+                }
+            }
+            depth = nextDepth;
+        }
+        return round;
+    }
+
+    public int pooledCount() {
+        return pooledDocIds.size();
+    }
+
+    /**
+     * Whether the NDCG@k comparison of the configurations moved by at most the tolerance since the previous round.
+     * Stability is only reported once the top k of every configuration has been pooled. With several configurations
+     * the differences to the first one are compared, otherwise the NDCG of the single configuration itself.
+     */
+    public boolean isStable(Map<String, String> ratings) {
+        double[] comparison = compareConfigurations(ratings);
+        boolean stable = depth >= Math.min(ndcgAt, maxDepth) && previousComparison != null && maxChange(comparison) <= tolerance;
+        previousComparison = comparison;
+        return stable;
+    }
+
+    private double[] compareConfigurations(Map<String, String> ratings) {
+        double[] ndcgs = rankedDocIds.stream().mapToDouble(docIds -> calculateNDCGAtK(docIds, ratings, ndcgAt)).toArray();
+        if (ndcgs.length < 2) {
+            return ndcgs;
+        }
+        double[] differences = new double[ndcgs.length - 1];
+        for (int i = 1; i < ndcgs.length; i++) {
+            differences[i - 1] = ndcgs[i] - ndcgs[0];
+        }
+        return differences;
+    }
+
+    private double maxChange(double[] comparison) {
+        double maxChange = 0.0;
+        for (int i = 0; i < comparison.length; i++) {
+            maxChange = Math.max(maxChange, Math.abs(comparison[i] - previousComparison[i]));
+        }
+        return maxChange;
+    }
+}
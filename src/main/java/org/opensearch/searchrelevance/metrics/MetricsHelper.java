@@ -32,6 +32,7 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 
 import org.opensearch.action.StepListener;
@@ -50,6 +51,7 @@ import org.opensearch.searchrelevance.model.EvaluationResult;
 import org.opensearch.searchrelevance.model.ExperimentVariant;
 import org.opensearch.searchrelevance.model.SearchConfigurationDetails;
 import org.opensearch.searchrelevance.model.builder.SearchRequestBuilder;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
 import org.opensearch.searchrelevance.utils.TimeUtils;
 import org.opensearch.transport.client.Client;
 
@@ -65,19 +67,42 @@ public class MetricsHelper {
     private final JudgmentDao judgmentDao;
     private final EvaluationResultDao evaluationResultDao;
     private final ExperimentVariantDao experimentVariantDao;
+    private final BooleanSupplier idOnlySearch;
 
-    @Inject
     public MetricsHelper(
         @NonNull ClusterService clusterService,
         @NonNull Client client,
         @NonNull JudgmentDao judgmentDao,
         @NonNull EvaluationResultDao evaluationResultDao,
         @NonNull ExperimentVariantDao experimentVariantDao
+    ) {
+        this(client, judgmentDao, evaluationResultDao, experimentVariantDao, () -> true);
+    }
+
+    @Inject
+    public MetricsHelper(
+        @NonNull ClusterService clusterService,
+        @NonNull Client client,
+        @NonNull JudgmentDao judgmentDao,
+        @NonNull EvaluationResultDao evaluationResultDao,
+        @NonNull ExperimentVariantDao experimentVariantDao,
+        @NonNull SearchRelevanceSettingsAccessor settingsAccessor
+    ) {
+        this(client, judgmentDao, evaluationResultDao, experimentVariantDao, settingsAccessor::isIdOnlyExperimentSearchEnabled);
+    }
+
+    private MetricsHelper(
+        Client client,
+        JudgmentDao judgmentDao,
+        EvaluationResultDao evaluationResultDao,
+        ExperimentVariantDao experimentVariantDao,
+        BooleanSupplier idOnlySearch
     ) {
         this.client = client;
         this.judgmentDao = judgmentDao;
         this.evaluationResultDao = evaluationResultDao;
         this.experimentVariantDao = experimentVariantDao;
+        this.idOnlySearch = idOnlySearch;
     }
 
     /**
@@ -104,7 +129,8 @@ public class MetricsHelper {
                 configDetails.getQuery(),
                 queryText,
                 configDetails.getPipeline(),
-                size
+                size,
+                idOnlySearch.getAsBoolean()
             );
 
             client.search(searchRequest, new ActionListener<SearchResponse>() {
@@ -361,7 +387,7 @@ public class MetricsHelper {
         AtomicBoolean hasFailure,
         AtomicInteger pendingConfigurations
     ) {
-        SearchRequest searchRequest = buildSearchRequest(index, query, queryText, searchPipeline, size);
+        SearchRequest searchRequest = buildSearchRequest(index, query, queryText, searchPipeline, size, idOnlySearch.getAsBoolean());
         final String evaluationId = UUID.randomUUID().toString();
         log.debug(
             "Configuration {}: index: {}, query: {}, searchPipeline: {}, evaluationId: {}",
@@ -377,7 +403,7 @@ public class MetricsHelper {
                 if (hasFailure.get()) return;
 
                 try {
-                    if (response.getHits().getTotalHits().value() == 0) {
+                    if (response.getHits().getHits().length == 0) {
                         log.warn("No hits found for search config: {}", searchConfigurationId);
                         if (pendingConfigurations.decrementAndGet() == 0) {
                             listener.onResponse(configToEvalIds);
@@ -452,7 +478,8 @@ public class MetricsHelper {
                 query,
                 temporarySearchPipeline,
                 queryText,
-                size
+                size,
+                idOnlySearch.getAsBoolean()
             );
             final String evaluationId = UUID.randomUUID().toString();
             log.debug(
@@ -469,7 +496,7 @@ public class MetricsHelper {
                     if (hasFailure.get()) return;
 
                     try {
-                        if (response.getHits().getTotalHits().value() == 0) {
+                        if (response.getHits().getHits().length == 0) {
                             log.warn("No hits found for search config: {}", searchConfigurationId);
                             if (pendingConfigurations.decrementAndGet() == 0) {
                                 listener.onResponse(configToExperimentVariants);
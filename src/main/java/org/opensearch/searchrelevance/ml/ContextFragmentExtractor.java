@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.ml;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Cuts the context of a document down to a token budget by keeping the sentences that best match the query text,
+ * scored with BM25 over the sentences of the document itself, instead of blindly truncating its tail.
+ */
+public class ContextFragmentExtractor {
+    public static final String FRAGMENT_SEPARATOR = " ... ";
+
+    private static final String SENTENCE_BOUNDARY = "(?<=[.!?])\\s+|\\s*\\n\\s*|\",\\s*\"";
+    private static final String NON_WORD = "[^\\p{L}\\p{N}]+";
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private ContextFragmentExtractor() {
+
+    }
+
+    /**
+     * Keep the query-matching fragments of a context that exceeds the token budget, in their original order.
+     * @param queryText query text the fragments are scored against
+     * @param context context source of a document
+     * @param tokenBudget maximum tokens of the returned context, non-positive to keep the context as is
+     * @return the context itself if it fits the budget, its best fragments otherwise
+     */
+    public static String extractFragments(final String queryText, final String context, final int tokenBudget) {
+        if (context == null || tokenBudget <= 0 || TokenizerUtil.countTokens(context) <= tokenBudget) {
+            return context;
+        }
+        List<String> sentences = new ArrayList<>();
+        for (String sentence : context.split(SENTENCE_BOUNDARY)) {
+            if (!sentence.isBlank()) {
+                sentences.add(sentence.trim());
+            }
+        }
+        double[] scores = scoreSentences(queryText, sentences);
+
+        // best scoring sentences first, earlier sentences first on ties
+        List<Integer> ranked = IntStream.range(0, sentences.size())
+            .boxed()
+            .sorted(Comparator.<Integer>comparingDouble(i -> scores[i]).reversed().thenComparing(i -> i))
+            .collect(Collectors.toList());
+
+        int separatorTokens = TokenizerUtil.countTokens(FRAGMENT_SEPARATOR);
+        int usedTokens = 0;
+        boolean[] selected = new boolean[sentences.size()];
+        for (int i : ranked) {
+            int sentenceTokens = TokenizerUtil.countTokens(sentences.get(i)) + (usedTokens > 0 ? separatorTokens : 0);
+            if (usedTokens + sentenceTokens <= tokenBudget) {
+                selected[i] = true;
+                usedTokens += sentenceTokens;
+            }
+        }
+        if (usedTokens == 0) {
+            // not even the best sentence fits on its own
+            return TokenizerUtil.truncateString(sentences.isEmpty() ? context : sentences.get(ranked.get(0)), tokenBudget);
+        }
+        return IntStream.range(0, sentences.size())
+            .filter(i -> selected[i])
+            .mapToObj(sentences::get)
+            .collect(Collectors.joining(FRAGMENT_SEPARATOR));
+    }
+
+    private static double[] scoreSentences(String queryText, List<String> sentences) {
+        List<List<String>> sentenceTerms = sentences.stream().map(ContextFragmentExtractor::terms).collect(Collectors.toList());
+        Map<String, Integer> documentFrequencies = new HashMap<>();
+        for (List<String> terms : sentenceTerms) {
+            terms.stream().distinct().forEach(term -> documentFrequencies.merge(term, 1, Integer::sum));
+        }
+        double averageLength = sentenceTerms.stream().mapToInt(List::size).average().orElse(0);
+        List<String> queryTerms = queryText == null ? List.of() : terms(queryText).stream().distinct().collect(Collectors.toList());
+
+        double[] scores = new double[sentences.size()];
+        for (int i = 0; i < sentenceTerms.size(); i++) {
+            List<String> terms = sentenceTerms.get(i);
+            for (String queryTerm : queryTerms) {
+                long termFrequency = terms.stream().filter(queryTerm::equals).count();
+                if (termFrequency == 0) {
+                    continue;
+                }
+                int documentFrequency = documentFrequencies.get(queryTerm);
+                double idf = Math.log(1 + (sentences.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                double lengthNorm = averageLength > 0 ? terms.size() / averageLength : 1;
+                scores[i] += idf * termFrequency * (K1 + 1) / (termFrequency + K1 * (1 - B + B * lengthNorm));
+            }
+        }
+        return scores;
+    }
+
+    private static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String term : text.toLowerCase(Locale.ROOT).split(NON_WORD)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
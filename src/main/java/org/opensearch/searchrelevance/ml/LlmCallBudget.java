@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.ml;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Input token and call allowance of one LLM judgment job. Every model call, including retries, reserves its prompt
+ * tokens up front; once a reservation is refused the budget stays exhausted so the job winds down instead of
+ * sending smaller prompts that still happen to fit. A cancelled job refuses all further calls the same way.
+ */
+public class LlmCallBudget {
+    private final long maxInputTokens;
+    private final int maxCalls;
+    private final BooleanSupplier cancelled;
+
+    private long usedInputTokens = 0;
+    private int usedCalls = 0;
+    private volatile boolean exhausted = false;
+
+    /**
+     * @param maxInputTokens max prompt tokens sent by the job, 0 for no limit
+     * @param maxCalls max model calls made by the job, 0 for no limit
+     */
+    public LlmCallBudget(long maxInputTokens, int maxCalls) {
+        this(maxInputTokens, maxCalls, () -> false);
+    }
+
+    /**
+     * @param maxInputTokens max prompt tokens sent by the job, 0 for no limit
+     * @param maxCalls max model calls made by the job, 0 for no limit
+     * @param cancelled whether the job was cancelled, checked before every model call
+     */
+    public LlmCallBudget(long maxInputTokens, int maxCalls, BooleanSupplier cancelled) {
+        this.maxInputTokens = maxInputTokens;
+        this.maxCalls = maxCalls;
+        this.cancelled = cancelled;
+    }
+
+    public static LlmCallBudget unlimited() {
+        return new LlmCallBudget(0, 0);
+    }
+
+    /**
+     * A view of this budget for the calls of a single query text. It shares the allowance of the job and remembers
+     * whether the query text was cut short, i.e. one of its calls was refused or its remaining work skipped.
+     */
+    public LlmCallBudget forQueryText() {
+        return new QueryTextBudget(this);
+    }
+
+    /**
+     * Record that work of this query text was skipped because the budget is exhausted
+     */
+    public void markCutShort() {}
+
+    /**
+     * Whether the query text of this view was cut short by the budget, always false for the budget of a whole job
+     */
+    public boolean isCutShort() {
+        return false;
+    }
+
+    /**
+     * Reserve one model call sending the given number of prompt tokens.
+     * @return whether the call fits the remaining budget
+     */
+    public synchronized boolean tryAcquire(int inputTokens) {
+        if (exhausted
+            || cancelled.getAsBoolean()
+            || (maxCalls > 0 && usedCalls + 1 > maxCalls)
+            || (maxInputTokens > 0 && usedInputTokens + inputTokens > maxInputTokens)) {
+            exhausted = true;
+            return false;
+        }
+        usedCalls++;
+        usedInputTokens += inputTokens;
+        return true;
+    }
+
+    public boolean isExhausted() {
+        return exhausted || cancelled.getAsBoolean();
+    }
+
+    public boolean isCancelled() {
+        return cancelled.getAsBoolean();
+    }
+
+    public boolean isLimited() {
+        return maxInputTokens > 0 || maxCalls > 0;
+    }
+
+    public long getMaxInputTokens() {
+        return maxInputTokens;
+    }
+
+    public int getMaxCalls() {
+        return maxCalls;
+    }
+
+    public synchronized long getUsedInputTokens() {
+        return usedInputTokens;
+    }
+
+    public synchronized int getUsedCalls() {
+        return usedCalls;
+    }
+
+    private static final class QueryTextBudget extends LlmCallBudget {
+        private final LlmCallBudget jobBudget;
+        private volatile boolean cutShort = false;
+
+        private QueryTextBudget(LlmCallBudget jobBudget) {
+            super(jobBudget.maxInputTokens, jobBudget.maxCalls, jobBudget.cancelled);
+            this.jobBudget = jobBudget;
+        }
+
+        @Override
+        public boolean tryAcquire(int inputTokens) {
+            if (!jobBudget.tryAcquire(inputTokens)) {
+                cutShort = true;
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isExhausted() {
+            return jobBudget.isExhausted();
+        }
+
+        @Override
+        public LlmCallBudget forQueryText() {
+            return jobBudget.forQueryText();
+        }
+
+        @Override
+        public void markCutShort() {
+            cutShort = true;
+        }
+
+        @Override
+        public boolean isCutShort() {
+            return cutShort;
+        }
+
+        @Override
+        public long getUsedInputTokens() {
+            return jobBudget.getUsedInputTokens();
+        }
+
+        @Override
+        public int getUsedCalls() {
+            return jobBudget.getUsedCalls();
+        }
+    }
+}
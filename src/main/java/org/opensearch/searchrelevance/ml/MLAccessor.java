@@ -7,14 +7,29 @@
  */
 package org.opensearch.searchrelevance.ml;
 
+import static org.opensearch.searchrelevance.common.MLConstants.RESPONSE_ID_FIELD;
+import static org.opensearch.searchrelevance.common.MLConstants.RESPONSE_QUERY_INDEX_FIELD;
+import static org.opensearch.searchrelevance.common.MLConstants.RESPONSE_RATING_SCORE_FIELD;
+import static org.opensearch.searchrelevance.common.MLConstants.sanitizeLLMResponse;
+
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -26,6 +41,7 @@ public class MLAccessor {
     private final MachineLearningNodeClient mlClient;
     private final MLInputOutputTransformer transformer;
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final int MAX_RETRY_NUMBER = 3;
     private static final long RETRY_DELAY_MS = 1000;
 
@@ -41,6 +57,22 @@ public class MLAccessor {
         String reference,
         Map<String, String> hits,
         ActionListener<ChunkResult> progressListener
+    ) {
+        predict(modelId, tokenLimit, searchText, reference, hits, LlmCallBudget.unlimited(), progressListener);
+    }
+
+    /**
+     * Rate hits of a single query text, reserving every model call from the given budget. Chunks whose call does not
+     * fit the budget fail without reaching the model.
+     */
+    public void predict(
+        String modelId,
+        int tokenLimit,
+        String searchText,
+        String reference,
+        Map<String, String> hits,
+        LlmCallBudget budget,
+        ActionListener<ChunkResult> progressListener
     ) {
         List<MLInput> mlInputs = transformer.createMLInputs(tokenLimit, searchText, reference, hits);
         log.info("Number of chunks: {}", mlInputs.size());
@@ -48,12 +80,98 @@ public class MLAccessor {
         ChunkProcessingContext context = new ChunkProcessingContext(mlInputs.size(), progressListener);
 
         for (int i = 0; i < mlInputs.size(); i++) {
-            processChunk(modelId, mlInputs.get(i), i, context);
+            processChunk(modelId, mlInputs.get(i), i, budget, context);
+        }
+    }
+
+    /**
+     * Rate the hits of several query texts with as few LLM calls as possible by packing whole query groups into shared
+     * prompts, then demultiplex the returned rating array by query.
+     * @param groups query groups to rate
+     * @param listener receives, for every group index that was rated, the ratings keyed by hit identifier. Groups whose
+     *                 batch failed after all retries are absent so callers can fall back to per-query prediction.
+     */
+    public void predictBatch(
+        String modelId,
+        int tokenLimit,
+        List<QueryHitsGroup> groups,
+        ActionListener<Map<Integer, Map<String, Double>>> listener
+    ) {
+        predictBatch(modelId, tokenLimit, groups, LlmCallBudget.unlimited(), listener);
+    }
+
+    public void predictBatch(
+        String modelId,
+        int tokenLimit,
+        List<QueryHitsGroup> groups,
+        LlmCallBudget budget,
+        ActionListener<Map<Integer, Map<String, Double>>> listener
+    ) {
+        List<List<Integer>> batches = transformer.packQueryGroups(tokenLimit, groups);
+        log.info("Packed {} query groups into {} batched prompts", groups.size(), batches.size());
+        if (batches.isEmpty()) {
+            listener.onResponse(Map.of());
+            return;
+        }
+
+        Map<Integer, Map<String, Double>> ratingsByGroup = new ConcurrentHashMap<>();
+        AtomicInteger pendingBatches = new AtomicInteger(batches.size());
+        for (int batchIndex = 0; batchIndex < batches.size(); batchIndex++) {
+            List<Integer> groupIndices = batches.get(batchIndex);
+            List<QueryHitsGroup> batchGroups = groupIndices.stream().map(groups::get).collect(Collectors.toList());
+            MLInput mlInput = transformer.createBatchMLInput(batchGroups);
+            final int currentBatch = batchIndex;
+
+            predictSingleChunkWithRetry(modelId, mlInput, batchIndex, 0, budget, ActionListener.wrap(response -> {
+                try {
+                    ratingsByGroup.putAll(demultiplexBatchResponse(cleanResponse(response), groupIndices, batchGroups));
+                } catch (Exception e) {
+                    log.warn("Failed to parse response of batch {}", currentBatch, e);
+                }
+                if (pendingBatches.decrementAndGet() == 0) {
+                    listener.onResponse(ratingsByGroup);
+                }
+            }, e -> {
+                log.error("Batch {} failed after all retries", currentBatch, e);
+                if (pendingBatches.decrementAndGet() == 0) {
+                    listener.onResponse(ratingsByGroup);
+                }
+            }));
         }
     }
 
-    private void processChunk(String modelId, MLInput mlInput, int chunkIndex, ChunkProcessingContext context) {
-        predictSingleChunkWithRetry(modelId, mlInput, chunkIndex, 0, ActionListener.wrap(response -> {
+    private Map<Integer, Map<String, Double>> demultiplexBatchResponse(
+        String response,
+        List<Integer> groupIndices,
+        List<QueryHitsGroup> batchGroups
+    ) throws IOException {
+        List<Map<String, Object>> ratings = OBJECT_MAPPER.readValue(
+            sanitizeLLMResponse(response),
+            new TypeReference<List<Map<String, Object>>>() {
+            }
+        );
+        Map<Integer, Map<String, Double>> ratingsByGroup = new HashMap<>();
+        for (Map<String, Object> rating : ratings) {
+            Object queryIndexObj = rating.get(RESPONSE_QUERY_INDEX_FIELD);
+            String id = (String) rating.get(RESPONSE_ID_FIELD);
+            Object score = rating.get(RESPONSE_RATING_SCORE_FIELD);
+            if (!(queryIndexObj instanceof Number) || id == null || !(score instanceof Number)) {
+                log.debug("Skipping malformed batched rating: {}", rating);
+                continue;
+            }
+            int localIndex = ((Number) queryIndexObj).intValue();
+            if (localIndex < 0 || localIndex >= batchGroups.size() || !batchGroups.get(localIndex).getHits().containsKey(id)) {
+                log.debug("Skipping batched rating for unknown query index or hit: {}", rating);
+                continue;
+            }
+            ratingsByGroup.computeIfAbsent(groupIndices.get(localIndex), k -> new HashMap<>())
+                .put(id, ((Number) score).doubleValue());
+        }
+        return ratingsByGroup;
+    }
+
+    private void processChunk(String modelId, MLInput mlInput, int chunkIndex, LlmCallBudget budget, ChunkProcessingContext context) {
+        predictSingleChunkWithRetry(modelId, mlInput, chunkIndex, 0, budget, ActionListener.wrap(response -> {
             log.info("Chunk {} processed successfully", chunkIndex);
             String processedResponse = cleanResponse(response);
             context.handleSuccess(chunkIndex, processedResponse);
@@ -72,8 +190,14 @@ public class MLAccessor {
         MLInput mlInput,
         int chunkIndex,
         int retryCount,
+        LlmCallBudget budget,
         ActionListener<String> chunkListener
     ) {
+        if (!budget.tryAcquire(transformer.countInputTokens(mlInput))) {
+            log.warn("Chunk {} skipped, LLM call budget exhausted", chunkIndex);
+            chunkListener.onFailure(new SearchRelevanceException("LLM call budget exhausted", RestStatus.TOO_MANY_REQUESTS));
+            return;
+        }
         predictSingleChunk(modelId, mlInput, new ActionListener<String>() {
             @Override
             public void onResponse(String response) {
@@ -86,7 +210,10 @@ public class MLAccessor {
                     log.warn("Chunk {} failed, attempt {}/{}. Retrying...", chunkIndex, retryCount + 1, MAX_RETRY_NUMBER);
 
                     long delay = RETRY_DELAY_MS * (long) Math.pow(2, retryCount);
-                    scheduleRetry(() -> predictSingleChunkWithRetry(modelId, mlInput, chunkIndex, retryCount + 1, chunkListener), delay);
+                    scheduleRetry(
+                        () -> predictSingleChunkWithRetry(modelId, mlInput, chunkIndex, retryCount + 1, budget, chunkListener),
+                        delay
+                    );
                 } else {
                     chunkListener.onFailure(e);
                 }
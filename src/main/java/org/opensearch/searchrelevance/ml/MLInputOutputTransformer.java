@@ -7,11 +7,14 @@
  */
 package org.opensearch.searchrelevance.ml;
 
+import static org.opensearch.searchrelevance.common.MLConstants.INPUT_FORMAT_BATCH_QUERY;
+import static org.opensearch.searchrelevance.common.MLConstants.INPUT_FORMAT_BATCH_QUERY_WITH_REFERENCE;
 import static org.opensearch.searchrelevance.common.MLConstants.INPUT_FORMAT_SEARCH;
 import static org.opensearch.searchrelevance.common.MLConstants.INPUT_FORMAT_SEARCH_WITH_REFERENCE;
 import static org.opensearch.searchrelevance.common.MLConstants.PARAM_MESSAGES_FIELD;
 import static org.opensearch.searchrelevance.common.MLConstants.PROMPT_JSON_MESSAGES_SHELL;
 import static org.opensearch.searchrelevance.common.MLConstants.PROMPT_SEARCH_RELEVANCE;
+import static org.opensearch.searchrelevance.common.MLConstants.PROMPT_SEARCH_RELEVANCE_BATCH;
 import static org.opensearch.searchrelevance.common.MLConstants.RESPONSE_CHOICES_FIELD;
 import static org.opensearch.searchrelevance.common.MLConstants.RESPONSE_CONTENT_FIELD;
 import static org.opensearch.searchrelevance.common.MLConstants.RESPONSE_MESSAGE_FIELD;
@@ -95,6 +98,101 @@ public class MLInputOutputTransformer {
         return MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(new RemoteInferenceInputDataSet(parameters)).build();
     }
 
+    /**
+     * Number of prompt tokens an ML input sends to the model.
+     */
+    public int countInputTokens(MLInput mlInput) {
+        RemoteInferenceInputDataSet dataSet = (RemoteInferenceInputDataSet) mlInput.getInputDataset();
+        return TokenizerUtil.countTokens(dataSet.getParameters().get(PARAM_MESSAGES_FIELD));
+    }
+
+    /**
+     * Pack the hits of several query texts into batches so that each batch fits into a single prompt of the token limit.
+     * A group is never split across batches; a group that does not fit on its own is placed alone in its batch.
+     * @return batches of indices into the given groups
+     */
+    public List<List<Integer>> packQueryGroups(int tokenLimit, List<QueryHitsGroup> groups) {
+        List<List<Integer>> batches = new ArrayList<>();
+        int promptOverhead = TokenizerUtil.countTokens(formatBatchMessages(List.of()));
+        List<Integer> currentBatch = new ArrayList<>();
+        int currentTokens = promptOverhead;
+
+        for (int i = 0; i < groups.size(); i++) {
+            int groupTokens = countGroupTokens(i, groups.get(i));
+            if (!currentBatch.isEmpty() && currentTokens + groupTokens > tokenLimit) {
+                batches.add(currentBatch);
+                currentBatch = new ArrayList<>();
+                currentTokens = promptOverhead;
+            }
+            if (currentBatch.isEmpty() && promptOverhead + groupTokens > tokenLimit) {
+                log.warn("Query group {} exceeds token limit of {} on its own", i, tokenLimit);
+            }
+            currentBatch.add(i);
+            currentTokens += groupTokens;
+        }
+
+        if (!currentBatch.isEmpty()) {
+            batches.add(currentBatch);
+        }
+        return batches;
+    }
+
+    /**
+     * Estimated number of tokens a query group adds to a batched prompt.
+     */
+    public int countGroupTokens(int queryIndex, QueryHitsGroup group) {
+        try {
+            return TokenizerUtil.countTokens(escapeJson(buildBatchGroupContent(queryIndex, group)));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to process hits", e);
+        }
+    }
+
+    /**
+     * Create a single ML input rating the hits of every given query group. Groups are numbered by their position in the list.
+     */
+    public MLInput createBatchMLInput(List<QueryHitsGroup> groups) {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put(PARAM_MESSAGES_FIELD, formatBatchMessages(groups));
+        return MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(new RemoteInferenceInputDataSet(parameters)).build();
+    }
+
+    public String formatBatchMessages(List<QueryHitsGroup> groups) {
+        try {
+            StringBuilder userContent = new StringBuilder();
+            for (int i = 0; i < groups.size(); i++) {
+                if (i > 0) {
+                    userContent.append('\n');
+                }
+                userContent.append(buildBatchGroupContent(i, groups.get(i)));
+            }
+            return String.format(
+                Locale.ROOT,
+                PROMPT_JSON_MESSAGES_SHELL,
+                PROMPT_SEARCH_RELEVANCE_BATCH,
+                escapeJson(userContent.toString())
+            );
+        } catch (IOException e) {
+            log.error("Error converting hits to JSON string", e);
+            throw new IllegalArgumentException("Failed to process hits", e);
+        }
+    }
+
+    private String buildBatchGroupContent(int queryIndex, QueryHitsGroup group) throws IOException {
+        String hitsJson = buildHitsJson(group.getHits());
+        if (Objects.isNull(group.getReference()) || group.getReference().isEmpty()) {
+            return String.format(Locale.ROOT, INPUT_FORMAT_BATCH_QUERY, queryIndex, group.getSearchText(), hitsJson);
+        }
+        return String.format(
+            Locale.ROOT,
+            INPUT_FORMAT_BATCH_QUERY_WITH_REFERENCE,
+            queryIndex,
+            group.getSearchText(),
+            group.getReference(),
+            hitsJson
+        );
+    }
+
     public String formatMessages(String searchText, String reference, Map<String, String> hits) {
         try {
             String hitsJson = buildHitsJson(hits);
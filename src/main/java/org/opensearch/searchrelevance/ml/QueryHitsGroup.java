@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.ml;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The hits of a single query text to be rated as part of a batched LLM prompt.
+ */
+@Getter
+@AllArgsConstructor
+public class QueryHitsGroup {
+    private final String searchText;
+    private final String reference;
+    /**
+     * Hit identifiers (index::docId) to their context source
+     */
+    private final Map<String, String> hits;
+}
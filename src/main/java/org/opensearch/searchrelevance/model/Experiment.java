@@ -17,7 +17,8 @@ import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 /**
- * Experiment is a system index object that store experiment results.
+ * Experiment is a system index object that stores the status and summary of an experiment, the results of its query
+ * texts are stored separately as {@link ExperimentResult} documents.
  */
 public class Experiment implements ToXContentObject {
     public static final String ID = "id";
@@ -29,6 +30,7 @@ public class Experiment implements ToXContentObject {
     public static final String JUDGMENT_LIST = "judgmentList";
     public static final String SIZE = "size";
     public static final String RESULTS = "results";
+    public static final String METADATA = "metadata";
     private static final int DEFAULTED_SIZE = 10;
 
     /**
@@ -43,6 +45,10 @@ public class Experiment implements ToXContentObject {
     private final List<String> judgmentList;
     private final int size;
     private final List<Map<String, Object>> results;
+    /**
+     * Options of the run needed to resume it, and the node coordinating it
+     */
+    private final Map<String, Object> metadata;
 
     public Experiment(
         String id,
@@ -54,6 +60,21 @@ public class Experiment implements ToXContentObject {
         List<String> judgmentList,
         int size,
         List<Map<String, Object>> results
+    ) {
+        this(id, timestamp, type, status, querySetId, searchConfigurationList, judgmentList, size, results, Map.of());
+    }
+
+    public Experiment(
+        String id,
+        String timestamp,
+        ExperimentType type,
+        AsyncStatus status,
+        String querySetId,
+        List<String> searchConfigurationList,
+        List<String> judgmentList,
+        int size,
+        List<Map<String, Object>> results,
+        Map<String, Object> metadata
     ) {
         this.id = id;
         this.timestamp = timestamp;
@@ -64,6 +85,26 @@ public class Experiment implements ToXContentObject {
         this.judgmentList = judgmentList;
         this.size = size;
         this.results = results;
+        this.metadata = metadata;
+    }
+
+    /**
+     * Experiment stored in the experiment index
+     * @param source source of the experiment document
+     */
+    public static Experiment fromSource(Map<String, Object> source) {
+        return new Experiment(
+            (String) source.get(ID),
+            (String) source.get(TIME_STAMP),
+            ExperimentType.valueOf((String) source.get(TYPE)),
+            AsyncStatus.valueOf((String) source.get(STATUS)),
+            (String) source.get(QUERY_SET_ID),
+            (List<String>) source.get(SEARCH_CONFIGURATION_LIST),
+            (List<String>) source.get(JUDGMENT_LIST),
+            Optional.ofNullable((Number) source.get(SIZE)).map(Number::intValue).orElse(DEFAULTED_SIZE),
+            (List<Map<String, Object>>) source.getOrDefault(RESULTS, new ArrayList<>()),
+            (Map<String, Object>) source.getOrDefault(METADATA, Map.of())
+        );
     }
 
     @Override
@@ -81,6 +122,7 @@ public class Experiment implements ToXContentObject {
         xContentBuilder.field(JUDGMENT_LIST, this.judgmentList == null ? new ArrayList<>() : this.judgmentList);
         xContentBuilder.field(SIZE, Optional.of(this.size).orElse(DEFAULTED_SIZE));
         xContentBuilder.field(RESULTS, this.results);
+        xContentBuilder.field(METADATA, this.metadata == null ? Map.of() : this.metadata);
         return xContentBuilder.endObject();
     }
 
@@ -120,4 +162,8 @@ public class Experiment implements ToXContentObject {
         return results;
     }
 
+    public Map<String, Object> metadata() {
+        return metadata;
+    }
+
 }
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * ExperimentResult is a system index object that stores the results of one query text of an experiment, so that the
+ * experiment document itself only keeps its status and summary.
+ */
+@AllArgsConstructor
+@Builder
+@Getter
+public class ExperimentResult implements ToXContentObject {
+    public static final String ID = "id";
+    public static final String TIME_STAMP = "timestamp";
+    public static final String EXPERIMENT_ID = "experimentId";
+    public static final String QUERY_TEXT = "queryText";
+    public static final String RESULTS = "results";
+
+    /**
+     * Identifier of the system index
+     */
+    private final String id;
+    private final String timestamp;
+    private final String experimentId;
+    private final String queryText;
+    private final List<Map<String, Object>> results;
+
+    /**
+     * Identifier of the results of a query text of an experiment, the same for every run of the experiment
+     */
+    public static String idOf(String experimentId, String queryText) {
+        return UUID.nameUUIDFromBytes((experimentId + "\u0000" + queryText).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        XContentBuilder xContentBuilder = builder.startObject();
+        xContentBuilder.field(ID, this.id.trim());
+        xContentBuilder.field(TIME_STAMP, this.timestamp.trim());
+        xContentBuilder.field(EXPERIMENT_ID, this.experimentId.trim());
+        xContentBuilder.field(QUERY_TEXT, this.queryText);
+        xContentBuilder.field(RESULTS, this.results);
+        return xContentBuilder.endObject();
+    }
+}
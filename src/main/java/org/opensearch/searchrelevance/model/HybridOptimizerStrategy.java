@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model;
+
+/**
+ * How a hybrid optimizer experiment searches the space of normalization, combination and weights.
+ */
+public enum HybridOptimizerStrategy {
+    /**
+     * Evaluate every combination of the parameter grid on every query
+     */
+    GRID,
+    /**
+     * Evaluate all combinations on a few queries and promote the best ones to more queries, within a search budget
+     */
+    SUCCESSIVE_HALVING,
+    /**
+     * Sample configurations with continuous weights from a tree-structured Parzen estimator, within a search budget
+     */
+    TPE,
+    /**
+     * Descend on a simplex lattice of the weights from a few probe weightings, pruning dominated technique pairs, within a
+     * search budget. The default for hybrid queries with more than two sub-queries, whose full grid is too large
+     */
+    COORDINATE_DESCENT
+}
@@ -23,6 +23,8 @@ public class JudgmentCache implements ToXContentObject {
     public static final String TIME_STAMP = "timestamp";
     public static final String RATING = "rating";
     public static final String MODEL_ID = "modelId";
+    public static final String RATED_DOCUMENT_ID = "ratedDocumentId";
+    public static final String CONTENT_HASH = "contentHash";
 
     /**
      * Identifier of the system index
@@ -34,6 +36,14 @@ public class JudgmentCache implements ToXContentObject {
     private String contextFieldsStr;
     private String rating;
     private String modelId;
+    /**
+     * Document whose LLM rating was copied to this near-duplicate document, null if the document was rated itself
+     */
+    private String ratedDocumentId;
+    /**
+     * Hash of the context field content that was rated, null for entries written before content hashing
+     */
+    private String contentHash;
 
     public JudgmentCache(
         String id,
@@ -43,6 +53,20 @@ public class JudgmentCache implements ToXContentObject {
         List<String> contextFields,
         String rating,
         String modelId
+    ) {
+        this(id, timestamp, queryText, documentId, contextFields, rating, modelId, null, null);
+    }
+
+    public JudgmentCache(
+        String id,
+        String timestamp,
+        String queryText,
+        String documentId,
+        List<String> contextFields,
+        String rating,
+        String modelId,
+        String ratedDocumentId,
+        String contentHash
     ) {
         this.id = id;
         this.timestamp = timestamp;
@@ -51,6 +75,8 @@ public class JudgmentCache implements ToXContentObject {
         this.contextFieldsStr = convertListToSortedStr(contextFields);
         this.rating = rating;
         this.modelId = modelId;
+        this.ratedDocumentId = ratedDocumentId;
+        this.contentHash = contentHash;
     }
 
     @Override
@@ -63,6 +89,12 @@ public class JudgmentCache implements ToXContentObject {
         xContentBuilder.field(CONTEXT_FIELDS_STR, this.contextFieldsStr);
         xContentBuilder.field(RATING, this.rating.trim());
         xContentBuilder.field(MODEL_ID, this.modelId.trim());
+        if (this.ratedDocumentId != null) {
+            xContentBuilder.field(RATED_DOCUMENT_ID, this.ratedDocumentId.trim());
+        }
+        if (this.contentHash != null) {
+            xContentBuilder.field(CONTENT_HASH, this.contentHash);
+        }
         return xContentBuilder.endObject();
     }
 
@@ -89,4 +121,12 @@ public class JudgmentCache implements ToXContentObject {
     public String score() {
         return rating;
     }
+
+    public String ratedDocumentId() {
+        return ratedDocumentId;
+    }
+
+    public String contentHash() {
+        return contentHash;
+    }
 }
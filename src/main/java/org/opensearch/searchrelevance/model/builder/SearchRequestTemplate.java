@@ -0,0 +1,350 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model.builder;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.WILDCARD_QUERY_TEXT;
+import static org.opensearch.searchrelevance.experiment.QuerySourceUtil.validateHybridQuery;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Query of a search configuration compiled once for all the query texts it runs with. The query is parsed a single
+ * time, with its {@code %SearchText%} placeholders still in place: the query body, and every sub-query of a hybrid
+ * query, is kept as JSON split around its placeholder slots, and the rest of the search source is parsed into a
+ * {@link SearchSourceBuilder}. Building a request then only fills the slots with the escaped query text and copies
+ * the parsed search source.
+ * <p>
+ * When a placeholder is also used outside the query body, e.g. in a rescore query, the rest of the search source is
+ * filled and parsed for every query text instead.
+ */
+@Log4j2
+public class SearchRequestTemplate {
+
+    private static final NamedXContentRegistry NAMED_CONTENT_REGISTRY;
+    private static final String QUERY_FIELD_NAME = "query";
+    private static final String SIZE_FIELD_NAME = "size";
+    private static final String HYBRID_FIELD_NAME = "hybrid";
+    private static final String SUB_QUERIES_FIELD_NAME = "queries";
+    private static final String FILTER_FIELD_NAME = "filter";
+    private static final long MAX_CACHED_TEMPLATES = 1_000;
+    private static final TimeValue TEMPLATE_EXPIRE_TIME = TimeValue.timeValueHours(1);
+
+    // Compiled queries of search configurations, keyed by the query and shared by every caller on this node
+    private static final Cache<String, SearchRequestTemplate> TEMPLATES = CacheBuilder.<String, SearchRequestTemplate>builder()
+        .setMaximumWeight(MAX_CACHED_TEMPLATES)
+        .setExpireAfterAccess(TEMPLATE_EXPIRE_TIME)
+        .build();
+
+    static {
+        SearchModule searchModule = new SearchModule(Settings.EMPTY, Collections.emptyList());
+        NAMED_CONTENT_REGISTRY = new NamedXContentRegistry(searchModule.getNamedXContents());
+    }
+
+    private final SlottedJson queryBody;
+    private final SearchSourceBuilder source;
+    private final SlottedJson sourceWithSlots;
+    private final Integer querySize;
+    private final List<SlottedJson> hybridSubQueries;
+    private final String hybridQueryError;
+
+    private SearchRequestTemplate(
+        SlottedJson queryBody,
+        SearchSourceBuilder source,
+        SlottedJson sourceWithSlots,
+        Integer querySize,
+        List<SlottedJson> hybridSubQueries,
+        String hybridQueryError
+    ) {
+        this.queryBody = queryBody;
+        this.source = source;
+        this.sourceWithSlots = sourceWithSlots;
+        this.querySize = querySize;
+        this.hybridSubQueries = hybridSubQueries;
+        this.hybridQueryError = hybridQueryError;
+    }
+
+    /**
+     * Compiled query of a search configuration, compiled on its first use and reused until it expires from the cache.
+     * @param query - DSL query that includes queryBody and optional extra fields, like pipeline, aggregation, exclude ...
+     * @return template to build the search requests of every query text from
+     * @throws IllegalArgumentException if the query is not valid JSON
+     */
+    public static SearchRequestTemplate forQuery(String query) {
+        try {
+            return TEMPLATES.computeIfAbsent(query, SearchRequestTemplate::compile);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause
+                ? cause
+                : new IllegalArgumentException("Failed to compile query of search configuration", e.getCause());
+        }
+    }
+
+    /**
+     * Compile the query of a search configuration.
+     * @param query - DSL query that includes queryBody and optional extra fields, like pipeline, aggregation, exclude ...
+     * @return template to build the search requests of every query text from
+     * @throws IllegalArgumentException if the query is not valid JSON
+     */
+    public static SearchRequestTemplate compile(String query) {
+        try {
+            Map<String, Object> fullQueryMap;
+            try (
+                XContentParser parser = JsonXContent.jsonXContent.createParser(
+                    NamedXContentRegistry.EMPTY,
+                    DeprecationHandler.IGNORE_DEPRECATIONS,
+                    query
+                )
+            ) {
+                fullQueryMap = parser.map();
+            }
+
+            // sub-queries are only needed to retrieve the scores of a hybrid query one sub-query at a time
+            List<SlottedJson> hybridSubQueries = null;
+            String hybridQueryError = null;
+            try {
+                validateHybridQuery(fullQueryMap);
+                hybridSubQueries = compileHybridSubQueries((Map<String, Object>) fullQueryMap.get(QUERY_FIELD_NAME));
+            } catch (IllegalArgumentException e) {
+                hybridQueryError = e.getMessage();
+            }
+
+            // This implementation handles the 'query' field separately from other fields because:
+            // 1. Custom query types (like hybrid, neural) are not registered in the default QueryBuilders
+            // 2. Using WrapperQuery allows passing through any query structure without parsing
+            // 3. All other fields (aggregations, source filtering, etc.) can be parsed normally by SearchSourceBuilder
+            Object queryObject = fullQueryMap.remove(QUERY_FIELD_NAME);
+            SlottedJson queryBody = queryObject == null ? null : SlottedJson.of(queryObject);
+            Integer querySize = fullQueryMap.get(SIZE_FIELD_NAME) instanceof Number number ? number.intValue() : null;
+
+            SlottedJson sourceWithSlots = SlottedJson.of(fullQueryMap);
+            SearchSourceBuilder source = sourceWithSlots.hasSlots() ? null : parseSource(sourceWithSlots.fill(null));
+            return new SearchRequestTemplate(
+                queryBody,
+                source,
+                sourceWithSlots.hasSlots() ? sourceWithSlots : null,
+                querySize,
+                hybridSubQueries,
+                hybridQueryError
+            );
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Failed to build search request", ex);
+        }
+    }
+
+    /**
+     * Builds a search request for a query text.
+     * @param index - target index to be searched against
+     * @param queryText - queryText need to be replaced with placeholder
+     * @param searchPipeline - searchPipeline if it is provided
+     * @param size - number of returned hits from the search
+     * @param idOnly - only retrieve the ids of the hits, see {@link SearchRequestBuilder#applyIdOnlyFetch(SearchSourceBuilder)}
+     * @return SearchRequest
+     */
+    public SearchRequest buildSearchRequest(String index, String queryText, String searchPipeline, int size, boolean idOnly) {
+        SearchSourceBuilder sourceBuilder = sourceFor(queryText);
+        if (queryBody != null) {
+            sourceBuilder.query(QueryBuilders.wrapperQuery(queryBody.fill(queryText)));
+        }
+        setSize(sourceBuilder, size);
+        if (idOnly) {
+            SearchRequestBuilder.applyIdOnlyFetch(sourceBuilder);
+        }
+
+        SearchRequest searchRequest = new SearchRequest(index);
+        // Set search pipeline if provided
+        if (searchPipeline != null && !searchPipeline.isEmpty()) {
+            searchRequest.pipeline(searchPipeline);
+        }
+        searchRequest.source(sourceBuilder);
+        return searchRequest;
+    }
+
+    /**
+     * Builds a hybrid search request for a query text that runs with a temporary search pipeline.
+     * @param index - target index to be searched against
+     * @param temporarySearchPipeline - definition of the temporary search pipeline, empty for none
+     * @param queryText - queryText need to be replaced with placeholder
+     * @param size - number of returned hits from the search
+     * @param idOnly - only retrieve the ids of the hits, see {@link SearchRequestBuilder#applyIdOnlyFetch(SearchSourceBuilder)}
+     * @return SearchRequest
+     * @throws IllegalArgumentException if the query is not a valid hybrid query or has a temporary search pipeline
+     */
+    public SearchRequest buildRequestForHybridSearch(
+        String index,
+        Map<String, Object> temporarySearchPipeline,
+        String queryText,
+        int size,
+        boolean idOnly
+    ) {
+        requireHybridQuery();
+        SearchSourceBuilder sourceBuilder = sourceFor(queryText);
+        requireNoTemporarySearchPipeline(sourceBuilder);
+        if (temporarySearchPipeline.isEmpty() == false) {
+            sourceBuilder.searchPipelineSource(temporarySearchPipeline);
+        } else {
+            log.debug("no temporary search pipeline");
+        }
+        sourceBuilder.query(QueryBuilders.wrapperQuery(queryBody.fill(queryText)));
+        setSize(sourceBuilder, size);
+        if (idOnly) {
+            SearchRequestBuilder.applyIdOnlyFetch(sourceBuilder);
+        }
+
+        SearchRequest searchRequest = new SearchRequest(index);
+        searchRequest.source(sourceBuilder);
+        return searchRequest;
+    }
+
+    /**
+     * Builds one search request per sub-query of the hybrid query for a query text, see
+     * {@link SearchRequestBuilder#buildRequestsForHybridSubQueries(String, String, String, int)}.
+     * @param index - target index to be searched against
+     * @param queryText - queryText need to be replaced with placeholder
+     * @param size - number of candidates retrieved for each sub-query
+     * @return search requests in the order of the sub-queries
+     * @throws IllegalArgumentException if the query is not a valid hybrid query or has a temporary search pipeline
+     */
+    public List<SearchRequest> buildRequestsForHybridSubQueries(String index, String queryText, int size) {
+        requireHybridQuery();
+        List<SearchRequest> searchRequests = new ArrayList<>(hybridSubQueries.size());
+        for (SlottedJson subQuery : hybridSubQueries) {
+            SearchSourceBuilder sourceBuilder = sourceFor(queryText);
+            requireNoTemporarySearchPipeline(sourceBuilder);
+            sourceBuilder.query(QueryBuilders.wrapperQuery(subQuery.fill(queryText)));
+            // only ids and scores are needed to recombine the results
+            SearchRequestBuilder.applyIdOnlyFetch(sourceBuilder);
+            sourceBuilder.size(size);
+
+            SearchRequest searchRequest = new SearchRequest(index);
+            searchRequest.source(sourceBuilder);
+            searchRequests.add(searchRequest);
+        }
+        return searchRequests;
+    }
+
+    /**
+     * Search source of a request without its query, a copy of the one parsed at compile time unless it has slots
+     */
+    private SearchSourceBuilder sourceFor(String queryText) {
+        if (sourceWithSlots == null) {
+            return source.shallowCopy();
+        }
+        try {
+            return parseSource(sourceWithSlots.fill(queryText));
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Failed to build search request", ex);
+        }
+    }
+
+    private void setSize(SearchSourceBuilder sourceBuilder, int size) {
+        // Precheck if query contains a different size value
+        if (querySize != null && querySize != size) {
+            log.debug(
+                "Size mismatch detected. Query size: {}, Search Configuration Input size: {}. Using Search Configuration Input size.",
+                querySize,
+                size
+            );
+        }
+        sourceBuilder.size(size);
+    }
+
+    private void requireHybridQuery() {
+        if (hybridSubQueries == null) {
+            throw new IllegalArgumentException(hybridQueryError);
+        }
+    }
+
+    private static void requireNoTemporarySearchPipeline(SearchSourceBuilder sourceBuilder) {
+        // validate that query does not have internal temporary pipeline definition
+        if (Objects.nonNull(sourceBuilder.searchPipelineSource()) && !sourceBuilder.searchPipelineSource().isEmpty()) {
+            log.error("query in search configuration does have temporary search pipeline in its source");
+            throw new IllegalArgumentException("search pipeline is not allowed in search request");
+        }
+    }
+
+    private static List<SlottedJson> compileHybridSubQueries(Map<String, Object> queryMap) throws IOException {
+        Map<String, Object> hybridMap = (Map<String, Object>) queryMap.get(HYBRID_FIELD_NAME);
+        List<Object> subQueries = (List<Object>) hybridMap.get(SUB_QUERIES_FIELD_NAME);
+        Object filter = hybridMap.get(FILTER_FIELD_NAME);
+        // a filter of the hybrid query is applied to every sub-query as a non-scoring clause
+        List<SlottedJson> compiledSubQueries = new ArrayList<>(subQueries.size());
+        for (Object subQuery : subQueries) {
+            Object scoredQuery = filter == null
+                ? subQuery
+                : Map.of("bool", Map.of("must", List.of(subQuery), FILTER_FIELD_NAME, List.of(filter)));
+            compiledSubQueries.add(SlottedJson.of(scoredQuery));
+        }
+        return List.copyOf(compiledSubQueries);
+    }
+
+    private static SearchSourceBuilder parseSource(String sourceJson) throws IOException {
+        try (
+            XContentParser parser = JsonXContent.jsonXContent.createParser(
+                NAMED_CONTENT_REGISTRY,
+                DeprecationHandler.IGNORE_DEPRECATIONS,
+                sourceJson
+            )
+        ) {
+            return SearchSourceBuilder.fromXContent(parser);
+        }
+    }
+
+    /**
+     * JSON split around its placeholder slots. Placeholders can only appear within JSON strings, so a slot is filled
+     * with the query text escaped as JSON string content.
+     */
+    private record SlottedJson(String[] segments) {
+
+        private static SlottedJson of(Object value) throws IOException {
+            XContentBuilder builder = JsonXContent.contentBuilder();
+            builder.value(value);
+            return new SlottedJson(builder.toString().split(Pattern.quote(WILDCARD_QUERY_TEXT), -1));
+        }
+
+        private boolean hasSlots() {
+            return segments.length > 1;
+        }
+
+        private String fill(String queryText) {
+            if (hasSlots() == false) {
+                return segments[0];
+            }
+            char[] escapedQueryText = JsonStringEncoder.getInstance().quoteAsString(queryText);
+            StringBuilder json = new StringBuilder(segments[0]);
+            for (int i = 1; i < segments.length; i++) {
+                json.append(escapedQueryText).append(segments[i]);
+            }
+            return json.toString();
+        }
+    }
+}
@@ -9,6 +9,12 @@ package org.opensearch.searchrelevance.plugin;
 
 import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_CACHE_INDEX;
+import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_CIRCUIT_BREAKER_NAME;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_HYBRID_LOCAL_RECOMBINATION_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_ID_ONLY_SEARCH_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_MAX_CONCURRENT_SEARCHES;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_MAX_IN_FLIGHT_QUERIES;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_JUDGMENT_BREAKER_LIMIT;
 import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT;
 import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_STATS_ENABLED;
 import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_WORKBENCH_ENABLED;
@@ -27,13 +33,17 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
 import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.indices.SystemIndexDescriptor;
+import org.opensearch.indices.breaker.BreakerSettings;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.plugins.ActionPlugin;
+import org.opensearch.plugins.CircuitBreakerPlugin;
 import org.opensearch.plugins.ClusterPlugin;
 import org.opensearch.plugins.ExtensiblePlugin;
 import org.opensearch.plugins.Plugin;
@@ -43,6 +53,7 @@ import org.opensearch.rest.RestController;
 import org.opensearch.rest.RestHandler;
 import org.opensearch.script.ScriptService;
 import org.opensearch.searchrelevance.dao.EvaluationResultDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
 import org.opensearch.searchrelevance.dao.ExperimentDao;
 import org.opensearch.searchrelevance.dao.ExperimentVariantDao;
 import org.opensearch.searchrelevance.dao.JudgmentCacheDao;
@@ -50,7 +61,9 @@ import org.opensearch.searchrelevance.dao.JudgmentDao;
 import org.opensearch.searchrelevance.dao.QuerySetDao;
 import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
 import org.opensearch.searchrelevance.executors.ExperimentTaskManager;
+import org.opensearch.searchrelevance.executors.LlmJudgmentTaskManager;
 import org.opensearch.searchrelevance.executors.SearchRelevanceExecutor;
+import org.opensearch.searchrelevance.experiment.JudgmentRatingIndexCache;
 import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
 import org.opensearch.searchrelevance.metrics.MetricsHelper;
 import org.opensearch.searchrelevance.ml.MLAccessor;
@@ -60,6 +73,7 @@ import org.opensearch.searchrelevance.rest.RestDeleteJudgmentAction;
 import org.opensearch.searchrelevance.rest.RestDeleteQuerySetAction;
 import org.opensearch.searchrelevance.rest.RestDeleteSearchConfigurationAction;
 import org.opensearch.searchrelevance.rest.RestGetExperimentAction;
+import org.opensearch.searchrelevance.rest.RestGetExperimentResultsAction;
 import org.opensearch.searchrelevance.rest.RestGetJudgmentAction;
 import org.opensearch.searchrelevance.rest.RestGetQuerySetAction;
 import org.opensearch.searchrelevance.rest.RestGetSearchConfigurationAction;
@@ -67,22 +81,36 @@ import org.opensearch.searchrelevance.rest.RestPutExperimentAction;
 import org.opensearch.searchrelevance.rest.RestPutJudgmentAction;
 import org.opensearch.searchrelevance.rest.RestPutQuerySetAction;
 import org.opensearch.searchrelevance.rest.RestPutSearchConfigurationAction;
+import org.opensearch.searchrelevance.rest.RestResumeExperimentAction;
+import org.opensearch.searchrelevance.rest.RestResumeJudgmentAction;
 import org.opensearch.searchrelevance.rest.RestSearchRelevanceStatsAction;
 import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
 import org.opensearch.searchrelevance.stats.events.EventStatsManager;
 import org.opensearch.searchrelevance.stats.info.InfoStatsManager;
+import org.opensearch.searchrelevance.stats.tasks.TaskStatsManager;
 import org.opensearch.searchrelevance.transport.experiment.DeleteExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.DeleteExperimentTransportAction;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentPartitionAction;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentPartitionTransportAction;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentRecovery;
 import org.opensearch.searchrelevance.transport.experiment.GetExperimentAction;
+import org.opensearch.searchrelevance.transport.experiment.GetExperimentResultsAction;
+import org.opensearch.searchrelevance.transport.experiment.GetExperimentResultsTransportAction;
 import org.opensearch.searchrelevance.transport.experiment.GetExperimentTransportAction;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentTransportAction;
+import org.opensearch.searchrelevance.transport.experiment.ResumeExperimentAction;
+import org.opensearch.searchrelevance.transport.experiment.ResumeExperimentTransportAction;
 import org.opensearch.searchrelevance.transport.judgment.DeleteJudgmentAction;
 import org.opensearch.searchrelevance.transport.judgment.DeleteJudgmentTransportAction;
 import org.opensearch.searchrelevance.transport.judgment.GetJudgmentAction;
 import org.opensearch.searchrelevance.transport.judgment.GetJudgmentTransportAction;
+import org.opensearch.searchrelevance.transport.judgment.JudgmentPartitionAction;
+import org.opensearch.searchrelevance.transport.judgment.JudgmentPartitionTransportAction;
 import org.opensearch.searchrelevance.transport.judgment.PutJudgmentAction;
 import org.opensearch.searchrelevance.transport.judgment.PutJudgmentTransportAction;
+import org.opensearch.searchrelevance.transport.judgment.ResumeJudgmentAction;
+import org.opensearch.searchrelevance.transport.judgment.ResumeJudgmentTransportAction;
 import org.opensearch.searchrelevance.transport.queryset.DeleteQuerySetAction;
 import org.opensearch.searchrelevance.transport.queryset.DeleteQuerySetTransportAction;
 import org.opensearch.searchrelevance.transport.queryset.GetQuerySetAction;
@@ -108,7 +136,13 @@ import org.opensearch.watcher.ResourceWatcherService;
 /**
  * Search Relevance plugin class
  */
-public class SearchRelevancePlugin extends Plugin implements ActionPlugin, SystemIndexPlugin, ClusterPlugin, ExtensiblePlugin {
+public class SearchRelevancePlugin extends Plugin
+    implements
+        ActionPlugin,
+        SystemIndexPlugin,
+        ClusterPlugin,
+        ExtensiblePlugin,
+        CircuitBreakerPlugin {
 
     private Client client;
     private ClusterService clusterService;
@@ -119,12 +153,16 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
     private ExperimentVariantDao experimentVariantDao;
     private JudgmentDao judgmentDao;
     private EvaluationResultDao evaluationResultDao;
+    private ExperimentResultDao experimentResultDao;
     private JudgmentCacheDao judgmentCacheDao;
     private MLAccessor mlAccessor;
     private MetricsHelper metricsHelper;
     private SearchRelevanceSettingsAccessor settingsAccessor;
     private ClusterUtil clusterUtil;
     private InfoStatsManager infoStatsManager;
+    private JudgmentRatingIndexCache judgmentRatingIndexCache;
+    private ExperimentRecovery experimentRecovery;
+    private volatile CircuitBreaker judgmentCircuitBreaker = new NoopCircuitBreaker(JUDGMENT_CIRCUIT_BREAKER_NAME);
 
     @Override
     public Collection<SystemIndexDescriptor> getSystemIndexDescriptors(Settings settings) {
@@ -157,20 +195,33 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
         this.searchConfigurationDao = new SearchConfigurationDao(searchRelevanceIndicesManager);
         this.judgmentDao = new JudgmentDao(searchRelevanceIndicesManager);
         this.evaluationResultDao = new EvaluationResultDao(searchRelevanceIndicesManager);
+        this.experimentResultDao = new ExperimentResultDao(searchRelevanceIndicesManager);
         this.judgmentCacheDao = new JudgmentCacheDao(searchRelevanceIndicesManager);
         MachineLearningNodeClient mlClient = new MachineLearningNodeClient(client);
         this.mlAccessor = new MLAccessor(mlClient);
         SearchRelevanceExecutor.initialize(threadPool);
+        this.settingsAccessor = new SearchRelevanceSettingsAccessor(clusterService, environment.settings());
         ExperimentTaskManager experimentTaskManager = new ExperimentTaskManager(
             client,
             evaluationResultDao,
             experimentVariantDao,
-            threadPool
+            threadPool,
+            settingsAccessor
         );
-        this.metricsHelper = new MetricsHelper(clusterService, client, judgmentDao, evaluationResultDao, experimentVariantDao);
-        this.settingsAccessor = new SearchRelevanceSettingsAccessor(clusterService, environment.settings());
+        LlmJudgmentTaskManager llmJudgmentTaskManager = new LlmJudgmentTaskManager(threadPool);
+        this.metricsHelper = new MetricsHelper(
+            clusterService,
+            client,
+            judgmentDao,
+            evaluationResultDao,
+            experimentVariantDao,
+            settingsAccessor
+        );
+        this.judgmentRatingIndexCache = new JudgmentRatingIndexCache(judgmentDao, () -> judgmentCircuitBreaker, threadPool);
+        this.experimentRecovery = new ExperimentRecovery(clusterService, experimentDao, threadPool);
         this.clusterUtil = new ClusterUtil(clusterService);
         this.infoStatsManager = new InfoStatsManager(settingsAccessor);
+        TaskStatsManager taskStatsManager = new TaskStatsManager(llmJudgmentTaskManager, experimentTaskManager);
         EventStatsManager.instance().initialize(settingsAccessor);
 
         return List.of(
@@ -181,14 +232,25 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
             experimentVariantDao,
             judgmentDao,
             evaluationResultDao,
+            experimentResultDao,
             judgmentCacheDao,
             mlAccessor,
             metricsHelper,
             infoStatsManager,
-            experimentTaskManager
+            taskStatsManager,
+            settingsAccessor,
+            experimentTaskManager,
+            llmJudgmentTaskManager,
+            judgmentRatingIndexCache
         );
     }
 
+    @Override
+    public void onNodeStarted() {
+        // experiments this node was coordinating before a restart can never complete, fail them so they can be resumed
+        experimentRecovery.start();
+    }
+
     @Override
     public List<RestHandler> getRestHandlers(
         Settings settings,
@@ -207,11 +269,14 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
             new RestPutJudgmentAction(settingsAccessor),
             new RestDeleteJudgmentAction(settingsAccessor),
             new RestGetJudgmentAction(settingsAccessor),
+            new RestResumeJudgmentAction(settingsAccessor),
             new RestPutSearchConfigurationAction(settingsAccessor),
             new RestDeleteSearchConfigurationAction(settingsAccessor),
             new RestGetSearchConfigurationAction(settingsAccessor),
             new RestPutExperimentAction(settingsAccessor),
             new RestGetExperimentAction(settingsAccessor),
+            new RestGetExperimentResultsAction(settingsAccessor),
+            new RestResumeExperimentAction(settingsAccessor),
             new RestDeleteExperimentAction(settingsAccessor),
             new RestSearchRelevanceStatsAction(settingsAccessor, clusterUtil)
         );
@@ -227,23 +292,55 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
             new ActionHandler<>(PutJudgmentAction.INSTANCE, PutJudgmentTransportAction.class),
             new ActionHandler<>(DeleteJudgmentAction.INSTANCE, DeleteJudgmentTransportAction.class),
             new ActionHandler<>(GetJudgmentAction.INSTANCE, GetJudgmentTransportAction.class),
+            new ActionHandler<>(ResumeJudgmentAction.INSTANCE, ResumeJudgmentTransportAction.class),
+            new ActionHandler<>(JudgmentPartitionAction.INSTANCE, JudgmentPartitionTransportAction.class),
             new ActionHandler<>(PutSearchConfigurationAction.INSTANCE, PutSearchConfigurationTransportAction.class),
             new ActionHandler<>(DeleteSearchConfigurationAction.INSTANCE, DeleteSearchConfigurationTransportAction.class),
             new ActionHandler<>(GetSearchConfigurationAction.INSTANCE, GetSearchConfigurationTransportAction.class),
             new ActionHandler<>(PutExperimentAction.INSTANCE, PutExperimentTransportAction.class),
+            new ActionHandler<>(ResumeExperimentAction.INSTANCE, ResumeExperimentTransportAction.class),
+            new ActionHandler<>(ExperimentPartitionAction.INSTANCE, ExperimentPartitionTransportAction.class),
             new ActionHandler<>(DeleteExperimentAction.INSTANCE, DeleteExperimentTransportAction.class),
             new ActionHandler<>(GetExperimentAction.INSTANCE, GetExperimentTransportAction.class),
+            new ActionHandler<>(GetExperimentResultsAction.INSTANCE, GetExperimentResultsTransportAction.class),
             new ActionHandler<>(SearchRelevanceStatsAction.INSTANCE, SearchRelevanceStatsTransportAction.class)
         );
     }
 
     @Override
     public List<Setting<?>> getSettings() {
-        return List.of(SEARCH_RELEVANCE_WORKBENCH_ENABLED, SEARCH_RELEVANCE_STATS_ENABLED, SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT);
+        return List.of(
+            SEARCH_RELEVANCE_WORKBENCH_ENABLED,
+            SEARCH_RELEVANCE_STATS_ENABLED,
+            SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT,
+            SEARCH_RELEVANCE_EXPERIMENT_MAX_IN_FLIGHT_QUERIES,
+            SEARCH_RELEVANCE_EXPERIMENT_MAX_CONCURRENT_SEARCHES,
+            SEARCH_RELEVANCE_EXPERIMENT_HYBRID_LOCAL_RECOMBINATION_ENABLED,
+            SEARCH_RELEVANCE_EXPERIMENT_ID_ONLY_SEARCH_ENABLED,
+            SEARCH_RELEVANCE_JUDGMENT_BREAKER_LIMIT
+        );
+    }
+
+    @Override
+    public BreakerSettings getCircuitBreaker(Settings settings) {
+        return new BreakerSettings(JUDGMENT_CIRCUIT_BREAKER_NAME, SEARCH_RELEVANCE_JUDGMENT_BREAKER_LIMIT.get(settings).getBytes(), 1.0);
+    }
+
+    @Override
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.judgmentCircuitBreaker = circuitBreaker;
     }
 
     @Override
     public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
         return List.of(SearchRelevanceExecutor.getExecutorBuilder(settings));
     }
+
+    @Override
+    public void close() {
+        if (searchRelevanceIndicesManager != null) {
+            // send the docs still buffered by the bulk writer
+            searchRelevanceIndicesManager.close();
+        }
+    }
 }
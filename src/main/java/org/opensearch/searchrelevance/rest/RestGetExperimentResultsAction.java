@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.rest;
+
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.searchrelevance.common.PluginConstants.DEFAULT_RESULTS_PAGE_SIZE;
+import static org.opensearch.searchrelevance.common.PluginConstants.DOCUMENT_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENTS_URI;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_RESULTS_PAGE_SIZE;
+import static org.opensearch.searchrelevance.common.PluginConstants.RESULTS_ENDPOINT;
+import static org.opensearch.searchrelevance.common.PluginConstants.SEARCH_AFTER;
+import static org.opensearch.searchrelevance.common.PluginConstants.SIZE;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+import org.opensearch.searchrelevance.transport.experiment.GetExperimentResultsAction;
+import org.opensearch.transport.client.node.NodeClient;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Rest Action to page through the results of an experiment, one hit per query text. Pages are sorted by result id;
+ * the next page is requested with the id of the last hit of the previous page as {@code search_after}.
+ */
+@AllArgsConstructor
+public class RestGetExperimentResultsAction extends BaseRestHandler {
+    private static final Logger LOGGER = LogManager.getLogger(RestGetExperimentResultsAction.class);
+    private static final String GET_EXPERIMENT_RESULTS_ACTION = "get_experiment_results_action";
+    private SearchRelevanceSettingsAccessor settingsAccessor;
+
+    @Override
+    public String getName() {
+        return GET_EXPERIMENT_RESULTS_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return List.of(new Route(GET, String.format(Locale.ROOT, "%s/{%s}/%s", EXPERIMENTS_URI, DOCUMENT_ID, RESULTS_ENDPOINT)));
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        if (!settingsAccessor.isWorkbenchEnabled()) {
+            return channel -> channel.sendResponse(new BytesRestResponse(RestStatus.FORBIDDEN, "Search Relevance Workbench is disabled"));
+        }
+        final String experimentId = request.param(DOCUMENT_ID);
+        if (experimentId == null || experimentId.isEmpty()) {
+            throw new SearchRelevanceException("experimentId cannot be null or empty", RestStatus.BAD_REQUEST);
+        }
+        final int size = request.paramAsInt(SIZE, DEFAULT_RESULTS_PAGE_SIZE);
+        if (size < 1 || size > MAX_RESULTS_PAGE_SIZE) {
+            throw new SearchRelevanceException(
+                String.format(Locale.ROOT, "size must be between 1 and %d, got %d", MAX_RESULTS_PAGE_SIZE, size),
+                RestStatus.BAD_REQUEST
+            );
+        }
+        final String searchAfter = request.param(SEARCH_AFTER);
+
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().size(size)
+            .sort(ExperimentResult.ID, SortOrder.ASC)
+            .trackTotalHits(true);
+        if (searchAfter != null && !searchAfter.isEmpty()) {
+            searchSourceBuilder.searchAfter(new Object[] { searchAfter });
+        }
+        OpenSearchDocRequest getRequest = new OpenSearchDocRequest(experimentId, searchSourceBuilder);
+
+        return channel -> client.execute(GetExperimentResultsAction.INSTANCE, getRequest, new ActionListener<SearchResponse>() {
+            @Override
+            public void onResponse(SearchResponse response) {
+                try {
+                    XContentBuilder builder = channel.newBuilder();
+                    response.toXContent(builder, ToXContent.EMPTY_PARAMS);
+                    channel.sendResponse(new BytesRestResponse(response.status(), builder));
+                } catch (IOException e) {
+                    onFailure(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                try {
+                    channel.sendResponse(new BytesRestResponse(channel, ExceptionsHelper.status(e), e));
+                } catch (IOException ex) {
+                    LOGGER.error("Failed to send error response", ex);
+                }
+            }
+        });
+    }
+}
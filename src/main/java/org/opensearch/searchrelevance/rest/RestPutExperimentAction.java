@@ -9,15 +9,20 @@ package org.opensearch.searchrelevance.rest;
 
 import static java.util.Collections.singletonList;
 import static org.opensearch.rest.RestRequest.Method.PUT;
+import static org.opensearch.searchrelevance.common.PluginConstants.DISTRIBUTED_EXECUTION;
 import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENTS_URI;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_LIST;
+import static org.opensearch.searchrelevance.common.PluginConstants.OPTIMIZER;
 import static org.opensearch.searchrelevance.common.PluginConstants.QUERYSET_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.SEARCH_BUDGET;
 import static org.opensearch.searchrelevance.common.PluginConstants.SEARCH_CONFIGURATION_LIST;
 import static org.opensearch.searchrelevance.common.PluginConstants.SIZE;
 import static org.opensearch.searchrelevance.common.PluginConstants.TYPE;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import org.opensearch.ExceptionsHelper;
@@ -31,6 +36,7 @@ import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
 import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.HybridOptimizerStrategy;
 import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
@@ -120,12 +126,35 @@ public class RestPutExperimentAction extends BaseRestHandler {
                 throw new IllegalArgumentException("Unsupported experiment type: " + experimentType);
         }
 
+        HybridOptimizerStrategy optimizer = null;
+        if (source.containsKey(OPTIMIZER)) {
+            try {
+                optimizer = HybridOptimizerStrategy.valueOf((String) source.get(OPTIMIZER));
+            } catch (IllegalArgumentException | NullPointerException | ClassCastException e) {
+                throw new SearchRelevanceException(
+                    String.format(Locale.ROOT, "Invalid optimizer, supported: %s", Arrays.toString(HybridOptimizerStrategy.values())),
+                    RestStatus.BAD_REQUEST
+                );
+            }
+        }
+        Integer searchBudget = ParserUtils.getInteger(source, SEARCH_BUDGET);
+        if ((optimizer != null || searchBudget != null) && experimentType != ExperimentType.HYBRID_OPTIMIZER) {
+            throw new SearchRelevanceException("optimizer and searchBudget are only supported by HYBRID_OPTIMIZER", RestStatus.BAD_REQUEST);
+        }
+        if (searchBudget != null && searchBudget <= 0) {
+            throw new SearchRelevanceException("searchBudget must be positive", RestStatus.BAD_REQUEST);
+        }
+        boolean distributedExecution = Boolean.TRUE.equals(ParserUtils.getBoolean(source, DISTRIBUTED_EXECUTION));
+
         PutExperimentRequest createRequest = new PutExperimentRequest(
             experimentType,
             querySetId,
             searchConfigurationList,
             judgmentList,
-            size
+            size,
+            optimizer,
+            searchBudget,
+            distributedExecution
         );
 
         return channel -> client.execute(PutExperimentAction.INSTANCE, createRequest, new ActionListener<IndexResponse>() {
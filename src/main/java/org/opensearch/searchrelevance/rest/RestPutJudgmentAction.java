@@ -11,16 +11,29 @@ import static java.util.Collections.singletonList;
 import static org.opensearch.rest.RestRequest.Method.PUT;
 import static org.opensearch.searchrelevance.common.MLConstants.validateTokenLimit;
 import static org.opensearch.searchrelevance.common.MetricsConstants.MODEL_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.BATCH_QUERIES;
 import static org.opensearch.searchrelevance.common.PluginConstants.CLICK_MODEL;
+import static org.opensearch.searchrelevance.common.PluginConstants.COLLAPSE_NEAR_DUPLICATES;
 import static org.opensearch.searchrelevance.common.PluginConstants.CONTEXT_FIELDS;
+import static org.opensearch.searchrelevance.common.PluginConstants.DEFAULT_POOLING_TOLERANCE;
+import static org.opensearch.searchrelevance.common.PluginConstants.DEFAULT_SCHEDULING_WEIGHT;
 import static org.opensearch.searchrelevance.common.PluginConstants.DESCRIPTION;
+import static org.opensearch.searchrelevance.common.PluginConstants.DISTRIBUTED_JUDGING;
+import static org.opensearch.searchrelevance.common.PluginConstants.DOC_TOKEN_BUDGET;
 import static org.opensearch.searchrelevance.common.PluginConstants.END_DATE;
 import static org.opensearch.searchrelevance.common.PluginConstants.IGNORE_FAILURE;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENTS_URL;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_RATINGS;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_INPUT_TOKENS;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_LLM_CALLS;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_SCHEDULING_WEIGHT;
 import static org.opensearch.searchrelevance.common.PluginConstants.NAME;
 import static org.opensearch.searchrelevance.common.PluginConstants.NAX_RANK;
+import static org.opensearch.searchrelevance.common.PluginConstants.POOLED_JUDGING;
+import static org.opensearch.searchrelevance.common.PluginConstants.POOLING_NDCG_AT;
+import static org.opensearch.searchrelevance.common.PluginConstants.POOLING_TOLERANCE;
 import static org.opensearch.searchrelevance.common.PluginConstants.QUERYSET_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.SCHEDULING_WEIGHT;
 import static org.opensearch.searchrelevance.common.PluginConstants.SEARCH_CONFIGURATION_LIST;
 import static org.opensearch.searchrelevance.common.PluginConstants.SIZE;
 import static org.opensearch.searchrelevance.common.PluginConstants.START_DATE;
@@ -119,29 +132,75 @@ public class RestPutJudgmentAction extends BaseRestHandler {
                 }
                 String querySetId = (String) source.get(QUERYSET_ID);
                 List<String> searchConfigurationList = ParserUtils.convertObjToList(source, SEARCH_CONFIGURATION_LIST);
-                int size = (Integer) source.get(SIZE);
-                boolean ignoreFailure = Optional.ofNullable((Boolean) source.get(IGNORE_FAILURE)).orElse(Boolean.FALSE);  // default to
-                                                                                                                          // false if not
-                                                                                                                          // provided
+                Integer size = ParserUtils.getInteger(source, SIZE);
+                if (size == null) {
+                    throw new SearchRelevanceException("size is required for LLM_JUDGMENT", RestStatus.BAD_REQUEST);
+                }
+                // default to false if not provided
+                boolean ignoreFailure = Optional.ofNullable(ParserUtils.getBoolean(source, IGNORE_FAILURE)).orElse(Boolean.FALSE);
 
                 int tokenLimit = validateTokenLimit(source);
                 List<String> contextFields = ParserUtils.convertObjToList(source, CONTEXT_FIELDS);
-                createRequest = new PutLlmJudgmentRequest(
-                    type,
-                    name,
-                    description,
-                    modelId,
-                    querySetId,
-                    searchConfigurationList,
-                    size,
-                    tokenLimit,
-                    contextFields,
-                    ignoreFailure
-                );
+                boolean batchQueries = Optional.ofNullable(ParserUtils.getBoolean(source, BATCH_QUERIES)).orElse(Boolean.FALSE);
+                boolean collapseNearDuplicates = Optional.ofNullable(ParserUtils.getBoolean(source, COLLAPSE_NEAR_DUPLICATES))
+                    .orElse(Boolean.FALSE);
+                int schedulingWeight = Optional.ofNullable(ParserUtils.getInteger(source, SCHEDULING_WEIGHT))
+                    .orElse(DEFAULT_SCHEDULING_WEIGHT);
+                if (schedulingWeight < 1 || schedulingWeight > MAX_SCHEDULING_WEIGHT) {
+                    throw new SearchRelevanceException(
+                        "schedulingWeight must be between 1 and " + MAX_SCHEDULING_WEIGHT,
+                        RestStatus.BAD_REQUEST
+                    );
+                }
+                boolean pooledJudging = Optional.ofNullable(ParserUtils.getBoolean(source, POOLED_JUDGING)).orElse(Boolean.FALSE);
+                Integer poolingNdcgAt = ParserUtils.getInteger(source, POOLING_NDCG_AT);
+                if (poolingNdcgAt != null && poolingNdcgAt < 1) {
+                    throw new SearchRelevanceException("poolingNdcgAt must be a positive integer", RestStatus.BAD_REQUEST);
+                }
+                double poolingTolerance = Optional.ofNullable(ParserUtils.getDouble(source, POOLING_TOLERANCE))
+                    .orElse(DEFAULT_POOLING_TOLERANCE);
+                if (poolingTolerance < 0 || poolingTolerance > 1) {
+                    throw new SearchRelevanceException("poolingTolerance must be between 0 and 1", RestStatus.BAD_REQUEST);
+                }
+                int docTokenBudget = Optional.ofNullable(ParserUtils.getInteger(source, DOC_TOKEN_BUDGET)).orElse(0);
+                if (docTokenBudget < 0 || docTokenBudget > tokenLimit) {
+                    throw new SearchRelevanceException("docTokenBudget must be between 0 and tokenLimit", RestStatus.BAD_REQUEST);
+                }
+                long maxInputTokens = Optional.ofNullable(ParserUtils.getLong(source, MAX_INPUT_TOKENS)).orElse(0L);
+                int maxLLMCalls = Optional.ofNullable(ParserUtils.getInteger(source, MAX_LLM_CALLS)).orElse(0);
+                if (maxInputTokens < 0 || maxLLMCalls < 0) {
+                    throw new SearchRelevanceException("maxInputTokens and maxLLMCalls must not be negative", RestStatus.BAD_REQUEST);
+                }
+                boolean distributedJudging = Optional.ofNullable(ParserUtils.getBoolean(source, DISTRIBUTED_JUDGING)).orElse(Boolean.FALSE);
+                createRequest = PutLlmJudgmentRequest.builder()
+                    .type(type)
+                    .name(name)
+                    .description(description)
+                    .modelId(modelId)
+                    .querySetId(querySetId)
+                    .searchConfigurationList(searchConfigurationList)
+                    .size(size)
+                    .tokenLimit(tokenLimit)
+                    .contextFields(contextFields)
+                    .ignoreFailure(ignoreFailure)
+                    .batchQueries(batchQueries)
+                    .schedulingWeight(schedulingWeight)
+                    .collapseNearDuplicates(collapseNearDuplicates)
+                    .pooledJudging(pooledJudging)
+                    .poolingNdcgAt(poolingNdcgAt)
+                    .poolingTolerance(poolingTolerance)
+                    .docTokenBudget(docTokenBudget)
+                    .maxInputTokens(maxInputTokens)
+                    .maxLLMCalls(maxLLMCalls)
+                    .distributedJudging(distributedJudging)
+                    .build();
             }
             case UBI_JUDGMENT -> {
                 String clickModel = (String) source.get(CLICK_MODEL);
-                int maxRank = (int) source.get(NAX_RANK);
+                Integer maxRank = ParserUtils.getInteger(source, NAX_RANK);
+                if (maxRank == null) {
+                    throw new SearchRelevanceException("maxRank is required for UBI_JUDGMENT", RestStatus.BAD_REQUEST);
+                }
 
                 String startDate = (String) source.getOrDefault(START_DATE, "");
                 String endDate = (String) source.getOrDefault(END_DATE, "");
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.rest;
+
+import static org.opensearch.rest.RestRequest.Method.POST;
+import static org.opensearch.searchrelevance.common.PluginConstants.DOCUMENT_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENTS_URL;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_INPUT_TOKENS;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_LLM_CALLS;
+import static org.opensearch.searchrelevance.common.PluginConstants.RESUME_ENDPOINT;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.transport.judgment.ResumeJudgmentAction;
+import org.opensearch.searchrelevance.transport.judgment.ResumeJudgmentRequest;
+import org.opensearch.searchrelevance.utils.ParserUtils;
+import org.opensearch.transport.client.node.NodeClient;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Rest Action to resume an interrupted LLM judgment job.
+ */
+@AllArgsConstructor
+public class RestResumeJudgmentAction extends BaseRestHandler {
+    private static final Logger LOGGER = LogManager.getLogger(RestResumeJudgmentAction.class);
+    private static final String RESUME_JUDGMENT_ACTION = "resume_judgment_action";
+    private SearchRelevanceSettingsAccessor settingsAccessor;
+
+    @Override
+    public String getName() {
+        return RESUME_JUDGMENT_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return List.of(new Route(POST, String.format(Locale.ROOT, "%s/{%s}/%s", JUDGMENTS_URL, DOCUMENT_ID, RESUME_ENDPOINT)));
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        if (!settingsAccessor.isWorkbenchEnabled()) {
+            return channel -> channel.sendResponse(new BytesRestResponse(RestStatus.FORBIDDEN, "Search Relevance Workbench is disabled"));
+        }
+        final String judgmentId = request.param(DOCUMENT_ID);
+        if (judgmentId == null || judgmentId.isEmpty()) {
+            throw new SearchRelevanceException("judgmentId cannot be null or empty", RestStatus.BAD_REQUEST);
+        }
+        ResumeJudgmentRequest resumeRequest = parseResumeRequest(request, judgmentId);
+
+        return channel -> client.execute(ResumeJudgmentAction.INSTANCE, resumeRequest, new ActionListener<IndexResponse>() {
+            @Override
+            public void onResponse(IndexResponse response) {
+                try {
+                    XContentBuilder builder = channel.newBuilder();
+                    builder.startObject();
+                    builder.field("judgment_id", response.getId());
+                    builder.field("status", AsyncStatus.PROCESSING.name());
+                    builder.endObject();
+                    channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
+                } catch (IOException e) {
+                    onFailure(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                try {
+                    channel.sendResponse(new BytesRestResponse(channel, ExceptionsHelper.status(e), e));
+                } catch (IOException ex) {
+                    LOGGER.error("Failed to send error response", ex);
+                }
+            }
+        });
+    }
+
+    /**
+     * The optional request body replaces the LLM call limits of the job, e.g. to continue one stopped by its budget
+     */
+    private ResumeJudgmentRequest parseResumeRequest(RestRequest request, String judgmentId) throws IOException {
+        if (!request.hasContent()) {
+            return new ResumeJudgmentRequest(judgmentId);
+        }
+        Map<String, Object> source = request.contentParser().map();
+        Long maxInputTokens = ParserUtils.getLong(source, MAX_INPUT_TOKENS);
+        Integer maxLLMCalls = ParserUtils.getInteger(source, MAX_LLM_CALLS);
+        if ((maxInputTokens != null && maxInputTokens < 0) || (maxLLMCalls != null && maxLLMCalls < 0)) {
+            throw new SearchRelevanceException("maxInputTokens and maxLLMCalls must not be negative", RestStatus.BAD_REQUEST);
+        }
+        return new ResumeJudgmentRequest(judgmentId, maxInputTokens, maxLLMCalls);
+    }
+}
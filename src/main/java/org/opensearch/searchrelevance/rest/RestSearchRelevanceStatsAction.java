@@ -29,6 +29,7 @@ import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
 import org.opensearch.searchrelevance.stats.SearchRelevanceStatsInput;
 import org.opensearch.searchrelevance.stats.events.EventStatName;
 import org.opensearch.searchrelevance.stats.info.InfoStatName;
+import org.opensearch.searchrelevance.stats.tasks.TaskStatName;
 import org.opensearch.searchrelevance.transport.stats.SearchRelevanceStatsAction;
 import org.opensearch.searchrelevance.transport.stats.SearchRelevanceStatsRequest;
 import org.opensearch.searchrelevance.utils.ClusterUtil;
@@ -109,6 +110,12 @@ public class RestSearchRelevanceStatsAction extends BaseRestHandler {
         .map(str -> str.toLowerCase(Locale.ROOT))
         .collect(Collectors.toSet());
 
+    private static final Set<String> TASK_STAT_NAMES = EnumSet.allOf(TaskStatName.class)
+        .stream()
+        .map(TaskStatName::getNameString)
+        .map(str -> str.toLowerCase(Locale.ROOT))
+        .collect(Collectors.toSet());
+
     private static final List<Route> ROUTES = ImmutableList.of(
         new Route(RestRequest.Method.GET, SEARCH_RELEVANCE_BASE_URI + "/{nodeId}/stats/"),
         new Route(RestRequest.Method.GET, SEARCH_RELEVANCE_BASE_URI + "/{nodeId}/stats/{stat}"),
@@ -254,19 +261,33 @@ public class RestSearchRelevanceStatsAction extends BaseRestHandler {
                 if (eventStatName.version().onOrBefore(minClusterVersion)) {
                     searchRelevanceStatsInput.getEventStatNames().add(EventStatName.from(normalizedStat));
                 }
+            } else if (searchRelevanceStatsInput.isIncludeIndividualNodes() && TaskStatName.isValidName(normalizedStat)) {
+                TaskStatName taskStatName = TaskStatName.from(normalizedStat);
+                if (taskStatName.version().onOrBefore(minClusterVersion)) {
+                    searchRelevanceStatsInput.getTaskStatNames().add(taskStatName);
+                }
             }
         }
 
         // When we reach this block, we must have added at least one stat to the input, or else invalid stats will be
         // non-empty. So throwing this exception here without adding all covers the empty input case.
         if (invalidStatNames.isEmpty() == false) {
-            throw new IllegalArgumentException(
-                unrecognized(request, invalidStatNames, Sets.union(EVENT_STAT_NAMES, INFO_STAT_NAMES), STAT_PARAM)
-            );
+            Set<String> validStatNames = Sets.union(Sets.union(EVENT_STAT_NAMES, INFO_STAT_NAMES), TASK_STAT_NAMES);
+            throw new IllegalArgumentException(unrecognized(request, invalidStatNames, validStatNames, STAT_PARAM));
         }
     }
 
     private void addAllStats(SearchRelevanceStatsInput searchRelevanceStatsInput, Version minVersion) {
+        // task metrics are node local and only reported for individual nodes
+        if (searchRelevanceStatsInput.isIncludeIndividualNodes()) {
+            searchRelevanceStatsInput.getTaskStatNames()
+                .addAll(
+                    EnumSet.allOf(TaskStatName.class)
+                        .stream()
+                        .filter(statName -> statName.version().onOrBefore(minVersion))
+                        .collect(Collectors.toCollection(() -> EnumSet.noneOf(TaskStatName.class)))
+                );
+        }
         if (minVersion == Version.CURRENT) {
             if (searchRelevanceStatsInput.isIncludeInfo()) {
                 searchRelevanceStatsInput.getInfoStatNames().addAll(EnumSet.allOf(InfoStatName.class));
@@ -298,7 +319,7 @@ public class RestSearchRelevanceStatsAction extends BaseRestHandler {
     }
 
     private boolean isValidEventOrInfoStatName(String statName) {
-        return InfoStatName.isValidName(statName) || EventStatName.isValidName(statName);
+        return InfoStatName.isValidName(statName) || EventStatName.isValidName(statName) || TaskStatName.isValidName(statName);
     }
 
     private Optional<String[]> splitCommaSeparatedParam(RestRequest request, String paramName) {
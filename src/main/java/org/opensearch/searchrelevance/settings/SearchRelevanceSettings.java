@@ -8,6 +8,7 @@
 package org.opensearch.searchrelevance.settings;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeValue;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -53,4 +54,72 @@ public class SearchRelevanceSettings {
         Setting.Property.NodeScope,
         Setting.Property.Dynamic
     );
+
+    /**
+     * Gates the maximum number of query texts of an experiment that are processed at the same time.
+     * The next query text is only admitted once one in flight completes, so memory stays flat regardless of query set size.
+     */
+    public static final String SEARCH_RELEVANCE_EXPERIMENT_MAX_IN_FLIGHT_QUERIES_KEY =
+        "plugins.search_relevance.experiment.max_in_flight_queries";
+    public static final Setting<Integer> SEARCH_RELEVANCE_EXPERIMENT_MAX_IN_FLIGHT_QUERIES = Setting.intSetting(
+        SEARCH_RELEVANCE_EXPERIMENT_MAX_IN_FLIGHT_QUERIES_KEY,
+        50,
+        1,
+        10000,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Gates the maximum number of searches of one multi search request of an experiment that run at the same time.
+     * 0 leaves the limit to the multi search default, which is derived from the number of data nodes and search threads.
+     */
+    public static final String SEARCH_RELEVANCE_EXPERIMENT_MAX_CONCURRENT_SEARCHES_KEY =
+        "plugins.search_relevance.experiment.max_concurrent_searches";
+    public static final Setting<Integer> SEARCH_RELEVANCE_EXPERIMENT_MAX_CONCURRENT_SEARCHES = Setting.intSetting(
+        SEARCH_RELEVANCE_EXPERIMENT_MAX_CONCURRENT_SEARCHES_KEY,
+        0,
+        0,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Gates how hybrid optimizer experiments evaluate their variants. When enabled, the sub-queries of a hybrid query are
+     * searched once per query text and every variant is normalized, combined and ranked locally instead of running a
+     * hybrid search per variant. Scores are normalized over the retrieved candidates rather than per shard.
+     */
+    public static final String SEARCH_RELEVANCE_EXPERIMENT_HYBRID_LOCAL_RECOMBINATION_ENABLED_KEY =
+        "plugins.search_relevance.experiment.hybrid_local_recombination_enabled";
+    public static final Setting<Boolean> SEARCH_RELEVANCE_EXPERIMENT_HYBRID_LOCAL_RECOMBINATION_ENABLED = Setting.boolSetting(
+        SEARCH_RELEVANCE_EXPERIMENT_HYBRID_LOCAL_RECOMBINATION_ENABLED_KEY,
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Gates what experiment searches fetch. When enabled, experiment searches only retrieve the ids of the hits, without
+     * source, total hit count, highlighting or explanations. Disable it if a search pipeline of a search configuration
+     * needs the source of the hits, like a rerank processor.
+     */
+    public static final String SEARCH_RELEVANCE_EXPERIMENT_ID_ONLY_SEARCH_ENABLED_KEY =
+        "plugins.search_relevance.experiment.id_only_search_enabled";
+    public static final Setting<Boolean> SEARCH_RELEVANCE_EXPERIMENT_ID_ONLY_SEARCH_ENABLED = Setting.boolSetting(
+        SEARCH_RELEVANCE_EXPERIMENT_ID_ONLY_SEARCH_ENABLED_KEY,
+        true,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Limit of the circuit breaker the judgment ratings of the running experiments are accounted against. The ratings of
+     * an experiment are loaded in memory once when it starts and released when it finishes.
+     */
+    public static final String SEARCH_RELEVANCE_JUDGMENT_BREAKER_LIMIT_KEY = "plugins.search_relevance.breaker.judgment.limit";
+    public static final Setting<ByteSizeValue> SEARCH_RELEVANCE_JUDGMENT_BREAKER_LIMIT = Setting.memorySizeSetting(
+        SEARCH_RELEVANCE_JUDGMENT_BREAKER_LIMIT_KEY,
+        "10%",
+        Setting.Property.NodeScope
+    );
 }
@@ -24,6 +24,14 @@ public class SearchRelevanceSettingsAccessor {
     private volatile boolean isStatsEnabled;
     @Getter
     private volatile int maxQuerySetAllowed;
+    @Getter
+    private volatile int maxInFlightExperimentQueries;
+    @Getter
+    private volatile int maxConcurrentExperimentSearches;
+    @Getter
+    private volatile boolean isHybridLocalRecombinationEnabled;
+    @Getter
+    private volatile boolean isIdOnlyExperimentSearchEnabled;
 
     /**
      * Constructor, registers callbacks to update settings
@@ -35,6 +43,12 @@ public class SearchRelevanceSettingsAccessor {
         isWorkbenchEnabled = SearchRelevanceSettings.SEARCH_RELEVANCE_WORKBENCH_ENABLED.get(settings);
         isStatsEnabled = SearchRelevanceSettings.SEARCH_RELEVANCE_STATS_ENABLED.get(settings);
         maxQuerySetAllowed = SearchRelevanceSettings.SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT.get(settings);
+        maxInFlightExperimentQueries = SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_MAX_IN_FLIGHT_QUERIES.get(settings);
+        maxConcurrentExperimentSearches = SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_MAX_CONCURRENT_SEARCHES.get(settings);
+        isHybridLocalRecombinationEnabled = SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_HYBRID_LOCAL_RECOMBINATION_ENABLED.get(
+            settings
+        );
+        isIdOnlyExperimentSearchEnabled = SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_ID_ONLY_SEARCH_ENABLED.get(settings);
         registerSettingsCallbacks(clusterService);
     }
 
@@ -55,5 +69,25 @@ public class SearchRelevanceSettingsAccessor {
             .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT, value -> {
                 maxQuerySetAllowed = value;
             });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_MAX_IN_FLIGHT_QUERIES, value -> {
+                maxInFlightExperimentQueries = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_MAX_CONCURRENT_SEARCHES, value -> {
+                maxConcurrentExperimentSearches = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_HYBRID_LOCAL_RECOMBINATION_ENABLED, value -> {
+                isHybridLocalRecombinationEnabled = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_ID_ONLY_SEARCH_ENABLED, value -> {
+                isIdOnlyExperimentSearchEnabled = value;
+            });
     }
 }
@@ -11,7 +11,9 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -20,6 +22,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.searchrelevance.rest.RestSearchRelevanceStatsAction;
 import org.opensearch.searchrelevance.stats.events.EventStatName;
 import org.opensearch.searchrelevance.stats.info.InfoStatName;
+import org.opensearch.searchrelevance.stats.tasks.TaskStatName;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -34,6 +37,7 @@ public class SearchRelevanceStatsInput implements ToXContentObject, Writeable {
     public static final String NODE_IDS_FIELD = "node_ids";
     public static final String EVENT_STAT_NAMES_FIELD = "event_stats";
     public static final String STATE_STAT_NAMES_FIELD = "state_stats";
+    public static final String TASK_STAT_NAMES_FIELD = "task_stats";
 
     /**
      * Collection of node IDs to filter statistics retrieval.
@@ -51,6 +55,11 @@ public class SearchRelevanceStatsInput implements ToXContentObject, Writeable {
      */
     private EnumSet<InfoStatName> infoStatNames;
 
+    /**
+     * Collection of task stat types to filter.
+     */
+    private EnumSet<TaskStatName> taskStatNames;
+
     /**
      * Controls whether metadata should be included in the statistics response.
      */
@@ -87,6 +96,7 @@ public class SearchRelevanceStatsInput implements ToXContentObject, Writeable {
      * @param nodeIds node IDs to retrieve stats from
      * @param eventStatNames event stats to retrieve
      * @param infoStatNames info stats to retrieve
+     * @param taskStatNames task stats to retrieve
      * @param includeMetadata whether to include metadata
      * @param flatten whether to flatten keys
      */
@@ -95,6 +105,7 @@ public class SearchRelevanceStatsInput implements ToXContentObject, Writeable {
         List<String> nodeIds,
         EnumSet<EventStatName> eventStatNames,
         EnumSet<InfoStatName> infoStatNames,
+        EnumSet<TaskStatName> taskStatNames,
         boolean includeMetadata,
         boolean flatten,
         boolean includeIndividualNodes,
@@ -104,6 +115,7 @@ public class SearchRelevanceStatsInput implements ToXContentObject, Writeable {
         this.nodeIds = nodeIds;
         this.eventStatNames = eventStatNames;
         this.infoStatNames = infoStatNames;
+        this.taskStatNames = Optional.ofNullable(taskStatNames).orElse(EnumSet.noneOf(TaskStatName.class));
         this.includeMetadata = includeMetadata;
         this.flatten = flatten;
         this.includeIndividualNodes = includeIndividualNodes;
@@ -119,6 +131,7 @@ public class SearchRelevanceStatsInput implements ToXContentObject, Writeable {
         this.nodeIds = new ArrayList<>();
         this.eventStatNames = EnumSet.noneOf(EventStatName.class);
         this.infoStatNames = EnumSet.noneOf(InfoStatName.class);
+        this.taskStatNames = EnumSet.noneOf(TaskStatName.class);
         this.includeMetadata = false;
         this.flatten = false;
         this.includeIndividualNodes = true;
@@ -141,6 +154,11 @@ public class SearchRelevanceStatsInput implements ToXContentObject, Writeable {
         includeIndividualNodes = input.readBoolean();
         includeAllNodes = input.readBoolean();
         includeInfo = input.readBoolean();
+        if (input.getVersion().onOrAfter(Version.V_3_2_0)) {
+            taskStatNames = input.readEnumSet(TaskStatName.class);
+        } else {
+            taskStatNames = EnumSet.noneOf(TaskStatName.class);
+        }
     }
 
     /**
@@ -159,6 +177,9 @@ public class SearchRelevanceStatsInput implements ToXContentObject, Writeable {
         out.writeBoolean(includeIndividualNodes);
         out.writeBoolean(includeAllNodes);
         out.writeBoolean(includeInfo);
+        if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            out.writeEnumSet(taskStatNames);
+        }
     }
 
     /**
@@ -181,6 +202,9 @@ public class SearchRelevanceStatsInput implements ToXContentObject, Writeable {
         if (infoStatNames != null) {
             builder.field(STATE_STAT_NAMES_FIELD, infoStatNames);
         }
+        if (taskStatNames.isEmpty() == false) {
+            builder.field(TASK_STAT_NAMES_FIELD, taskStatNames);
+        }
         builder.field(RestSearchRelevanceStatsAction.INCLUDE_METADATA_PARAM, includeMetadata);
         builder.field(RestSearchRelevanceStatsAction.FLATTEN_PARAM, flatten);
         builder.field(RestSearchRelevanceStatsAction.INCLUDE_INDIVIDUAL_NODES_PARAM, includeIndividualNodes);
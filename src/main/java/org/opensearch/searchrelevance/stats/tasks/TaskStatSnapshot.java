@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.stats.tasks;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.searchrelevance.stats.common.StatSnapshot;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A stat snapshot of the metrics of a task manager at a point in time.
+ * Task metrics are node local gauges, so unlike event stats they are not aggregated across nodes.
+ * These are meant for transport layer/rest layer and not meant to be persisted
+ */
+@Getter
+@AllArgsConstructor
+public class TaskStatSnapshot implements Writeable, StatSnapshot<Map<String, Object>> {
+    private TaskStatName statName;
+    private Map<String, Object> value;
+
+    /**
+     * Create a stat new snapshot from an input stream
+     * @param in the input stream
+     * @throws IOException
+     */
+    public TaskStatSnapshot(StreamInput in) throws IOException {
+        this.statName = in.readEnum(TaskStatName.class);
+        this.value = in.readMap();
+    }
+
+    /**
+     * Writes the stat snapshot to an output stream
+     * @param out the output stream
+     * @throws IOException
+     */
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeEnum(statName);
+        out.writeMap(value);
+    }
+
+    /**
+     * Converts to fields xContent, including stat metadata
+     *
+     * @param builder XContentBuilder
+     * @param params Params
+     * @return XContentBuilder
+     * @throws IOException thrown by builder for invalid field
+     */
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(StatSnapshot.VALUE_FIELD, value);
+        builder.field(StatSnapshot.STAT_TYPE_FIELD, statName.getStatType().getTypeString());
+        builder.endObject();
+        return builder;
+    }
+}
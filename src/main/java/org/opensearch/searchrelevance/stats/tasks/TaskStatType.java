@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.stats.tasks;
+
+import java.util.Locale;
+
+import org.opensearch.searchrelevance.stats.common.StatType;
+
+/**
+ * Enum for different kinds of task stat types to track
+ */
+public enum TaskStatType implements StatType {
+    TASK_METRICS;
+
+    /**
+     * Gets the name of the stat type, the enum name in lowercase
+     * @return the name of the stat type
+     */
+    public String getTypeString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.stats.tasks;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.opensearch.searchrelevance.executors.ExperimentTaskManager;
+import org.opensearch.searchrelevance.executors.LlmJudgmentTaskManager;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Manager to generate stat snapshots of the task managers of this node
+ */
+@AllArgsConstructor
+public class TaskStatsManager {
+    private LlmJudgmentTaskManager llmJudgmentTaskManager;
+    private ExperimentTaskManager experimentTaskManager;
+
+    /**
+     * Reads the current metrics of the task managers
+     * @param statsToRetrieve a set of the enums to retrieve
+     * @return map of stat name to stat snapshot
+     */
+    public Map<TaskStatName, TaskStatSnapshot> getStats(EnumSet<TaskStatName> statsToRetrieve) {
+        Map<TaskStatName, TaskStatSnapshot> stats = new HashMap<>();
+        for (TaskStatName statName : statsToRetrieve) {
+            switch (statName) {
+                case LLM_JUDGMENT_TASKS -> stats.put(
+                    statName,
+                    new TaskStatSnapshot(statName, llmJudgmentTaskManager.getConcurrencyMetrics())
+                );
+                case EXPERIMENT_TASKS -> stats.put(statName, new TaskStatSnapshot(statName, experimentTaskManager.getConcurrencyMetrics()));
+            }
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.node.NodeClosedException;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.ConnectTransportException;
+import org.opensearch.transport.TransportRequestOptions;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Spreads the query texts of a job over the data nodes of the cluster. The query texts are cut into a few partitions
+ * per node and every node works on one partition at a time, so faster nodes pick up more of them. A failed partition
+ * is reassigned to another node, and a node that dropped out of the cluster is given no further partitions. A timed
+ * out partition is cancelled on its node first, and reassigned once the node reported back.
+ * @param <Req> request sent to evaluate a partition
+ * @param <Resp> response of an evaluated partition
+ */
+@Log4j2
+public class PartitionScheduler<Req extends ActionRequest, Resp extends ActionResponse> {
+    static final int PARTITIONS_PER_NODE = 4;
+    static final int MAX_PARTITION_ATTEMPTS = 3;
+    /**
+     * A partition that has not returned within its timeout is cancelled, and reassigned once its node reported back
+     */
+    public static final TimeValue MIN_PARTITION_TIMEOUT = TimeValue.timeValueMinutes(5);
+    /**
+     * Time a node is given to stop a cancelled partition. A node that has not reported back by then is considered
+     * unresponsive, and its partition is reassigned regardless.
+     */
+    static final TimeValue CANCELLATION_GRACE_PERIOD = TimeValue.timeValueMinutes(5);
+
+    private final TransportService transportService;
+    private final ClusterService clusterService;
+    private final String action;
+    private final Writeable.Reader<Resp> responseReader;
+    private final TimeValue timeoutPerQueryText;
+
+    /**
+     * @param transportService transport service the partitions are sent with
+     * @param clusterService cluster service the eligible nodes are read from
+     * @param action name of the action evaluating a partition
+     * @param responseReader reads the response of a partition
+     * @param timeoutPerQueryText time a node is given per query text of a partition
+     */
+    public PartitionScheduler(
+        TransportService transportService,
+        ClusterService clusterService,
+        String action,
+        Writeable.Reader<Resp> responseReader,
+        TimeValue timeoutPerQueryText
+    ) {
+        this.transportService = transportService;
+        this.clusterService = clusterService;
+        this.action = action;
+        this.responseReader = responseReader;
+        this.timeoutPerQueryText = timeoutPerQueryText;
+    }
+
+    /**
+     * Evaluate the query texts of a job across the eligible nodes.
+     * @param jobName name of the job in log messages, such as "judgment 1234"
+     * @param queryTexts query texts to evaluate
+     * @param requestFactory builds the request of a partition from its query texts
+     * @param onPartitionDone receives the node and the response of each evaluated partition, one partition at a time
+     * @param skipFailedPartitions whether a partition that failed all its attempts is skipped rather than failing the job
+     * @param listener async action, completed once all partitions are done or with the failure of the last attempt
+     */
+    public void run(
+        String jobName,
+        List<String> queryTexts,
+        Function<List<String>, Req> requestFactory,
+        BiConsumer<DiscoveryNode, Resp> onPartitionDone,
+        boolean skipFailedPartitions,
+        ActionListener<Void> listener
+    ) {
+        List<DiscoveryNode> nodes = eligibleNodes();
+        List<List<String>> partitions = partition(queryTexts, nodes.size());
+        log.info(
+            "Distributing {} query texts of {} as {} partitions over {} nodes",
+            queryTexts.size(),
+            jobName,
+            partitions.size(),
+            nodes.size()
+        );
+        new PartitionRun(jobName, partitions, nodes, requestFactory, onPartitionDone, skipFailedPartitions, listener).start();
+    }
+
+    /**
+     * Data nodes of the cluster plus the local node, which always stays available as the last resort.
+     */
+    private List<DiscoveryNode> eligibleNodes() {
+        DiscoveryNodes discoveryNodes = clusterService.state().nodes();
+        List<DiscoveryNode> nodes = new ArrayList<>(discoveryNodes.getDataNodes().values());
+        if (!discoveryNodes.getLocalNode().isDataNode()) {
+            nodes.add(discoveryNodes.getLocalNode());
+        }
+        return nodes;
+    }
+
+    /**
+     * Cut the query texts into contiguous partitions of balanced size, a few per node.
+     */
+    static List<List<String>> partition(List<String> queryTexts, int nodeCount) {
+        int partitionCount = Math.min(queryTexts.size(), Math.max(1, nodeCount) * PARTITIONS_PER_NODE);
+        List<List<String>> partitions = new ArrayList<>(partitionCount);
+        int from = 0;
+        for (int i = 0; i < partitionCount; i++) {
+            int to = from + queryTexts.size() / partitionCount + (i < queryTexts.size() % partitionCount ? 1 : 0);
+            partitions.add(new ArrayList<>(queryTexts.subList(from, to)));
+            from = to;
+        }
+        return partitions;
+    }
+
+    /**
+     * Time a node is given to evaluate a partition, growing with the number of query texts in it.
+     */
+    TimeValue partitionTimeout(int partitionSize) {
+        long timeoutMillis = timeoutPerQueryText.millis() * partitionSize;
+        return TimeValue.timeValueMillis(Math.max(MIN_PARTITION_TIMEOUT.millis(), timeoutMillis));
+    }
+
+    private static final class Partition {
+        private final List<String> queryTexts;
+        private final Set<String> failedNodeIds = new HashSet<>();
+        private int attempts = 0;
+
+        private Partition(List<String> queryTexts) {
+            this.queryTexts = queryTexts;
+        }
+    }
+
+    /**
+     * Scheduling state of one distributed job.
+     */
+    private final class PartitionRun {
+        private final String jobName;
+        private final Deque<Partition> pending = new ArrayDeque<>();
+        private final List<DiscoveryNode> liveNodes;
+        private final Set<String> busyNodeIds = new HashSet<>();
+        private final Function<List<String>, Req> requestFactory;
+        private final BiConsumer<DiscoveryNode, Resp> onPartitionDone;
+        private final boolean skipFailedPartitions;
+        private final ActionListener<Void> listener;
+        private int remaining;
+        private boolean finished = false;
+
+        private PartitionRun(
+            String jobName,
+            List<List<String>> partitions,
+            List<DiscoveryNode> nodes,
+            Function<List<String>, Req> requestFactory,
+            BiConsumer<DiscoveryNode, Resp> onPartitionDone,
+            boolean skipFailedPartitions,
+            ActionListener<Void> listener
+        ) {
+            this.jobName = jobName;
+            this.liveNodes = new ArrayList<>(nodes);
+            this.requestFactory = requestFactory;
+            this.onPartitionDone = onPartitionDone;
+            this.skipFailedPartitions = skipFailedPartitions;
+            this.listener = listener;
+            partitions.forEach(queryTexts -> pending.add(new Partition(queryTexts)));
+            this.remaining = partitions.size();
+        }
+
+        private void start() {
+            if (remaining == 0) {
+                listener.onResponse(null);
+                return;
+            }
+            dispatch();
+        }
+
+        /**
+         * Hand pending partitions to idle nodes. Requests are sent outside the lock since a partition sent to the
+         * local node may complete on the calling thread.
+         */
+        private void dispatch() {
+            List<Map.Entry<DiscoveryNode, Partition>> assignments = new ArrayList<>();
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                Iterator<Partition> iterator = pending.iterator();
+                while (iterator.hasNext()) {
+                    Partition partition = iterator.next();
+                    DiscoveryNode node = pickNode(partition);
+                    if (node != null) {
+                        iterator.remove();
+                        busyNodeIds.add(node.getId());
+                        assignments.add(Map.entry(node, partition));
+                    }
+                }
+            }
+            assignments.forEach(assignment -> send(assignment.getKey(), assignment.getValue()));
+        }
+
+        /**
+         * An idle node that has not failed the partition yet. A node that already failed it is only retried once no
+         * other node is left to take it.
+         */
+        private DiscoveryNode pickNode(Partition partition) {
+            DiscoveryNode fallback = null;
+            for (DiscoveryNode node : liveNodes) {
+                if (busyNodeIds.contains(node.getId())) {
+                    continue;
+                }
+                if (!partition.failedNodeIds.contains(node.getId())) {
+                    return node;
+                }
+                if (fallback == null) {
+                    fallback = node;
+                }
+            }
+            boolean onlyFailedNodesLeft = liveNodes.stream().allMatch(node -> partition.failedNodeIds.contains(node.getId()));
+            return onlyFailedNodesLeft ? fallback : null;
+        }
+
+        /**
+         * Send a partition as the child of a task of its own, so it can be cancelled on the node when it times out.
+         * The node stays busy until it reported back, which keeps the partition from running twice at a time.
+         */
+        private void send(DiscoveryNode node, Partition partition) {
+            TaskManager taskManager = transportService.getTaskManager();
+            PartitionAttempt attemptRequest = new PartitionAttempt(jobName);
+            CancellableTask attempt = (CancellableTask) taskManager.register("transport", action + "[attempt]", attemptRequest);
+            TimeValue timeout = partitionTimeout(partition.queryTexts.size());
+            Scheduler.ScheduledCancellable timer = transportService.getThreadPool()
+                .schedule(() -> cancel(node, attempt), timeout, ThreadPool.Names.GENERIC);
+            ActionListener<Resp> listener = ActionListener.runBefore(
+                ActionListener.wrap(response -> onPartitionEvaluated(node, response), e -> onPartitionFailed(node, partition, e)),
+                () -> {
+                    timer.cancel();
+                    taskManager.unregister(attempt);
+                }
+            );
+            transportService.sendChildRequest(
+                node,
+                action,
+                requestFactory.apply(partition.queryTexts),
+                attempt,
+                TransportRequestOptions.builder().withTimeout(timeout.millis() + CANCELLATION_GRACE_PERIOD.millis()).build(),
+                new ActionListenerResponseHandler<>(listener, responseReader)
+            );
+        }
+
+        private void cancel(DiscoveryNode node, CancellableTask attempt) {
+            log.warn("Partition of {} timed out on node {}, cancelling it", jobName, node.getId());
+            transportService.getTaskManager()
+                .cancelTaskAndDescendants(
+                    attempt,
+                    "partition timed out",
+                    false,
+                    ActionListener.wrap(r -> {}, e -> log.warn("Failed to cancel a partition of {} on node {}", jobName, node.getId(), e))
+                );
+        }
+
+        private void onPartitionEvaluated(DiscoveryNode node, Resp response) {
+            boolean done;
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                busyNodeIds.remove(node.getId());
+                onPartitionDone.accept(node, response);
+                done = --remaining == 0;
+                finished = done;
+            }
+            if (done) {
+                listener.onResponse(null);
+            } else {
+                dispatch();
+            }
+        }
+
+        private void onPartitionFailed(DiscoveryNode node, Partition partition, Exception e) {
+            Throwable cause = ExceptionsHelper.unwrapCause(e);
+            boolean nodeLeft = cause instanceof ConnectTransportException || cause instanceof NodeClosedException;
+            boolean done = false;
+            boolean failed = false;
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                busyNodeIds.remove(node.getId());
+                if (nodeLeft && !node.equals(clusterService.localNode())) {
+                    liveNodes.remove(node);
+                }
+                partition.failedNodeIds.add(node.getId());
+                if (++partition.attempts < MAX_PARTITION_ATTEMPTS) {
+                    log.warn("Partition of {} failed on node {}, reassigning it", jobName, node.getId(), e);
+                    pending.addFirst(partition);
+                } else if (skipFailedPartitions) {
+                    log.error("Giving up on a partition of {} query texts of {}", partition.queryTexts.size(), jobName, e);
+                    done = --remaining == 0;
+                    finished = done;
+                } else {
+                    failed = true;
+                    finished = true;
+                }
+            }
+            if (failed) {
+                listener.onFailure(e);
+            } else if (done) {
+                listener.onResponse(null);
+            } else {
+                dispatch();
+            }
+        }
+    }
+
+    /**
+     * Registers the local parent task of a partition attempt.
+     */
+    private static final class PartitionAttempt implements TaskAwareRequest {
+        private final String description;
+        private TaskId parentTaskId = TaskId.EMPTY_TASK_ID;
+
+        private PartitionAttempt(String jobName) {
+            this.description = "partition of " + jobName;
+        }
+
+        @Override
+        public void setParentTask(TaskId taskId) {
+            this.parentTaskId = taskId;
+        }
+
+        @Override
+        public TaskId getParentTask() {
+            return parentTaskId;
+        }
+
+        @Override
+        public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+            return new CancellableTask(id, type, action, description, parentTaskId, headers) {
+                @Override
+                public boolean shouldCancelChildrenOnCancellation() {
+                    return true;
+                }
+            };
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+    }
+}
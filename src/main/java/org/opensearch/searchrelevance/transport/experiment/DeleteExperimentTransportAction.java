@@ -15,6 +15,7 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
 import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
 import org.opensearch.tasks.Task;
@@ -23,17 +24,20 @@ import org.opensearch.transport.TransportService;
 public class DeleteExperimentTransportAction extends HandledTransportAction<OpenSearchDocRequest, DeleteResponse> {
     private final ClusterService clusterService;
     private final ExperimentDao experimentDao;
+    private final ExperimentResultDao experimentResultDao;
 
     @Inject
     public DeleteExperimentTransportAction(
         ClusterService clusterService,
         TransportService transportService,
         ActionFilters actionFilters,
-        ExperimentDao experimentDao
+        ExperimentDao experimentDao,
+        ExperimentResultDao experimentResultDao
     ) {
         super(DeleteExperimentAction.NAME, transportService, actionFilters, OpenSearchDocRequest::new);
         this.clusterService = clusterService;
         this.experimentDao = experimentDao;
+        this.experimentResultDao = experimentResultDao;
     }
 
     @Override
@@ -44,7 +48,17 @@ public class DeleteExperimentTransportAction extends HandledTransportAction<Open
                 listener.onFailure(new SearchRelevanceException("Experiment ID cannot be null or empty", RestStatus.BAD_REQUEST));
                 return;
             }
-            experimentDao.deleteExperiment(experimentId, listener);
+            // the results are deleted after the experiment, so a failed attempt can be retried even once the experiment is gone
+            experimentDao.deleteExperiment(
+                experimentId,
+                ActionListener.wrap(
+                    deleteResponse -> experimentResultDao.deleteExperimentResults(
+                        experimentId,
+                        ActionListener.wrap(deleted -> listener.onResponse(deleteResponse), listener::onFailure)
+                    ),
+                    listener::onFailure
+                )
+            );
         } catch (Exception e) {
             listener.onFailure(e);
         }
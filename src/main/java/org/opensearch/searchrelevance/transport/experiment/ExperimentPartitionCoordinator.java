@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.experiment.ExperimentVariantHybridSearchDTO;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.SearchConfigurationDetails;
+import org.opensearch.searchrelevance.transport.PartitionScheduler;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Spreads the query texts of an experiment over the data nodes of the cluster. The query texts are cut into a few
+ * partitions per node and every node evaluates one partition at a time, so faster nodes pick up more of them. Each
+ * node writes the results of its partitions itself and only reports how many query texts it evaluated. Partitions are
+ * scheduled by {@link PartitionScheduler}.
+ */
+public class ExperimentPartitionCoordinator {
+    static final TimeValue PARTITION_TIMEOUT_PER_QUERY_TEXT = TimeValue.timeValueSeconds(10);
+
+    private final PartitionScheduler<ExperimentPartitionRequest, ExperimentPartitionResponse> scheduler;
+
+    public ExperimentPartitionCoordinator(TransportService transportService, ClusterService clusterService) {
+        this.scheduler = new PartitionScheduler<>(
+            transportService,
+            clusterService,
+            ExperimentPartitionAction.NAME,
+            ExperimentPartitionResponse::new,
+            PARTITION_TIMEOUT_PER_QUERY_TEXT
+        );
+    }
+
+    /**
+     * Evaluate the query texts of an experiment across the eligible nodes.
+     * @param experimentId experiment id
+     * @param type experiment type
+     * @param searchConfigurations search configurations of the experiment by id
+     * @param queryTexts query texts to evaluate
+     * @param judgmentList judgment ids of the experiment
+     * @param size number of hits of each search
+     * @param hybridParameterCombinations hybrid search parameters to evaluate, null for the full grid
+     * @param listener async action, completed with the number of evaluated query texts by node id
+     */
+    public void run(
+        String experimentId,
+        ExperimentType type,
+        Map<String, SearchConfigurationDetails> searchConfigurations,
+        List<String> queryTexts,
+        List<String> judgmentList,
+        int size,
+        List<ExperimentVariantHybridSearchDTO> hybridParameterCombinations,
+        ActionListener<Map<String, Integer>> listener
+    ) {
+        Map<String, Integer> evaluatedQueryTextsByNode = new HashMap<>();
+        Function<List<String>, ExperimentPartitionRequest> requestFactory = partitionQueryTexts -> new ExperimentPartitionRequest(
+            experimentId,
+            type,
+            searchConfigurations,
+            judgmentList,
+            size,
+            hybridParameterCombinations,
+            partitionQueryTexts
+        );
+        scheduler.run(
+            "experiment " + experimentId,
+            queryTexts,
+            requestFactory,
+            (node, response) -> evaluatedQueryTextsByNode.merge(node.getId(), response.getEvaluatedQueryTexts(), Integer::sum),
+            false,
+            ActionListener.wrap(done -> listener.onResponse(evaluatedQueryTextsByNode), e -> {
+                String message = "Failed to evaluate a partition of experiment " + experimentId;
+                listener.onFailure(new SearchRelevanceException(message, e, RestStatus.INTERNAL_SERVER_ERROR));
+            })
+        );
+    }
+}
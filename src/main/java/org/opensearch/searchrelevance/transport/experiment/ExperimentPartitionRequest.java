@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.searchrelevance.experiment.ExperimentVariantHybridSearchDTO;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.SearchConfigurationDetails;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+
+import lombok.Getter;
+
+/**
+ * Transport Request to evaluate a partition of the query texts of an experiment. It carries the resolved search
+ * configurations, so the receiving node does not need to look them up again. Its task is cancellable, so the
+ * coordinating node can stop a partition that timed out before handing it to another node.
+ */
+@Getter
+public class ExperimentPartitionRequest extends ActionRequest {
+    private final String experimentId;
+    private final ExperimentType type;
+    private final Map<String, SearchConfigurationDetails> searchConfigurations;
+    private final List<String> judgmentList;
+    private final int size;
+    private final List<ExperimentVariantHybridSearchDTO> hybridParameterCombinations;
+    private final List<String> queryTexts;
+
+    public ExperimentPartitionRequest(
+        String experimentId,
+        ExperimentType type,
+        Map<String, SearchConfigurationDetails> searchConfigurations,
+        List<String> judgmentList,
+        int size,
+        List<ExperimentVariantHybridSearchDTO> hybridParameterCombinations,
+        List<String> queryTexts
+    ) {
+        this.experimentId = experimentId;
+        this.type = type;
+        this.searchConfigurations = searchConfigurations;
+        this.judgmentList = judgmentList;
+        this.size = size;
+        this.hybridParameterCombinations = hybridParameterCombinations;
+        this.queryTexts = queryTexts;
+    }
+
+    public ExperimentPartitionRequest(StreamInput in) throws IOException {
+        super(in);
+        this.experimentId = in.readString();
+        this.type = in.readEnum(ExperimentType.class);
+        this.searchConfigurations = in.readMap(
+            StreamInput::readString,
+            input -> SearchConfigurationDetails.builder()
+                .index(input.readString())
+                .query(input.readString())
+                .pipeline(input.readOptionalString())
+                .build()
+        );
+        this.judgmentList = in.readStringList();
+        this.size = in.readInt();
+        this.hybridParameterCombinations = in.readBoolean()
+            ? in.readList(
+                input -> ExperimentVariantHybridSearchDTO.builder()
+                    .normalizationTechnique(input.readString())
+                    .combinationTechnique(input.readString())
+                    .queryWeightsForCombination(input.readFloatArray())
+                    .build()
+            )
+            : null;
+        this.queryTexts = in.readStringList();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(experimentId);
+        out.writeEnum(type);
+        out.writeMap(searchConfigurations, StreamOutput::writeString, (output, details) -> {
+            output.writeString(details.getIndex());
+            output.writeString(details.getQuery());
+            output.writeOptionalString(details.getPipeline());
+        });
+        out.writeStringCollection(judgmentList);
+        out.writeInt(size);
+        out.writeBoolean(hybridParameterCombinations != null);
+        if (hybridParameterCombinations != null) {
+            out.writeCollection(hybridParameterCombinations, (output, combination) -> {
+                output.writeString(combination.getNormalizationTechnique());
+                output.writeString(combination.getCombinationTechnique());
+                output.writeFloatArray(combination.getQueryWeightsForCombination());
+            });
+        }
+        out.writeStringCollection(queryTexts);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        return null;
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new CancellableTask(id, type, action, getDescription(), parentTaskId, headers) {
+            @Override
+            public boolean shouldCancelChildrenOnCancellation() {
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public String getDescription() {
+        return "experiment[" + experimentId + "], query texts[" + queryTexts.size() + "]";
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.io.IOException;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+/**
+ * Transport Response summarizing one evaluated partition for the coordinating node. The results themselves are
+ * already written by the node that evaluated the partition.
+ */
+@Getter
+public class ExperimentPartitionResponse extends ActionResponse {
+    private final int evaluatedQueryTexts;
+
+    public ExperimentPartitionResponse(int evaluatedQueryTexts) {
+        this.evaluatedQueryTexts = evaluatedQueryTexts;
+    }
+
+    public ExperimentPartitionResponse(StreamInput in) throws IOException {
+        super(in);
+        this.evaluatedQueryTexts = in.readVInt();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(evaluatedQueryTexts);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.util.function.BooleanSupplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.ExperimentTaskManager;
+import org.opensearch.searchrelevance.experiment.HybridOptimizerExperimentProcessor;
+import org.opensearch.searchrelevance.experiment.JudgmentRatingIndexCache;
+import org.opensearch.searchrelevance.experiment.PointwiseExperimentProcessor;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.metrics.MetricsHelper;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Evaluates the query texts of one partition of a distributed experiment on this node. The results are bulk written
+ * by this node and flushed before responding, so only the number of evaluated query texts goes back to the
+ * coordinating node, which refreshes the result indices once every partition is done. The partition stops admitting
+ * query texts once the coordinating node cancels it.
+ */
+public class ExperimentPartitionTransportAction extends HandledTransportAction<ExperimentPartitionRequest, ExperimentPartitionResponse> {
+    private static final Logger LOGGER = LogManager.getLogger(ExperimentPartitionTransportAction.class);
+    private final JudgmentRatingIndexCache judgmentRatingIndexCache;
+    private final SearchRelevanceIndicesManager searchRelevanceIndicesManager;
+    private final ExperimentQueryTextRunner queryTextRunner;
+
+    @Inject
+    public ExperimentPartitionTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ExperimentResultDao experimentResultDao,
+        MetricsHelper metricsHelper,
+        JudgmentRatingIndexCache judgmentRatingIndexCache,
+        ExperimentTaskManager experimentTaskManager,
+        SearchRelevanceSettingsAccessor settingsAccessor,
+        SearchRelevanceIndicesManager searchRelevanceIndicesManager
+    ) {
+        super(ExperimentPartitionAction.NAME, transportService, actionFilters, ExperimentPartitionRequest::new);
+        this.judgmentRatingIndexCache = judgmentRatingIndexCache;
+        this.searchRelevanceIndicesManager = searchRelevanceIndicesManager;
+        this.queryTextRunner = new ExperimentQueryTextRunner(
+            experimentResultDao,
+            metricsHelper,
+            new HybridOptimizerExperimentProcessor(judgmentRatingIndexCache, experimentTaskManager, settingsAccessor),
+            new PointwiseExperimentProcessor(judgmentRatingIndexCache, experimentTaskManager),
+            settingsAccessor
+        );
+    }
+
+    @Override
+    protected void doExecute(Task task, ExperimentPartitionRequest request, ActionListener<ExperimentPartitionResponse> listener) {
+        if (request.getQueryTexts() == null || request.getQueryTexts().isEmpty()) {
+            listener.onFailure(new SearchRelevanceException("Partition query texts must not be empty", RestStatus.BAD_REQUEST));
+            return;
+        }
+        String experimentId = request.getExperimentId();
+        LOGGER.info("Evaluating partition of {} query texts for experiment {}", request.getQueryTexts().size(), experimentId);
+        // held across the partitions of the experiment this node gets, the coordinating node releases its own copy once the
+        // experiment is done
+        judgmentRatingIndexCache.acquire(experimentId);
+
+        BooleanSupplier cancelled = task instanceof CancellableTask cancellableTask ? cancellableTask::isCancelled : () -> false;
+        queryTextRunner.run(
+            experimentId,
+            request.getType(),
+            request.getSearchConfigurations(),
+            request.getQueryTexts(),
+            request.getJudgmentList(),
+            request.getSize(),
+            request.getHybridParameterCombinations(),
+            cancelled,
+            ActionListener.wrap(evaluatedQueryTexts -> {
+                judgmentRatingIndexCache.releaseWhenIdle(experimentId);
+                searchRelevanceIndicesManager.flush(
+                    ActionListener.wrap(v -> listener.onResponse(new ExperimentPartitionResponse(evaluatedQueryTexts)), listener::onFailure)
+                );
+            }, e -> {
+                LOGGER.error("Failed to evaluate partition for experiment {}", experimentId, e);
+                judgmentRatingIndexCache.releaseWhenIdle(experimentId);
+                listener.onFailure(e);
+            })
+        );
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.opensearch.searchrelevance.common.MetricsConstants.QUERY_TEXT;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.experiment.ExperimentVariantHybridSearchDTO;
+import org.opensearch.searchrelevance.experiment.HybridOptimizerExperimentProcessor;
+import org.opensearch.searchrelevance.experiment.PointwiseExperimentProcessor;
+import org.opensearch.searchrelevance.metrics.MetricsHelper;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.SearchConfigurationDetails;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.utils.TimeUtils;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Evaluates query texts of an experiment on this node and stores the results of every query text through the bulk
+ * writer. Only a limited number of query texts are in flight at a time, and the next one is admitted as each one
+ * completes. It runs all the query texts of a local experiment, or one partition of a distributed one.
+ */
+@Log4j2
+public class ExperimentQueryTextRunner {
+    private final ExperimentResultDao experimentResultDao;
+    private final MetricsHelper metricsHelper;
+    private final HybridOptimizerExperimentProcessor hybridOptimizerExperimentProcessor;
+    private final PointwiseExperimentProcessor pointwiseExperimentProcessor;
+    private final SearchRelevanceSettingsAccessor settingsAccessor;
+
+    public ExperimentQueryTextRunner(
+        ExperimentResultDao experimentResultDao,
+        MetricsHelper metricsHelper,
+        HybridOptimizerExperimentProcessor hybridOptimizerExperimentProcessor,
+        PointwiseExperimentProcessor pointwiseExperimentProcessor,
+        SearchRelevanceSettingsAccessor settingsAccessor
+    ) {
+        this.experimentResultDao = experimentResultDao;
+        this.metricsHelper = metricsHelper;
+        this.hybridOptimizerExperimentProcessor = hybridOptimizerExperimentProcessor;
+        this.pointwiseExperimentProcessor = pointwiseExperimentProcessor;
+        this.settingsAccessor = settingsAccessor;
+    }
+
+    /**
+     * Evaluate query texts of an experiment and store their results
+     * @param experimentId experiment id
+     * @param type experiment type
+     * @param searchConfigurations search configurations of the experiment by id
+     * @param queryTexts query texts to evaluate
+     * @param judgmentList judgment ids of the experiment
+     * @param size number of hits of each search
+     * @param hybridParameterCombinations hybrid search parameters to evaluate, null for the full grid
+     * @param listener async action, completed with the number of evaluated query texts once all their results are written
+     */
+    public void run(
+        String experimentId,
+        ExperimentType type,
+        Map<String, SearchConfigurationDetails> searchConfigurations,
+        List<String> queryTexts,
+        List<String> judgmentList,
+        int size,
+        List<ExperimentVariantHybridSearchDTO> hybridParameterCombinations,
+        ActionListener<Integer> listener
+    ) {
+        run(experimentId, type, searchConfigurations, queryTexts, judgmentList, size, hybridParameterCombinations, () -> false, listener);
+    }
+
+    /**
+     * Evaluate query texts of an experiment and store their results, failing with a {@link TaskCancelledException}
+     * instead of admitting the next query text once the run is cancelled
+     * @param experimentId experiment id
+     * @param type experiment type
+     * @param searchConfigurations search configurations of the experiment by id
+     * @param queryTexts query texts to evaluate
+     * @param judgmentList judgment ids of the experiment
+     * @param size number of hits of each search
+     * @param hybridParameterCombinations hybrid search parameters to evaluate, null for the full grid
+     * @param cancelled whether the run was cancelled
+     * @param listener async action, completed with the number of evaluated query texts once all their results are written
+     */
+    public void run(
+        String experimentId,
+        ExperimentType type,
+        Map<String, SearchConfigurationDetails> searchConfigurations,
+        List<String> queryTexts,
+        List<String> judgmentList,
+        int size,
+        List<ExperimentVariantHybridSearchDTO> hybridParameterCombinations,
+        BooleanSupplier cancelled,
+        ActionListener<Integer> listener
+    ) {
+        if (queryTexts.isEmpty()) {
+            listener.onResponse(0);
+            return;
+        }
+        new QueryTextRun(
+            experimentId,
+            type,
+            searchConfigurations,
+            queryTexts,
+            judgmentList,
+            size,
+            hybridParameterCombinations,
+            cancelled,
+            listener
+        ).start();
+    }
+
+    /**
+     * Progress of the query texts handed to one {@link #run} call.
+     */
+    private final class QueryTextRun {
+        private final String experimentId;
+        private final ExperimentType type;
+        private final Map<String, SearchConfigurationDetails> searchConfigurations;
+        private final List<String> queryTexts;
+        private final List<String> judgmentList;
+        private final int size;
+        private final List<ExperimentVariantHybridSearchDTO> hybridParameterCombinations;
+        private final BooleanSupplier cancelled;
+        private final ActionListener<Integer> listener;
+        private final AtomicInteger nextQueryIndex = new AtomicInteger(0);
+        private final AtomicInteger pendingQueries;
+        private final AtomicBoolean hasFailure = new AtomicBoolean(false);
+
+        private QueryTextRun(
+            String experimentId,
+            ExperimentType type,
+            Map<String, SearchConfigurationDetails> searchConfigurations,
+            List<String> queryTexts,
+            List<String> judgmentList,
+            int size,
+            List<ExperimentVariantHybridSearchDTO> hybridParameterCombinations,
+            BooleanSupplier cancelled,
+            ActionListener<Integer> listener
+        ) {
+            this.experimentId = experimentId;
+            this.type = type;
+            this.searchConfigurations = searchConfigurations;
+            this.queryTexts = queryTexts;
+            this.judgmentList = judgmentList;
+            this.size = size;
+            this.hybridParameterCombinations = hybridParameterCombinations;
+            this.cancelled = cancelled;
+            this.listener = listener;
+            this.pendingQueries = new AtomicInteger(queryTexts.size());
+        }
+
+        private void start() {
+            int windowSize = Math.min(settingsAccessor.getMaxInFlightExperimentQueries(), queryTexts.size());
+            log.debug("Processing {} query texts of experiment {} with {} in flight", queryTexts.size(), experimentId, windowSize);
+            for (int i = 0; i < windowSize; i++) {
+                admitNextQueryText();
+            }
+        }
+
+        private void admitNextQueryText() {
+            if (hasFailure.get()) {
+                return;
+            }
+            if (cancelled.getAsBoolean()) {
+                // failing the run also stops the variants of the query texts still in flight
+                fail(new TaskCancelledException("Evaluation of experiment " + experimentId + " was cancelled"));
+                return;
+            }
+            int queryIndex = nextQueryIndex.getAndIncrement();
+            if (queryIndex >= queryTexts.size()) {
+                return;
+            }
+            String queryText = queryTexts.get(queryIndex);
+            ActionListener<Map<String, Object>> queryListener = ActionListener.wrap(queryResults -> {
+                storeQueryResults(queryText, queryResults);
+                admitNextQueryText();
+            }, this::fail);
+
+            if (type == ExperimentType.PAIRWISE_COMPARISON) {
+                metricsHelper.processPairwiseMetrics(queryText, searchConfigurations, size, queryListener);
+            } else if (type == ExperimentType.HYBRID_OPTIMIZER) {
+                if (hybridParameterCombinations == null) {
+                    hybridOptimizerExperimentProcessor.processHybridOptimizerExperiment(
+                        experimentId,
+                        queryText,
+                        searchConfigurations,
+                        judgmentList,
+                        size,
+                        hasFailure,
+                        queryListener
+                    );
+                } else {
+                    hybridOptimizerExperimentProcessor.processHybridOptimizerExperiment(
+                        experimentId,
+                        queryText,
+                        searchConfigurations,
+                        judgmentList,
+                        size,
+                        hybridParameterCombinations,
+                        hasFailure,
+                        queryListener
+                    );
+                }
+            } else if (type == ExperimentType.POINTWISE_EVALUATION) {
+                pointwiseExperimentProcessor.processPointwiseExperiment(
+                    experimentId,
+                    queryText,
+                    searchConfigurations,
+                    judgmentList,
+                    size,
+                    hasFailure,
+                    queryListener
+                );
+            } else {
+                fail(new SearchRelevanceException("Unknown experimentType" + type, RestStatus.BAD_REQUEST));
+            }
+        }
+
+        private void storeQueryResults(String queryText, Map<String, Object> queryResults) {
+            if (hasFailure.get()) return;
+
+            try {
+                List<Map<String, Object>> results = new ArrayList<>();
+                // Handle different response formats based on experiment type
+                if (type == ExperimentType.HYBRID_OPTIMIZER) {
+                    // For HYBRID_OPTIMIZER, the response contains searchConfigurationResults
+                    List<Map<String, Object>> searchConfigResults = (List<Map<String, Object>>) queryResults.get(
+                        "searchConfigurationResults"
+                    );
+                    if (searchConfigResults != null) {
+                        for (Map<String, Object> configResult : searchConfigResults) {
+                            Map<String, Object> resultWithQuery = new HashMap<>(configResult);
+                            resultWithQuery.put(QUERY_TEXT, queryText);
+                            results.add(resultWithQuery);
+                        }
+                    }
+                } else if (type == ExperimentType.POINTWISE_EVALUATION) {
+                    // For POINTWISE_EVALUATION, the response contains results array
+                    List<Map<String, Object>> pointwiseResults = (List<Map<String, Object>>) queryResults.get("results");
+                    if (pointwiseResults != null) {
+                        // Results already contain the proper format with evaluationId, searchConfigurationId, queryText
+                        results.addAll(pointwiseResults);
+                    }
+                } else {
+                    // For other experiment types, use generic format
+                    queryResults.put(QUERY_TEXT, queryText);
+                    results.add(queryResults);
+                }
+
+                ExperimentResult experimentResult = ExperimentResult.builder()
+                    .id(ExperimentResult.idOf(experimentId, queryText))
+                    .timestamp(TimeUtils.getTimestamp())
+                    .experimentId(experimentId)
+                    .queryText(queryText)
+                    .results(results)
+                    .build();
+                experimentResultDao.putExperimentResultBulk(experimentResult, ActionListener.wrap(response -> onQueryTextStored(), e -> {
+                    if (ExceptionsHelper.unwrapCause(e) instanceof VersionConflictEngineException) {
+                        // stored by an earlier attempt of the same partition, which failed after writing it
+                        log.debug("Results of a query text of experiment {} were already stored", experimentId);
+                        onQueryTextStored();
+                    } else {
+                        fail(e);
+                    }
+                }));
+            } catch (Exception e) {
+                fail(e);
+            }
+        }
+
+        private void onQueryTextStored() {
+            if (pendingQueries.decrementAndGet() == 0) {
+                listener.onResponse(queryTexts.size());
+            }
+        }
+
+        private void fail(Exception e) {
+            if (hasFailure.compareAndSet(false, true)) {
+                listener.onFailure(e);
+            }
+        }
+    }
+}
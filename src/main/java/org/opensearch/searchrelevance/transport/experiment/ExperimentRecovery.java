@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.COORDINATOR_NODE_ID;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EXPERIMENT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.gateway.GatewayService;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.utils.TimeUtils;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Keeps track of the experiments running on this node, and once the node started fails the experiments it was
+ * coordinating before it stopped. While this node is the elected cluster manager, it also fails the experiments
+ * coordinated by nodes that left the cluster. Those would otherwise stay PROCESSING forever; once failed they can be
+ * resumed.
+ */
+@Log4j2
+public class ExperimentRecovery implements ClusterStateListener {
+    public static final String ERROR = "error";
+    static final String INTERRUPTED_ERROR = "Experiment was interrupted by a restart of its coordinating node, resume it to continue";
+    static final String NODE_LEFT_ERROR = "Experiment was interrupted as its coordinating node left the cluster, resume it to continue";
+    private static final int MAX_ORPHANED_EXPERIMENTS = 1000;
+
+    /**
+     * Experiment ids with a run currently coordinated by this node
+     */
+    private static final Set<String> ACTIVE_EXPERIMENTS = ConcurrentHashMap.newKeySet();
+
+    private final ClusterService clusterService;
+    private final ExperimentDao experimentDao;
+    private final ThreadPool threadPool;
+    private final AtomicBoolean recovered = new AtomicBoolean(false);
+
+    public ExperimentRecovery(ClusterService clusterService, ExperimentDao experimentDao, ThreadPool threadPool) {
+        this.clusterService = clusterService;
+        this.experimentDao = experimentDao;
+        this.threadPool = threadPool;
+    }
+
+    /**
+     * Register an experiment run as coordinated by this node.
+     * @return false if a run of the same experiment is already coordinated by this node
+     */
+    public static boolean markActive(String experimentId) {
+        return ACTIVE_EXPERIMENTS.add(experimentId);
+    }
+
+    public static void markInactive(String experimentId) {
+        ACTIVE_EXPERIMENTS.remove(experimentId);
+    }
+
+    public static boolean isActive(String experimentId) {
+        return ACTIVE_EXPERIMENTS.contains(experimentId);
+    }
+
+    /**
+     * Look for orphaned experiments as soon as the experiment index can be searched, and whenever nodes leave the cluster
+     */
+    public void start() {
+        clusterService.addListener(this);
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        ClusterState state = event.state();
+        if (recovered.get()) {
+            failExperimentsOfRemovedNodes(event);
+            return;
+        }
+        if (state.blocks().hasGlobalBlock(GatewayService.STATE_NOT_RECOVERED_BLOCK)) {
+            return;
+        }
+        boolean hasExperimentIndex = state.metadata().hasIndex(EXPERIMENT.getIndexName());
+        if (hasExperimentIndex) {
+            IndexRoutingTable indexRoutingTable = state.routingTable().index(EXPERIMENT.getIndexName());
+            if (indexRoutingTable == null || !indexRoutingTable.allPrimaryShardsActive()) {
+                return;
+            }
+        }
+        if (!recovered.compareAndSet(false, true)) {
+            return;
+        }
+        if (hasExperimentIndex) {
+            // searching the experiments must not block the cluster state applier
+            String localNodeId = state.nodes().getLocalNodeId();
+            threadPool.executor(ThreadPool.Names.GENERIC).execute(() -> failOrphanedExperiments(localNodeId));
+        }
+    }
+
+    /**
+     * Only the elected cluster manager looks for the experiments of removed nodes, so they are failed once
+     */
+    private void failExperimentsOfRemovedNodes(ClusterChangedEvent event) {
+        if (!event.localNodeClusterManager() || !event.nodesRemoved() || !event.state().metadata().hasIndex(EXPERIMENT.getIndexName())) {
+            return;
+        }
+        Set<String> removedNodeIds = event.nodesDelta().removedNodes().stream().map(DiscoveryNode::getId).collect(Collectors.toSet());
+        threadPool.executor(ThreadPool.Names.GENERIC).execute(() -> failOrphanedExperiments(removedNodeIds, NODE_LEFT_ERROR));
+    }
+
+    void failOrphanedExperiments(String localNodeId) {
+        failOrphanedExperiments(Set.of(localNodeId), INTERRUPTED_ERROR);
+    }
+
+    /**
+     * Fail the PROCESSING experiments coordinated by the given nodes that are not running on this node
+     * @param coordinatorNodeIds ids of the nodes that can no longer make progress on their experiments
+     * @param error error stored with the failed experiments
+     */
+    void failOrphanedExperiments(Set<String> coordinatorNodeIds, String error) {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(
+            QueryBuilders.termQuery(Experiment.STATUS, AsyncStatus.PROCESSING.name())
+        ).size(MAX_ORPHANED_EXPERIMENTS);
+        experimentDao.listExperiment(sourceBuilder, ActionListener.wrap(response -> {
+            for (SearchHit hit : response.getHits().getHits()) {
+                Experiment experiment = Experiment.fromSource(hit.getSourceAsMap());
+                Object coordinatorNodeId = experiment.metadata() == null ? null : experiment.metadata().get(COORDINATOR_NODE_ID);
+                if (coordinatorNodeIds.contains(coordinatorNodeId) && !isActive(experiment.id())) {
+                    failOrphanedExperiment(experiment, error);
+                }
+            }
+        }, e -> log.error("Failed to look for experiments interrupted on nodes {}", coordinatorNodeIds, e)));
+    }
+
+    private void failOrphanedExperiment(Experiment experiment, String error) {
+        log.warn("Experiment {} was interrupted, marking it as failed: {}", experiment.id(), error);
+        List<Map<String, Object>> results = new ArrayList<>(experiment.results());
+        results.add(Map.of(ERROR, error));
+        Experiment failedExperiment = new Experiment(
+            experiment.id(),
+            TimeUtils.getTimestamp(),
+            experiment.type(),
+            AsyncStatus.ERROR,
+            experiment.querySetId(),
+            experiment.searchConfigurationList(),
+            experiment.judgmentList(),
+            experiment.size(),
+            results,
+            experiment.metadata()
+        );
+        experimentDao.updateExperiment(
+            failedExperiment,
+            ActionListener.wrap(
+                response -> log.info("Updated interrupted experiment {} status to ERROR", experiment.id()),
+                e -> log.error("Failed to update error status for experiment: " + experiment.id(), e)
+            )
+        );
+    }
+}
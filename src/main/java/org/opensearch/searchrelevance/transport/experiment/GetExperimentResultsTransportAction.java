@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Pages through the results of an experiment, the request id is the experiment id
+ */
+public class GetExperimentResultsTransportAction extends HandledTransportAction<OpenSearchDocRequest, SearchResponse> {
+    private final ExperimentResultDao experimentResultDao;
+
+    @Inject
+    public GetExperimentResultsTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ExperimentResultDao experimentResultDao
+    ) {
+        super(GetExperimentResultsAction.NAME, transportService, actionFilters, OpenSearchDocRequest::new);
+        this.experimentResultDao = experimentResultDao;
+    }
+
+    @Override
+    protected void doExecute(Task task, OpenSearchDocRequest request, ActionListener<SearchResponse> listener) {
+        try {
+            experimentResultDao.listExperimentResults(request.getId(), request.getSearchSourceBuilder(), listener);
+        } catch (Exception e) {
+            listener.onFailure(new SearchRelevanceException("Failed to get experiment results", e, RestStatus.INTERNAL_SERVER_ERROR));
+        }
+    }
+}
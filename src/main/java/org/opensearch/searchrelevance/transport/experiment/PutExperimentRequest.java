@@ -15,6 +15,7 @@ import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.HybridOptimizerStrategy;
 
 import reactor.util.annotation.NonNull;
 
@@ -24,6 +25,9 @@ public class PutExperimentRequest extends ActionRequest {
     private final List<String> searchConfigurationList;
     private final List<String> judgmentList;
     private final int size;
+    private final HybridOptimizerStrategy optimizer;
+    private final Integer searchBudget;
+    private final boolean distributedExecution;
 
     public PutExperimentRequest(
         @NonNull ExperimentType type,
@@ -31,12 +35,40 @@ public class PutExperimentRequest extends ActionRequest {
         @NonNull List<String> searchConfigurationList,
         @NonNull List<String> judgmentList,
         int size
+    ) {
+        this(type, querySetId, searchConfigurationList, judgmentList, size, null, null);
+    }
+
+    public PutExperimentRequest(
+        @NonNull ExperimentType type,
+        @NonNull String querySetId,
+        @NonNull List<String> searchConfigurationList,
+        @NonNull List<String> judgmentList,
+        int size,
+        HybridOptimizerStrategy optimizer,
+        Integer searchBudget
+    ) {
+        this(type, querySetId, searchConfigurationList, judgmentList, size, optimizer, searchBudget, false);
+    }
+
+    public PutExperimentRequest(
+        @NonNull ExperimentType type,
+        @NonNull String querySetId,
+        @NonNull List<String> searchConfigurationList,
+        @NonNull List<String> judgmentList,
+        int size,
+        HybridOptimizerStrategy optimizer,
+        Integer searchBudget,
+        boolean distributedExecution
     ) {
         this.type = type;
         this.querySetId = querySetId;
         this.searchConfigurationList = searchConfigurationList;
         this.judgmentList = judgmentList;
         this.size = size;
+        this.optimizer = optimizer;
+        this.searchBudget = searchBudget;
+        this.distributedExecution = distributedExecution;
     }
 
     public PutExperimentRequest(StreamInput in) throws IOException {
@@ -46,6 +78,9 @@ public class PutExperimentRequest extends ActionRequest {
         this.searchConfigurationList = in.readStringList();
         this.judgmentList = in.readStringList();
         this.size = in.readInt();
+        this.optimizer = in.readOptionalEnum(HybridOptimizerStrategy.class);
+        this.searchBudget = in.readOptionalInt();
+        this.distributedExecution = in.readBoolean();
     }
 
     @Override
@@ -56,6 +91,9 @@ public class PutExperimentRequest extends ActionRequest {
         out.writeStringArray(searchConfigurationList.toArray(new String[0]));
         out.writeStringArray(judgmentList.toArray(new String[0]));
         out.writeInt(size);
+        out.writeOptionalEnum(optimizer);
+        out.writeOptionalInt(searchBudget);
+        out.writeBoolean(distributedExecution);
     }
 
     public ExperimentType getType() {
@@ -78,6 +116,27 @@ public class PutExperimentRequest extends ActionRequest {
         return judgmentList;
     }
 
+    /**
+     * Strategy searching the hybrid search parameters, null for the full grid
+     */
+    public HybridOptimizerStrategy getOptimizer() {
+        return optimizer;
+    }
+
+    /**
+     * Max number of query texts the optimizer evaluates over all its trials, null for the default
+     */
+    public Integer getSearchBudget() {
+        return searchBudget;
+    }
+
+    /**
+     * Whether the query texts are evaluated across the nodes of the cluster instead of only on the coordinating node
+     */
+    public boolean isDistributedExecution() {
+        return distributedExecution;
+    }
+
     @Override
     public ActionRequestValidationException validate() {
         return null;
@@ -7,13 +7,22 @@
  */
 package org.opensearch.searchrelevance.transport.experiment;
 
-import static org.opensearch.searchrelevance.common.MetricsConstants.QUERY_TEXT;
+import static org.opensearch.searchrelevance.common.PluginConstants.COORDINATOR_NODE_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.DEFAULT_SEARCH_BUDGET;
+import static org.opensearch.searchrelevance.common.PluginConstants.DISTRIBUTED_EXECUTION;
+import static org.opensearch.searchrelevance.common.PluginConstants.OPTIMIZER;
+import static org.opensearch.searchrelevance.common.PluginConstants.SEARCH_BUDGET;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EVALUATION_RESULT;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EXPERIMENT_RESULT;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EXPERIMENT_VARIANT;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -23,24 +32,30 @@ import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.searchrelevance.dao.ExperimentDao;
-import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
 import org.opensearch.searchrelevance.dao.QuerySetDao;
 import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
 import org.opensearch.searchrelevance.executors.ExperimentTaskManager;
+import org.opensearch.searchrelevance.experiment.ExperimentVariantHybridSearchDTO;
 import org.opensearch.searchrelevance.experiment.HybridOptimizerExperimentProcessor;
+import org.opensearch.searchrelevance.experiment.JudgmentRatingIndexCache;
 import org.opensearch.searchrelevance.experiment.PointwiseExperimentProcessor;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
 import org.opensearch.searchrelevance.metrics.MetricsHelper;
 import org.opensearch.searchrelevance.model.AsyncStatus;
 import org.opensearch.searchrelevance.model.Experiment;
 import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.HybridOptimizerStrategy;
 import org.opensearch.searchrelevance.model.QuerySet;
 import org.opensearch.searchrelevance.model.SearchConfiguration;
 import org.opensearch.searchrelevance.model.SearchConfigurationDetails;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
 import org.opensearch.searchrelevance.utils.TimeUtils;
 import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
@@ -53,31 +68,64 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class PutExperimentTransportAction extends HandledTransportAction<PutExperimentRequest, IndexResponse> {
 
+    private static final String OPTIMIZER_SUMMARY = "optimizer";
+
+    private final ClusterService clusterService;
     private final ExperimentDao experimentDao;
+    private final ExperimentResultDao experimentResultDao;
     private final QuerySetDao querySetDao;
     private final SearchConfigurationDao searchConfigurationDao;
-    private final MetricsHelper metricsHelper;
     private final HybridOptimizerExperimentProcessor hybridOptimizerExperimentProcessor;
-    private final PointwiseExperimentProcessor pointwiseExperimentProcessor;
+    private final JudgmentRatingIndexCache judgmentRatingIndexCache;
+    private final SearchRelevanceIndicesManager searchRelevanceIndicesManager;
+    private final ExperimentQueryTextRunner queryTextRunner;
+    private final ExperimentPartitionCoordinator partitionCoordinator;
 
     @Inject
     public PutExperimentTransportAction(
+        ClusterService clusterService,
         TransportService transportService,
         ActionFilters actionFilters,
         ExperimentDao experimentDao,
+        ExperimentResultDao experimentResultDao,
         QuerySetDao querySetDao,
         SearchConfigurationDao searchConfigurationDao,
         MetricsHelper metricsHelper,
-        JudgmentDao judgmentDao,
-        ExperimentTaskManager experimentTaskManager
+        JudgmentRatingIndexCache judgmentRatingIndexCache,
+        ExperimentTaskManager experimentTaskManager,
+        SearchRelevanceSettingsAccessor settingsAccessor,
+        SearchRelevanceIndicesManager searchRelevanceIndicesManager
     ) {
         super(PutExperimentAction.NAME, transportService, actionFilters, PutExperimentRequest::new);
+        this.clusterService = clusterService;
         this.experimentDao = experimentDao;
+        this.experimentResultDao = experimentResultDao;
         this.querySetDao = querySetDao;
         this.searchConfigurationDao = searchConfigurationDao;
-        this.metricsHelper = metricsHelper;
-        this.hybridOptimizerExperimentProcessor = new HybridOptimizerExperimentProcessor(judgmentDao, experimentTaskManager);
-        this.pointwiseExperimentProcessor = new PointwiseExperimentProcessor(judgmentDao, experimentTaskManager);
+        this.judgmentRatingIndexCache = judgmentRatingIndexCache;
+        this.hybridOptimizerExperimentProcessor = new HybridOptimizerExperimentProcessor(
+            judgmentRatingIndexCache,
+            experimentTaskManager,
+            settingsAccessor
+        );
+        this.searchRelevanceIndicesManager = searchRelevanceIndicesManager;
+        this.queryTextRunner = new ExperimentQueryTextRunner(
+            experimentResultDao,
+            metricsHelper,
+            hybridOptimizerExperimentProcessor,
+            new PointwiseExperimentProcessor(judgmentRatingIndexCache, experimentTaskManager),
+            settingsAccessor
+        );
+        this.partitionCoordinator = new ExperimentPartitionCoordinator(transportService, clusterService);
+    }
+
+    /**
+     * Progress kept from an earlier run of a resumed experiment
+     * @param completedQueryTexts query texts with stored results, not evaluated again
+     * @param experimentSummary checkpointed summary entries, such as the outcome of the hybrid parameter search
+     */
+    private record ResumePoint(Set<String> completedQueryTexts, List<Map<String, Object>> experimentSummary) {
+        private static final ResumePoint NONE = new ResumePoint(Set.of(), List.of());
     }
 
     @Override
@@ -89,6 +137,7 @@ public class PutExperimentTransportAction extends HandledTransportAction<PutExpe
 
         try {
             String id = UUID.randomUUID().toString();
+            ExperimentRecovery.markActive(id);
             Experiment initialExperiment = new Experiment(
                 id,
                 TimeUtils.getTimestamp(),
@@ -98,7 +147,8 @@ public class PutExperimentTransportAction extends HandledTransportAction<PutExpe
                 request.getSearchConfigurationList(),
                 request.getJudgmentList(),
                 request.getSize(),
-                new ArrayList<>()
+                new ArrayList<>(),
+                experimentMetadata(request)
             );
 
             // Store initial experiment and return ID immediately
@@ -107,8 +157,9 @@ public class PutExperimentTransportAction extends HandledTransportAction<PutExpe
                 listener.onResponse((IndexResponse) response);
 
                 // Start async processing
-                triggerAsyncProcessing(id, request);
+                triggerAsyncProcessing(id, request, ResumePoint.NONE);
             }, e -> {
+                ExperimentRecovery.markInactive(id);
                 log.error("Failed to create initial experiment", e);
                 listener.onFailure(
                     new SearchRelevanceException("Failed to create initial experiment", e, RestStatus.INTERNAL_SERVER_ERROR)
@@ -121,7 +172,89 @@ public class PutExperimentTransportAction extends HandledTransportAction<PutExpe
         }
     }
 
-    private void triggerAsyncProcessing(String experimentId, PutExperimentRequest request) {
+    /**
+     * Resume an interrupted or failed experiment. Query texts with stored results are kept as they are and only the
+     * remaining ones are evaluated, and a hybrid optimizer reuses the best configuration its earlier run checkpointed
+     * instead of searching the parameters again. A query text the earlier run left half evaluated is evaluated again in
+     * full, so the experiment variants and evaluation results it already wrote are kept next to the new ones.
+     * @param experiment experiment to resume, already registered as active on this node
+     * @param listener async action, completed once the experiment is processing again
+     */
+    public void resumeExperiment(Experiment experiment, ActionListener<IndexResponse> listener) {
+        String experimentId = experiment.id();
+        PutExperimentRequest request = resumedRequest(experiment);
+        List<Map<String, Object>> checkpointedSummary = experiment.results()
+            .stream()
+            .filter(entry -> entry.containsKey(OPTIMIZER_SUMMARY))
+            .collect(Collectors.toList());
+
+        experimentResultDao.getCompletedQueryTexts(experimentId, ActionListener.wrap(completedQueryTexts -> {
+            Experiment resumedExperiment = new Experiment(
+                experimentId,
+                TimeUtils.getTimestamp(),
+                request.getType(),
+                AsyncStatus.PROCESSING,
+                request.getQuerySetId(),
+                request.getSearchConfigurationList(),
+                request.getJudgmentList(),
+                request.getSize(),
+                checkpointedSummary,
+                experimentMetadata(request)
+            );
+            experimentDao.updateExperiment(resumedExperiment, ActionListener.wrap(response -> {
+                listener.onResponse((IndexResponse) response);
+
+                log.info("Resuming experiment {} with {} query texts already evaluated", experimentId, completedQueryTexts.size());
+                triggerAsyncProcessing(experimentId, request, new ResumePoint(completedQueryTexts, checkpointedSummary));
+            }, e -> failResume(experimentId, e, listener)));
+        }, e -> failResume(experimentId, e, listener)));
+    }
+
+    private void failResume(String experimentId, Exception e, ActionListener<IndexResponse> listener) {
+        ExperimentRecovery.markInactive(experimentId);
+        log.error("Failed to mark experiment {} as resumed", experimentId, e);
+        listener.onFailure(new SearchRelevanceException("Failed to resume experiment", e, RestStatus.INTERNAL_SERVER_ERROR));
+    }
+
+    /**
+     * Request of the earlier run of an experiment, rebuilt from the experiment and its metadata
+     */
+    private static PutExperimentRequest resumedRequest(Experiment experiment) {
+        Map<String, Object> metadata = experiment.metadata();
+        HybridOptimizerStrategy optimizer = Optional.ofNullable((String) metadata.get(OPTIMIZER))
+            .map(HybridOptimizerStrategy::valueOf)
+            .orElse(null);
+        Integer searchBudget = Optional.ofNullable((Number) metadata.get(SEARCH_BUDGET)).map(Number::intValue).orElse(null);
+        return new PutExperimentRequest(
+            experiment.type(),
+            experiment.querySetId(),
+            experiment.searchConfigurationList(),
+            experiment.judgmentList(),
+            experiment.size(),
+            optimizer,
+            searchBudget,
+            Boolean.TRUE.equals(metadata.get(DISTRIBUTED_EXECUTION))
+        );
+    }
+
+    /**
+     * Options of the run kept with the experiment to resume it, and this node as its coordinator so the experiment is
+     * known as interrupted if this node restarts before it completes
+     */
+    private Map<String, Object> experimentMetadata(PutExperimentRequest request) {
+        Map<String, Object> metadata = new HashMap<>();
+        if (request.getOptimizer() != null) {
+            metadata.put(OPTIMIZER, request.getOptimizer().name());
+        }
+        if (request.getSearchBudget() != null) {
+            metadata.put(SEARCH_BUDGET, request.getSearchBudget());
+        }
+        metadata.put(DISTRIBUTED_EXECUTION, request.isDistributedExecution());
+        metadata.put(COORDINATOR_NODE_ID, clusterService.localNode().getId());
+        return metadata;
+    }
+
+    private void triggerAsyncProcessing(String experimentId, PutExperimentRequest request, ResumePoint resumePoint) {
         // First, get QuerySet asynchronously
         querySetDao.getQuerySet(request.getQuerySetId(), ActionListener.wrap(querySetResponse -> {
             try {
@@ -132,14 +265,19 @@ public class PutExperimentTransportAction extends HandledTransportAction<PutExpe
                     .collect(Collectors.toList());
 
                 // Then get SearchConfigurations asynchronously
-                fetchSearchConfigurationsAsync(experimentId, request, queryTextWithReferences);
+                fetchSearchConfigurationsAsync(experimentId, request, queryTextWithReferences, resumePoint);
             } catch (Exception e) {
-                handleAsyncFailure(experimentId, request, "Failed to process QuerySet", e);
+                handleAsyncFailure(experimentId, request, resumePoint.experimentSummary(), "Failed to process QuerySet", e);
             }
-        }, e -> { handleAsyncFailure(experimentId, request, "Failed to fetch QuerySet", e); }));
+        }, e -> { handleAsyncFailure(experimentId, request, resumePoint.experimentSummary(), "Failed to fetch QuerySet", e); }));
     }
 
-    private void fetchSearchConfigurationsAsync(String experimentId, PutExperimentRequest request, List<String> queryTextWithReferences) {
+    private void fetchSearchConfigurationsAsync(
+        String experimentId,
+        PutExperimentRequest request,
+        List<String> queryTextWithReferences,
+        ResumePoint resumePoint
+    ) {
         Map<String, SearchConfigurationDetails> searchConfigurations = new HashMap<>();
         AtomicInteger pendingConfigs = new AtomicInteger(request.getSearchConfigurationList().size());
         AtomicBoolean hasFailure = new AtomicBoolean(false);
@@ -163,16 +301,18 @@ public class PutExperimentTransportAction extends HandledTransportAction<PutExpe
 
                     // Check if all configurations are fetched
                     if (pendingConfigs.decrementAndGet() == 0) {
-                        calculateMetricsAsync(experimentId, request, searchConfigurations, queryTextWithReferences);
+                        calculateMetricsAsync(experimentId, request, searchConfigurations, queryTextWithReferences, resumePoint);
                     }
                 } catch (Exception e) {
                     if (hasFailure.compareAndSet(false, true)) {
-                        handleAsyncFailure(experimentId, request, "Failed to process SearchConfiguration", e);
+                        String message = "Failed to process SearchConfiguration";
+                        handleAsyncFailure(experimentId, request, resumePoint.experimentSummary(), message, e);
                     }
                 }
             }, e -> {
                 if (hasFailure.compareAndSet(false, true)) {
-                    handleAsyncFailure(experimentId, request, "Failed to fetch SearchConfiguration: " + configId, e);
+                    String message = "Failed to fetch SearchConfiguration: " + configId;
+                    handleAsyncFailure(experimentId, request, resumePoint.experimentSummary(), message, e);
                 }
             }));
         }
@@ -229,181 +369,190 @@ public class PutExperimentTransportAction extends HandledTransportAction<PutExpe
         String experimentId,
         PutExperimentRequest request,
         Map<String, SearchConfigurationDetails> searchConfigurations,
-        List<String> queryTextWithReferences
+        List<String> queryTextWithReferences,
+        ResumePoint resumePoint
     ) {
         if (queryTextWithReferences == null || searchConfigurations == null) {
             throw new IllegalStateException("Missing required data for metrics calculation");
         }
 
-        processQueryTextMetrics(experimentId, request, searchConfigurations, queryTextWithReferences);
+        processQueryTextMetrics(experimentId, request, searchConfigurations, queryTextWithReferences, resumePoint);
     }
 
     private void processQueryTextMetrics(
         String experimentId,
         PutExperimentRequest request,
         Map<String, SearchConfigurationDetails> searchConfigurations,
-        List<String> queryTexts
+        List<String> queryTexts,
+        ResumePoint resumePoint
     ) {
-        List<Map<String, Object>> finalResults = Collections.synchronizedList(new ArrayList<>());
-        AtomicInteger pendingQueries = new AtomicInteger(queryTexts.size());
-        AtomicBoolean hasFailure = new AtomicBoolean(false);
+        // results are stored per query text, the experiment document only keeps the summary
+        List<Map<String, Object>> experimentSummary = Collections.synchronizedList(new ArrayList<>(resumePoint.experimentSummary()));
+        // the results of a query text are stored once all its variants are evaluated, those query texts are done
+        List<String> remainingQueryTexts = queryTexts.stream()
+            .filter(queryText -> !resumePoint.completedQueryTexts().contains(queryText))
+            .collect(Collectors.toList());
+
+        HybridOptimizerStrategy optimizer = request.getType() == ExperimentType.HYBRID_OPTIMIZER
+            ? hybridOptimizerExperimentProcessor.resolveStrategy(request.getOptimizer(), searchConfigurations)
+            : null;
+        if (optimizer == null || optimizer == HybridOptimizerStrategy.GRID) {
+            evaluateQueryTexts(experimentId, request, searchConfigurations, remainingQueryTexts, experimentSummary, null);
+            return;
+        }
+        ExperimentVariantHybridSearchDTO checkpointedConfiguration = checkpointedBestConfiguration(experimentSummary);
+        if (checkpointedConfiguration != null) {
+            evaluateQueryTexts(
+                experimentId,
+                request,
+                searchConfigurations,
+                remainingQueryTexts,
+                experimentSummary,
+                List.of(checkpointedConfiguration)
+            );
+            return;
+        }
 
-        executeExperimentEvaluation(
+        // search the parameters within the budget first, then evaluate only the best configuration on every query text
+        int searchBudget = Optional.ofNullable(request.getSearchBudget()).orElse(DEFAULT_SEARCH_BUDGET);
+        hybridOptimizerExperimentProcessor.optimizeHybridParameters(
             experimentId,
-            request,
-            searchConfigurations,
             queryTexts,
-            finalResults,
-            pendingQueries,
-            hasFailure,
-            request.getJudgmentList()
+            searchConfigurations,
+            request.getJudgmentList(),
+            request.getSize(),
+            optimizer,
+            searchBudget,
+            ActionListener.wrap(optimizationResult -> {
+                experimentSummary.add(Map.of(OPTIMIZER_SUMMARY, optimizationResult.summary()));
+                checkpointExperiment(
+                    experimentId,
+                    request,
+                    experimentSummary,
+                    () -> evaluateQueryTexts(
+                        experimentId,
+                        request,
+                        searchConfigurations,
+                        remainingQueryTexts,
+                        experimentSummary,
+                        List.of(optimizationResult.bestConfiguration())
+                    )
+                );
+            }, e -> handleAsyncFailure(experimentId, request, experimentSummary, "Failed to process metrics", e))
         );
     }
 
-    private void executeExperimentEvaluation(
+    private static ExperimentVariantHybridSearchDTO checkpointedBestConfiguration(List<Map<String, Object>> experimentSummary) {
+        for (Map<String, Object> entry : experimentSummary) {
+            if (entry.get(OPTIMIZER_SUMMARY) instanceof Map<?, ?> optimizerSummary) {
+                return HybridOptimizerExperimentProcessor.bestConfigurationOf((Map<String, Object>) optimizerSummary);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Store the summary gathered so far with the processing experiment, so a resumed run can start from it. The next
+     * step only starts once the checkpoint is written, so a late checkpoint never overwrites the final experiment.
+     */
+    private void checkpointExperiment(
+        String experimentId,
+        PutExperimentRequest request,
+        List<Map<String, Object>> experimentSummary,
+        Runnable next
+    ) {
+        Experiment checkpoint = new Experiment(
+            experimentId,
+            TimeUtils.getTimestamp(),
+            request.getType(),
+            AsyncStatus.PROCESSING,
+            request.getQuerySetId(),
+            request.getSearchConfigurationList(),
+            request.getJudgmentList(),
+            request.getSize(),
+            new ArrayList<>(experimentSummary),
+            experimentMetadata(request)
+        );
+        experimentDao.updateExperiment(
+            checkpoint,
+            ActionListener.wrap(response -> {
+                log.debug("Checkpointed experiment: {}", experimentId);
+                next.run();
+            }, e -> {
+                log.warn("Failed to checkpoint experiment {}, a resumed run searches the parameters again", experimentId, e);
+                next.run();
+            })
+        );
+    }
+
+    /**
+     * Evaluate the query texts on this node, or spread them over the nodes of the cluster for a distributed experiment.
+     * Either way the results are written per query text, the experiment only keeps the summary.
+     */
+    private void evaluateQueryTexts(
         String experimentId,
         PutExperimentRequest request,
         Map<String, SearchConfigurationDetails> searchConfigurations,
         List<String> queryTexts,
-        List<Map<String, Object>> finalResults,
-        AtomicInteger pendingQueries,
-        AtomicBoolean hasFailure,
-        List<String> judgmentList
+        List<Map<String, Object>> experimentSummary,
+        List<ExperimentVariantHybridSearchDTO> hybridParameterCombinations
     ) {
-        for (String queryText : queryTexts) {
-            if (hasFailure.get()) {
-                return;
-            }
-
-            if (request.getType() == ExperimentType.PAIRWISE_COMPARISON) {
-                metricsHelper.processPairwiseMetrics(
-                    queryText,
-                    searchConfigurations,
-                    request.getSize(),
-                    ActionListener.wrap(
-                        queryResults -> handleQueryResults(
-                            queryText,
-                            queryResults,
-                            finalResults,
-                            pendingQueries,
-                            experimentId,
-                            request,
-                            hasFailure,
-                            judgmentList
-                        ),
-                        error -> handleFailure(error, hasFailure, experimentId, request)
-                    )
-                );
-            } else if (request.getType() == ExperimentType.HYBRID_OPTIMIZER) {
-                // Use our task manager implementation for hybrid optimizer
-                hybridOptimizerExperimentProcessor.processHybridOptimizerExperiment(
-                    experimentId,
-                    queryText,
-                    searchConfigurations,
-                    judgmentList,
-                    request.getSize(),
-                    hasFailure,
-                    ActionListener.wrap(
-                        queryResults -> handleQueryResults(
-                            queryText,
-                            queryResults,
-                            finalResults,
-                            pendingQueries,
-                            experimentId,
-                            request,
-                            hasFailure,
-                            judgmentList
-                        ),
-                        error -> handleFailure(error, hasFailure, experimentId, request)
-                    )
-                );
-            } else if (request.getType() == ExperimentType.POINTWISE_EVALUATION) {
-                pointwiseExperimentProcessor.processPointwiseExperiment(
-                    experimentId,
-                    queryText,
-                    searchConfigurations,
-                    judgmentList,
-                    request.getSize(),
-                    hasFailure,
-                    ActionListener.wrap(
-                        queryResults -> handleQueryResults(
-                            queryText,
-                            queryResults,
-                            finalResults,
-                            pendingQueries,
-                            experimentId,
-                            request,
-                            hasFailure,
-                            judgmentList
-                        ),
-                        error -> handleFailure(error, hasFailure, experimentId, request)
-                    )
-                );
-            } else {
-                throw new SearchRelevanceException("Unknown experimentType" + request.getType(), RestStatus.BAD_REQUEST);
-            }
+        List<String> judgmentList = request.getJudgmentList();
+        if (request.isDistributedExecution()) {
+            partitionCoordinator.run(
+                experimentId,
+                request.getType(),
+                searchConfigurations,
+                queryTexts,
+                judgmentList,
+                request.getSize(),
+                hybridParameterCombinations,
+                ActionListener.wrap(evaluatedQueryTextsByNode -> {
+                    experimentSummary.add(Map.of("distribution", evaluatedQueryTextsByNode));
+                    refreshResultsAndUpdateFinalExperiment(experimentId, request, experimentSummary, judgmentList);
+                }, e -> handleAsyncFailure(experimentId, request, experimentSummary, "Failed to process metrics", e))
+            );
+        } else {
+            queryTextRunner.run(
+                experimentId,
+                request.getType(),
+                searchConfigurations,
+                queryTexts,
+                judgmentList,
+                request.getSize(),
+                hybridParameterCombinations,
+                ActionListener.wrap(
+                    evaluatedQueryTexts -> refreshResultsAndUpdateFinalExperiment(experimentId, request, experimentSummary, judgmentList),
+                    e -> handleAsyncFailure(experimentId, request, experimentSummary, "Failed to process metrics", e)
+                )
+            );
         }
     }
 
-    private void handleQueryResults(
-        String queryText,
-        Map<String, Object> queryResults,
-        List<Map<String, Object>> finalResults,
-        AtomicInteger pendingQueries,
+    /**
+     * Evaluation results, experiment variants and experiment results are bulk written without a refresh, make them
+     * searchable with a single refresh before the experiment is reported as completed
+     */
+    private void refreshResultsAndUpdateFinalExperiment(
         String experimentId,
         PutExperimentRequest request,
-        AtomicBoolean hasFailure,
+        List<Map<String, Object>> experimentSummary,
         List<String> judgmentList
     ) {
-        if (hasFailure.get()) return;
-
-        try {
-            synchronized (finalResults) {
-                // Handle different response formats based on experiment type
-                if (request.getType() == ExperimentType.HYBRID_OPTIMIZER) {
-                    // For HYBRID_OPTIMIZER, the response contains searchConfigurationResults
-                    List<Map<String, Object>> searchConfigResults = (List<Map<String, Object>>) queryResults.get(
-                        "searchConfigurationResults"
-                    );
-                    if (searchConfigResults != null) {
-                        for (Map<String, Object> configResult : searchConfigResults) {
-                            Map<String, Object> resultWithQuery = new HashMap<>(configResult);
-                            resultWithQuery.put(QUERY_TEXT, queryText);
-                            finalResults.add(resultWithQuery);
-                        }
-                    }
-                } else if (request.getType() == ExperimentType.POINTWISE_EVALUATION) {
-                    // For POINTWISE_EVALUATION, the response contains results array
-                    List<Map<String, Object>> pointwiseResults = (List<Map<String, Object>>) queryResults.get("results");
-                    if (pointwiseResults != null) {
-                        // Results already contain the proper format with evaluationId, searchConfigurationId, queryText
-                        finalResults.addAll(pointwiseResults);
-                    }
-                } else {
-                    // For other experiment types, use generic format
-                    queryResults.put(QUERY_TEXT, queryText);
-                    finalResults.add(queryResults);
-                }
-
-                if (pendingQueries.decrementAndGet() == 0) {
-                    updateFinalExperiment(experimentId, request, finalResults, judgmentList);
-                }
-            }
-        } catch (Exception e) {
-            handleFailure(e, hasFailure, experimentId, request);
-        }
-    }
-
-    private void handleFailure(Exception error, AtomicBoolean hasFailure, String experimentId, PutExperimentRequest request) {
-        if (hasFailure.compareAndSet(false, true)) {
-            handleAsyncFailure(experimentId, request, "Failed to process metrics", error);
-        }
+        // every query text is evaluated, the judgment ratings are not needed anymore
+        judgmentRatingIndexCache.release(experimentId);
+        searchRelevanceIndicesManager.flushAndRefresh(ActionListener.wrap(response -> {
+            updateFinalExperiment(experimentId, request, experimentSummary, judgmentList);
+        }, error -> {
+            log.warn("Failed to refresh results of experiment {}, they become searchable with the next refresh", experimentId, error);
+            updateFinalExperiment(experimentId, request, experimentSummary, judgmentList);
+        }), EVALUATION_RESULT, EXPERIMENT_VARIANT, EXPERIMENT_RESULT);
     }
 
     private void updateFinalExperiment(
         String experimentId,
         PutExperimentRequest request,
-        List<Map<String, Object>> finalResults,
+        List<Map<String, Object>> experimentSummary,
         List<String> judgmentList
     ) {
         Experiment finalExperiment = new Experiment(
@@ -415,20 +564,32 @@ public class PutExperimentTransportAction extends HandledTransportAction<PutExpe
             request.getSearchConfigurationList(),
             judgmentList,
             request.getSize(),
-            finalResults
+            experimentSummary,
+            experimentMetadata(request)
         );
 
-        experimentDao.updateExperiment(
-            finalExperiment,
-            ActionListener.wrap(
-                response -> log.debug("Updated final experiment: {}", experimentId),
-                error -> handleAsyncFailure(experimentId, request, "Failed to update final experiment", error)
-            )
-        );
+        experimentDao.updateExperiment(finalExperiment, ActionListener.wrap(response -> {
+            ExperimentRecovery.markInactive(experimentId);
+            log.debug("Updated final experiment: {}", experimentId);
+        }, error -> handleAsyncFailure(experimentId, request, experimentSummary, "Failed to update final experiment", error)));
     }
 
-    private void handleAsyncFailure(String experimentId, PutExperimentRequest request, String message, Exception error) {
+    /**
+     * Mark the experiment as failed, keeping the summary gathered so far for a resumed run
+     */
+    private void handleAsyncFailure(
+        String experimentId,
+        PutExperimentRequest request,
+        List<Map<String, Object>> experimentSummary,
+        String message,
+        Exception error
+    ) {
         log.error(message + " for experiment: " + experimentId, error);
+        judgmentRatingIndexCache.release(experimentId);
+        ExperimentRecovery.markInactive(experimentId);
+
+        List<Map<String, Object>> results = new ArrayList<>(experimentSummary);
+        results.add(Map.of(ExperimentRecovery.ERROR, error.getMessage()));
 
         Experiment errorExperiment = new Experiment(
             experimentId,
@@ -439,7 +600,8 @@ public class PutExperimentTransportAction extends HandledTransportAction<PutExpe
             request.getSearchConfigurationList(),
             request.getJudgmentList(),
             request.getSize(),
-            List.of(Map.of("error", error.getMessage()))
+            results,
+            experimentMetadata(request)
         );
 
         experimentDao.updateExperiment(
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.COORDINATOR_NODE_ID;
+
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+import org.opensearch.searchrelevance.utils.ClusterUtil;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Resumes an interrupted or failed experiment. Query texts with stored results are kept as is and only the remaining
+ * query texts are evaluated, this node coordinates the resumed run. An experiment still PROCESSING is only resumed
+ * once its coordinating node is gone.
+ */
+public class ResumeExperimentTransportAction extends HandledTransportAction<OpenSearchDocRequest, IndexResponse> {
+    private final ClusterService clusterService;
+    private final ExperimentDao experimentDao;
+    private final PutExperimentTransportAction putExperimentTransportAction;
+
+    @Inject
+    public ResumeExperimentTransportAction(
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ExperimentDao experimentDao,
+        PutExperimentTransportAction putExperimentTransportAction
+    ) {
+        super(ResumeExperimentAction.NAME, transportService, actionFilters, OpenSearchDocRequest::new);
+        this.clusterService = clusterService;
+        this.experimentDao = experimentDao;
+        this.putExperimentTransportAction = putExperimentTransportAction;
+    }
+
+    @Override
+    protected void doExecute(Task task, OpenSearchDocRequest request, ActionListener<IndexResponse> listener) {
+        String experimentId = request.getId();
+        if (experimentId == null || experimentId.isEmpty()) {
+            listener.onFailure(new SearchRelevanceException("experimentId must not be null or empty", RestStatus.BAD_REQUEST));
+            return;
+        }
+        experimentDao.getExperiment(
+            experimentId,
+            ActionListener.wrap(
+                response -> resumeExperiment(experimentId, response, listener),
+                e -> listener.onFailure(new SearchRelevanceException("Failed to get experiment", e, RestStatus.INTERNAL_SERVER_ERROR))
+            )
+        );
+    }
+
+    private void resumeExperiment(String experimentId, SearchResponse response, ActionListener<IndexResponse> listener) {
+        if (response.getHits().getTotalHits().value() == 0) {
+            listener.onFailure(new SearchRelevanceException("Experiment not found: " + experimentId, RestStatus.NOT_FOUND));
+            return;
+        }
+        Experiment experiment = Experiment.fromSource(response.getHits().getHits()[0].getSourceAsMap());
+        if (experiment.status() == AsyncStatus.COMPLETED) {
+            listener.onFailure(new SearchRelevanceException("Experiment is already completed: " + experimentId, RestStatus.BAD_REQUEST));
+            return;
+        }
+        // an experiment still processing is only resumed once nothing can make progress on it anymore
+        if (experiment.status() == AsyncStatus.PROCESSING
+            && !ClusterUtil.isAbandoned(clusterService.state(), coordinatorNodeId(experiment), ExperimentRecovery.isActive(experimentId))) {
+            listener.onFailure(new SearchRelevanceException("Experiment is already running: " + experimentId, RestStatus.CONFLICT));
+            return;
+        }
+        if (!ExperimentRecovery.markActive(experimentId)) {
+            listener.onFailure(new SearchRelevanceException("Experiment is already running: " + experimentId, RestStatus.CONFLICT));
+            return;
+        }
+        putExperimentTransportAction.resumeExperiment(experiment, listener);
+    }
+
+    private static String coordinatorNodeId(Experiment experiment) {
+        return experiment.metadata() == null ? null : (String) experiment.metadata().get(COORDINATOR_NODE_ID);
+    }
+}
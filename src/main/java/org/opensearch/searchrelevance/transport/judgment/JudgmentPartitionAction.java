@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.TRANSPORT_ACTION_NAME_PREFIX;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Internal Action judging one partition of the query texts of a distributed LLM judgment job on the receiving node
+ */
+public class JudgmentPartitionAction extends ActionType<JudgmentPartitionResponse> {
+    /** The name of this action */
+    public static final String NAME = TRANSPORT_ACTION_NAME_PREFIX + "judgment/partition";
+
+    /** An instance of this action */
+    public static final JudgmentPartitionAction INSTANCE = new JudgmentPartitionAction();
+
+    private JudgmentPartitionAction() {
+        super(NAME, JudgmentPartitionResponse::new);
+    }
+}
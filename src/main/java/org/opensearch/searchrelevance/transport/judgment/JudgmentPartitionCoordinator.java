@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.DISTRIBUTED_JUDGING;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_INPUT_TOKENS;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_LLM_CALLS;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.transport.PartitionScheduler;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Spreads the query texts of an LLM judgment job over the data nodes of the cluster. The query texts are cut into a
+ * few partitions per node and every node judges one partition at a time, so faster nodes pick up more of them.
+ * Results are handed to the job's consumer as each partition returns. Partitions are scheduled by
+ * {@link PartitionScheduler}; a partition that failed all its attempts is skipped when the job ignores failures.
+ */
+@Log4j2
+public class JudgmentPartitionCoordinator {
+    static final TimeValue PARTITION_TIMEOUT_PER_QUERY_TEXT = TimeValue.timeValueMinutes(1);
+
+    private final PartitionScheduler<JudgmentPartitionRequest, JudgmentPartitionResponse> scheduler;
+    private final QuerySetDao querySetDao;
+
+    public JudgmentPartitionCoordinator(TransportService transportService, ClusterService clusterService, QuerySetDao querySetDao) {
+        this.scheduler = new PartitionScheduler<>(
+            transportService,
+            clusterService,
+            JudgmentPartitionAction.NAME,
+            JudgmentPartitionResponse::new,
+            PARTITION_TIMEOUT_PER_QUERY_TEXT
+        );
+        this.querySetDao = querySetDao;
+    }
+
+    public static boolean isDistributed(Map<String, Object> metadata) {
+        return Boolean.TRUE.equals(metadata.get(DISTRIBUTED_JUDGING));
+    }
+
+    /**
+     * Judge the query texts of a job across the eligible nodes.
+     * @param judgmentId judgment the partitions belong to
+     * @param metadata metadata of the judgment job
+     * @param completedQueryTexts query texts already judged by a previous run of the same job
+     * @param queryResultConsumer receives each per-query result as its partition completes
+     * @param listener async action, completed with the results of all partitions
+     */
+    public void generateJudgmentRating(
+        String judgmentId,
+        Map<String, Object> metadata,
+        Set<String> completedQueryTexts,
+        Consumer<Map<String, Object>> queryResultConsumer,
+        ActionListener<List<Map<String, Object>>> listener
+    ) {
+        querySetDao.getQuerySetAsync((String) metadata.get("querySetId"), ActionListener.wrap(querySet -> {
+            List<String> queryTexts = querySet.querySetQueries()
+                .stream()
+                .map(e -> e.queryText())
+                .filter(queryText -> !completedQueryTexts.contains(queryText))
+                .collect(Collectors.toList());
+            List<Map<String, Object>> results = new ArrayList<>();
+            Function<List<String>, JudgmentPartitionRequest> requestFactory = partitionQueryTexts -> new JudgmentPartitionRequest(
+                judgmentId,
+                partitionMetadata(metadata, partitionQueryTexts.size(), queryTexts.size()),
+                partitionQueryTexts
+            );
+            BiConsumer<DiscoveryNode, JudgmentPartitionResponse> onPartitionJudged = (node, response) -> {
+                response.getJudgmentRatings().forEach(queryResultConsumer);
+                results.addAll(response.getJudgmentRatings());
+            };
+            boolean ignoreFailure = Boolean.TRUE.equals(metadata.get("ignoreFailure"));
+            scheduler.run(
+                "judgment " + judgmentId,
+                queryTexts,
+                requestFactory,
+                onPartitionJudged,
+                ignoreFailure,
+                ActionListener.wrap(done -> listener.onResponse(results), e -> {
+                    String message = "Failed to judge a partition of judgment " + judgmentId;
+                    listener.onFailure(new SearchRelevanceException(message, e, RestStatus.INTERNAL_SERVER_ERROR));
+                })
+            );
+        }, e -> {
+            log.error("Failed to distribute judgment {}", judgmentId, e);
+            listener.onFailure(new SearchRelevanceException("Failed to distribute LLM judgments", e, RestStatus.INTERNAL_SERVER_ERROR));
+        }));
+    }
+
+    /**
+     * Metadata sent with a partition. The input token and call budgets of the job are split across the partitions in
+     * proportion to their number of query texts, so the job as a whole stays within its budget.
+     */
+    static Map<String, Object> partitionMetadata(Map<String, Object> metadata, int partitionSize, int totalQueryTexts) {
+        Map<String, Object> partitionMetadata = new HashMap<>(metadata);
+        partitionMetadata.remove(DISTRIBUTED_JUDGING);
+        if (metadata.get(MAX_INPUT_TOKENS) instanceof Number tokens && tokens.longValue() > 0) {
+            partitionMetadata.put(MAX_INPUT_TOKENS, Math.max(1L, tokens.longValue() * partitionSize / totalQueryTexts));
+        }
+        if (metadata.get(MAX_LLM_CALLS) instanceof Number calls && calls.intValue() > 0) {
+            partitionMetadata.put(MAX_LLM_CALLS, (int) Math.max(1L, (long) calls.intValue() * partitionSize / totalQueryTexts));
+        }
+        return partitionMetadata;
+    }
+}
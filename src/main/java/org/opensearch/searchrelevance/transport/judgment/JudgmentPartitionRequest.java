@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+
+import lombok.Getter;
+
+/**
+ * Transport Request to judge a partition of the query texts of an LLM judgment job. Its task is cancellable, so the
+ * coordinating node can stop a partition that timed out before handing it to another node.
+ */
+@Getter
+public class JudgmentPartitionRequest extends ActionRequest {
+    private final String judgmentId;
+    private final Map<String, Object> metadata;
+    private final List<String> queryTexts;
+
+    public JudgmentPartitionRequest(String judgmentId, Map<String, Object> metadata, List<String> queryTexts) {
+        this.judgmentId = judgmentId;
+        this.metadata = metadata;
+        this.queryTexts = queryTexts;
+    }
+
+    public JudgmentPartitionRequest(StreamInput in) throws IOException {
+        super(in);
+        this.judgmentId = in.readString();
+        this.metadata = in.readMap();
+        this.queryTexts = in.readStringList();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(judgmentId);
+        out.writeMap(metadata);
+        out.writeStringCollection(queryTexts);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        return null;
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new CancellableTask(id, type, action, getDescription(), parentTaskId, headers) {
+            @Override
+            public boolean shouldCancelChildrenOnCancellation() {
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public String getDescription() {
+        return "judgment[" + judgmentId + "], query texts[" + queryTexts.size() + "]";
+    }
+}
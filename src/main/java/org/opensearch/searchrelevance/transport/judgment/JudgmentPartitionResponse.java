@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+/**
+ * Transport Response carrying the per-query results of one judged partition back to the coordinating node.
+ */
+@Getter
+public class JudgmentPartitionResponse extends ActionResponse {
+    private final List<Map<String, Object>> judgmentRatings;
+
+    public JudgmentPartitionResponse(List<Map<String, Object>> judgmentRatings) {
+        this.judgmentRatings = judgmentRatings;
+    }
+
+    public JudgmentPartitionResponse(StreamInput in) throws IOException {
+        super(in);
+        this.judgmentRatings = in.readList(StreamInput::readMap);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeCollection(judgmentRatings, StreamOutput::writeMap);
+    }
+}
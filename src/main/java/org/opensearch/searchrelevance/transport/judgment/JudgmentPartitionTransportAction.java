@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.PARTITION_QUERY_TEXTS;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.judgments.JudgmentsProcessorFactory;
+import org.opensearch.searchrelevance.model.JudgmentType;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Judges the query texts of one partition of a distributed LLM judgment job on this node and returns the per-query
+ * results to the coordinating node, which persists them together with the results of the other partitions. The
+ * partition stops before its next query text and model call once the coordinating node cancels it.
+ */
+public class JudgmentPartitionTransportAction extends HandledTransportAction<JudgmentPartitionRequest, JudgmentPartitionResponse> {
+    private static final Logger LOGGER = LogManager.getLogger(JudgmentPartitionTransportAction.class);
+    private final JudgmentsProcessorFactory judgmentsProcessorFactory;
+
+    @Inject
+    public JudgmentPartitionTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        JudgmentsProcessorFactory judgmentsProcessorFactory
+    ) {
+        super(JudgmentPartitionAction.NAME, transportService, actionFilters, JudgmentPartitionRequest::new);
+        this.judgmentsProcessorFactory = judgmentsProcessorFactory;
+    }
+
+    @Override
+    protected void doExecute(Task task, JudgmentPartitionRequest request, ActionListener<JudgmentPartitionResponse> listener) {
+        if (request.getQueryTexts() == null || request.getQueryTexts().isEmpty()) {
+            listener.onFailure(new SearchRelevanceException("Partition query texts must not be empty", RestStatus.BAD_REQUEST));
+            return;
+        }
+        LOGGER.info("Judging partition of {} query texts for judgment {}", request.getQueryTexts().size(), request.getJudgmentId());
+        Map<String, Object> metadata = new HashMap<>(request.getMetadata());
+        metadata.put(PARTITION_QUERY_TEXTS, request.getQueryTexts());
+
+        BooleanSupplier cancelled = task instanceof CancellableTask cancellableTask ? cancellableTask::isCancelled : () -> false;
+        ActionListener<List<Map<String, Object>>> ratingsListener = ActionListener.wrap(judgmentRatings -> {
+            // the ratings of a cancelled partition are incomplete, the coordinating node judges it again elsewhere
+            if (cancelled.getAsBoolean()) {
+                listener.onFailure(new TaskCancelledException("Partition of judgment " + request.getJudgmentId() + " was cancelled"));
+                return;
+            }
+            listener.onResponse(new JudgmentPartitionResponse(judgmentRatings));
+        }, e -> {
+            LOGGER.error("Failed to judge partition for judgment {}", request.getJudgmentId(), e);
+            listener.onFailure(e);
+        });
+        judgmentsProcessorFactory.getProcessor(JudgmentType.LLM_JUDGMENT)
+            .generateJudgmentRating(metadata, Set.of(), result -> {}, cancelled, ratingsListener);
+    }
+}
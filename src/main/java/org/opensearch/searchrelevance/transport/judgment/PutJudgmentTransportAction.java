@@ -8,12 +8,24 @@
 package org.opensearch.searchrelevance.transport.judgment;
 
 import static org.opensearch.searchrelevance.common.MetricsConstants.MODEL_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.BATCH_QUERIES;
+import static org.opensearch.searchrelevance.common.PluginConstants.COLLAPSE_NEAR_DUPLICATES;
+import static org.opensearch.searchrelevance.common.PluginConstants.COORDINATOR_NODE_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.DISTRIBUTED_JUDGING;
+import static org.opensearch.searchrelevance.common.PluginConstants.DOC_TOKEN_BUDGET;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_INPUT_TOKENS;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_LLM_CALLS;
+import static org.opensearch.searchrelevance.common.PluginConstants.POOLED_JUDGING;
+import static org.opensearch.searchrelevance.common.PluginConstants.POOLING_NDCG_AT;
+import static org.opensearch.searchrelevance.common.PluginConstants.POOLING_TOLERANCE;
+import static org.opensearch.searchrelevance.common.PluginConstants.SCHEDULING_WEIGHT;
 import static org.opensearch.searchrelevance.ubi.UbiValidator.checkUbiIndicesExist;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.apache.logging.log4j.LogManager;
@@ -26,8 +38,10 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
 import org.opensearch.searchrelevance.judgments.BaseJudgmentsProcessor;
+import org.opensearch.searchrelevance.judgments.JudgmentCheckpointWriter;
 import org.opensearch.searchrelevance.judgments.JudgmentsProcessorFactory;
 import org.opensearch.searchrelevance.model.AsyncStatus;
 import org.opensearch.searchrelevance.model.Judgment;
@@ -39,6 +53,7 @@ public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgme
     private final ClusterService clusterService;
     private final JudgmentDao judgmentDao;
     private final JudgmentsProcessorFactory judgmentsProcessorFactory;
+    private final JudgmentPartitionCoordinator partitionCoordinator;
 
     private static final Logger LOGGER = LogManager.getLogger(PutJudgmentTransportAction.class);
 
@@ -48,12 +63,14 @@ public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgme
         TransportService transportService,
         ActionFilters actionFilters,
         JudgmentDao judgmentDao,
-        JudgmentsProcessorFactory judgmentsProcessorFactory
+        JudgmentsProcessorFactory judgmentsProcessorFactory,
+        QuerySetDao querySetDao
     ) {
         super(PutJudgmentAction.NAME, transportService, actionFilters, PutUbiJudgmentRequest::new);
         this.clusterService = clusterService;
         this.judgmentDao = judgmentDao;
         this.judgmentsProcessorFactory = judgmentsProcessorFactory;
+        this.partitionCoordinator = new JudgmentPartitionCoordinator(transportService, clusterService, querySetDao);
     }
 
     @Override
@@ -103,6 +120,21 @@ public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgme
                 metadata.put("tokenLimit", llmRequest.getTokenLimit());
                 metadata.put("contextFields", llmRequest.getContextFields());
                 metadata.put("ignoreFailure", llmRequest.isIgnoreFailure());
+                metadata.put(BATCH_QUERIES, llmRequest.isBatchQueries());
+                metadata.put(SCHEDULING_WEIGHT, llmRequest.getSchedulingWeight());
+                metadata.put(COLLAPSE_NEAR_DUPLICATES, llmRequest.isCollapseNearDuplicates());
+                metadata.put(POOLED_JUDGING, llmRequest.isPooledJudging());
+                if (llmRequest.getPoolingNdcgAt() != null) {
+                    // left out otherwise, so that the job derives it from the size
+                    metadata.put(POOLING_NDCG_AT, llmRequest.getPoolingNdcgAt());
+                }
+                metadata.put(POOLING_TOLERANCE, llmRequest.getPoolingTolerance());
+                metadata.put(DOC_TOKEN_BUDGET, llmRequest.getDocTokenBudget());
+                metadata.put(MAX_INPUT_TOKENS, llmRequest.getMaxInputTokens());
+                metadata.put(MAX_LLM_CALLS, llmRequest.getMaxLLMCalls());
+                metadata.put(DISTRIBUTED_JUDGING, llmRequest.isDistributedJudging());
+                // the node running the job, so it can be told apart from an abandoned one on resume
+                metadata.put(COORDINATOR_NODE_ID, clusterService.localNode().getId());
             }
             case UBI_JUDGMENT -> {
                 if (!checkUbiIndicesExist(clusterService)) {
@@ -126,57 +158,49 @@ public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgme
     private void triggerAsyncProcessing(String judgmentId, PutJudgmentRequest request, Map<String, Object> metadata) {
         LOGGER.info("Starting async processing for judgment: {}, type: {}, metadata: {}", judgmentId, request.getType(), metadata);
         BaseJudgmentsProcessor processor = judgmentsProcessorFactory.getProcessor(request.getType());
+        JudgmentCheckpointWriter checkpointWriter = new JudgmentCheckpointWriter(
+            judgmentDao,
+            judgmentId,
+            request.getName(),
+            request.getType(),
+            metadata,
+            List.of()
+        );
+        JudgmentCheckpointWriter.markActive(judgmentId);
 
-        processor.generateJudgmentRating(metadata, ActionListener.wrap(judgmentRatings -> {
+        ActionListener<List<Map<String, Object>>> ratingsListener = ActionListener.wrap(judgmentRatings -> {
             LOGGER.info(
                 "Generated judgment ratings for {}, ratings size: {}",
                 judgmentId,
                 judgmentRatings != null ? judgmentRatings.size() : 0
             );
-            updateFinalJudgment(judgmentId, request, metadata, judgmentRatings);
-        }, error -> handleAsyncFailure(judgmentId, request, "Failed to generate judgment ratings", error)));
-    }
-
-    private void updateFinalJudgment(
-        String judgmentId,
-        PutJudgmentRequest request,
-        Map<String, Object> metadata,
-        List<Map<String, Object>> judgmentScores
-    ) {
-        Judgment finalJudgment = new Judgment(
-            judgmentId,
-            TimeUtils.getTimestamp(),
-            request.getName(),
-            AsyncStatus.COMPLETED,
-            request.getType(),
-            metadata,
-            judgmentScores
-        );
+            checkpointWriter.complete(
+                judgmentRatings,
+                ActionListener.wrap(
+                    response -> LOGGER.debug("Updated final judgment: {}", judgmentId),
+                    error -> handleAsyncFailure(judgmentId, checkpointWriter, "Failed to update final judgment", error)
+                )
+            );
+        }, error -> handleAsyncFailure(judgmentId, checkpointWriter, "Failed to generate judgment ratings", error));
 
-        judgmentDao.updateJudgment(
-            finalJudgment,
-            ActionListener.wrap(
-                response -> LOGGER.debug("Updated final judgment: {}", judgmentId),
-                error -> handleAsyncFailure(judgmentId, request, "Failed to update final judgment", error)
-            )
-        );
+        if (JudgmentPartitionCoordinator.isDistributed(metadata)) {
+            partitionCoordinator.generateJudgmentRating(
+                judgmentId,
+                metadata,
+                Set.of(),
+                checkpointWriter::recordQueryResult,
+                ratingsListener
+            );
+        } else {
+            processor.generateJudgmentRating(metadata, Set.of(), checkpointWriter::recordQueryResult, ratingsListener);
+        }
     }
 
-    private void handleAsyncFailure(String judgmentId, PutJudgmentRequest request, String message, Exception error) {
+    private void handleAsyncFailure(String judgmentId, JudgmentCheckpointWriter checkpointWriter, String message, Exception error) {
         LOGGER.error(message + " for judgment: " + judgmentId, error);
 
-        Judgment errorJudgment = new Judgment(
-            judgmentId,
-            TimeUtils.getTimestamp(),
-            request.getName(),
-            AsyncStatus.ERROR,
-            request.getType(),
-            Map.of("error", error.getMessage()),
-            new ArrayList<>()
-        );
-
-        judgmentDao.updateJudgment(
-            errorJudgment,
+        checkpointWriter.fail(
+            error,
             ActionListener.wrap(
                 response -> LOGGER.info("Updated judgment {} status to ERROR", judgmentId),
                 e -> LOGGER.error("Failed to update error status for judgment: " + judgmentId, e)
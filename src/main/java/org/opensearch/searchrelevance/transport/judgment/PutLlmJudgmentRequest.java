@@ -7,16 +7,27 @@
  */
 package org.opensearch.searchrelevance.transport.judgment;
 
+import static org.opensearch.searchrelevance.common.PluginConstants.DEFAULT_POOLING_TOLERANCE;
+import static org.opensearch.searchrelevance.common.PluginConstants.DEFAULT_SCHEDULING_WEIGHT;
+
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.searchrelevance.model.JudgmentType;
 
+import lombok.Builder;
 import reactor.util.annotation.NonNull;
 
 public class PutLlmJudgmentRequest extends PutJudgmentRequest {
+    /**
+     * First version whose nodes read and write the judgment options after ignoreFailure. Older nodes neither send nor
+     * expect them, so they are left at their defaults.
+     */
+    private static final Version MINIMAL_SUPPORTED_VERSION_JUDGMENT_OPTIONS = Version.V_3_2_0;
 
     private final String modelId;
     private final String querySetId;
@@ -41,6 +52,62 @@ public class PutLlmJudgmentRequest extends PutJudgmentRequest {
      */
     private boolean ignoreFailure;
 
+    /**
+     * Specifies whether the hits of sparse query texts are packed together into shared LLM prompts.
+     */
+    private boolean batchQueries;
+
+    /**
+     * Share of the node's LLM judgment task permits this job gets while other judgment jobs are waiting, relative to
+     * their weights.
+     */
+    private int schedulingWeight;
+
+    /**
+     * Specifies whether near-duplicate hits of a query text are rated once, with the rating copied to the other copies.
+     */
+    private boolean collapseNearDuplicates;
+
+    /**
+     * Specifies whether hits are judged in ascending pooled-rank order, stopping once the NDCG@k comparison of the
+     * search configurations is stable.
+     */
+    private boolean pooledJudging;
+
+    /**
+     * Rank cut-off of the NDCG used to decide when pooled judging stops, null to derive it from the size when the job
+     * runs.
+     */
+    private Integer poolingNdcgAt;
+
+    /**
+     * Largest change of the NDCG@k differences between two pooling rounds that is still considered stable.
+     */
+    private double poolingTolerance;
+
+    /**
+     * The max tokens of context sent for a single document. Longer contexts are cut down to their sentences that best
+     * match the query text. 0 sends the full context.
+     */
+    private int docTokenBudget;
+
+    /**
+     * The max prompt tokens the job sends to the LLM, including retries. 0 means no limit.
+     */
+    private long maxInputTokens;
+
+    /**
+     * The max number of LLM calls the job makes, including retries. 0 means no limit.
+     */
+    private int maxLLMCalls;
+
+    /**
+     * Specifies whether the query texts are partitioned across the data nodes of the cluster instead of all being
+     * judged on the node that received the request.
+     */
+    private boolean distributedJudging;
+
+    @Builder
     public PutLlmJudgmentRequest(
         @NonNull JudgmentType type,
         @NonNull String name,
@@ -51,7 +118,17 @@ public class PutLlmJudgmentRequest extends PutJudgmentRequest {
         int size,
         int tokenLimit,
         List<String> contextFields,
-        boolean ignoreFailure
+        boolean ignoreFailure,
+        boolean batchQueries,
+        Integer schedulingWeight,
+        boolean collapseNearDuplicates,
+        boolean pooledJudging,
+        Integer poolingNdcgAt,
+        Double poolingTolerance,
+        int docTokenBudget,
+        long maxInputTokens,
+        int maxLLMCalls,
+        boolean distributedJudging
     ) {
         super(type, name, description);
         this.modelId = modelId;
@@ -59,8 +136,18 @@ public class PutLlmJudgmentRequest extends PutJudgmentRequest {
         this.searchConfigurationList = searchConfigurationList;
         this.size = size;
         this.tokenLimit = tokenLimit;
-        this.contextFields = contextFields;
+        this.contextFields = Optional.ofNullable(contextFields).orElse(List.of());
         this.ignoreFailure = ignoreFailure;
+        this.batchQueries = batchQueries;
+        this.schedulingWeight = Optional.ofNullable(schedulingWeight).orElse(DEFAULT_SCHEDULING_WEIGHT);
+        this.collapseNearDuplicates = collapseNearDuplicates;
+        this.pooledJudging = pooledJudging;
+        this.poolingNdcgAt = poolingNdcgAt;
+        this.poolingTolerance = Optional.ofNullable(poolingTolerance).orElse(DEFAULT_POOLING_TOLERANCE);
+        this.docTokenBudget = docTokenBudget;
+        this.maxInputTokens = maxInputTokens;
+        this.maxLLMCalls = maxLLMCalls;
+        this.distributedJudging = distributedJudging;
     }
 
     public PutLlmJudgmentRequest(StreamInput in) throws IOException {
@@ -72,6 +159,21 @@ public class PutLlmJudgmentRequest extends PutJudgmentRequest {
         this.tokenLimit = in.readOptionalInt();
         this.contextFields = in.readOptionalStringList();
         this.ignoreFailure = Boolean.TRUE.equals(in.readOptionalBoolean()); // by defaulted as false if not provided
+        if (!in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_JUDGMENT_OPTIONS)) {
+            this.schedulingWeight = DEFAULT_SCHEDULING_WEIGHT;
+            this.poolingTolerance = DEFAULT_POOLING_TOLERANCE;
+            return;
+        }
+        this.batchQueries = Boolean.TRUE.equals(in.readOptionalBoolean());
+        this.schedulingWeight = Optional.ofNullable(in.readOptionalInt()).orElse(DEFAULT_SCHEDULING_WEIGHT);
+        this.collapseNearDuplicates = Boolean.TRUE.equals(in.readOptionalBoolean());
+        this.pooledJudging = Boolean.TRUE.equals(in.readOptionalBoolean());
+        this.poolingNdcgAt = in.readOptionalInt();
+        this.poolingTolerance = Optional.ofNullable(in.readOptionalDouble()).orElse(DEFAULT_POOLING_TOLERANCE);
+        this.docTokenBudget = Optional.ofNullable(in.readOptionalInt()).orElse(0);
+        this.maxInputTokens = Optional.ofNullable(in.readOptionalLong()).orElse(0L);
+        this.maxLLMCalls = Optional.ofNullable(in.readOptionalInt()).orElse(0);
+        this.distributedJudging = Boolean.TRUE.equals(in.readOptionalBoolean());
     }
 
     @Override
@@ -84,6 +186,19 @@ public class PutLlmJudgmentRequest extends PutJudgmentRequest {
         out.writeOptionalInt(tokenLimit);
         out.writeOptionalStringArray(contextFields.toArray(new String[0]));
         out.writeOptionalBoolean(ignoreFailure);
+        if (!out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_JUDGMENT_OPTIONS)) {
+            return;
+        }
+        out.writeOptionalBoolean(batchQueries);
+        out.writeOptionalInt(schedulingWeight);
+        out.writeOptionalBoolean(collapseNearDuplicates);
+        out.writeOptionalBoolean(pooledJudging);
+        out.writeOptionalInt(poolingNdcgAt);
+        out.writeOptionalDouble(poolingTolerance);
+        out.writeOptionalInt(docTokenBudget);
+        out.writeOptionalLong(maxInputTokens);
+        out.writeOptionalInt(maxLLMCalls);
+        out.writeOptionalBoolean(distributedJudging);
     }
 
     public String getModelId() {
@@ -114,4 +229,44 @@ public class PutLlmJudgmentRequest extends PutJudgmentRequest {
         return ignoreFailure;
     }
 
+    public boolean isBatchQueries() {
+        return batchQueries;
+    }
+
+    public int getSchedulingWeight() {
+        return schedulingWeight;
+    }
+
+    public boolean isCollapseNearDuplicates() {
+        return collapseNearDuplicates;
+    }
+
+    public boolean isPooledJudging() {
+        return pooledJudging;
+    }
+
+    public Integer getPoolingNdcgAt() {
+        return poolingNdcgAt;
+    }
+
+    public double getPoolingTolerance() {
+        return poolingTolerance;
+    }
+
+    public int getDocTokenBudget() {
+        return docTokenBudget;
+    }
+
+    public long getMaxInputTokens() {
+        return maxInputTokens;
+    }
+
+    public int getMaxLLMCalls() {
+        return maxLLMCalls;
+    }
+
+    public boolean isDistributedJudging() {
+        return distributedJudging;
+    }
+
 }
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+
+import lombok.Getter;
+
+/**
+ * Transport Request to resume an LLM judgment job. New LLM call limits replace the stored ones, which lets a job
+ * stopped by its budget continue with a larger one; null keeps the stored limit.
+ */
+@Getter
+public class ResumeJudgmentRequest extends OpenSearchDocRequest {
+    private final Long maxInputTokens;
+    private final Integer maxLLMCalls;
+
+    public ResumeJudgmentRequest(String judgmentId) {
+        this(judgmentId, null, null);
+    }
+
+    public ResumeJudgmentRequest(String judgmentId, Long maxInputTokens, Integer maxLLMCalls) {
+        super(judgmentId);
+        this.maxInputTokens = maxInputTokens;
+        this.maxLLMCalls = maxLLMCalls;
+    }
+
+    public ResumeJudgmentRequest(StreamInput in) throws IOException {
+        super(in);
+        this.maxInputTokens = in.readOptionalLong();
+        this.maxLLMCalls = in.readOptionalInt();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeOptionalLong(maxInputTokens);
+        out.writeOptionalInt(maxLLMCalls);
+    }
+}
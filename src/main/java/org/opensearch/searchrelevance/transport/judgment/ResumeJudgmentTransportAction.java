@@ -0,0 +1,203 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.COORDINATOR_NODE_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_INPUT_TOKENS;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_LLM_CALLS;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.judgments.BaseJudgmentsProcessor;
+import org.opensearch.searchrelevance.judgments.JudgmentCheckpointWriter;
+import org.opensearch.searchrelevance.judgments.JudgmentsProcessorFactory;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Judgment;
+import org.opensearch.searchrelevance.model.JudgmentType;
+import org.opensearch.searchrelevance.utils.ClusterUtil;
+import org.opensearch.searchrelevance.utils.TimeUtils;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Resumes an interrupted or failed LLM judgment job, or one stopped by its LLM call budget. Query texts checkpointed
+ * with ratings are kept as is, only the remaining query texts are judged again, and documents already rated for them
+ * are served from the judgment cache.
+ */
+public class ResumeJudgmentTransportAction extends HandledTransportAction<ResumeJudgmentRequest, IndexResponse> {
+    private static final Logger LOGGER = LogManager.getLogger(ResumeJudgmentTransportAction.class);
+    private final ClusterService clusterService;
+    private final JudgmentDao judgmentDao;
+    private final JudgmentsProcessorFactory judgmentsProcessorFactory;
+    private final JudgmentPartitionCoordinator partitionCoordinator;
+
+    @Inject
+    public ResumeJudgmentTransportAction(
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        JudgmentDao judgmentDao,
+        JudgmentsProcessorFactory judgmentsProcessorFactory,
+        QuerySetDao querySetDao
+    ) {
+        super(ResumeJudgmentAction.NAME, transportService, actionFilters, ResumeJudgmentRequest::new);
+        this.clusterService = clusterService;
+        this.judgmentDao = judgmentDao;
+        this.judgmentsProcessorFactory = judgmentsProcessorFactory;
+        this.partitionCoordinator = new JudgmentPartitionCoordinator(transportService, clusterService, querySetDao);
+    }
+
+    @Override
+    protected void doExecute(Task task, ResumeJudgmentRequest request, ActionListener<IndexResponse> listener) {
+        String judgmentId = request.getId();
+        if (judgmentId == null || judgmentId.isEmpty()) {
+            listener.onFailure(new SearchRelevanceException("judgmentId must not be null or empty", RestStatus.BAD_REQUEST));
+            return;
+        }
+        judgmentDao.getJudgment(
+            judgmentId,
+            ActionListener.wrap(
+                response -> resumeJudgment(request, response, listener),
+                e -> listener.onFailure(new SearchRelevanceException("Failed to get judgment", e, RestStatus.INTERNAL_SERVER_ERROR))
+            )
+        );
+    }
+
+    private void resumeJudgment(ResumeJudgmentRequest request, SearchResponse response, ActionListener<IndexResponse> listener) {
+        String judgmentId = request.getId();
+        if (response.getHits().getTotalHits().value() == 0) {
+            listener.onFailure(new SearchRelevanceException("Judgment not found: " + judgmentId, RestStatus.NOT_FOUND));
+            return;
+        }
+        Map<String, Object> source = response.getHits().getHits()[0].getSourceAsMap();
+        JudgmentType type = JudgmentType.valueOf((String) source.get(Judgment.TYPE));
+        AsyncStatus status = AsyncStatus.valueOf((String) source.get(Judgment.STATUS));
+        if (type != JudgmentType.LLM_JUDGMENT) {
+            listener.onFailure(new SearchRelevanceException("Only LLM_JUDGMENT judgments can be resumed", RestStatus.BAD_REQUEST));
+            return;
+        }
+        Map<String, Object> storedMetadata = (Map<String, Object>) source.get(Judgment.METADATA);
+        // a job stopped by its budget completed with the ratings it could afford and can continue with a new budget
+        if (status == AsyncStatus.COMPLETED && !JudgmentCheckpointWriter.isBudgetExhausted(storedMetadata)) {
+            listener.onFailure(new SearchRelevanceException("Judgment is already completed: " + judgmentId, RestStatus.BAD_REQUEST));
+            return;
+        }
+        Map<String, Object> metadata = new HashMap<>(storedMetadata);
+        // a job still processing is only resumed once nothing can make progress on it anymore
+        if (status == AsyncStatus.PROCESSING
+            && !ClusterUtil.isAbandoned(
+                clusterService.state(),
+                (String) metadata.get(COORDINATOR_NODE_ID),
+                JudgmentCheckpointWriter.isActive(judgmentId)
+            )) {
+            listener.onFailure(new SearchRelevanceException("Judgment is already running: " + judgmentId, RestStatus.CONFLICT));
+            return;
+        }
+        if (!JudgmentCheckpointWriter.markActive(judgmentId)) {
+            listener.onFailure(new SearchRelevanceException("Judgment is already running: " + judgmentId, RestStatus.CONFLICT));
+            return;
+        }
+
+        String name = (String) source.get(Judgment.NAME);
+        metadata.remove(JudgmentCheckpointWriter.ERROR);
+        metadata.remove(JudgmentCheckpointWriter.COMPLETED_QUERIES);
+        metadata.remove(JudgmentCheckpointWriter.BUDGET_EXHAUSTED);
+        metadata.remove(JudgmentCheckpointWriter.BUDGET_EXHAUSTED_QUERIES);
+        metadata.put(COORDINATOR_NODE_ID, clusterService.localNode().getId());
+        if (request.getMaxInputTokens() != null) {
+            metadata.put(MAX_INPUT_TOKENS, request.getMaxInputTokens());
+        }
+        if (request.getMaxLLMCalls() != null) {
+            metadata.put(MAX_LLM_CALLS, request.getMaxLLMCalls());
+        }
+
+        List<Map<String, Object>> judgmentRatings = (List<Map<String, Object>>) source.getOrDefault(Judgment.JUDGMENT_RATINGS, List.of());
+        // query texts cut short by the budget are judged again even if some of their documents were rated
+        Set<String> completedQueryTexts = JudgmentCheckpointWriter.completedQueryTexts(judgmentRatings, storedMetadata);
+        List<Map<String, Object>> completedResults = judgmentRatings.stream()
+            .filter(result -> completedQueryTexts.contains((String) result.get("query")))
+            .collect(Collectors.toList());
+
+        Judgment resumedJudgment = new Judgment(
+            judgmentId,
+            TimeUtils.getTimestamp(),
+            name,
+            AsyncStatus.PROCESSING,
+            type,
+            metadata,
+            completedResults
+        );
+        judgmentDao.updateJudgment(resumedJudgment, ActionListener.wrap(indexResponse -> {
+            listener.onResponse((IndexResponse) indexResponse);
+
+            LOGGER.info("Resuming judgment {} with {} query texts already judged", judgmentId, completedQueryTexts.size());
+            JudgmentCheckpointWriter checkpointWriter = new JudgmentCheckpointWriter(
+                judgmentDao,
+                judgmentId,
+                name,
+                type,
+                metadata,
+                completedResults
+            );
+            ActionListener<List<Map<String, Object>>> ratingsListener = ActionListener.wrap(
+                results -> checkpointWriter.complete(
+                    results,
+                    ActionListener.wrap(
+                        v -> LOGGER.info("Resumed judgment {} completed", judgmentId),
+                        e -> handleAsyncFailure(judgmentId, checkpointWriter, e)
+                    )
+                ),
+                e -> handleAsyncFailure(judgmentId, checkpointWriter, e)
+            );
+            if (JudgmentPartitionCoordinator.isDistributed(metadata)) {
+                partitionCoordinator.generateJudgmentRating(
+                    judgmentId,
+                    metadata,
+                    completedQueryTexts,
+                    checkpointWriter::recordQueryResult,
+                    ratingsListener
+                );
+            } else {
+                BaseJudgmentsProcessor processor = judgmentsProcessorFactory.getProcessor(type);
+                processor.generateJudgmentRating(metadata, completedQueryTexts, checkpointWriter::recordQueryResult, ratingsListener);
+            }
+        }, e -> {
+            JudgmentCheckpointWriter.markInactive(judgmentId);
+            LOGGER.error("Failed to mark judgment {} as resumed", judgmentId, e);
+            listener.onFailure(new SearchRelevanceException("Failed to resume judgment", e, RestStatus.INTERNAL_SERVER_ERROR));
+        }));
+    }
+
+    private void handleAsyncFailure(String judgmentId, JudgmentCheckpointWriter checkpointWriter, Exception error) {
+        LOGGER.error("Failed to resume judgment: " + judgmentId, error);
+        checkpointWriter.fail(
+            error,
+            ActionListener.wrap(
+                response -> LOGGER.info("Updated judgment {} status to ERROR", judgmentId),
+                e -> LOGGER.error("Failed to update error status for judgment: " + judgmentId, e)
+            )
+        );
+    }
+}
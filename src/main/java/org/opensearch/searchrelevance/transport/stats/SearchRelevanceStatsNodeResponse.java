@@ -10,6 +10,7 @@ package org.opensearch.searchrelevance.transport.stats;
 import java.io.IOException;
 import java.util.Map;
 
+import org.opensearch.Version;
 import org.opensearch.action.support.nodes.BaseNodeResponse;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -18,6 +19,8 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.searchrelevance.stats.events.EventStatName;
 import org.opensearch.searchrelevance.stats.events.TimestampedEventStatSnapshot;
+import org.opensearch.searchrelevance.stats.tasks.TaskStatName;
+import org.opensearch.searchrelevance.stats.tasks.TaskStatSnapshot;
 
 import lombok.Getter;
 
@@ -27,6 +30,8 @@ import lombok.Getter;
 public class SearchRelevanceStatsNodeResponse extends BaseNodeResponse implements ToXContentFragment {
     @Getter
     private Map<EventStatName, TimestampedEventStatSnapshot> stats;
+    @Getter
+    private Map<TaskStatName, TaskStatSnapshot> taskStats;
 
     /**
      * Constructor
@@ -37,6 +42,11 @@ public class SearchRelevanceStatsNodeResponse extends BaseNodeResponse implement
     public SearchRelevanceStatsNodeResponse(StreamInput in) throws IOException {
         super(in);
         this.stats = in.readMap(input -> input.readEnum(EventStatName.class), TimestampedEventStatSnapshot::new);
+        if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+            this.taskStats = in.readMap(input -> input.readEnum(TaskStatName.class), TaskStatSnapshot::new);
+        } else {
+            this.taskStats = Map.of();
+        }
     }
 
     /**
@@ -46,8 +56,24 @@ public class SearchRelevanceStatsNodeResponse extends BaseNodeResponse implement
      * @param stats mapping of stat name to value
      */
     public SearchRelevanceStatsNodeResponse(DiscoveryNode node, Map<EventStatName, TimestampedEventStatSnapshot> stats) {
+        this(node, stats, Map.of());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param node node
+     * @param stats mapping of stat name to value
+     * @param taskStats mapping of task stat name to the metrics of the task manager
+     */
+    public SearchRelevanceStatsNodeResponse(
+        DiscoveryNode node,
+        Map<EventStatName, TimestampedEventStatSnapshot> stats,
+        Map<TaskStatName, TaskStatSnapshot> taskStats
+    ) {
         super(node);
         this.stats = stats;
+        this.taskStats = taskStats;
     }
 
     /**
@@ -66,6 +92,9 @@ public class SearchRelevanceStatsNodeResponse extends BaseNodeResponse implement
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
         out.writeMap(stats, StreamOutput::writeEnum, (output, eventStatData) -> eventStatData.writeTo(output));
+        if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            out.writeMap(taskStats, StreamOutput::writeEnum, (output, taskStatData) -> taskStatData.writeTo(output));
+        }
     }
 
     /**
@@ -81,6 +110,9 @@ public class SearchRelevanceStatsNodeResponse extends BaseNodeResponse implement
             EventStatName stat = entry.getKey();
             builder.field(stat.getFullPath(), entry.getValue().getValue());
         }
+        for (Map.Entry<TaskStatName, TaskStatSnapshot> entry : taskStats.entrySet()) {
+            builder.field(entry.getKey().getFullPath(), entry.getValue().getValue());
+        }
         return builder;
     }
 }
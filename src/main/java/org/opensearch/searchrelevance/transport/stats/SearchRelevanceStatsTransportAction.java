@@ -29,6 +29,9 @@ import org.opensearch.searchrelevance.stats.events.EventStatsManager;
 import org.opensearch.searchrelevance.stats.events.TimestampedEventStatSnapshot;
 import org.opensearch.searchrelevance.stats.info.InfoStatName;
 import org.opensearch.searchrelevance.stats.info.InfoStatsManager;
+import org.opensearch.searchrelevance.stats.tasks.TaskStatName;
+import org.opensearch.searchrelevance.stats.tasks.TaskStatSnapshot;
+import org.opensearch.searchrelevance.stats.tasks.TaskStatsManager;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
@@ -42,6 +45,7 @@ public class SearchRelevanceStatsTransportAction extends TransportNodesAction<
     SearchRelevanceStatsNodeResponse> {
     private final EventStatsManager eventStatsManager;
     private final InfoStatsManager infoStatsManager;
+    private final TaskStatsManager taskStatsManager;
 
     /**
      * Constructor
@@ -50,6 +54,9 @@ public class SearchRelevanceStatsTransportAction extends TransportNodesAction<
      * @param clusterService ClusterService
      * @param transportService TransportService
      * @param actionFilters Action Filters
+     * @param eventStatsManager node level event stats
+     * @param infoStatsManager cluster level info stats
+     * @param taskStatsManager node level task manager metrics
      */
     @Inject
     public SearchRelevanceStatsTransportAction(
@@ -58,7 +65,8 @@ public class SearchRelevanceStatsTransportAction extends TransportNodesAction<
         TransportService transportService,
         ActionFilters actionFilters,
         EventStatsManager eventStatsManager,
-        InfoStatsManager infoStatsManager
+        InfoStatsManager infoStatsManager,
+        TaskStatsManager taskStatsManager
     ) {
         super(
             SearchRelevanceStatsAction.NAME,
@@ -73,6 +81,7 @@ public class SearchRelevanceStatsTransportAction extends TransportNodesAction<
         );
         this.eventStatsManager = eventStatsManager;
         this.infoStatsManager = infoStatsManager;
+        this.taskStatsManager = taskStatsManager;
     }
 
     @Override
@@ -129,9 +138,9 @@ public class SearchRelevanceStatsTransportAction extends TransportNodesAction<
     }
 
     /**
-     * Node operation to retrieve stats from node local event stats manager
+     * Node operation to retrieve stats from node local event stats manager and task managers
      * @param request the node level request
-     * @return the node level response containing node level event stats
+     * @return the node level response containing node level event stats and task metrics
      */
     @Override
     protected SearchRelevanceStatsNodeResponse nodeOperation(SearchRelevanceStatsNodeRequest request) {
@@ -140,8 +149,10 @@ public class SearchRelevanceStatsTransportAction extends TransportNodesAction<
         Map<EventStatName, TimestampedEventStatSnapshot> eventStatDataMap = eventStatsManager.getTimestampedEventStatSnapshots(
             eventStatsToRetrieve
         );
+        EnumSet<TaskStatName> taskStatsToRetrieve = request.getRequest().getSearchRelevanceStatsInput().getTaskStatNames();
+        Map<TaskStatName, TaskStatSnapshot> taskStatDataMap = taskStatsManager.getStats(taskStatsToRetrieve);
 
-        return new SearchRelevanceStatsNodeResponse(clusterService.localNode(), eventStatDataMap);
+        return new SearchRelevanceStatsNodeResponse(clusterService.localNode(), eventStatDataMap, taskStatDataMap);
     }
 
     /**
@@ -204,6 +215,8 @@ public class SearchRelevanceStatsTransportAction extends TransportNodesAction<
                 .entrySet()
                 .stream()
                 .collect(Collectors.toMap(entry -> entry.getKey().getFullPath(), Map.Entry::getValue));
+            // Task metrics are node local gauges, they are only reported per node and never aggregated
+            nodesResponse.getTaskStats().forEach((statName, snapshot) -> resultNodeStatsMap.put(statName.getFullPath(), snapshot));
 
             // Map each node id to its stats
             results.put(nodeId, resultNodeStatsMap);
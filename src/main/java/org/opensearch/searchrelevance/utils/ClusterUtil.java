@@ -8,6 +8,7 @@
 package org.opensearch.searchrelevance.utils;
 
 import org.opensearch.Version;
+import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.service.ClusterService;
 
 import lombok.AllArgsConstructor;
@@ -23,4 +24,19 @@ public class ClusterUtil {
     public Version getClusterMinVersion() {
         return this.clusterService.state().getNodes().getMinNodeVersion();
     }
+
+    /**
+     * Whether a job stored as PROCESSING can no longer make progress, so it is safe to resume it on this node. That is
+     * the case once its coordinating node left the cluster, or when this node coordinated it and is no longer running it.
+     * Jobs stored without a coordinating node predate the tracking and are treated as abandoned.
+     * @param state current cluster state
+     * @param coordinatorNodeId id of the node coordinating the job, as stored with it
+     * @param runningOnLocalNode whether the job is running on this node
+     */
+    public static boolean isAbandoned(ClusterState state, String coordinatorNodeId, boolean runningOnLocalNode) {
+        if (coordinatorNodeId == null || coordinatorNodeId.equals(state.nodes().getLocalNodeId())) {
+            return !runningOnLocalNode;
+        }
+        return !state.nodes().nodeExists(coordinatorNodeId);
+    }
 }
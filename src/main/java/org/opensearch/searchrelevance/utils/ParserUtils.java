@@ -9,15 +9,21 @@ package org.opensearch.searchrelevance.utils;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
 import org.opensearch.searchrelevance.model.SearchParams;
 
 public class ParserUtils {
@@ -94,6 +100,67 @@ public class ParserUtils {
         return result;
     }
 
+    /**
+     * Boolean value of a request body field, null if the field is absent.
+     * @throws SearchRelevanceException with BAD_REQUEST if the field is not a boolean
+     */
+    public static Boolean getBoolean(Map<String, Object> source, String fieldName) {
+        Object value = source.get(fieldName);
+        if (value == null || value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        throw invalidField(fieldName, "a boolean", value);
+    }
+
+    /**
+     * Integer value of a request body field, null if the field is absent.
+     * @throws SearchRelevanceException with BAD_REQUEST if the field is not an integer
+     */
+    public static Integer getInteger(Map<String, Object> source, String fieldName) {
+        Long value = getLong(source, fieldName);
+        if (value == null) {
+            return null;
+        }
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw invalidField(fieldName, "an integer", value);
+        }
+        return value.intValue();
+    }
+
+    /**
+     * Long value of a request body field, null if the field is absent.
+     * @throws SearchRelevanceException with BAD_REQUEST if the field is not an integer
+     */
+    public static Long getLong(Map<String, Object> source, String fieldName) {
+        Object value = source.get(fieldName);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        throw invalidField(fieldName, "an integer", value);
+    }
+
+    /**
+     * Double value of a request body field, null if the field is absent.
+     * @throws SearchRelevanceException with BAD_REQUEST if the field is not a number
+     */
+    public static Double getDouble(Map<String, Object> source, String fieldName) {
+        Object value = source.get(fieldName);
+        if (value == null || value instanceof Number) {
+            return value == null ? null : ((Number) value).doubleValue();
+        }
+        throw invalidField(fieldName, "a number", value);
+    }
+
+    private static SearchRelevanceException invalidField(String fieldName, String expected, Object value) {
+        return new SearchRelevanceException(
+            String.format(Locale.ROOT, "%s must be %s, got: %s", fieldName, expected, value),
+            RestStatus.BAD_REQUEST
+        );
+    }
+
     public static String convertListToSortedStr(List<String> list) {
         List<String> sortedList = new ArrayList<>(list);
         Collections.sort(sortedList);
@@ -119,6 +186,21 @@ public class ParserUtils {
             .encodeToString((queryText + "::" + compositeKey + "::" + contextFieldsStr).getBytes(StandardCharsets.UTF_8));
     }
 
+    /**
+     * SHA-256 hash of the document content sent to the LLM, used to tell whether a cached rating still applies
+     */
+    public static String generateContentHash(String content) {
+        if (content == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     public static String combinedIndexAndDocId(String index, String docId) {
         if (index == null) {
             return docId;
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 64-bit SimHash fingerprints of short texts. Texts that share most of their word bigrams get fingerprints with a
+ * small Hamming distance, which makes near-duplicate detection a cheap bit comparison.
+ */
+public class SimHashUtil {
+    private static final int FINGERPRINT_BITS = 64;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SimHashUtil() {
+
+    }
+
+    /**
+     * Compute the SimHash fingerprint of a text over its lower-cased word bigrams, or its words for single-word texts.
+     */
+    public static long fingerprint(final String text) {
+        List<String> features = features(text);
+        int[] weights = new int[FINGERPRINT_BITS];
+        for (String feature : features) {
+            long hash = hash(feature);
+            for (int bit = 0; bit < FINGERPRINT_BITS; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+            }
+        }
+        long fingerprint = 0L;
+        for (int bit = 0; bit < FINGERPRINT_BITS; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int hammingDistance(final long first, final long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    /**
+     * Group texts whose fingerprints are within the given Hamming distance of a cluster representative.
+     * Texts are visited in the iteration order of the given map and the first text of every cluster is its
+     * representative. Texts without any word are never grouped.
+     * @param texts texts keyed by an identifier
+     * @return cluster members keyed by the identifier of their representative, for clusters with at least two texts
+     */
+    public static Map<String, List<String>> clusterNearDuplicates(final Map<String, String> texts, final int maxHammingDistance) {
+        Map<String, Long> representatives = new LinkedHashMap<>();
+        Map<String, List<String>> clusters = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : texts.entrySet()) {
+            if (features(entry.getValue()).isEmpty()) {
+                continue;
+            }
+            long fingerprint = fingerprint(entry.getValue());
+            String representative = null;
+            for (Map.Entry<String, Long> candidate : representatives.entrySet()) {
+                if (hammingDistance(fingerprint, candidate.getValue()) <= maxHammingDistance) {
+                    representative = candidate.getKey();
+                    break;
+                }
+            }
+            if (representative == null) {
+                representatives.put(entry.getKey(), fingerprint);
+            } else {
+                clusters.computeIfAbsent(representative, key -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        return clusters;
+    }
+
+    private static List<String> features(final String text) {
+        List<String> features = new ArrayList<>();
+        if (text == null) {
+            return features;
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        if (words.size() == 1) {
+            features.add(words.get(0));
+        }
+        for (int i = 0; i + 1 < words.size(); i++) {
+            features.add(words.get(i) + " " + words.get(i + 1));
+        }
+        return features;
+    }
+
+    /**
+     * FNV-1a followed by a 64-bit finalizer so that every input bit affects every fingerprint bit
+     */
+    private static long hash(final String feature) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : feature.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
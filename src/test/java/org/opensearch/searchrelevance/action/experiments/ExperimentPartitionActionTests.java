@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.action.experiments;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.searchrelevance.experiment.ExperimentVariantHybridSearchDTO;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.SearchConfigurationDetails;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentPartitionAction;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentPartitionRequest;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentPartitionResponse;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ExperimentPartitionActionTests extends OpenSearchTestCase {
+
+    public void testRequestStreams() throws IOException {
+        ExperimentPartitionRequest request = new ExperimentPartitionRequest(
+            "1234",
+            ExperimentType.HYBRID_OPTIMIZER,
+            Map.of("5678", SearchConfigurationDetails.builder().index("products").query("{}").pipeline(null).build()),
+            List.of("0000"),
+            10,
+            List.of(
+                ExperimentVariantHybridSearchDTO.builder()
+                    .normalizationTechnique("min_max")
+                    .combinationTechnique("arithmetic_mean")
+                    .queryWeightsForCombination(new float[] { 0.3f, 0.7f })
+                    .build()
+            ),
+            List.of("red shoes", "blue boots")
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+        StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
+        ExperimentPartitionRequest serialized = new ExperimentPartitionRequest(in);
+        assertEquals("1234", serialized.getExperimentId());
+        assertEquals(ExperimentType.HYBRID_OPTIMIZER, serialized.getType());
+        assertEquals(request.getSearchConfigurations(), serialized.getSearchConfigurations());
+        assertEquals(List.of("0000"), serialized.getJudgmentList());
+        assertEquals(10, serialized.getSize());
+        assertEquals(1, serialized.getHybridParameterCombinations().size());
+        float[] weights = serialized.getHybridParameterCombinations().get(0).getQueryWeightsForCombination();
+        assertArrayEquals(new float[] { 0.3f, 0.7f }, weights, 0f);
+        assertEquals(List.of("red shoes", "blue boots"), serialized.getQueryTexts());
+    }
+
+    public void testRequestStreamsWithoutHybridParameters() throws IOException {
+        ExperimentPartitionRequest request = new ExperimentPartitionRequest(
+            "1234",
+            ExperimentType.POINTWISE_EVALUATION,
+            Map.of("5678", SearchConfigurationDetails.builder().index("products").query("{}").pipeline("pipeline").build()),
+            List.of("0000"),
+            10,
+            null,
+            List.of("red shoes")
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+        StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
+        ExperimentPartitionRequest serialized = new ExperimentPartitionRequest(in);
+        assertNull(serialized.getHybridParameterCombinations());
+        assertEquals("pipeline", serialized.getSearchConfigurations().get("5678").getPipeline());
+        assertNull(serialized.validate());
+    }
+
+    public void testRequestTaskIsCancellable() {
+        ExperimentPartitionRequest request = new ExperimentPartitionRequest(
+            "1234",
+            ExperimentType.PAIRWISE_COMPARISON,
+            Map.of(),
+            List.of(),
+            10,
+            null,
+            List.of("red shoes", "blue boots")
+        );
+
+        Task task = request.createTask(1, "transport", ExperimentPartitionAction.NAME, TaskId.EMPTY_TASK_ID, Map.of());
+
+        assertTrue(task instanceof CancellableTask);
+        assertTrue(((CancellableTask) task).shouldCancelChildrenOnCancellation());
+        assertEquals("experiment[1234], query texts[2]", task.getDescription());
+    }
+
+    public void testResponseStreams() throws IOException {
+        ExperimentPartitionResponse response = new ExperimentPartitionResponse(42);
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
+        assertEquals(42, new ExperimentPartitionResponse(in).getEvaluatedQueryTexts());
+    }
+}
@@ -13,6 +13,7 @@ import java.util.List;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.HybridOptimizerStrategy;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -35,6 +36,43 @@ public class PutExperimentActionTests extends OpenSearchTestCase {
         assertEquals(10, serialized.getSize());
     }
 
+    public void testStreamsWithOptimizer() throws IOException {
+        PutExperimentRequest request = new PutExperimentRequest(
+            ExperimentType.HYBRID_OPTIMIZER,
+            "1234",
+            List.of("5678"),
+            List.of("0000"),
+            10,
+            HybridOptimizerStrategy.SUCCESSIVE_HALVING,
+            150
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+        StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
+        PutExperimentRequest serialized = new PutExperimentRequest(in);
+        assertEquals(HybridOptimizerStrategy.SUCCESSIVE_HALVING, serialized.getOptimizer());
+        assertEquals(Integer.valueOf(150), serialized.getSearchBudget());
+    }
+
+    public void testStreamsWithDistributedExecution() throws IOException {
+        PutExperimentRequest request = new PutExperimentRequest(
+            ExperimentType.POINTWISE_EVALUATION,
+            "1234",
+            List.of("5678"),
+            List.of("0000"),
+            10,
+            null,
+            null,
+            true
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+        StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
+        PutExperimentRequest serialized = new PutExperimentRequest(in);
+        assertTrue(serialized.isDistributedExecution());
+        assertNull(serialized.getOptimizer());
+    }
+
     public void testRequestValidation() {
         PutExperimentRequest request = new PutExperimentRequest(
             ExperimentType.PAIRWISE_COMPARISON,
@@ -7,15 +7,19 @@
  */
 package org.opensearch.searchrelevance.action.judgment;
 
+import static org.opensearch.searchrelevance.common.PluginConstants.DEFAULT_SCHEDULING_WEIGHT;
+
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.searchrelevance.model.JudgmentType;
 import org.opensearch.searchrelevance.transport.judgment.PutImportJudgmentRequest;
 import org.opensearch.searchrelevance.transport.judgment.PutJudgmentRequest;
+import org.opensearch.searchrelevance.transport.judgment.PutLlmJudgmentRequest;
 import org.opensearch.searchrelevance.transport.judgment.PutUbiJudgmentRequest;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -40,6 +44,51 @@ public class PutJudgmentActionTests extends OpenSearchTestCase {
         assertNull(request.validate());
     }
 
+    public void testLlmJudgmentStreams() throws IOException {
+        PutLlmJudgmentRequest request = llmJudgmentRequest();
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+        StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
+        PutLlmJudgmentRequest serialized = new PutLlmJudgmentRequest(in);
+        assertEquals("model", serialized.getModelId());
+        assertEquals(List.of("title"), serialized.getContextFields());
+        assertTrue(serialized.isBatchQueries());
+        assertEquals(5, serialized.getSchedulingWeight());
+        assertTrue(serialized.isPooledJudging());
+        // left unset so that the job derives the cut-off from the size
+        assertNull(serialized.getPoolingNdcgAt());
+        assertEquals(1000L, serialized.getMaxInputTokens());
+        assertEquals(20, serialized.getMaxLLMCalls());
+        assertTrue(serialized.isDistributedJudging());
+    }
+
+    public void testLlmJudgmentStreamsWithOlderNode() throws IOException {
+        PutLlmJudgmentRequest request = llmJudgmentRequest();
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_1_0);
+        request.writeTo(output);
+        StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
+        in.setVersion(Version.V_3_1_0);
+        PutLlmJudgmentRequest serialized = new PutLlmJudgmentRequest(in);
+        assertEquals("model", serialized.getModelId());
+        assertEquals(10, serialized.getSize());
+        assertFalse(serialized.isBatchQueries());
+        assertEquals(DEFAULT_SCHEDULING_WEIGHT, serialized.getSchedulingWeight());
+        assertFalse(serialized.isPooledJudging());
+        assertNull(serialized.getPoolingNdcgAt());
+        assertEquals(0L, serialized.getMaxInputTokens());
+        assertFalse(serialized.isDistributedJudging());
+    }
+
+    public void testLlmJudgmentStreamsKeepPoolingNdcgAt() throws IOException {
+        PutLlmJudgmentRequest request = llmJudgmentRequestBuilder().poolingNdcgAt(3).build();
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+        StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
+        PutLlmJudgmentRequest serialized = new PutLlmJudgmentRequest(in);
+        assertEquals(Integer.valueOf(3), serialized.getPoolingNdcgAt());
+    }
+
     public void testImportJudgementStream() throws IOException {
 
         // Add entries for "red dress" query
@@ -76,4 +125,27 @@ public class PutJudgmentActionTests extends OpenSearchTestCase {
         assertEquals("B077ZJXCTS", ratings.get("docId"));
         assertEquals("0.700", ratings.get("rating"));
     }
+
+    private PutLlmJudgmentRequest llmJudgmentRequest() {
+        return llmJudgmentRequestBuilder().build();
+    }
+
+    private PutLlmJudgmentRequest.PutLlmJudgmentRequestBuilder llmJudgmentRequestBuilder() {
+        return PutLlmJudgmentRequest.builder()
+            .type(JudgmentType.LLM_JUDGMENT)
+            .name("name")
+            .description("description")
+            .modelId("model")
+            .querySetId("query-set")
+            .searchConfigurationList(List.of("config"))
+            .size(10)
+            .tokenLimit(4000)
+            .contextFields(List.of("title"))
+            .batchQueries(true)
+            .schedulingWeight(5)
+            .pooledJudging(true)
+            .maxInputTokens(1000L)
+            .maxLLMCalls(20)
+            .distributedJudging(true);
+    }
 }
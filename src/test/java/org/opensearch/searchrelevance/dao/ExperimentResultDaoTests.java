@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.dao;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EXPERIMENT_RESULT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.lucene.search.TotalHits;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ExperimentResultDaoTests extends OpenSearchTestCase {
+
+    private static final String EXPERIMENT_ID = "experiment";
+    private static final int PAGE_SIZE = 1000;
+
+    private SearchRelevanceIndicesManager indicesManager;
+    private ExperimentResultDao experimentResultDao;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        indicesManager = mock(SearchRelevanceIndicesManager.class);
+        experimentResultDao = new ExperimentResultDao(indicesManager);
+    }
+
+    public void testPutExperimentResultBulkRoutesByExperimentId() {
+        ExperimentResult experimentResult = ExperimentResult.builder()
+            .id(ExperimentResult.idOf(EXPERIMENT_ID, "red shoes"))
+            .timestamp("2025-01-01T00:00:00.000Z")
+            .experimentId(EXPERIMENT_ID)
+            .queryText("red shoes")
+            .results(List.of(Map.of("searchConfigurationId", "config")))
+            .build();
+        ActionListener<Object> listener = ActionListener.wrap(response -> {}, e -> fail("the write should be handed over"));
+
+        experimentResultDao.putExperimentResultBulk(experimentResult, listener);
+
+        verify(indicesManager).putDocBulk(eq(experimentResult.getId()), any(), eq(EXPERIMENT_RESULT), eq(EXPERIMENT_ID), eq(listener));
+    }
+
+    public void testPutNullExperimentResultFails() {
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        experimentResultDao.putExperimentResultBulk(null, ActionListener.wrap(response -> fail("the write should fail"), failure::set));
+
+        assertEquals(RestStatus.BAD_REQUEST, ((SearchRelevanceException) failure.get()).status());
+        verifyNoInteractions(indicesManager);
+    }
+
+    public void testListExperimentResultsIsRestrictedToTheExperiment() {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().size(10).from(20);
+
+        experimentResultDao.listExperimentResults(EXPERIMENT_ID, sourceBuilder, ActionListener.wrap(response -> {}, e -> {}));
+
+        ArgumentCaptor<SearchSourceBuilder> sourceCaptor = ArgumentCaptor.forClass(SearchSourceBuilder.class);
+        verify(indicesManager).listDocsBySearchRequest(sourceCaptor.capture(), eq(EXPERIMENT_RESULT), eq(EXPERIMENT_ID), any());
+        assertEquals(new TermQueryBuilder(ExperimentResult.EXPERIMENT_ID, EXPERIMENT_ID), sourceCaptor.getValue().query());
+        assertEquals(10, sourceCaptor.getValue().size());
+        assertEquals(20, sourceCaptor.getValue().from());
+    }
+
+    public void testListExperimentResultsWithoutExperimentIdFails() {
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        experimentResultDao.listExperimentResults("", null, ActionListener.wrap(response -> fail("the search should fail"), failure::set));
+
+        assertEquals(RestStatus.BAD_REQUEST, ((SearchRelevanceException) failure.get()).status());
+        verifyNoInteractions(indicesManager);
+    }
+
+    public void testGetCompletedQueryTextsPagesWithSearchAfter() {
+        List<SearchSourceBuilder> requestedPages = new ArrayList<>();
+        doAnswer(invocation -> {
+            SearchSourceBuilder sourceBuilder = invocation.getArgument(0);
+            requestedPages.add(sourceBuilder);
+            ActionListener<SearchResponse> listener = invocation.getArgument(3);
+            // a full first page, then a short last one
+            int from = requestedPages.size() == 1 ? 0 : PAGE_SIZE;
+            int count = requestedPages.size() == 1 ? PAGE_SIZE : 2;
+            listener.onResponse(searchResponse(from, count));
+            return null;
+        }).when(indicesManager).listDocsBySearchRequest(any(), eq(EXPERIMENT_RESULT), eq(EXPERIMENT_ID), any());
+
+        AtomicReference<Set<String>> completed = new AtomicReference<>();
+        experimentResultDao.getCompletedQueryTexts(EXPERIMENT_ID, ActionListener.wrap(completed::set, e -> fail("paging should succeed")));
+
+        verify(indicesManager, times(2)).listDocsBySearchRequest(any(), eq(EXPERIMENT_RESULT), eq(EXPERIMENT_ID), any());
+        assertNull(requestedPages.get(0).searchAfter());
+        assertArrayEquals(new Object[] { resultId(PAGE_SIZE - 1) }, requestedPages.get(1).searchAfter());
+        assertEquals(PAGE_SIZE + 2, completed.get().size());
+        assertTrue(completed.get().contains("query0"));
+        assertTrue(completed.get().contains("query" + (PAGE_SIZE + 1)));
+    }
+
+    public void testGetCompletedQueryTextsStopsAfterAShortPage() {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(3);
+            listener.onResponse(searchResponse(0, 0));
+            return null;
+        }).when(indicesManager).listDocsBySearchRequest(any(), eq(EXPERIMENT_RESULT), eq(EXPERIMENT_ID), any());
+
+        AtomicReference<Set<String>> completed = new AtomicReference<>();
+        experimentResultDao.getCompletedQueryTexts(EXPERIMENT_ID, ActionListener.wrap(completed::set, e -> fail("paging should succeed")));
+
+        verify(indicesManager, times(1)).listDocsBySearchRequest(any(), eq(EXPERIMENT_RESULT), eq(EXPERIMENT_ID), any());
+        assertTrue(completed.get().isEmpty());
+    }
+
+    public void testDeleteExperimentResultsRoutesByExperimentId() {
+        experimentResultDao.deleteExperimentResults(EXPERIMENT_ID, ActionListener.wrap(response -> {}, e -> {}));
+
+        ArgumentCaptor<QueryBuilder> queryCaptor = ArgumentCaptor.forClass(QueryBuilder.class);
+        verify(indicesManager).deleteDocsByQuery(queryCaptor.capture(), eq(EXPERIMENT_RESULT), eq(EXPERIMENT_ID), any());
+        assertEquals(new TermQueryBuilder(ExperimentResult.EXPERIMENT_ID, EXPERIMENT_ID), queryCaptor.getValue());
+    }
+
+    private static SearchResponse searchResponse(int from, int count) {
+        SearchHit[] hits = new SearchHit[count];
+        for (int i = 0; i < count; i++) {
+            String id = resultId(from + i);
+            hits[i] = new SearchHit(from + i, id, Map.of(), Map.of()).sourceRef(
+                new BytesArray("{\"" + ExperimentResult.QUERY_TEXT + "\": \"query" + (from + i) + "\"}")
+            );
+            hits[i].sortValues(new Object[] { id }, new DocValueFormat[] { DocValueFormat.RAW });
+        }
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(count, TotalHits.Relation.EQUAL_TO), 1.0f));
+        return response;
+    }
+
+    private static String resultId(int index) {
+        return String.format(Locale.ROOT, "result%05d", index);
+    }
+}
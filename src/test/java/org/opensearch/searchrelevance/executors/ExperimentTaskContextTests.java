@@ -184,7 +184,7 @@ public class ExperimentTaskContextTests extends OpenSearchTestCase {
             listener.onResponse(null);
             latch.countDown();
             return null;
-        }).when(experimentVariantDao).putExperimentVariantEfficient(any(), any());
+        }).when(experimentVariantDao).putExperimentVariantBulk(any(), any());
 
         // Setup config map
         ConcurrentHashMap<String, Object> searchConfigMap = new ConcurrentHashMap<>();
@@ -195,7 +195,7 @@ public class ExperimentTaskContextTests extends OpenSearchTestCase {
 
         // Assert
         assertTrue("Write should complete within timeout", latch.await(5, TimeUnit.SECONDS));
-        verify(experimentVariantDao, times(1)).putExperimentVariantEfficient(any(), any());
+        verify(experimentVariantDao, times(1)).putExperimentVariantBulk(any(), any());
 
         // Wait a bit for async map update
         Thread.sleep(100);
@@ -215,14 +215,14 @@ public class ExperimentTaskContextTests extends OpenSearchTestCase {
             listener.onFailure(new RuntimeException("Write failed"));
             latch.countDown();
             return null;
-        }).when(experimentVariantDao).putExperimentVariantEfficient(any(), any());
+        }).when(experimentVariantDao).putExperimentVariantBulk(any(), any());
 
         // Act
         context.scheduleVariantWrite(variant, evaluationId, false);
 
         // Assert
         assertTrue("Write should complete within timeout", latch.await(5, TimeUnit.SECONDS));
-        verify(experimentVariantDao, times(1)).putExperimentVariantEfficient(any(), any());
+        verify(experimentVariantDao, times(1)).putExperimentVariantBulk(any(), any());
     }
 
     public void testConcurrentVariantCompletions() throws Exception {
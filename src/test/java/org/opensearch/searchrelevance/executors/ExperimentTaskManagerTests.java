@@ -11,8 +11,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +24,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.opensearch.action.search.MultiSearchRequest;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
@@ -31,6 +35,7 @@ import org.opensearch.searchrelevance.dao.ExperimentVariantDao;
 import org.opensearch.searchrelevance.model.AsyncStatus;
 import org.opensearch.searchrelevance.model.ExperimentType;
 import org.opensearch.searchrelevance.model.ExperimentVariant;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
@@ -185,6 +190,13 @@ public class ExperimentTaskManagerTests extends OpenSearchTestCase {
 
         // Available permits should equal max concurrent tasks initially
         assertEquals("Available permits should equal max concurrent tasks initially", maxConcurrentTasks, metrics.get("available_permits"));
+        // Every pipeline stage reports its queue depth and service time
+        Map<String, Map<String, Object>> stages = (Map<String, Map<String, Object>>) metrics.get("stages");
+        assertEquals(List.of("query_build", "search", "metric", "write"), List.copyOf(stages.keySet()));
+        stages.values().forEach(stage -> {
+            assertEquals(0, stage.get("queue_depth"));
+            assertEquals(0.0, stage.get("mean_service_time_ms"));
+        });
     }
 
     public void testConcurrencyLimitCalculationLogic() {
@@ -294,4 +306,55 @@ public class ExperimentTaskManagerTests extends OpenSearchTestCase {
         // The initial config map should be preserved
         assertTrue("Should preserve existing keys", initialConfigMap.containsKey("existing-key"));
     }
+
+    public void testVariantSearchesAreBatchedIntoMultiSearchRequests() {
+        // Arrange
+        SearchRelevanceSettingsAccessor settingsAccessor = mock(SearchRelevanceSettingsAccessor.class);
+        when(settingsAccessor.getMaxConcurrentExperimentSearches()).thenReturn(3);
+        List<MultiSearchRequest> multiSearchRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            multiSearchRequests.add(invocation.getArgument(0));
+            return null;
+        }).when(client).multiSearch(any(MultiSearchRequest.class), any());
+        ExperimentTaskManager taskManager = new ExperimentTaskManager(
+            client,
+            evaluationResultDao,
+            experimentVariantDao,
+            threadPool,
+            settingsAccessor
+        );
+        String experimentId = "test-experiment";
+        int variantCount = ExperimentTaskManager.MAX_VARIANTS_PER_MULTI_SEARCH + 1;
+
+        // Act
+        taskManager.scheduleTasksAsync(
+            ExperimentType.POINTWISE_EVALUATION,
+            experimentId,
+            "test-config",
+            "test-index",
+            "{\"query\":{\"match\":{\"title\":\"%SearchText%\"}}}",
+            "test query text",
+            10,
+            createTestVariants(experimentId, variantCount),
+            List.of("judgment-1"),
+            Map.of("doc1", "5"),
+            new HashMap<>(),
+            new AtomicBoolean(false)
+        );
+
+        // Assert - one multi search per batch of variants, every variant searched once
+        verify(client, times(2)).multiSearch(any(MultiSearchRequest.class), any());
+        assertEquals(ExperimentTaskManager.MAX_VARIANTS_PER_MULTI_SEARCH, multiSearchRequests.get(0).requests().size());
+        assertEquals(1, multiSearchRequests.get(1).requests().size());
+        assertEquals(3, multiSearchRequests.get(0).maxConcurrentSearchRequests());
+        assertEquals(List.of("test-index"), List.of(multiSearchRequests.get(0).requests().get(0).indices()));
+    }
+
+    public void testSearchRequestTemplateIsCompiledOnce() {
+        ExperimentTaskManager taskManager = new ExperimentTaskManager(client, evaluationResultDao, experimentVariantDao, threadPool);
+        String query = "{\"query\":{\"match\":{\"title\":\"%SearchText%\"}}}";
+
+        assertSame(taskManager.getSearchRequestTemplate(query), taskManager.getSearchRequestTemplate(query));
+        expectThrows(IllegalArgumentException.class, () -> taskManager.getSearchRequestTemplate("{\"query\":invalid}"));
+    }
 }
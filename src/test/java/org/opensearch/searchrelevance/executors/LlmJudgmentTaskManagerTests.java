@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.judgments.JudgmentDataTransformer;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Unit tests for LlmJudgmentTaskManager
+ */
+public class LlmJudgmentTaskManagerTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = mock(ThreadPool.class);
+        ExecutorService immediateExecutor = mock(ExecutorService.class);
+        doAnswer(invocation -> {
+            Runnable command = invocation.getArgument(0);
+            command.run();
+            return null;
+        }).when(immediateExecutor).execute(any(Runnable.class));
+        when(threadPool.executor(anyString())).thenReturn(immediateExecutor);
+    }
+
+    public void testScheduleTasksShouldQueueBeyondPermitsWithoutBlocking() {
+        LlmJudgmentTaskManager taskManager = new LlmJudgmentTaskManager(threadPool);
+        int maxConcurrentTasks = (Integer) taskManager.getConcurrencyMetrics().get("max_concurrent_tasks");
+        int totalQueries = maxConcurrentTasks + 3;
+
+        List<String> queryTexts = new ArrayList<>();
+        for (int i = 0; i < totalQueries; i++) {
+            queryTexts.add("query-" + i);
+        }
+
+        // hold every task open so that permits are exhausted
+        List<Runnable> pendingCompletions = new ArrayList<>();
+        AtomicReference<List<Map<String, Object>>> results = new AtomicReference<>();
+        taskManager.scheduleTasksAsync(
+            queryTexts,
+            (queryText, listener) -> pendingCompletions.add(
+                () -> listener.onResponse(JudgmentDataTransformer.createJudgmentResult(queryText, Map.of("doc1", "1.0")))
+            ),
+            false,
+            ActionListener.wrap(results::set, e -> fail("Should not fail: " + e.getMessage()))
+        );
+
+        assertEquals("Only permitted tasks should be dispatched", maxConcurrentTasks, pendingCompletions.size());
+        assertEquals(0, taskManager.getConcurrencyMetrics().get("available_permits"));
+        assertEquals(3, taskManager.getConcurrencyMetrics().get("queued_tasks"));
+
+        // completing tasks releases permits and dispatches the queued ones
+        for (int i = 0; i < pendingCompletions.size(); i++) {
+            pendingCompletions.get(i).run();
+        }
+
+        assertEquals(totalQueries, pendingCompletions.size());
+        assertNotNull(results.get());
+        assertEquals(totalQueries, results.get().size());
+        for (int i = 0; i < totalQueries; i++) {
+            assertEquals("Results should keep query order", "query-" + i, results.get().get(i).get("query"));
+        }
+        assertEquals(maxConcurrentTasks, taskManager.getConcurrencyMetrics().get("available_permits"));
+    }
+
+    public void testScheduleTasksShouldReturnEmptyResultForFailedQuery() {
+        LlmJudgmentTaskManager taskManager = new LlmJudgmentTaskManager(threadPool);
+        AtomicReference<List<Map<String, Object>>> results = new AtomicReference<>();
+
+        taskManager.scheduleTasksAsync(List.of("ok", "broken"), (queryText, listener) -> {
+            if ("broken".equals(queryText)) {
+                throw new IllegalStateException("boom");
+            }
+            listener.onResponse(JudgmentDataTransformer.createJudgmentResult(queryText, Map.of("doc1", "2.0")));
+        }, true, ActionListener.wrap(results::set, e -> fail("Should not fail: " + e.getMessage())));
+
+        assertEquals(2, results.get().size());
+        assertEquals("broken", results.get().get(1).get("query"));
+        assertTrue(((List<?>) results.get().get(1).get("ratings")).isEmpty());
+        assertEquals(1, ((List<?>) results.get().get(0).get("ratings")).size());
+    }
+
+    public void testScheduleTasksShouldInterleaveJobsInsteadOfDrainingFirstJob() {
+        LlmJudgmentTaskManager taskManager = new LlmJudgmentTaskManager(threadPool);
+        int maxConcurrentTasks = (Integer) taskManager.getConcurrencyMetrics().get("max_concurrent_tasks");
+
+        List<String> startedJobs = new ArrayList<>();
+        List<Runnable> pendingCompletions = new ArrayList<>();
+        List<String> bigJobQueries = new ArrayList<>();
+        for (int i = 0; i < maxConcurrentTasks + 5; i++) {
+            bigJobQueries.add("big-" + i);
+        }
+        AtomicReference<List<Map<String, Object>>> smallJobResults = new AtomicReference<>();
+
+        taskManager.scheduleTasksAsync("big", 1, bigJobQueries, (queryText, listener) -> {
+            startedJobs.add("big");
+            pendingCompletions.add(() -> listener.onResponse(JudgmentDataTransformer.createJudgmentResult(queryText, Map.of())));
+        }, false, ActionListener.wrap(results -> {}, e -> fail("Should not fail: " + e.getMessage())));
+        taskManager.scheduleTasksAsync("small", 1, List.of("small-0", "small-1"), (queryText, listener) -> {
+            startedJobs.add("small");
+            pendingCompletions.add(() -> listener.onResponse(JudgmentDataTransformer.createJudgmentResult(queryText, Map.of())));
+        }, false, ActionListener.wrap(smallJobResults::set, e -> fail("Should not fail: " + e.getMessage())));
+
+        assertEquals(maxConcurrentTasks, startedJobs.size());
+        Map<String, Map<String, Object>> jobMetrics = taskManager.getJobMetrics();
+        assertEquals(5, jobMetrics.get("big").get("queue_depth"));
+        assertEquals(2, jobMetrics.get("small").get("queue_depth"));
+        assertEquals(maxConcurrentTasks, jobMetrics.get("big").get("running_tasks"));
+
+        // freed permits alternate between the jobs instead of draining the big job first
+        for (int i = 0; i < 3; i++) {
+            pendingCompletions.get(i).run();
+        }
+        assertEquals(List.of("small", "big", "small"), startedJobs.subList(maxConcurrentTasks, maxConcurrentTasks + 3));
+        assertEquals(0, taskManager.getJobMetrics().get("small").get("queue_depth"));
+
+        for (int i = 3; i < pendingCompletions.size(); i++) {
+            pendingCompletions.get(i).run();
+        }
+        assertEquals(2, smallJobResults.get().size());
+        assertTrue("Finished jobs should be removed", taskManager.getJobMetrics().isEmpty());
+        assertEquals(maxConcurrentTasks, taskManager.getConcurrencyMetrics().get("available_permits"));
+    }
+
+    public void testScheduleTasksShouldDispatchByJobWeight() {
+        LlmJudgmentTaskManager taskManager = new LlmJudgmentTaskManager(threadPool);
+        int maxConcurrentTasks = (Integer) taskManager.getConcurrencyMetrics().get("max_concurrent_tasks");
+
+        List<String> startedJobs = new ArrayList<>();
+        List<Runnable> pendingCompletions = new ArrayList<>();
+        List<String> blockerQueries = new ArrayList<>();
+        for (int i = 0; i < maxConcurrentTasks; i++) {
+            blockerQueries.add("blocker-" + i);
+        }
+        taskManager.scheduleTasksAsync(
+            "blocker",
+            1,
+            blockerQueries,
+            (queryText, listener) -> pendingCompletions.add(
+                () -> listener.onResponse(JudgmentDataTransformer.createJudgmentResult(queryText, Map.of()))
+            ),
+            false,
+            ActionListener.wrap(results -> {}, e -> fail("Should not fail: " + e.getMessage()))
+        );
+        for (String jobId : List.of("heavy", "light")) {
+            int weight = "heavy".equals(jobId) ? 3 : 1;
+            taskManager.scheduleTasksAsync(
+                jobId,
+                weight,
+                List.of(jobId + "-0", jobId + "-1", jobId + "-2", jobId + "-3"),
+                (queryText, listener) -> startedJobs.add(jobId),
+                false,
+                ActionListener.wrap(results -> {}, e -> fail("Should not fail: " + e.getMessage()))
+            );
+        }
+
+        // release the permits held by the blocker one at a time; queued tasks never complete and keep their permits
+        for (int i = 0; i < Math.min(maxConcurrentTasks, 4); i++) {
+            pendingCompletions.get(i).run();
+        }
+        assertEquals(List.of("heavy", "heavy", "heavy", "light").subList(0, startedJobs.size()), startedJobs);
+    }
+
+    public void testScheduleTasksWithNoQueriesShouldCompleteImmediately() {
+        LlmJudgmentTaskManager taskManager = new LlmJudgmentTaskManager(threadPool);
+        AtomicReference<List<Map<String, Object>>> results = new AtomicReference<>();
+
+        taskManager.scheduleTasksAsync(
+            List.of(),
+            (queryText, listener) -> fail("No task expected"),
+            false,
+            ActionListener.wrap(results::set, e -> fail("Should not fail: " + e.getMessage()))
+        );
+
+        assertTrue(results.get().isEmpty());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class PipelineStageTests extends OpenSearchTestCase {
+
+    private final List<String> finished = new ArrayList<>();
+    private final List<String> failed = new ArrayList<>();
+
+    public void testQueuedItemStartsWhenRunningItemCompletes() {
+        Map<String, ActionListener<Boolean>> inFlight = new HashMap<>();
+        PipelineStage<String> stage = stage("stage", 1, 2, inFlight);
+
+        stage.submit("a", () -> {});
+        stage.submit("b", () -> {});
+        stage.submit("c", () -> {});
+
+        assertEquals(List.of("a"), List.copyOf(inFlight.keySet()));
+        assertEquals(2, stage.getQueueDepth());
+
+        inFlight.remove("a").onResponse(true);
+
+        assertEquals(List.of("a"), finished);
+        assertTrue(inFlight.containsKey("b"));
+        assertEquals(1, stage.getQueueDepth());
+        assertEquals(1, stage.getRunning());
+        assertEquals(1L, stage.getMetrics().get("processed"));
+    }
+
+    public void testFullStageHoldsBackUpstreamStage() {
+        Map<String, ActionListener<Boolean>> upstreamInFlight = new HashMap<>();
+        Map<String, ActionListener<Boolean>> downstreamInFlight = new HashMap<>();
+        PipelineStage<String> upstream = stage("upstream", 1, 0, upstreamInFlight);
+        PipelineStage<String> downstream = stage("downstream", 1, 0, downstreamInFlight);
+        upstream.then(downstream);
+
+        upstream.submit("a", () -> {});
+        upstreamInFlight.remove("a").onResponse(true);
+        upstream.submit("b", () -> {});
+        upstreamInFlight.remove("b").onResponse(true);
+
+        assertTrue(downstreamInFlight.containsKey("a"));
+        assertEquals("b is parked until the downstream stage has room", 1, downstream.getQueueDepth());
+        assertEquals("The upstream slot is held by the parked item", 1, upstream.getRunning());
+
+        boolean[] accepted = new boolean[1];
+        upstream.submit("c", () -> accepted[0] = true);
+        assertFalse(accepted[0]);
+        assertFalse(upstreamInFlight.containsKey("c"));
+
+        downstreamInFlight.remove("a").onResponse(true);
+
+        assertEquals(List.of("a"), finished);
+        assertTrue(downstreamInFlight.containsKey("b"));
+        assertTrue("Accepting b frees the upstream slot for c", upstreamInFlight.containsKey("c"));
+        assertTrue(accepted[0]);
+    }
+
+    public void testItemDroppedByStageIsFinished() {
+        Map<String, ActionListener<Boolean>> inFlight = new HashMap<>();
+        PipelineStage<String> first = stage("first", 1, 1, inFlight);
+        first.then(stage("second", 1, 1, new HashMap<>()));
+
+        first.submit("a", () -> {});
+        inFlight.remove("a").onResponse(false);
+
+        assertEquals(List.of("a"), finished);
+        assertEquals(0, first.getRunning());
+    }
+
+    public void testFailureReleasesSlot() {
+        Map<String, ActionListener<Boolean>> inFlight = new HashMap<>();
+        PipelineStage<String> stage = stage("stage", 1, 1, inFlight);
+
+        stage.submit("a", () -> {});
+        stage.submit("b", () -> {});
+        inFlight.remove("a").onFailure(new RuntimeException("boom"));
+
+        assertEquals(List.of("a"), failed);
+        assertTrue(finished.isEmpty());
+        assertTrue(inFlight.containsKey("b"));
+    }
+
+    public void testHandlerThrowingAfterCompletionReleasesSlotOnce() {
+        List<String> started = new ArrayList<>();
+        PipelineStage<String> stage = new PipelineStage<>("stage", Runnable::run, 1, 2, (item, listener) -> {
+            started.add(item);
+            if (item.equals("a")) {
+                listener.onResponse(true);
+                throw new IllegalStateException("thrown after completing the item");
+            }
+        }, finished::add, (item, e) -> failed.add(item));
+
+        stage.submit("a", () -> {});
+        stage.submit("b", () -> {});
+        stage.submit("c", () -> {});
+
+        assertEquals(List.of("a"), finished);
+        assertTrue(failed.isEmpty());
+        assertEquals("Only b may take the released slot", List.of("a", "b"), started);
+        assertEquals(1, stage.getRunning());
+        assertEquals(1, stage.getQueueDepth());
+    }
+
+    public void testListenerCompletedTwiceReleasesSlotOnce() {
+        Map<String, ActionListener<Boolean>> inFlight = new HashMap<>();
+        PipelineStage<String> stage = stage("stage", 1, 2, inFlight);
+
+        stage.submit("a", () -> {});
+        stage.submit("b", () -> {});
+        stage.submit("c", () -> {});
+        ActionListener<Boolean> listener = inFlight.remove("a");
+        listener.onResponse(true);
+        listener.onFailure(new RuntimeException("late failure"));
+        listener.onResponse(true);
+
+        assertEquals(List.of("a"), finished);
+        assertTrue(failed.isEmpty());
+        assertEquals(List.of("b"), List.copyOf(inFlight.keySet()));
+        assertEquals(1, stage.getRunning());
+        assertEquals(1L, stage.getMetrics().get("processed"));
+    }
+
+    private PipelineStage<String> stage(String name, int concurrency, int queueCapacity, Map<String, ActionListener<Boolean>> inFlight) {
+        return new PipelineStage<>(
+            name,
+            Runnable::run,
+            concurrency,
+            queueCapacity,
+            inFlight::put,
+            finished::add,
+            (item, e) -> failed.add(item)
+        );
+    }
+}
@@ -7,9 +7,11 @@
  */
 package org.opensearch.searchrelevance.experiment;
 
+import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENTS_URI;
 import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENTS_URL;
 import static org.opensearch.searchrelevance.common.PluginConstants.QUERYSETS_URL;
+import static org.opensearch.searchrelevance.common.PluginConstants.RESULTS_ENDPOINT;
 import static org.opensearch.searchrelevance.common.PluginConstants.SEARCH_CONFIGURATIONS_URL;
 
 import java.io.IOException;
@@ -18,6 +20,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -231,6 +234,42 @@ public abstract class BaseExperimentIT extends BaseSearchRelevanceIT {
         return source;
     }
 
+    /**
+     * Page through the results of an experiment, flattening the results of all its query texts
+     */
+    protected List<Map<String, Object>> getExperimentResults(String experimentId) throws IOException {
+        String getExperimentResultsUrl = String.join("/", EXPERIMENTS_URI, experimentId, RESULTS_ENDPOINT);
+        List<Map<String, Object>> results = new ArrayList<>();
+        String searchAfter = null;
+        while (true) {
+            Map<String, String> params = new HashMap<>();
+            // a small page size so that the paging is exercised as well
+            params.put("size", "3");
+            if (searchAfter != null) {
+                params.put("search_after", searchAfter);
+            }
+            Response getResultsResponse = makeRequest(
+                client(),
+                RestRequest.Method.GET.name(),
+                getExperimentResultsUrl,
+                params,
+                null,
+                ImmutableList.of(new BasicHeader(HttpHeaders.USER_AGENT, DEFAULT_USER_AGENT))
+            );
+            Map<String, Object> hits = (Map<String, Object>) entityAsMap(getResultsResponse).get("hits");
+            List<Map<String, Object>> page = (List<Map<String, Object>>) hits.get("hits");
+            if (page.isEmpty()) {
+                return results;
+            }
+            for (Map<String, Object> hit : page) {
+                Map<String, Object> source = (Map<String, Object>) hit.get("_source");
+                assertEquals(experimentId, source.get("experimentId"));
+                results.addAll((List<Map<String, Object>>) source.get("results"));
+                searchAfter = (String) source.get("id");
+            }
+        }
+    }
+
     protected void assertListsHaveSameElements(List<String> expected, List<String> actual) {
         List<String> sortedExpected = new ArrayList<>(expected);
         List<String> sortedActual = new ArrayList<>(actual);
@@ -241,4 +241,57 @@ public class ExperimentOptionsForHybridSearchTests extends OpenSearchTestCase {
             assertTrue("Missing expected weight: " + expected, foundWeight);
         }
     }
+
+    public void testGetParameterCombinations_whenThreeSubQueries_thenReturnSimplexLattice() {
+        ExperimentOptionsForHybridSearch options = ExperimentOptionsForHybridSearch.builder()
+            .normalizationTechniques(Set.of("min_max"))
+            .combinationTechniques(Set.of("arithmetic_mean", "harmonic_mean"))
+            .weightsRange(ExperimentOptionsForHybridSearch.WeightsRange.builder().rangeMin(0.0f).rangeMax(1.0f).increment(0.25f).build())
+            .build();
+
+        List<ExperimentVariantHybridSearchDTO> combinations = options.getParameterCombinations(true, 3);
+
+        // 2 combination techniques * 15 lattice points (6 choose 2) with weights in quarters
+        assertEquals(30, combinations.size());
+        for (ExperimentVariantHybridSearchDTO combo : combinations) {
+            float[] weights = combo.getQueryWeightsForCombination();
+            assertEquals(3, weights.length);
+            assertEquals(1.0f, weights[0] + weights[1] + weights[2], DELTA_FOR_FLOAT_ASSERTION);
+        }
+    }
+
+    public void testGetParameterCombinations_whenThreeSubQueriesWithinRange_thenSkipPointsOutsideRange() {
+        ExperimentOptionsForHybridSearch options = ExperimentOptionsForHybridSearch.builder()
+            .normalizationTechniques(Set.of("min_max"))
+            .combinationTechniques(Set.of("arithmetic_mean"))
+            .weightsRange(ExperimentOptionsForHybridSearch.WeightsRange.builder().rangeMin(0.1f).rangeMax(0.8f).increment(0.1f).build())
+            .build();
+
+        List<ExperimentVariantHybridSearchDTO> combinations = options.getParameterCombinations(true, 3);
+
+        // every weight at least 0.1 leaves 0.7 to spread over 3 sub-queries: (7 + 2) choose 2 points
+        assertEquals(36, combinations.size());
+        for (ExperimentVariantHybridSearchDTO combo : combinations) {
+            for (float weight : combo.getQueryWeightsForCombination()) {
+                assertTrue(weight >= 0.1f - DELTA_FOR_FLOAT_ASSERTION && weight <= 0.8f + DELTA_FOR_FLOAT_ASSERTION);
+            }
+        }
+    }
+
+    public void testGetParameterCombinations_whenFourSubQueriesWithoutWeights_thenEqualWeights() {
+        ExperimentOptionsForHybridSearch options = ExperimentOptionsForHybridSearch.builder()
+            .normalizationTechniques(Set.of("min_max", "l2"))
+            .combinationTechniques(Set.of("arithmetic_mean"))
+            .weightsRange(ExperimentOptionsForHybridSearch.WeightsRange.builder().rangeMin(0.0f).rangeMax(1.0f).increment(0.1f).build())
+            .build();
+
+        List<ExperimentVariantHybridSearchDTO> combinations = options.getParameterCombinations(false, 4);
+
+        assertEquals(2, combinations.size());
+        for (ExperimentVariantHybridSearchDTO combo : combinations) {
+            for (float weight : combo.getQueryWeightsForCombination()) {
+                assertEquals(0.25f, weight, DELTA_FOR_FLOAT_ASSERTION);
+            }
+        }
+    }
 }
@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class HybridOptimizerExperimentProcessorTests extends OpenSearchTestCase {
+
+    public void testBestConfigurationOfStoredSummary() {
+        // stored summaries come back from the experiment index with the weights as doubles
+        Map<String, Object> summary = Map.of(
+            "strategy",
+            "TPE",
+            "bestConfiguration",
+            Map.of("normalization", "min_max", "combination", "arithmetic_mean", "weights", List.of(0.3, 0.7))
+        );
+
+        ExperimentVariantHybridSearchDTO bestConfiguration = HybridOptimizerExperimentProcessor.bestConfigurationOf(summary);
+
+        assertEquals("min_max", bestConfiguration.getNormalizationTechnique());
+        assertEquals("arithmetic_mean", bestConfiguration.getCombinationTechnique());
+        assertArrayEquals(new float[] { 0.3f, 0.7f }, bestConfiguration.getQueryWeightsForCombination(), 0.0f);
+    }
+
+    public void testBestConfigurationOfSummaryWithoutOne() {
+        assertNull(HybridOptimizerExperimentProcessor.bestConfigurationOf(Map.of("strategy", "TPE")));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class HybridParameterOptimizerTests extends OpenSearchTestCase {
+
+    private static HybridScoreRecombiner recombiner() {
+        // the lexical sub-query ranks the relevant doc3 last, the semantic sub-query ranks it first
+        Map<String, Float> lexicalScores = new LinkedHashMap<>();
+        lexicalScores.put("doc1", 10.0f);
+        lexicalScores.put("doc2", 6.0f);
+        lexicalScores.put("doc3", 2.0f);
+        Map<String, Float> semanticScores = new LinkedHashMap<>();
+        semanticScores.put("doc3", 0.9f);
+        semanticScores.put("doc1", 0.5f);
+        semanticScores.put("doc2", 0.1f);
+        return new HybridScoreRecombiner(List.of(lexicalScores, semanticScores));
+    }
+
+    private static List<ExperimentVariantHybridSearchDTO> configurations() {
+        List<ExperimentVariantHybridSearchDTO> configurations = new ArrayList<>();
+        for (int i = 0; i <= 10; i++) {
+            float weight = i / 10.0f;
+            configurations.add(
+                ExperimentVariantHybridSearchDTO.builder()
+                    .normalizationTechnique("min_max")
+                    .combinationTechnique("arithmetic_mean")
+                    .queryWeightsForCombination(new float[] { weight, 1.0f - weight })
+                    .build()
+            );
+        }
+        return configurations;
+    }
+
+    public void testOptimizeFetchesEveryQueryTextOnceWithinBudget() throws Exception {
+        List<String> queryTexts = IntStream.range(0, 20).mapToObj(i -> "query " + i).toList();
+        AtomicInteger subQueryFetches = new AtomicInteger();
+        AtomicInteger judgmentFetches = new AtomicInteger();
+        HybridParameterOptimizer optimizer = new HybridParameterOptimizer(queryText -> {
+            subQueryFetches.incrementAndGet();
+            return CompletableFuture.completedFuture(recombiner());
+        }, queryText -> {
+            judgmentFetches.incrementAndGet();
+            return CompletableFuture.completedFuture(Map.of("doc3", "3", "doc1", "1"));
+        }, 3, 60);
+
+        HybridParameterSearch search = optimizer.optimize(new SuccessiveHalvingSearch(configurations(), queryTexts, 60)).get();
+
+        assertTrue(optimizer.getEvaluatedQueryTexts() <= 60);
+        assertTrue(subQueryFetches.get() <= queryTexts.size());
+        assertEquals(subQueryFetches.get(), judgmentFetches.get());
+        // favouring the semantic sub-query ranks the relevant documents first
+        assertEquals(1.0, search.getBestObjective(), 1e-9);
+        assertTrue(search.getBestTrial().configuration().getQueryWeightsForCombination()[1] > 0.5f);
+    }
+
+    public void testFailedRetrievalFailsOptimization() {
+        HybridParameterOptimizer optimizer = new HybridParameterOptimizer(
+            queryText -> CompletableFuture.failedFuture(new IllegalStateException("search failed")),
+            queryText -> CompletableFuture.completedFuture(Map.of()),
+            3,
+            60
+        );
+
+        CompletableFuture<HybridParameterSearch> future = optimizer.optimize(
+            new SuccessiveHalvingSearch(configurations(), List.of("query"), 60)
+        );
+
+        assertTrue(future.isCompletedExceptionally());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class HybridScoreRecombinerTests extends OpenSearchTestCase {
+
+    private HybridScoreRecombiner createRecombiner() {
+        // lexical sub-query favours doc1, semantic sub-query favours doc3, doc2 is only found lexically
+        Map<String, Float> lexicalScores = new LinkedHashMap<>();
+        lexicalScores.put("doc1", 10.0f);
+        lexicalScores.put("doc2", 6.0f);
+        lexicalScores.put("doc3", 2.0f);
+        Map<String, Float> semanticScores = new LinkedHashMap<>();
+        semanticScores.put("doc3", 0.9f);
+        semanticScores.put("doc1", 0.5f);
+        semanticScores.put("doc4", 0.1f);
+        return new HybridScoreRecombiner(List.of(lexicalScores, semanticScores));
+    }
+
+    public void testCandidatesAreUnionOfSubQueryHits() {
+        assertEquals(4, createRecombiner().getCandidateCount());
+    }
+
+    public void testWeightsShiftRanking() {
+        HybridScoreRecombiner recombiner = createRecombiner();
+
+        assertEquals(
+            List.of("doc1", "doc2", "doc3"),
+            recombiner.rank("min_max", "arithmetic_mean", new float[] { 0.9f, 0.1f }, 3)
+        );
+        assertEquals(
+            List.of("doc3", "doc1", "doc2"),
+            recombiner.rank("min_max", "arithmetic_mean", new float[] { 0.1f, 0.9f }, 3)
+        );
+    }
+
+    public void testMinMaxArithmeticMeanScores() {
+        // min_max: doc1 = (1.0, 0.5), doc2 = (0.5, 0), doc3 = (0.001, 1.0), doc4 = (0, 0.001)
+        // arithmetic mean with equal weights: doc1 = 0.75, doc3 = 0.5005, doc2 = 0.25, doc4 = 0.0005
+        assertEquals(List.of("doc1", "doc3", "doc2", "doc4"), createRecombiner().rank("min_max", "arithmetic_mean", null, 10));
+    }
+
+    public void testGeometricAndHarmonicMeansIgnoreMissingScores() {
+        HybridScoreRecombiner recombiner = createRecombiner();
+
+        // doc2 is missing from the semantic results, so it is only combined from its lexical score
+        assertEquals("doc2", recombiner.rank("min_max", "geometric_mean", new float[] { 0.5f, 0.5f }, 10).get(1));
+        assertEquals("doc2", recombiner.rank("min_max", "harmonic_mean", new float[] { 0.5f, 0.5f }, 10).get(1));
+    }
+
+    public void testL2Normalization() {
+        // l2 keeps the relative order within a sub-query, so a lexical-only weighting ranks by lexical score
+        assertEquals(
+            List.of("doc1", "doc2", "doc3", "doc4"),
+            createRecombiner().rank("l2", "arithmetic_mean", new float[] { 1.0f, 0.0f }, 10)
+        );
+    }
+
+    public void testSizeLimitsRanking() {
+        assertEquals(2, createRecombiner().rank("l2", "harmonic_mean", null, 2).size());
+    }
+
+    public void testInvalidParametersFail() {
+        HybridScoreRecombiner recombiner = createRecombiner();
+
+        expectThrows(IllegalArgumentException.class, () -> recombiner.rank("z_score", "arithmetic_mean", null, 10));
+        expectThrows(IllegalArgumentException.class, () -> recombiner.rank("min_max", "median", null, 10));
+        expectThrows(IllegalArgumentException.class, () -> recombiner.rank("min_max", "arithmetic_mean", new float[] { 1.0f }, 10));
+    }
+}
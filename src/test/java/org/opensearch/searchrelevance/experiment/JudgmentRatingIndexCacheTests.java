@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import org.apache.lucene.search.TotalHits;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+public class JudgmentRatingIndexCacheTests extends OpenSearchTestCase {
+
+    private static final String EXPERIMENT_ID = "test_experiment";
+    private static final List<String> JUDGMENT_IDS = List.of("judgment1", "judgment2");
+
+    private JudgmentDao judgmentDao;
+    private CircuitBreaker circuitBreaker;
+    private JudgmentRatingIndexCache cache;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        judgmentDao = mock(JudgmentDao.class);
+        circuitBreaker = mock(CircuitBreaker.class);
+        cache = new JudgmentRatingIndexCache(judgmentDao, () -> circuitBreaker);
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            String judgmentId = invocation.getArgument(0);
+            listener.onResponse(judgmentResponse(judgmentId.equals("judgment1") ? "red shoes" : "blue boots"));
+            return null;
+        }).when(judgmentDao).getJudgment(anyString(), any());
+    }
+
+    public void testJudgmentsAreLoadedOncePerExperiment() {
+        Map<String, String> redShoes = cache.getRatingsAsync(EXPERIMENT_ID, JUDGMENT_IDS, "red shoes").join();
+        Map<String, String> blueBoots = cache.getRatingsAsync(EXPERIMENT_ID, JUDGMENT_IDS, "blue boots").join();
+
+        assertEquals(Map.of("doc1", "3.0"), redShoes);
+        assertEquals(Map.of("doc1", "3.0"), blueBoots);
+        verify(judgmentDao, times(1)).getJudgment(eq("judgment1"), any());
+        verify(judgmentDao, times(1)).getJudgment(eq("judgment2"), any());
+        verify(circuitBreaker, times(1)).addEstimateBytesAndMaybeBreak(anyLong(), anyString());
+        assertEquals(1, cache.getLoadedExperiments());
+    }
+
+    public void testReleaseReturnsAccountedMemory() {
+        long ramBytesUsed = cache.getIndexAsync(EXPERIMENT_ID, JUDGMENT_IDS).join().ramBytesUsed();
+
+        cache.release(EXPERIMENT_ID);
+
+        verify(circuitBreaker).addEstimateBytesAndMaybeBreak(eq(ramBytesUsed), anyString());
+        verify(circuitBreaker).addWithoutBreaking(-ramBytesUsed);
+        assertEquals(0, cache.getLoadedExperiments());
+    }
+
+    public void testTrippedBreakerFailsLoad() {
+        when(circuitBreaker.addEstimateBytesAndMaybeBreak(anyLong(), anyString())).thenThrow(
+            new CircuitBreakingException("judgment ratings too large", CircuitBreaker.Durability.TRANSIENT)
+        );
+
+        CompletionException exception = expectThrows(
+            CompletionException.class,
+            () -> cache.getRatingsAsync(EXPERIMENT_ID, JUDGMENT_IDS, "red shoes").join()
+        );
+        assertTrue(exception.getCause() instanceof CircuitBreakingException);
+    }
+
+    public void testJudgmentFetchFailureFailsLoad() {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new RuntimeException("Judgment fetch failed"));
+            return null;
+        }).when(judgmentDao).getJudgment(anyString(), any());
+
+        expectThrows(CompletionException.class, () -> cache.getRatingsAsync(EXPERIMENT_ID, JUDGMENT_IDS, "red shoes").join());
+    }
+
+    public void testIndexIsKeptWhilePartitionsHoldIt() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        Scheduler.ScheduledCancellable scheduledRelease = mock(Scheduler.ScheduledCancellable.class);
+        when(threadPool.schedule(any(), any(), anyString())).thenReturn(scheduledRelease);
+        JudgmentRatingIndexCache partitionCache = new JudgmentRatingIndexCache(judgmentDao, () -> circuitBreaker, threadPool);
+
+        partitionCache.acquire(EXPERIMENT_ID);
+        partitionCache.acquire(EXPERIMENT_ID);
+        partitionCache.getIndexAsync(EXPERIMENT_ID, JUDGMENT_IDS).join();
+        partitionCache.releaseWhenIdle(EXPERIMENT_ID);
+
+        verify(threadPool, never()).schedule(any(), any(), anyString());
+        assertEquals(1, partitionCache.getLoadedExperiments());
+
+        partitionCache.releaseWhenIdle(EXPERIMENT_ID);
+        partitionCache.acquire(EXPERIMENT_ID);
+
+        // the next partition picks up the index before it went idle for long enough
+        verify(threadPool).schedule(any(), eq(JudgmentRatingIndexCache.IDLE_RELEASE_DELAY), eq(ThreadPool.Names.GENERIC));
+        verify(scheduledRelease).cancel();
+        partitionCache.getIndexAsync(EXPERIMENT_ID, JUDGMENT_IDS).join();
+        verify(judgmentDao, times(1)).getJudgment(eq("judgment1"), any());
+    }
+
+    public void testIdleIndexIsReleased() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        ArgumentCaptor<Runnable> releaseCaptor = ArgumentCaptor.forClass(Runnable.class);
+        when(threadPool.schedule(releaseCaptor.capture(), any(), anyString())).thenReturn(mock(Scheduler.ScheduledCancellable.class));
+        JudgmentRatingIndexCache partitionCache = new JudgmentRatingIndexCache(judgmentDao, () -> circuitBreaker, threadPool);
+
+        partitionCache.acquire(EXPERIMENT_ID);
+        long ramBytesUsed = partitionCache.getIndexAsync(EXPERIMENT_ID, JUDGMENT_IDS).join().ramBytesUsed();
+        partitionCache.releaseWhenIdle(EXPERIMENT_ID);
+        assertEquals(1, partitionCache.getLoadedExperiments());
+
+        releaseCaptor.getValue().run();
+
+        verify(circuitBreaker).addWithoutBreaking(-ramBytesUsed);
+        assertEquals(0, partitionCache.getLoadedExperiments());
+    }
+
+    public void testReleaseWhenIdleWithoutThreadPoolReleasesRightAway() {
+        cache.acquire(EXPERIMENT_ID);
+        cache.getIndexAsync(EXPERIMENT_ID, JUDGMENT_IDS).join();
+
+        cache.releaseWhenIdle(EXPERIMENT_ID);
+
+        assertEquals(0, cache.getLoadedExperiments());
+    }
+
+    private static SearchResponse judgmentResponse(String queryText) throws Exception {
+        Map<String, Object> source = Map.of(
+            "judgmentRatings",
+            List.of(Map.of("query", queryText, "ratings", List.of(Map.of("docId", "doc1", "rating", "3"))))
+        );
+        SearchHit hit = new SearchHit(1, "judgment", Map.of(), Map.of());
+        hit.sourceRef(BytesReference.bytes(XContentFactory.jsonBuilder().map(source)));
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(
+            new SearchHits(new SearchHit[] { hit }, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f)
+        );
+        return response;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class JudgmentRatingIndexTests extends OpenSearchTestCase {
+
+    public void testMergeJudgments() {
+        JudgmentRatingIndex index = JudgmentRatingIndex.fromJudgments(
+            List.of(
+                judgment("red shoes", Map.of("docId", "doc1", "rating", "1"), Map.of("docId", "doc2", "rating", "2")),
+                judgment("red shoes", Map.of("docId", "doc2", "rating", 3)),
+                judgment("blue boots", Map.of("docId", "doc3", "rating", "0.5"))
+            )
+        );
+
+        assertEquals(2, index.getQueryCount());
+        assertEquals(Map.of("doc1", "1.0", "doc2", "3.0"), index.getRatings("red shoes"));
+        assertEquals(Map.of("doc3", "0.5"), index.getRatings("blue boots"));
+        assertTrue(index.ramBytesUsed() > 0);
+    }
+
+    public void testQueryTextNotJudged() {
+        JudgmentRatingIndex index = JudgmentRatingIndex.fromJudgments(
+            List.of(judgment("red shoes", Map.of("docId", "doc1", "rating", "1")))
+        );
+
+        assertTrue(index.getRatings("green hats").isEmpty());
+    }
+
+    public void testNonNumericRatingsAreSkipped() {
+        JudgmentRatingIndex index = JudgmentRatingIndex.fromJudgments(
+            List.of(judgment("red shoes", Map.of("docId", "doc1", "rating", "relevant"), Map.of("docId", "doc2", "rating", "1")))
+        );
+
+        assertEquals(Map.of("doc2", "1.0"), index.getRatings("red shoes"));
+    }
+
+    public void testMemoryGrowsWithRatings() {
+        JudgmentRatingIndex small = JudgmentRatingIndex.fromJudgments(
+            List.of(judgment("red shoes", Map.of("docId", "doc1", "rating", "1")))
+        );
+        JudgmentRatingIndex large = JudgmentRatingIndex.fromJudgments(
+            List.of(judgment("red shoes", Map.of("docId", "doc1", "rating", "1"), Map.of("docId", "doc2", "rating", "1")))
+        );
+
+        assertTrue(large.ramBytesUsed() > small.ramBytesUsed());
+    }
+
+    @SafeVarargs
+    private static Map<String, Object> judgment(String queryText, Map<String, Object>... ratings) {
+        return Map.of("judgmentRatings", List.of(Map.of("query", queryText, "ratings", List.of(ratings))));
+    }
+}
@@ -54,7 +54,7 @@ public class PointwiseExperimentProcessorTests extends OpenSearchTestCase {
     public void setUp() {
         super.setUp();
         MockitoAnnotations.openMocks(this);
-        processor = new PointwiseExperimentProcessor(judgmentDao, taskManager);
+        processor = new PointwiseExperimentProcessor(new JudgmentRatingIndexCache(judgmentDao), taskManager);
     }
 
     @SneakyThrows
@@ -158,10 +158,11 @@ public class QuerySourceUtilTests extends OpenSearchTestCase {
             IllegalArgumentException.class,
             () -> QuerySourceUtil.validateHybridQuery(fullQuery)
         );
-        assertEquals("invalid hybrid query: expected exactly [2] sub-queries but found [1]", exception.getMessage());
+        assertEquals("invalid hybrid query: expected between [2] and [5] sub-queries but found [1]", exception.getMessage());
     }
 
-    public void testValidateHybridQuery_whenThreeSubqueries_thenFail() {
+    @SneakyThrows
+    public void testValidateHybridQuery_whenThreeSubqueries_thenSuccess() {
         Map<String, Object> hybridMap = new HashMap<>();
         List<Map<?, ?>> queries = Arrays.asList(Map.of(), Map.of(), Map.of());
         hybridMap.put("queries", queries);
@@ -170,10 +171,30 @@ public class QuerySourceUtilTests extends OpenSearchTestCase {
         Map<String, Object> fullQuery = new HashMap<>();
         fullQuery.put("query", query);
 
+        QuerySourceUtil.validateHybridQuery(fullQuery);
+    }
+
+    public void testValidateHybridQuery_whenSixSubqueries_thenFail() {
+        Map<String, Object> hybridMap = new HashMap<>();
+        List<Map<?, ?>> queries = Collections.nCopies(6, Map.of());
+        hybridMap.put("queries", queries);
+        Map<String, Object> query = new HashMap<>();
+        query.put("hybrid", hybridMap);
+        Map<String, Object> fullQuery = new HashMap<>();
+        fullQuery.put("query", query);
+
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
             () -> QuerySourceUtil.validateHybridQuery(fullQuery)
         );
-        assertEquals("invalid hybrid query: expected exactly [2] sub-queries but found [3]", exception.getMessage());
+        assertEquals("invalid hybrid query: expected between [2] and [5] sub-queries but found [6]", exception.getMessage());
+    }
+
+    public void testGetNumberOfSubQueries() {
+        String query = "{\"query\":{\"hybrid\":{\"queries\":[{\"match\":{\"title\":\"%SearchText%\"}},"
+            + "{\"match\":{\"body\":\"%SearchText%\"}},{\"match_all\":{}}]}}}";
+
+        assertEquals(3, QuerySourceUtil.getNumberOfSubQueries(query));
+        expectThrows(IllegalArgumentException.class, () -> QuerySourceUtil.getNumberOfSubQueries("{\"query\":{\"match_all\":{}}}"));
     }
 }
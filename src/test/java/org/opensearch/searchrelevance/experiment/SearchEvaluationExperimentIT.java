@@ -53,9 +53,10 @@ public class SearchEvaluationExperimentIT extends BaseExperimentIT {
 
         // Assert
         Map<String, Object> experimentSource = pollExperimentUntilCompleted(experimentId);
-        assertSearchEvaluationExperimentCreation(experimentSource, judgmentId, searchConfigurationId, querySetId);
+        List<Map<String, Object>> results = getExperimentResults(experimentId);
+        assertSearchEvaluationExperimentCreation(experimentSource, results, judgmentId, searchConfigurationId, querySetId);
 
-        Map<String, String> queryTextToEvaluationId = extractQueryTextToEvaluationId(experimentSource);
+        Map<String, String> queryTextToEvaluationId = extractQueryTextToEvaluationId(results);
         assertEvaluationResults(queryTextToEvaluationId, judgmentId, searchConfigurationId);
 
         deleteIndex(INDEX_NAME_ESCI);
@@ -86,6 +87,7 @@ public class SearchEvaluationExperimentIT extends BaseExperimentIT {
 
     private void assertSearchEvaluationExperimentCreation(
         Map<String, Object> source,
+        List<Map<String, Object>> results,
         String judgmentId,
         String searchConfigurationId,
         String querySetId
@@ -97,7 +99,6 @@ public class SearchEvaluationExperimentIT extends BaseExperimentIT {
         assertEquals("COMPLETED", source.get("status"));
 
         // Assert results structure
-        List<Map<String, Object>> results = (List<Map<String, Object>>) source.get("results");
         assertNotNull(results);
         assertEquals(8, results.size()); // Should have results for all 8 expected query terms
 
@@ -115,8 +116,7 @@ public class SearchEvaluationExperimentIT extends BaseExperimentIT {
         }
     }
 
-    private Map<String, String> extractQueryTextToEvaluationId(Map<String, Object> experimentSource) {
-        List<Map<String, Object>> results = (List<Map<String, Object>>) experimentSource.get("results");
+    private Map<String, String> extractQueryTextToEvaluationId(List<Map<String, Object>> results) {
         Map<String, String> queryTextToEvaluationId = new HashMap<>();
 
         for (Map<String, Object> result : results) {
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SimplexCoordinateDescentSearchTests extends OpenSearchTestCase {
+
+    private static final List<String> NORMALIZATIONS = List.of("min_max", "l2");
+    private static final List<String> COMBINATIONS = List.of("arithmetic_mean", "harmonic_mean", "geometric_mean");
+
+    private static List<String> queryTexts(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "query " + i).toList();
+    }
+
+    // concave objective peaking at the given weights with min_max and the arithmetic mean
+    private static double objective(HybridParameterSearch.Trial trial, float[] peak) {
+        ExperimentVariantHybridSearchDTO configuration = trial.configuration();
+        double penalty = "min_max".equals(configuration.getNormalizationTechnique()) ? 0 : 0.1;
+        penalty += "arithmetic_mean".equals(configuration.getCombinationTechnique()) ? 0 : 0.05;
+        float[] weights = configuration.getQueryWeightsForCombination();
+        double distance = 0;
+        for (int i = 0; i < weights.length; i++) {
+            distance += (weights[i] - peak[i]) * (weights[i] - peak[i]);
+        }
+        return 1.0 - distance - penalty;
+    }
+
+    private static int run(HybridParameterSearch search, float[] peak) {
+        int trials = 0;
+        for (List<HybridParameterSearch.Trial> next = search.nextTrials(); !next.isEmpty(); next = search.nextTrials()) {
+            for (HybridParameterSearch.Trial trial : next) {
+                trials++;
+                search.report(trial, objective(trial, peak));
+            }
+        }
+        return trials;
+    }
+
+    public void testFindsPeakOfThreeSubQueriesWithFewerTrialsThanGrid() {
+        float[] peak = { 0.5f, 0.3f, 0.2f };
+        SimplexCoordinateDescentSearch search = new SimplexCoordinateDescentSearch(NORMALIZATIONS, COMBINATIONS, 3, 10, queryTexts(5), 500);
+
+        int trials = run(search, peak);
+
+        ExperimentVariantHybridSearchDTO best = search.getBestTrial().configuration();
+        assertEquals("min_max", best.getNormalizationTechnique());
+        assertEquals("arithmetic_mean", best.getCombinationTechnique());
+        assertArrayEquals(peak, best.getQueryWeightsForCombination(), 1e-6f);
+        // the full grid has 6 technique pairs * 66 lattice points
+        assertTrue(trials < 6 * SimplexLattice.points(3, 10).size() / 4);
+    }
+
+    public void testFindsPeakOfFiveSubQueries() {
+        float[] peak = { 0.0f, 0.6f, 0.1f, 0.2f, 0.1f };
+        SimplexCoordinateDescentSearch search = new SimplexCoordinateDescentSearch(NORMALIZATIONS, COMBINATIONS, 5, 10, queryTexts(5), 500);
+
+        int trials = run(search, peak);
+
+        assertArrayEquals(peak, search.getBestTrial().configuration().getQueryWeightsForCombination(), 1e-6f);
+        assertTrue(trials < 6 * SimplexLattice.points(5, 10).size() / 50);
+    }
+
+    public void testTrialsShareQueryTextsWithinBudget() {
+        SimplexCoordinateDescentSearch search = new SimplexCoordinateDescentSearch(
+            NORMALIZATIONS,
+            COMBINATIONS,
+            3,
+            10,
+            queryTexts(50),
+            300
+        );
+
+        List<HybridParameterSearch.Trial> probes = search.nextTrials();
+
+        // centroid plus one probe leaning towards each sub-query, for every technique pair
+        assertEquals(6 * 4, probes.size());
+        for (HybridParameterSearch.Trial trial : probes) {
+            assertEquals(300 / SimplexCoordinateDescentSearch.TARGET_TRIALS, trial.queryTexts().size());
+            float sum = 0;
+            for (float weight : trial.configuration().getQueryWeightsForCombination()) {
+                sum += weight;
+            }
+            assertEquals(1.0f, sum, 1e-5f);
+        }
+    }
+
+    public void testLatticeRounding() {
+        assertArrayEquals(new int[] { 4, 3, 3 }, SimplexLattice.round(new double[] { 1.0 / 3, 1.0 / 3, 1.0 / 3 }, 10));
+        assertEquals(66, SimplexLattice.points(3, 10).size());
+        assertEquals(6, SimplexLattice.neighbours(new int[] { 4, 3, 3 }, 2).size());
+        assertEquals(2, SimplexLattice.neighbours(new int[] { 10, 0, 0 }, 2).size());
+    }
+}
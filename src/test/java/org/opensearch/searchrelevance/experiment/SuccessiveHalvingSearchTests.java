@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SuccessiveHalvingSearchTests extends OpenSearchTestCase {
+
+    private static final float BEST_WEIGHT = 0.7f;
+
+    private static List<ExperimentVariantHybridSearchDTO> configurations() {
+        List<ExperimentVariantHybridSearchDTO> configurations = new ArrayList<>();
+        for (int i = 0; i <= 10; i++) {
+            float weight = i / 10.0f;
+            for (String combination : List.of("arithmetic_mean", "harmonic_mean", "geometric_mean")) {
+                configurations.add(
+                    ExperimentVariantHybridSearchDTO.builder()
+                        .normalizationTechnique("min_max")
+                        .combinationTechnique(combination)
+                        .queryWeightsForCombination(new float[] { weight, 1.0f - weight })
+                        .build()
+                );
+            }
+        }
+        return configurations;
+    }
+
+    private static List<String> queryTexts(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "query " + i).toList();
+    }
+
+    // objective peaks at BEST_WEIGHT with the arithmetic mean, independent of the query texts
+    private static double objective(HybridParameterSearch.Trial trial) {
+        ExperimentVariantHybridSearchDTO configuration = trial.configuration();
+        double penalty = "arithmetic_mean".equals(configuration.getCombinationTechnique()) ? 0 : 0.05;
+        return 1.0 - Math.abs(configuration.getQueryWeightsForCombination()[0] - BEST_WEIGHT) - penalty;
+    }
+
+    private static int run(HybridParameterSearch search) {
+        int usedBudget = 0;
+        for (List<HybridParameterSearch.Trial> trials = search.nextTrials(); !trials.isEmpty(); trials = search.nextTrials()) {
+            for (HybridParameterSearch.Trial trial : trials) {
+                usedBudget += trial.queryTexts().size();
+                search.report(trial, objective(trial));
+            }
+        }
+        return usedBudget;
+    }
+
+    public void testFindsBestConfigurationWithinBudget() {
+        SuccessiveHalvingSearch search = new SuccessiveHalvingSearch(configurations(), queryTexts(100), 200);
+
+        int usedBudget = run(search);
+
+        assertTrue(usedBudget <= 200);
+        ExperimentVariantHybridSearchDTO best = search.getBestTrial().configuration();
+        assertEquals("arithmetic_mean", best.getCombinationTechnique());
+        assertEquals(BEST_WEIGHT, best.getQueryWeightsForCombination()[0], 1e-6);
+    }
+
+    public void testLaterRungsEvaluateMoreQueryTexts() {
+        SuccessiveHalvingSearch search = new SuccessiveHalvingSearch(configurations(), queryTexts(100), 300);
+
+        List<Integer> queriesPerRung = new ArrayList<>();
+        for (List<HybridParameterSearch.Trial> trials = search.nextTrials(); !trials.isEmpty(); trials = search.nextTrials()) {
+            queriesPerRung.add(trials.get(0).queryTexts().size());
+            trials.forEach(trial -> search.report(trial, objective(trial)));
+        }
+
+        assertTrue(queriesPerRung.size() > 1);
+        for (int i = 1; i < queriesPerRung.size(); i++) {
+            assertTrue(queriesPerRung.get(i) > queriesPerRung.get(i - 1));
+        }
+    }
+
+    public void testSmallBudgetStillEvaluatesEveryConfiguration() {
+        SuccessiveHalvingSearch search = new SuccessiveHalvingSearch(configurations(), queryTexts(100), 40);
+
+        List<HybridParameterSearch.Trial> firstRung = search.nextTrials();
+        assertEquals(configurations().size(), firstRung.size());
+        assertEquals(1, firstRung.get(0).queryTexts().size());
+        firstRung.forEach(trial -> search.report(trial, objective(trial)));
+
+        assertTrue(firstRung.size() + run(search) <= 40);
+        assertNotNull(search.getBestTrial());
+    }
+
+    public void testNoQueryTexts() {
+        SuccessiveHalvingSearch search = new SuccessiveHalvingSearch(configurations(), List.of(), 200);
+
+        assertTrue(search.nextTrials().isEmpty());
+        assertNull(search.getBestTrial());
+    }
+}
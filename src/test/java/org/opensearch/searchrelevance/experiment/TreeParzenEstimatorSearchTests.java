@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TreeParzenEstimatorSearchTests extends OpenSearchTestCase {
+
+    private static final List<String> NORMALIZATIONS = List.of("min_max", "l2");
+    private static final List<String> COMBINATIONS = List.of("arithmetic_mean", "harmonic_mean", "geometric_mean");
+
+    private static List<String> queryTexts(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "query " + i).toList();
+    }
+
+    // objective peaks at a weight of 0.3 with min_max and the harmonic mean
+    private static double objective(HybridParameterSearch.Trial trial) {
+        ExperimentVariantHybridSearchDTO configuration = trial.configuration();
+        double penalty = "min_max".equals(configuration.getNormalizationTechnique()) ? 0 : 0.2;
+        penalty += "harmonic_mean".equals(configuration.getCombinationTechnique()) ? 0 : 0.2;
+        return 1.0 - Math.abs(configuration.getQueryWeightsForCombination()[0] - 0.3) - penalty;
+    }
+
+    private static int run(HybridParameterSearch search) {
+        int usedBudget = 0;
+        for (List<HybridParameterSearch.Trial> trials = search.nextTrials(); !trials.isEmpty(); trials = search.nextTrials()) {
+            for (HybridParameterSearch.Trial trial : trials) {
+                usedBudget += trial.queryTexts().size();
+                search.report(trial, objective(trial));
+            }
+        }
+        return usedBudget;
+    }
+
+    public void testStaysWithinBudgetAndBounds() {
+        TreeParzenEstimatorSearch search = new TreeParzenEstimatorSearch(
+            NORMALIZATIONS,
+            COMBINATIONS,
+            2,
+            0.0f,
+            1.0f,
+            queryTexts(50),
+            200,
+            new Random(randomLong())
+        );
+
+        int trials = 0;
+        int usedBudget = 0;
+        for (List<HybridParameterSearch.Trial> next = search.nextTrials(); !next.isEmpty(); next = search.nextTrials()) {
+            for (HybridParameterSearch.Trial trial : next) {
+                float[] weights = trial.configuration().getQueryWeightsForCombination();
+                assertTrue(weights[0] >= 0.0f && weights[0] <= 1.0f);
+                assertEquals(1.0f, weights[0] + weights[1], 1e-6);
+                assertTrue(NORMALIZATIONS.contains(trial.configuration().getNormalizationTechnique()));
+                assertTrue(COMBINATIONS.contains(trial.configuration().getCombinationTechnique()));
+                assertEquals(10, trial.queryTexts().size());
+                usedBudget += trial.queryTexts().size();
+                trials++;
+                search.report(trial, objective(trial));
+            }
+        }
+
+        assertEquals(TreeParzenEstimatorSearch.MIN_TRIALS, trials);
+        assertTrue(usedBudget <= 200);
+    }
+
+    public void testFindsGoodConfiguration() {
+        TreeParzenEstimatorSearch search = new TreeParzenEstimatorSearch(
+            NORMALIZATIONS,
+            COMBINATIONS,
+            2,
+            0.0f,
+            1.0f,
+            queryTexts(10),
+            400,
+            new Random(42)
+        );
+
+        run(search);
+
+        // 40 trials of a smooth objective get close to the optimum
+        assertTrue(search.getBestObjective() > 0.8);
+        assertEquals(search.getBestObjective(), objective(search.getBestTrial()), 1e-9);
+    }
+
+    public void testBudgetBelowMinTrialsUsesOneQueryText() {
+        TreeParzenEstimatorSearch search = new TreeParzenEstimatorSearch(
+            NORMALIZATIONS,
+            COMBINATIONS,
+            2,
+            0.0f,
+            1.0f,
+            queryTexts(10),
+            8,
+            new Random(7)
+        );
+
+        assertEquals(8, run(search));
+    }
+
+    public void testWeightsOfMoreSubQueriesStayOnSimplex() {
+        TreeParzenEstimatorSearch search = new TreeParzenEstimatorSearch(
+            NORMALIZATIONS,
+            COMBINATIONS,
+            4,
+            0.0f,
+            1.0f,
+            queryTexts(10),
+            200,
+            new Random(randomLong())
+        );
+
+        for (List<HybridParameterSearch.Trial> next = search.nextTrials(); !next.isEmpty(); next = search.nextTrials()) {
+            for (HybridParameterSearch.Trial trial : next) {
+                float[] weights = trial.configuration().getQueryWeightsForCombination();
+                assertEquals(4, weights.length);
+                float sum = 0;
+                for (float weight : weights) {
+                    assertTrue(weight >= 0.0f && weight <= 1.0f);
+                    sum += weight;
+                }
+                assertEquals(1.0f, sum, 1e-5);
+                search.report(trial, 1.0 - Math.abs(weights[3] - 0.4));
+            }
+        }
+
+        assertEquals(4, search.getBestTrial().configuration().getQueryWeightsForCombination().length);
+    }
+}
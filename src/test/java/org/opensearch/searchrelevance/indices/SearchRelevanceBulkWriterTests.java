@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.indices;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SearchRelevanceBulkWriterTests extends OpenSearchTestCase {
+
+    private static final String INDEX = "test-index";
+    private static final TimeValue NO_FLUSH_INTERVAL = TimeValue.timeValueHours(1);
+
+    private final List<BulkRequest> sentBulks = new CopyOnWriteArrayList<>();
+
+    public void testFlushOnBulkActions() throws Exception {
+        try (SearchRelevanceBulkWriter writer = createWriter(2, NO_FLUSH_INTERVAL, succeeding())) {
+            CountDownLatch latch = new CountDownLatch(2);
+            writer.add(indexRequest("doc-1"), countDown(latch, null));
+            assertTrue(sentBulks.isEmpty());
+
+            writer.add(indexRequest("doc-2"), countDown(latch, null));
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(1, sentBulks.size());
+            assertEquals(2, sentBulks.get(0).numberOfActions());
+            assertEquals(0, writer.getPendingWrites());
+        }
+    }
+
+    public void testFlushOnInterval() throws Exception {
+        try (SearchRelevanceBulkWriter writer = createWriter(100, TimeValue.timeValueMillis(10), succeeding())) {
+            CountDownLatch latch = new CountDownLatch(1);
+            writer.add(indexRequest("doc-1"), countDown(latch, null));
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(1, sentBulks.size());
+        }
+    }
+
+    public void testExplicitFlush() throws Exception {
+        try (SearchRelevanceBulkWriter writer = createWriter(100, NO_FLUSH_INTERVAL, succeeding())) {
+            AtomicReference<Exception> failure = new AtomicReference<>();
+            CountDownLatch writeLatch = new CountDownLatch(1);
+            writer.add(indexRequest("doc-1"), countDown(writeLatch, failure));
+            CountDownLatch flushLatch = new CountDownLatch(1);
+
+            writer.flush(ActionListener.wrap(v -> flushLatch.countDown(), e -> fail("flush should not fail")));
+
+            assertTrue(flushLatch.await(5, TimeUnit.SECONDS));
+            assertEquals(0, writeLatch.getCount());
+            assertNull(failure.get());
+            assertEquals(1, sentBulks.size());
+        }
+    }
+
+    public void testRetryRejectedItems() throws Exception {
+        BiConsumer<BulkRequest, ActionListener<BulkResponse>> rejectFirstAttempt = (request, listener) -> {
+            if (sentBulks.size() == 1) {
+                // first attempt, reject the first item only
+                BulkItemResponse[] items = new BulkItemResponse[request.numberOfActions()];
+                for (int i = 0; i < items.length; i++) {
+                    DocWriteRequest<?> item = request.requests().get(i);
+                    items[i] = i == 0
+                        ? new BulkItemResponse(
+                            i,
+                            DocWriteRequest.OpType.CREATE,
+                            new BulkItemResponse.Failure(item.index(), item.id(), new OpenSearchRejectedExecutionException("rejected"))
+                        )
+                        : success(i, item);
+                }
+                listener.onResponse(new BulkResponse(items, 1));
+            } else {
+                succeeding().accept(request, listener);
+            }
+        };
+        try (SearchRelevanceBulkWriter writer = createWriter(2, NO_FLUSH_INTERVAL, rejectFirstAttempt)) {
+            AtomicReference<Exception> failure = new AtomicReference<>();
+            CountDownLatch latch = new CountDownLatch(2);
+            writer.add(indexRequest("doc-1"), countDown(latch, failure));
+            writer.add(indexRequest("doc-2"), countDown(latch, failure));
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertNull(failure.get());
+            assertEquals(2, sentBulks.size());
+            // only the rejected item is sent again
+            assertEquals(1, sentBulks.get(1).numberOfActions());
+            assertEquals("doc-1", sentBulks.get(1).requests().get(0).id());
+        }
+    }
+
+    public void testItemFailureIsReportedToItsListener() throws Exception {
+        BiConsumer<BulkRequest, ActionListener<BulkResponse>> failSecondItem = (request, listener) -> {
+            BulkItemResponse[] items = new BulkItemResponse[request.numberOfActions()];
+            for (int i = 0; i < items.length; i++) {
+                DocWriteRequest<?> item = request.requests().get(i);
+                items[i] = i == 1
+                    ? new BulkItemResponse(
+                        i,
+                        DocWriteRequest.OpType.CREATE,
+                        new BulkItemResponse.Failure(item.index(), item.id(), new IllegalArgumentException("mapping conflict"))
+                    )
+                    : success(i, item);
+            }
+            listener.onResponse(new BulkResponse(items, 1));
+        };
+        try (SearchRelevanceBulkWriter writer = createWriter(2, NO_FLUSH_INTERVAL, failSecondItem)) {
+            AtomicReference<Exception> firstFailure = new AtomicReference<>();
+            AtomicReference<Exception> secondFailure = new AtomicReference<>();
+            CountDownLatch latch = new CountDownLatch(2);
+            writer.add(indexRequest("doc-1"), countDown(latch, firstFailure));
+            writer.add(indexRequest("doc-2"), countDown(latch, secondFailure));
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertNull(firstFailure.get());
+            assertTrue(secondFailure.get() instanceof IllegalArgumentException);
+            // failures other than rejections are not retried
+            assertEquals(1, sentBulks.size());
+        }
+    }
+
+    public void testBulkFailureIsReportedToAllListeners() throws Exception {
+        BiConsumer<BulkRequest, ActionListener<BulkResponse>> failBulk = (request, listener) -> listener.onFailure(
+            new IllegalStateException("node closed")
+        );
+        try (SearchRelevanceBulkWriter writer = createWriter(2, NO_FLUSH_INTERVAL, failBulk)) {
+            AtomicReference<Exception> firstFailure = new AtomicReference<>();
+            AtomicReference<Exception> secondFailure = new AtomicReference<>();
+            CountDownLatch latch = new CountDownLatch(2);
+            writer.add(indexRequest("doc-1"), countDown(latch, firstFailure));
+            writer.add(indexRequest("doc-2"), countDown(latch, secondFailure));
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertTrue(firstFailure.get() instanceof IllegalStateException);
+            assertTrue(secondFailure.get() instanceof IllegalStateException);
+        }
+    }
+
+    public void testDuplicatePendingWriteIsRejected() throws Exception {
+        try (SearchRelevanceBulkWriter writer = createWriter(100, NO_FLUSH_INTERVAL, succeeding())) {
+            AtomicReference<Exception> failure = new AtomicReference<>();
+            CountDownLatch latch = new CountDownLatch(1);
+            writer.add(indexRequest("doc-1"), ActionListener.wrap(r -> {}, e -> {}));
+
+            writer.add(indexRequest("doc-1"), countDown(latch, failure));
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertNotNull(failure.get());
+            assertEquals(1, writer.getPendingWrites());
+        }
+    }
+
+    private SearchRelevanceBulkWriter createWriter(
+        int bulkActions,
+        TimeValue flushInterval,
+        BiConsumer<BulkRequest, ActionListener<BulkResponse>> bulkConsumer
+    ) {
+        BiConsumer<BulkRequest, ActionListener<BulkResponse>> recordingConsumer = (request, listener) -> {
+            sentBulks.add(request);
+            bulkConsumer.accept(request, listener);
+        };
+        return new SearchRelevanceBulkWriter(
+            recordingConsumer,
+            bulkActions,
+            new ByteSizeValue(1, ByteSizeUnit.MB),
+            flushInterval,
+            1,
+            BackoffPolicy.constantBackoff(TimeValue.timeValueMillis(1), 3)
+        );
+    }
+
+    private static BiConsumer<BulkRequest, ActionListener<BulkResponse>> succeeding() {
+        return (request, listener) -> {
+            BulkItemResponse[] items = new BulkItemResponse[request.numberOfActions()];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = success(i, request.requests().get(i));
+            }
+            listener.onResponse(new BulkResponse(items, 1));
+        };
+    }
+
+    private static BulkItemResponse success(int position, DocWriteRequest<?> item) {
+        IndexResponse response = new IndexResponse(new ShardId(item.index(), "_na_", 0), item.id(), 1, 1, 1, true);
+        return new BulkItemResponse(position, DocWriteRequest.OpType.CREATE, response);
+    }
+
+    private static IndexRequest indexRequest(String id) {
+        return new IndexRequest(INDEX).id(id).opType(DocWriteRequest.OpType.CREATE).source(Map.of("field", "value"));
+    }
+
+    private static ActionListener<DocWriteResponse> countDown(CountDownLatch latch, AtomicReference<Exception> failure) {
+        return ActionListener.wrap(response -> latch.countDown(), e -> {
+            if (failure != null) {
+                failure.set(e);
+            }
+            latch.countDown();
+        });
+    }
+}
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.JUDGMENT_CACHE;
 import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.QUERY_SET;
 
 import java.io.IOException;
@@ -30,18 +31,24 @@ import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.admin.indices.mapping.put.PutMappingRequest;
 import org.opensearch.action.delete.DeleteRequestBuilder;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.index.IndexRequestBuilder;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.index.shard.ShardId;
@@ -156,6 +163,69 @@ public class SearchRelevanceIndicesManagerTests extends OpenSearchTestCase {
         listenerCaptor.getValue().onFailure(exception);
     }
 
+    public void testCreateIndexIfAbsentAddsMissingFieldsToExistingIndex() {
+        when(metadata.hasIndex(JUDGMENT_CACHE.getIndexName())).thenReturn(true);
+        mockExistingMapping(JUDGMENT_CACHE, "contentHash");
+        StepListener<Void> stepListener = new StepListener<>();
+
+        indicesManager.createIndexIfAbsent(JUDGMENT_CACHE, stepListener);
+
+        ArgumentCaptor<PutMappingRequest> requestCaptor = ArgumentCaptor.forClass(PutMappingRequest.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ActionListener<AcknowledgedResponse>> listenerCaptor = ArgumentCaptor.forClass(ActionListener.class);
+        verify(indicesAdminClient).putMapping(requestCaptor.capture(), listenerCaptor.capture());
+        assertArrayEquals(new String[] { JUDGMENT_CACHE.getIndexName() }, requestCaptor.getValue().indices());
+        assertFalse(stepListener.isDone());
+
+        listenerCaptor.getValue().onResponse(new AcknowledgedResponse(true));
+        assertTrue(stepListener.isDone());
+
+        // the mapping is only checked once per node
+        indicesManager.createIndexIfAbsent(JUDGMENT_CACHE, new StepListener<>());
+        verify(indicesAdminClient).putMapping(any(PutMappingRequest.class), any());
+    }
+
+    public void testCreateIndexIfAbsentKeepsUpToDateMapping() {
+        when(metadata.hasIndex(JUDGMENT_CACHE.getIndexName())).thenReturn(true);
+        mockExistingMapping(JUDGMENT_CACHE, null);
+        StepListener<Void> stepListener = new StepListener<>();
+
+        indicesManager.createIndexIfAbsent(JUDGMENT_CACHE, stepListener);
+
+        verify(indicesAdminClient, never()).putMapping(any(PutMappingRequest.class), any());
+        assertTrue(stepListener.isDone());
+    }
+
+    public void testCreateIndexIfAbsentContinuesWhenMappingUpdateFails() {
+        when(metadata.hasIndex(JUDGMENT_CACHE.getIndexName())).thenReturn(true);
+        mockExistingMapping(JUDGMENT_CACHE, "contentHash");
+        doAnswer(invocation -> {
+            ActionListener<AcknowledgedResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new RuntimeException("mapping conflict"));
+            return null;
+        }).when(indicesAdminClient).putMapping(any(PutMappingRequest.class), any());
+        StepListener<Void> stepListener = new StepListener<>();
+
+        indicesManager.createIndexIfAbsent(JUDGMENT_CACHE, stepListener);
+
+        assertTrue(stepListener.isDone());
+    }
+
+    /**
+     * Mock the mapping of an existing index as the plugin mapping without the given field
+     */
+    @SuppressWarnings("unchecked")
+    private void mockExistingMapping(SearchRelevanceIndices index, String missingField) {
+        Map<String, Object> mapping = XContentHelper.convertToMap(JsonXContent.jsonXContent, index.getMapping(), false);
+        Map<String, Object> properties = new HashMap<>((Map<String, Object>) mapping.get("properties"));
+        if (missingField != null) {
+            properties.remove(missingField);
+        }
+        IndexMetadata indexMetadata = mock(IndexMetadata.class);
+        when(indexMetadata.mapping()).thenReturn(new MappingMetadata("_doc", Map.of("properties", properties)));
+        when(metadata.index(index.getIndexName())).thenReturn(indexMetadata);
+    }
+
     public void testPutDocWhenSucceeded() throws IOException {
         QuerySet querySet = new QuerySet("test_id", "test_name", "test_description", "test_timestamp", "test_sampling", List.of());
         XContentBuilder xContentBuilder = querySet.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
@@ -0,0 +1,238 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.judgments;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Judgment;
+import org.opensearch.searchrelevance.model.JudgmentType;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class JudgmentCheckpointWriterTests extends OpenSearchTestCase {
+
+    private JudgmentDao judgmentDao;
+    private List<Judgment> writtenJudgments;
+    private List<List<Map<String, Object>>> appendedCheckpoints;
+    private List<ActionListener> pendingWrites;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        judgmentDao = mock(JudgmentDao.class);
+        writtenJudgments = new ArrayList<>();
+        appendedCheckpoints = new ArrayList<>();
+        pendingWrites = new ArrayList<>();
+        doAnswer(invocation -> {
+            writtenJudgments.add(invocation.getArgument(0));
+            pendingWrites.add(invocation.getArgument(1));
+            return null;
+        }).when(judgmentDao).updateJudgment(any(Judgment.class), any(ActionListener.class));
+        doAnswer(invocation -> {
+            appendedCheckpoints.add(invocation.getArgument(1));
+            pendingWrites.add(invocation.getArgument(4));
+            return null;
+        }).when(judgmentDao).appendJudgmentRatings(anyString(), anyList(), anyMap(), anyString(), any());
+    }
+
+    public void testCheckpointIsWrittenAfterBatchOfResults() {
+        JudgmentCheckpointWriter writer = createWriter(List.of());
+
+        for (int i = 0; i < JudgmentCheckpointWriter.CHECKPOINT_BATCH_SIZE - 1; i++) {
+            writer.recordQueryResult(result("query-" + i, "1.0"));
+        }
+        assertTrue("No checkpoint expected before the batch is full", appendedCheckpoints.isEmpty());
+
+        writer.recordQueryResult(result("query-last", "1.0"));
+        assertEquals(1, appendedCheckpoints.size());
+        assertEquals(JudgmentCheckpointWriter.CHECKPOINT_BATCH_SIZE, appendedCheckpoints.get(0).size());
+        assertTrue("Checkpoints must not rewrite the whole judgment", writtenJudgments.isEmpty());
+        verify(judgmentDao).appendJudgmentRatings(
+            anyString(),
+            anyList(),
+            eq(Map.of(JudgmentCheckpointWriter.COMPLETED_QUERIES, JudgmentCheckpointWriter.CHECKPOINT_BATCH_SIZE)),
+            anyString(),
+            any()
+        );
+    }
+
+    public void testCheckpointOnlyAppendsNewResults() {
+        JudgmentCheckpointWriter writer = createWriter(List.of(result("resumed", "2.0")));
+        for (int batch = 0; batch < 2; batch++) {
+            for (int i = 0; i < JudgmentCheckpointWriter.CHECKPOINT_BATCH_SIZE; i++) {
+                writer.recordQueryResult(result("query-" + (batch * JudgmentCheckpointWriter.CHECKPOINT_BATCH_SIZE + i), "1.0"));
+            }
+            pendingWrites.remove(0).onResponse(null);
+        }
+
+        assertEquals(2, appendedCheckpoints.size());
+        assertEquals("query-0", appendedCheckpoints.get(0).get(0).get("query"));
+        assertEquals("query-" + JudgmentCheckpointWriter.CHECKPOINT_BATCH_SIZE, appendedCheckpoints.get(1).get(0).get("query"));
+        appendedCheckpoints.forEach(batch -> assertEquals(JudgmentCheckpointWriter.CHECKPOINT_BATCH_SIZE, batch.size()));
+    }
+
+    public void testFailedCheckpointIsRetriedWithTheNextBatch() {
+        JudgmentCheckpointWriter writer = createWriter(List.of());
+        for (int i = 0; i < JudgmentCheckpointWriter.CHECKPOINT_BATCH_SIZE; i++) {
+            writer.recordQueryResult(result("query-" + i, "1.0"));
+        }
+        pendingWrites.remove(0).onFailure(new RuntimeException("shard unavailable"));
+        assertEquals(1, appendedCheckpoints.size());
+
+        writer.recordQueryResult(result("query-next", "1.0"));
+
+        assertEquals(2, appendedCheckpoints.size());
+        List<Map<String, Object>> retried = appendedCheckpoints.get(1);
+        assertEquals(JudgmentCheckpointWriter.CHECKPOINT_BATCH_SIZE + 1, retried.size());
+        assertEquals("query-0", retried.get(0).get("query"));
+        assertEquals("query-next", retried.get(retried.size() - 1).get("query"));
+    }
+
+    public void testFinalWriteWaitsForInFlightCheckpoint() {
+        JudgmentCheckpointWriter writer = createWriter(List.of(result("resumed", "2.0")));
+        for (int i = 0; i < JudgmentCheckpointWriter.CHECKPOINT_BATCH_SIZE; i++) {
+            writer.recordQueryResult(result("query-" + i, "1.0"));
+        }
+        assertEquals(1, appendedCheckpoints.size());
+
+        AtomicBoolean completed = new AtomicBoolean(false);
+        writer.complete(List.of(result("query-final", "3.0")), ActionListener.wrap(v -> completed.set(true), e -> fail(e.getMessage())));
+        assertTrue("Final write must wait for the in-flight checkpoint", writtenJudgments.isEmpty());
+
+        pendingWrites.get(0).onResponse(null);
+        assertEquals(1, writtenJudgments.size());
+        Judgment finalJudgment = writtenJudgments.get(0);
+        assertEquals(AsyncStatus.COMPLETED, finalJudgment.getStatus());
+        assertEquals(JudgmentCheckpointWriter.CHECKPOINT_BATCH_SIZE + 2, finalJudgment.getJudgmentRatings().size());
+        assertEquals("resumed", finalJudgment.getJudgmentRatings().get(0).get("query"));
+
+        pendingWrites.get(1).onResponse(null);
+        assertTrue(completed.get());
+
+        // results arriving after completion are ignored
+        writer.recordQueryResult(result("late", "1.0"));
+        assertEquals(1, writtenJudgments.size());
+        assertEquals(1, appendedCheckpoints.size());
+    }
+
+    public void testFailedFinalWritesReleaseTheJudgment() {
+        String judgmentId = "judgment-" + randomAlphaOfLength(5);
+        JudgmentCheckpointWriter writer = createWriter(judgmentId, List.of());
+        assertTrue(JudgmentCheckpointWriter.markActive(judgmentId));
+
+        writer.complete(List.of(result("query-1", "1.0")), ActionListener.wrap(v -> fail("final write must fail"), e -> {
+            writer.fail(e, ActionListener.wrap(v -> fail("error write must fail"), error -> {}));
+            pendingWrites.get(1).onFailure(new RuntimeException("index unavailable"));
+        }));
+        pendingWrites.get(0).onFailure(new RuntimeException("index unavailable"));
+
+        assertEquals(2, writtenJudgments.size());
+        assertEquals(AsyncStatus.ERROR, writtenJudgments.get(1).getStatus());
+        assertFalse("A judgment whose final writes failed must be resumable", JudgmentCheckpointWriter.isActive(judgmentId));
+    }
+
+    public void testFailKeepsMetadataAndPartialResults() {
+        JudgmentCheckpointWriter writer = createWriter(List.of());
+        writer.recordQueryResult(result("query-1", "1.0"));
+
+        writer.fail(new RuntimeException("model unavailable"), ActionListener.wrap(v -> {}, e -> fail(e.getMessage())));
+
+        assertEquals(1, writtenJudgments.size());
+        Judgment errorJudgment = writtenJudgments.get(0);
+        assertEquals(AsyncStatus.ERROR, errorJudgment.getStatus());
+        assertEquals("model unavailable", errorJudgment.getMetadata().get(JudgmentCheckpointWriter.ERROR));
+        assertEquals("query-set-1", errorJudgment.getMetadata().get("querySetId"));
+        assertEquals(1, errorJudgment.getJudgmentRatings().size());
+    }
+
+    public void testBudgetExhaustedResultsAreNotCheckpointed() {
+        JudgmentCheckpointWriter writer = createWriter(List.of());
+        for (int i = 0; i < JudgmentCheckpointWriter.CHECKPOINT_BATCH_SIZE - 1; i++) {
+            writer.recordQueryResult(result("query-" + i, "1.0"));
+        }
+        writer.recordQueryResult(cutShort(result("query-cut", "1.0")));
+        assertTrue("A query text cut short by the budget must not fill the checkpoint batch", appendedCheckpoints.isEmpty());
+
+        writer.complete(List.of(), ActionListener.wrap(v -> {}, e -> fail(e.getMessage())));
+
+        Judgment finalJudgment = writtenJudgments.get(0);
+        Map<String, Object> metadata = finalJudgment.getMetadata();
+        assertEquals(AsyncStatus.COMPLETED, finalJudgment.getStatus());
+        assertTrue(JudgmentCheckpointWriter.isBudgetExhausted(metadata));
+        assertEquals(List.of("query-cut"), metadata.get(JudgmentCheckpointWriter.BUDGET_EXHAUSTED_QUERIES));
+        assertEquals(JudgmentCheckpointWriter.CHECKPOINT_BATCH_SIZE - 1, metadata.get(JudgmentCheckpointWriter.COMPLETED_QUERIES));
+        // the ratings collected before the budget ran out are kept, without the flag
+        assertEquals(JudgmentCheckpointWriter.CHECKPOINT_BATCH_SIZE, finalJudgment.getJudgmentRatings().size());
+        finalJudgment.getJudgmentRatings().forEach(result -> assertFalse(result.containsKey(JudgmentCheckpointWriter.BUDGET_EXHAUSTED)));
+
+        Set<String> completed = JudgmentCheckpointWriter.completedQueryTexts(finalJudgment.getJudgmentRatings(), metadata);
+        assertFalse("A resumed job judges the query text cut short again", completed.contains("query-cut"));
+        assertTrue(completed.contains("query-0"));
+    }
+
+    public void testJudgmentWithinBudgetIsNotMarked() {
+        JudgmentCheckpointWriter writer = createWriter(List.of());
+        writer.recordQueryResult(cutShort(result("query-1", "1.0")));
+
+        // the final result of the same query text was complete
+        writer.complete(List.of(result("query-1", "2.0")), ActionListener.wrap(v -> {}, e -> fail(e.getMessage())));
+
+        assertFalse(JudgmentCheckpointWriter.isBudgetExhausted(writtenJudgments.get(0).getMetadata()));
+    }
+
+    public void testCompletedQueryTextsSkipsEmptyRatings() {
+        Set<String> completed = JudgmentCheckpointWriter.completedQueryTexts(
+            List.of(result("judged", "1.0"), Map.of("query", "unjudged", "ratings", List.of()))
+        );
+        assertEquals(Set.of("judged"), completed);
+        assertTrue(JudgmentCheckpointWriter.completedQueryTexts(null).isEmpty());
+    }
+
+    private JudgmentCheckpointWriter createWriter(List<Map<String, Object>> completedResults) {
+        return createWriter("judgment-" + randomAlphaOfLength(5), completedResults);
+    }
+
+    private JudgmentCheckpointWriter createWriter(String judgmentId, List<Map<String, Object>> completedResults) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("querySetId", "query-set-1");
+        return new JudgmentCheckpointWriter(
+            judgmentDao,
+            judgmentId,
+            "name",
+            JudgmentType.LLM_JUDGMENT,
+            metadata,
+            completedResults
+        );
+    }
+
+    private Map<String, Object> cutShort(Map<String, Object> result) {
+        Map<String, Object> flagged = new HashMap<>(result);
+        flagged.put(JudgmentCheckpointWriter.BUDGET_EXHAUSTED, true);
+        return flagged;
+    }
+
+    private Map<String, Object> result(String query, String rating) {
+        return Map.of("query", query, "ratings", List.of(Map.of("docId", "doc1", "rating", rating)));
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.judgments;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENTS_URL;
+import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_INDEX;
+import static org.opensearch.searchrelevance.common.PluginConstants.QUERYSETS_URL;
+import static org.opensearch.searchrelevance.common.PluginConstants.SEARCH_CONFIGURATIONS_URL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.message.BasicHeader;
+import org.junit.After;
+import org.opensearch.client.Response;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.searchrelevance.BaseSearchRelevanceIT;
+import org.opensearch.searchrelevance.ml.StubLlmServer;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import com.carrotsearch.randomizedtesting.annotations.ThreadLeakScope;
+import com.google.common.collect.ImmutableList;
+
+import lombok.SneakyThrows;
+
+/**
+ * Load benchmark of the LLM judgment pipeline against a local stub model server.
+ * Skipped unless benchmark.llm_judgment is set; run it with ./gradlew llmJudgmentBenchmark, optionally passing
+ * -Dbenchmark.pairs, -Dbenchmark.docs_per_query, -Dbenchmark.stub_latency_ms, -Dbenchmark.throttle_rate,
+ * -Dbenchmark.response_shape and -Dbenchmark.batch_queries.
+ */
+@ThreadLeakScope(ThreadLeakScope.Scope.NONE)
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.SUITE)
+public class LlmJudgmentBenchmarkIT extends BaseSearchRelevanceIT {
+    private static final String BENCHMARK_ENABLED = "benchmark.llm_judgment";
+    private static final String BENCHMARK_INDEX = "llm_judgment_benchmark";
+    private static final String ML_URL = "/_plugins/_ml";
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final long JUDGMENT_TIMEOUT_MINUTES = 60;
+
+    private StubLlmServer stubLlmServer;
+
+    @After
+    public void stopStubServer() {
+        if (stubLlmServer != null) {
+            stubLlmServer.close();
+        }
+    }
+
+    @SneakyThrows
+    public void testLlmJudgmentThroughput() {
+        assumeTrue("LLM judgment benchmark is only run by the llmJudgmentBenchmark task", Boolean.getBoolean(BENCHMARK_ENABLED));
+
+        int pairs = Integer.getInteger("benchmark.pairs", 1000);
+        int docsPerQuery = Integer.getInteger("benchmark.docs_per_query", 10);
+        long latencyMillis = Long.getLong("benchmark.stub_latency_ms", 200L);
+        double throttleRate = Double.parseDouble(System.getProperty("benchmark.throttle_rate", "0.0"));
+        StubLlmServer.ResponseShape responseShape = StubLlmServer.ResponseShape.valueOf(
+            System.getProperty("benchmark.response_shape", StubLlmServer.ResponseShape.JSON_ARRAY.name()).toUpperCase(Locale.ROOT)
+        );
+        boolean batchQueries = Boolean.getBoolean("benchmark.batch_queries");
+        int queryCount = Math.max(1, pairs / docsPerQuery);
+
+        stubLlmServer = new StubLlmServer(latencyMillis, throttleRate, responseShape, randomLong()).start();
+        String modelId = registerStubModel(stubLlmServer.getEndpoint());
+        indexBenchmarkDocuments(queryCount, docsPerQuery);
+        String querySetId = createBenchmarkQuerySet(queryCount);
+        String searchConfigurationId = createBenchmarkSearchConfiguration();
+
+        long start = System.nanoTime();
+        String judgmentId = createLlmJudgment(modelId, querySetId, searchConfigurationId, docsPerQuery, batchQueries);
+        Map<String, Object> judgment = pollJudgmentUntilFinished(judgmentId);
+        double elapsedSeconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        assertEquals("COMPLETED", judgment.get("status"));
+        List<Map<String, Object>> judgmentRatings = (List<Map<String, Object>>) judgment.get("judgmentRatings");
+        long judgments = judgmentRatings.stream().mapToLong(result -> ((List<?>) result.get("ratings")).size()).sum();
+
+        String report = String.format(
+            Locale.ROOT,
+            "LLM judgment benchmark: queries=%d, docs_per_query=%d, stub_latency_ms=%d, throttle_rate=%.2f, response_shape=%s, "
+                + "batch_queries=%b | judgments=%d, elapsed_s=%.2f, judgments_per_sec=%.2f, llm_calls=%d, throttled_calls=%d, "
+                + "llm_calls_per_query=%.2f, llm_call_p50_ms=%.1f, llm_call_p99_ms=%.1f",
+            queryCount,
+            docsPerQuery,
+            latencyMillis,
+            throttleRate,
+            responseShape,
+            batchQueries,
+            judgments,
+            elapsedSeconds,
+            judgments / elapsedSeconds,
+            stubLlmServer.getRequestCount(),
+            stubLlmServer.getThrottledCount(),
+            stubLlmServer.getRequestCount() / (double) queryCount,
+            stubLlmServer.getLatencyPercentileMillis(50),
+            stubLlmServer.getLatencyPercentileMillis(99)
+        );
+        logger.info(report);
+        writeReport(report);
+    }
+
+    private String registerStubModel(String endpoint) throws IOException, InterruptedException {
+        updateClusterSettings("plugins.ml_commons.only_run_on_ml_node", false);
+        updateClusterSettings("plugins.ml_commons.connector.private_ip_enabled", true);
+        updateClusterSettings("plugins.ml_commons.trusted_connector_endpoints_regex", List.of("^http://127\\.0\\.0\\.1:.*$"));
+
+        XContentBuilder connector = XContentFactory.jsonBuilder()
+            .startObject()
+            .field("name", "stub-llm-connector")
+            .field("description", "Local stub chat completion endpoint")
+            .field("version", 1)
+            .field("protocol", "http")
+            .startObject("parameters")
+            .field("model", "stub-llm")
+            .endObject()
+            .startArray("actions")
+            .startObject()
+            .field("action_type", "predict")
+            .field("method", "POST")
+            .field("url", endpoint)
+            .startObject("headers")
+            .field("Content-Type", "application/json")
+            .endObject()
+            .field("request_body", "{ \"model\": \"${parameters.model}\", \"messages\": ${parameters.messages} }")
+            .endObject()
+            .endArray()
+            .endObject();
+        Map<String, Object> connectorResult = entityAsMap(post(ML_URL + "/connectors/_create", null, connector.toString()));
+        String connectorId = connectorResult.get("connector_id").toString();
+
+        XContentBuilder model = XContentFactory.jsonBuilder()
+            .startObject()
+            .field("name", "stub-llm")
+            .field("function_name", "remote")
+            .field("connector_id", connectorId)
+            .endObject();
+        Map<String, Object> registerResult = entityAsMap(post(ML_URL + "/models/_register", Map.of("deploy", "true"), model.toString()));
+        String taskId = registerResult.get("task_id").toString();
+
+        for (int retry = 0; retry < 60; retry++) {
+            Map<String, Object> task = entityAsMap(
+                makeRequest(client(), RestRequest.Method.GET.name(), ML_URL + "/tasks/" + taskId, null, null, defaultHeaders())
+            );
+            String state = (String) task.get("state");
+            if ("COMPLETED".equals(state)) {
+                return task.get("model_id").toString();
+            }
+            if ("FAILED".equals(state)) {
+                fail("Failed to deploy stub model: " + task.get("error"));
+            }
+            Thread.sleep(DEFAULT_INTERVAL_MS / 4);
+        }
+        fail("Timed out deploying stub model");
+        return null;
+    }
+
+    private void indexBenchmarkDocuments(int queryCount, int docsPerQuery) throws IOException {
+        StringBuilder bulk = new StringBuilder();
+        int pending = 0;
+        for (int query = 0; query < queryCount; query++) {
+            for (int doc = 0; doc < docsPerQuery; doc++) {
+                bulk.append(String.format(Locale.ROOT, "{\"index\":{\"_index\":\"%s\"}}\n", BENCHMARK_INDEX));
+                bulk.append(
+                    String.format(
+                        Locale.ROOT,
+                        "{\"title\":\"topic%d item %d\",\"description\":\"%s\"}\n",
+                        query,
+                        doc,
+                        randomAlphaOfLengthBetween(200, 400)
+                    )
+                );
+                if (++pending == BULK_CHUNK_SIZE) {
+                    bulkIngest(BENCHMARK_INDEX, bulk.toString());
+                    bulk.setLength(0);
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            bulkIngest(BENCHMARK_INDEX, bulk.toString());
+        }
+    }
+
+    private String createBenchmarkQuerySet(int queryCount) throws IOException {
+        updateClusterSettings("plugins.search_relevance.query_set.maximum", Math.max(1000, queryCount));
+        List<Map<String, Object>> queries = new ArrayList<>();
+        for (int query = 0; query < queryCount; query++) {
+            queries.add(Map.of("queryText", "topic" + query));
+        }
+        XContentBuilder querySet = XContentFactory.jsonBuilder()
+            .startObject()
+            .field("name", "llm_judgment_benchmark")
+            .field("description", "LLM judgment benchmark queries")
+            .field("sampling", "manual")
+            .field("querySetQueries", queries)
+            .endObject();
+        Response response = makeRequest(
+            client(),
+            RestRequest.Method.PUT.name(),
+            QUERYSETS_URL,
+            null,
+            toHttpEntity(querySet.toString()),
+            defaultHeaders()
+        );
+        return entityAsMap(response).get("query_set_id").toString();
+    }
+
+    private String createBenchmarkSearchConfiguration() throws IOException {
+        XContentBuilder searchConfiguration = XContentFactory.jsonBuilder()
+            .startObject()
+            .field("name", "llm_judgment_benchmark")
+            .field("index", BENCHMARK_INDEX)
+            .field("query", "{\"query\":{\"match\":{\"title\":\"%SearchText%\"}}}")
+            .endObject();
+        Response response = makeRequest(
+            client(),
+            RestRequest.Method.PUT.name(),
+            SEARCH_CONFIGURATIONS_URL,
+            null,
+            toHttpEntity(searchConfiguration.toString()),
+            defaultHeaders()
+        );
+        return entityAsMap(response).get("search_configuration_id").toString();
+    }
+
+    private String createLlmJudgment(String modelId, String querySetId, String searchConfigurationId, int size, boolean batchQueries)
+        throws IOException {
+        Map<String, Object> body = new HashMap<>();
+        body.put("name", "llm_judgment_benchmark");
+        body.put("type", "LLM_JUDGMENT");
+        body.put("modelId", modelId);
+        body.put("querySetId", querySetId);
+        body.put("searchConfigurationList", List.of(searchConfigurationId));
+        body.put("size", size);
+        body.put("tokenLimit", 4000);
+        body.put("contextFields", List.of("title", "description"));
+        body.put("ignoreFailure", true);
+        body.put("batchQueries", batchQueries);
+        XContentBuilder judgment = XContentFactory.jsonBuilder().map(body);
+        Response response = makeRequest(
+            client(),
+            RestRequest.Method.PUT.name(),
+            JUDGMENTS_URL,
+            null,
+            toHttpEntity(judgment.toString()),
+            defaultHeaders()
+        );
+        return entityAsMap(response).get("judgment_id").toString();
+    }
+
+    private Map<String, Object> pollJudgmentUntilFinished(String judgmentId) throws IOException, InterruptedException {
+        String getJudgmentUrl = String.join("/", JUDGMENT_INDEX, "_doc", judgmentId);
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(JUDGMENT_TIMEOUT_MINUTES);
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(DEFAULT_INTERVAL_MS / 4);
+            Response response = makeRequest(adminClient(), RestRequest.Method.GET.name(), getJudgmentUrl, null, null, defaultHeaders());
+            Map<String, Object> source = (Map<String, Object>) entityAsMap(response).get("_source");
+            if (source != null && !"PROCESSING".equals(source.get("status"))) {
+                return source;
+            }
+        }
+        fail("Timed out waiting for judgment " + judgmentId);
+        return null;
+    }
+
+    private void writeReport(String report) throws IOException {
+        String buildDir = System.getProperty("buildDir");
+        if (buildDir == null) {
+            return;
+        }
+        Path reportFile = Path.of(buildDir, "reports", "benchmark", "llm-judgment-benchmark.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, report + System.lineSeparator());
+    }
+
+    private Response post(String endpoint, Map<String, String> params, String body) throws IOException {
+        return makeRequest(client(), RestRequest.Method.POST.name(), endpoint, params, toHttpEntity(body), defaultHeaders());
+    }
+
+    private static List<Header> defaultHeaders() {
+        return ImmutableList.of(new BasicHeader(HttpHeaders.USER_AGENT, DEFAULT_USER_AGENT));
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.judgments;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.apache.lucene.search.TotalHits;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.StepListener;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.searchrelevance.dao.JudgmentCacheDao;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
+import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
+import org.opensearch.searchrelevance.executors.LlmJudgmentTaskManager;
+import org.opensearch.searchrelevance.ml.MLAccessor;
+import org.opensearch.searchrelevance.model.JudgmentCache;
+import org.opensearch.searchrelevance.model.QuerySet;
+import org.opensearch.searchrelevance.model.QuerySetEntry;
+import org.opensearch.searchrelevance.model.SearchConfiguration;
+import org.opensearch.searchrelevance.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+public class LlmJudgmentsProcessorTests extends OpenSearchTestCase {
+
+    private static final String QUERY = "{\"query\": {\"match\": {\"title\": \"%SearchText%\"}}}";
+
+    private MLAccessor mlAccessor;
+    private QuerySetDao querySetDao;
+    private SearchConfigurationDao searchConfigurationDao;
+    private JudgmentCacheDao judgmentCacheDao;
+    private Client client;
+    private LlmJudgmentsProcessor processor;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        TestUtils.initializeEventStatsManager();
+        mlAccessor = mock(MLAccessor.class);
+        querySetDao = mock(QuerySetDao.class);
+        searchConfigurationDao = mock(SearchConfigurationDao.class);
+        judgmentCacheDao = mock(JudgmentCacheDao.class);
+        client = mock(Client.class);
+
+        ThreadPool threadPool = mock(ThreadPool.class);
+        ExecutorService immediateExecutor = mock(ExecutorService.class);
+        doAnswer(invocation -> {
+            Runnable command = invocation.getArgument(0);
+            command.run();
+            return null;
+        }).when(immediateExecutor).execute(any(Runnable.class));
+        when(threadPool.executor(anyString())).thenReturn(immediateExecutor);
+
+        doAnswer(invocation -> {
+            ActionListener<QuerySet> listener = invocation.getArgument(1);
+            List<QuerySetEntry> queries = List.of(new QuerySetEntry("shoes"));
+            listener.onResponse(new QuerySet("query-set", "name", "description", "timestamp", "manual", queries));
+            return null;
+        }).when(querySetDao).getQuerySetAsync(eq("query-set"), any());
+        doAnswer(invocation -> {
+            ActionListener<List<SearchConfiguration>> listener = invocation.getArgument(1);
+            listener.onResponse(List.of(new SearchConfiguration("config", "config", "timestamp", "products", QUERY, null)));
+            return null;
+        }).when(searchConfigurationDao).getSearchConfigurationsAsync(anyList(), any());
+        doAnswer(invocation -> {
+            StepListener<Void> listener = invocation.getArgument(0);
+            listener.onResponse(null);
+            return null;
+        }).when(judgmentCacheDao).createIndexIfAbsent(any());
+
+        processor = new LlmJudgmentsProcessor(
+            mlAccessor,
+            querySetDao,
+            searchConfigurationDao,
+            judgmentCacheDao,
+            client,
+            threadPool,
+            new LlmJudgmentTaskManager(threadPool)
+        );
+    }
+
+    public void testSearchFetchesOnlyContextFields() {
+        SearchRequest searchRequest = runUntilSearch(List.of("title", "description"));
+
+        FetchSourceContext fetchSource = searchRequest.source().fetchSource();
+        assertNotNull(fetchSource);
+        assertTrue(fetchSource.fetchSource());
+        assertArrayEquals(new String[] { "title", "description" }, fetchSource.includes());
+        assertEquals(0, fetchSource.excludes().length);
+    }
+
+    public void testSearchFetchesFullSourceWithoutContextFields() {
+        SearchRequest searchRequest = runUntilSearch(List.of());
+
+        assertNull(searchRequest.source().fetchSource());
+    }
+
+    public void testUnchangedContentReusesCachedRating() {
+        mockSearchHits("doc1");
+        mockCacheLookup(lookup -> List.of(cacheEntry(lookup.queryText(), lookup.documentId(), lookup.contentHash(), "2")));
+
+        List<Map<String, Object>> results = judge();
+
+        assertEquals(List.of(Map.of("docId", "doc1", "rating", "2")), results.get(0).get("ratings"));
+        verify(judgmentCacheDao, times(1)).getJudgmentCache(anyString(), anyString(), any(), any(), any());
+        verify(mlAccessor, never()).predict(anyString(), anyInt(), anyString(), any(), anyMap(), any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testChangedContentInvalidatesCachedRating() {
+        mockSearchHits("doc1");
+        mockCacheLookup(lookup -> List.of(cacheEntry(lookup.queryText(), lookup.documentId(), "stale-hash", "2")));
+
+        processor.generateJudgmentRating(metadata(List.of("title")), ActionListener.wrap(results -> {}, e -> fail(e.getMessage())));
+
+        ArgumentCaptor<Map<String, String>> hitsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mlAccessor).predict(anyString(), anyInt(), anyString(), any(), hitsCaptor.capture(), any(), any());
+        assertEquals(List.of("doc1"), List.copyOf(hitsCaptor.getValue().keySet()));
+    }
+
+    public void testSameContentReusesRatingOfAnotherDocument() {
+        mockSearchHits("doc1");
+        AtomicReference<CacheLookup> lookupRef = new AtomicReference<>();
+        mockCacheLookup(lookup -> {
+            lookupRef.set(lookup);
+            // rated before a reindex changed the doc id, found by the same lookup as the doc's own entry
+            return List.of(cacheEntry(lookup.queryText().trim(), "products::old-doc", lookup.contentHash(), "3"));
+        });
+
+        List<Map<String, Object>> results = judge();
+
+        assertEquals(List.of(Map.of("docId", "doc1", "rating", "3")), results.get(0).get("ratings"));
+        verify(judgmentCacheDao, times(1)).getJudgmentCache(anyString(), anyString(), any(), any(), any());
+        verify(mlAccessor, never()).predict(anyString(), anyInt(), anyString(), any(), anyMap(), any(), any());
+
+        ArgumentCaptor<JudgmentCache> cacheCaptor = ArgumentCaptor.forClass(JudgmentCache.class);
+        verify(judgmentCacheDao).upsertJudgmentCache(cacheCaptor.capture(), any());
+        assertEquals(lookupRef.get().documentId(), cacheCaptor.getValue().documentId());
+        assertEquals("products::old-doc", cacheCaptor.getValue().ratedDocumentId());
+        assertEquals(lookupRef.get().contentHash(), cacheCaptor.getValue().contentHash());
+    }
+
+    public void testSameContentOfAnotherQueryTextIsNotReused() {
+        mockSearchHits("doc1");
+        mockCacheLookup(lookup -> List.of(cacheEntry(lookup.queryText() + " boots", "products::old-doc", lookup.contentHash(), "3")));
+
+        processor.generateJudgmentRating(metadata(List.of("title")), ActionListener.wrap(results -> {}, e -> fail(e.getMessage())));
+
+        verify(mlAccessor).predict(anyString(), anyInt(), anyString(), any(), anyMap(), any(), any());
+    }
+
+    private SearchRequest runUntilSearch(List<String> contextFields) {
+        processor.generateJudgmentRating(metadata(contextFields), ActionListener.wrap(results -> {}, e -> fail(e.getMessage())));
+
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(requestCaptor.capture(), any());
+        SearchRequest searchRequest = requestCaptor.getValue();
+        assertArrayEquals(new String[] { "products" }, searchRequest.indices());
+        return searchRequest;
+    }
+
+    private Map<String, Object> metadata(List<String> contextFields) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("querySetId", "query-set");
+        metadata.put("searchConfigurationList", List.of("config"));
+        metadata.put("size", 5);
+        metadata.put("modelId", "model");
+        metadata.put("tokenLimit", 4000);
+        metadata.put("contextFields", contextFields);
+        metadata.put("ignoreFailure", false);
+        return metadata;
+    }
+
+    private List<Map<String, Object>> judge() {
+        AtomicReference<List<Map<String, Object>>> results = new AtomicReference<>();
+        processor.generateJudgmentRating(metadata(List.of("title")), ActionListener.wrap(results::set, e -> fail(e.getMessage())));
+        assertNotNull("Judgment did not complete", results.get());
+        return results.get();
+    }
+
+    private void mockSearchHits(String... docIds) {
+        SearchHit[] hits = new SearchHit[docIds.length];
+        for (int i = 0; i < docIds.length; i++) {
+            hits[i] = new SearchHit(i, docIds[i], Map.of(), Map.of()).sourceRef(new BytesArray("{\"title\": \"red shoes\"}"));
+        }
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+    }
+
+    /**
+     * Answer every judgment cache lookup with the entries built for it
+     */
+    private void mockCacheLookup(Function<CacheLookup, List<Map<String, Object>>> entries) {
+        doAnswer(invocation -> {
+            CacheLookup lookup = new CacheLookup(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            SearchHit[] hits = entries.apply(lookup)
+                .stream()
+                .map(source -> new SearchHit(0, "cache", Map.of(), Map.of()).sourceRef(toJson(source)))
+                .toArray(SearchHit[]::new);
+            SearchResponse response = mock(SearchResponse.class);
+            when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+            ActionListener<SearchResponse> listener = invocation.getArgument(4);
+            listener.onResponse(response);
+            return null;
+        }).when(judgmentCacheDao).getJudgmentCache(anyString(), anyString(), any(), any(), any());
+    }
+
+    private Map<String, Object> cacheEntry(String queryText, String documentId, String contentHash, String rating) {
+        return Map.of(
+            JudgmentCache.QUERY_TEXT,
+            queryText,
+            JudgmentCache.DOCUMENT_ID,
+            documentId,
+            JudgmentCache.CONTENT_HASH,
+            contentHash,
+            JudgmentCache.RATING,
+            rating,
+            JudgmentCache.MODEL_ID,
+            "model"
+        );
+    }
+
+    private BytesReference toJson(Map<String, Object> source) {
+        try {
+            return BytesReference.bytes(XContentFactory.jsonBuilder().map(source));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record CacheLookup(String queryText, String documentId, String contentHash) {
+    }
+}
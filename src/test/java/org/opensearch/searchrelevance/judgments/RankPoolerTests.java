@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.judgments;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class RankPoolerTests extends OpenSearchTestCase {
+
+    private static final List<List<String>> RANKINGS = List.of(List.of("a1", "a2", "a3", "a4"), List.of("b1", "a1", "b3", "b4"));
+
+    public void testNextRoundPoolsDocsInAscendingRankOrder() {
+        RankPooler rankPooler = new RankPooler(RANKINGS, 2, 0.01);
+
+        assertEquals(List.of("a1", "b1"), rankPooler.nextRound());
+        assertEquals("Docs already pooled at a better rank are skipped", List.of("a2"), rankPooler.nextRound());
+        assertEquals(List.of("a3", "b3"), rankPooler.nextRound());
+        assertEquals(List.of("a4", "b4"), rankPooler.nextRound());
+        assertTrue(rankPooler.nextRound().isEmpty());
+        assertEquals(7, rankPooler.pooledCount());
+    }
+
+    public void testIsStableOnceNdcgComparisonStopsMoving() {
+        RankPooler rankPooler = new RankPooler(RANKINGS, 2, 0.01);
+        Map<String, String> ratings = new HashMap<>();
+
+        rankPooler.nextRound();
+        ratings.putAll(Map.of("a1", "3", "b1", "0"));
+        assertFalse("The top k must be pooled before stopping", rankPooler.isStable(ratings));
+
+        rankPooler.nextRound();
+        ratings.put("a2", "1");
+        assertFalse("The NDCG difference moved by more than the tolerance", rankPooler.isStable(ratings));
+
+        rankPooler.nextRound();
+        ratings.putAll(Map.of("a3", "0", "b3", "0"));
+        assertTrue(rankPooler.isStable(ratings));
+    }
+
+    public void testDefaultNdcgAtLeavesRanksToSkip() {
+        assertEquals(5, RankPooler.defaultNdcgAt(10));
+        assertEquals(10, RankPooler.defaultNdcgAt(50));
+        assertEquals(1, RankPooler.defaultNdcgAt(1));
+    }
+
+    public void testDefaultNdcgAtStopsBeforeEveryHitIsJudged() {
+        List<String> ranking = List.of("d1", "d2", "d3", "d4", "d5", "d6", "d7", "d8", "d9", "d10");
+        RankPooler rankPooler = new RankPooler(List.of(ranking, ranking), RankPooler.defaultNdcgAt(ranking.size()), 0.01);
+        Map<String, String> ratings = new HashMap<>();
+
+        boolean stable = false;
+        while (!stable) {
+            List<String> round = rankPooler.nextRound();
+            assertFalse("The pool was exhausted without stopping early", round.isEmpty());
+            round.forEach(docId -> ratings.put(docId, "1"));
+            stable = rankPooler.isStable(ratings);
+        }
+        assertTrue(rankPooler.pooledCount() < ranking.size());
+    }
+
+    public void testNoHitsExhaustsPoolImmediately() {
+        RankPooler rankPooler = new RankPooler(List.of(List.of(), List.of()), 10, 0.01);
+        assertTrue(rankPooler.nextRound().isEmpty());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.ml;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ContextFragmentExtractorTests extends OpenSearchTestCase {
+
+    private static final String MATCHING_SENTENCE = "These waterproof hiking boots keep your feet dry on wet trails.";
+    private static final String CONTEXT = "{\"title\":\"Trail Runner 3000\",\"description\":\"Our brand was founded many years ago "
+        + "in a small workshop. We ship to every country in the world. "
+        + MATCHING_SENTENCE
+        + " Returns are accepted within thirty days of purchase. Gift wrapping is available at checkout. "
+        + "Customer service is open seven days a week.\"}";
+
+    public void testContextWithinBudgetIsUnchanged() {
+        assertEquals(CONTEXT, ContextFragmentExtractor.extractFragments("waterproof boots", CONTEXT, 10_000));
+        assertEquals(CONTEXT, ContextFragmentExtractor.extractFragments("waterproof boots", CONTEXT, 0));
+        assertNull(ContextFragmentExtractor.extractFragments("waterproof boots", null, 10));
+    }
+
+    public void testKeepsQueryMatchingFragmentsWithinBudget() {
+        int budget = TokenizerUtil.countTokens(MATCHING_SENTENCE) + 5;
+
+        String fragments = ContextFragmentExtractor.extractFragments("waterproof hiking boots", CONTEXT, budget);
+
+        assertTrue(fragments, fragments.contains(MATCHING_SENTENCE));
+        assertFalse(fragments.contains("Returns are accepted"));
+        assertTrue(TokenizerUtil.countTokens(fragments) <= budget);
+    }
+
+    public void testKeepsFragmentsInOriginalOrder() {
+        int budget = TokenizerUtil.countTokens(CONTEXT) - 5;
+
+        String fragments = ContextFragmentExtractor.extractFragments("waterproof returns", CONTEXT, budget);
+
+        assertTrue(fragments.indexOf(MATCHING_SENTENCE) < fragments.indexOf("Returns are accepted"));
+        assertTrue(TokenizerUtil.countTokens(fragments) <= budget);
+    }
+
+    public void testTruncatesBestSentenceWhenNothingFits() {
+        String fragments = ContextFragmentExtractor.extractFragments("waterproof hiking boots", CONTEXT, 3);
+
+        assertTrue(fragments, MATCHING_SENTENCE.startsWith(fragments));
+    }
+}
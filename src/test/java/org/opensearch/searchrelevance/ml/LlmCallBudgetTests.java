@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.ml;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class LlmCallBudgetTests extends OpenSearchTestCase {
+
+    public void testUnlimitedBudgetNeverExhausts() {
+        LlmCallBudget budget = LlmCallBudget.unlimited();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(budget.tryAcquire(100_000));
+        }
+        assertFalse(budget.isLimited());
+        assertFalse(budget.isExhausted());
+        assertEquals(100, budget.getUsedCalls());
+    }
+
+    public void testTokenLimitRefusesCallThatDoesNotFit() {
+        LlmCallBudget budget = new LlmCallBudget(100, 0);
+
+        assertTrue(budget.tryAcquire(60));
+        assertFalse(budget.tryAcquire(50));
+        assertTrue(budget.isExhausted());
+        assertFalse("An exhausted budget refuses calls that would still fit", budget.tryAcquire(10));
+        assertEquals(60, budget.getUsedInputTokens());
+        assertEquals(1, budget.getUsedCalls());
+    }
+
+    public void testCallLimit() {
+        LlmCallBudget budget = new LlmCallBudget(0, 2);
+
+        assertTrue(budget.tryAcquire(1_000));
+        assertTrue(budget.tryAcquire(1_000));
+        assertFalse(budget.tryAcquire(1));
+        assertEquals(2, budget.getUsedCalls());
+        assertEquals(2_000, budget.getUsedInputTokens());
+    }
+
+    public void testQueryTextViewSharesTheJobAllowance() {
+        LlmCallBudget budget = new LlmCallBudget(0, 2);
+        LlmCallBudget first = budget.forQueryText();
+        LlmCallBudget second = budget.forQueryText();
+
+        assertTrue(first.tryAcquire(10));
+        assertTrue(second.tryAcquire(10));
+        assertFalse(first.isCutShort());
+
+        assertFalse(second.tryAcquire(10));
+        assertTrue("A refused call cuts its query text short", second.isCutShort());
+        assertFalse("Other query texts are not affected by the refusal", first.isCutShort());
+        assertTrue(first.isExhausted());
+        assertEquals(2, budget.getUsedCalls());
+        assertEquals(20, first.getUsedInputTokens());
+    }
+
+    public void testSkippedWorkCutsQueryTextShort() {
+        LlmCallBudget queryBudget = new LlmCallBudget(100, 0).forQueryText();
+        queryBudget.markCutShort();
+        assertTrue(queryBudget.isCutShort());
+    }
+
+    public void testCancelledJobRefusesFurtherCalls() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        LlmCallBudget budget = new LlmCallBudget(0, 0, cancelled::get);
+        LlmCallBudget queryBudget = budget.forQueryText();
+
+        assertTrue(queryBudget.tryAcquire(10));
+        assertFalse(queryBudget.isExhausted());
+
+        cancelled.set(true);
+        assertTrue("Remaining query texts are skipped once the job is cancelled", budget.forQueryText().isExhausted());
+        assertFalse(queryBudget.tryAcquire(10));
+        assertTrue(queryBudget.isCutShort());
+        assertTrue(budget.isCancelled());
+        assertEquals(1, budget.getUsedCalls());
+    }
+}
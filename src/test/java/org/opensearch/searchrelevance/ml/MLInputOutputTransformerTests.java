@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.ml;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.client.MachineLearningNodeClient;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.test.OpenSearchTestCase;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class MLInputOutputTransformerTests extends OpenSearchTestCase {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final MLInputOutputTransformer transformer = new MLInputOutputTransformer();
+
+    public void testFormatBatchMessagesProducesValidJson() throws Exception {
+        List<QueryHitsGroup> groups = List.of(
+            new QueryHitsGroup("red dress", null, Map.of("products::1", "{\"title\":\"red \\\"summer\\\" dress\"}")),
+            new QueryHitsGroup("blue jeans", "denim trousers", Map.of("products::2", "{\"title\":\"blue jeans\"}"))
+        );
+
+        String messages = transformer.formatBatchMessages(groups);
+        JsonNode messagesNode = OBJECT_MAPPER.readTree(messages);
+
+        assertEquals(2, messagesNode.size());
+        String userContent = messagesNode.get(1).get("content").asText();
+        assertTrue(userContent.contains("Query 0 - SearchText: red dress"));
+        assertTrue(userContent.contains("Query 1 - SearchText: blue jeans; Reference: denim trousers"));
+    }
+
+    public void testPackQueryGroupsKeepsGroupsWholeWithinTokenLimit() {
+        List<QueryHitsGroup> groups = List.of(
+            new QueryHitsGroup("query one", null, Map.of("index::1", "short document one")),
+            new QueryHitsGroup("query two", null, Map.of("index::2", "short document two")),
+            new QueryHitsGroup("query three", null, Map.of("index::3", "short document three"))
+        );
+
+        List<List<Integer>> singleBatch = transformer.packQueryGroups(4000, groups);
+        assertEquals(List.of(List.of(0, 1, 2)), singleBatch);
+
+        int overhead = TokenizerUtil.countTokens(transformer.formatBatchMessages(List.of()));
+        int tightLimit = overhead + transformer.countGroupTokens(0, groups.get(0)) + 1;
+        List<List<Integer>> batches = transformer.packQueryGroups(tightLimit, groups);
+        assertEquals(3, batches.size());
+        assertEquals(List.of(0), batches.get(0));
+    }
+
+    public void testPredictBatchDemultiplexesRatingsByQuery() {
+        MachineLearningNodeClient mlClient = mock(MachineLearningNodeClient.class);
+        String content = "[{\"query_index\":0,\"id\":\"index::1\",\"rating_score\":0.9},"
+            + "{\"query_index\":1,\"id\":\"index::1\",\"rating_score\":0.1},"
+            + "{\"query_index\":1,\"id\":\"index::2\",\"rating_score\":0.5},"
+            + "{\"query_index\":1,\"id\":\"unknown\",\"rating_score\":1.0}]";
+        doAnswer(invocation -> {
+            ActionListener<MLOutput> listener = invocation.getArgument(2);
+            listener.onResponse(modelOutput(content));
+            return null;
+        }).when(mlClient).predict(eq("model"), any(MLInput.class), any());
+
+        MLAccessor mlAccessor = new MLAccessor(mlClient);
+        List<QueryHitsGroup> groups = List.of(
+            new QueryHitsGroup("query one", null, Map.of("index::1", "document one")),
+            new QueryHitsGroup("query two", null, Map.of("index::1", "document one", "index::2", "document two"))
+        );
+
+        AtomicReference<Map<Integer, Map<String, Double>>> result = new AtomicReference<>();
+        mlAccessor.predictBatch("model", 4000, groups, ActionListener.wrap(result::set, e -> fail(e.getMessage())));
+
+        verify(mlClient, times(1)).predict(eq("model"), any(MLInput.class), any());
+        assertEquals(Map.of("index::1", 0.9), result.get().get(0));
+        assertEquals(Map.of("index::1", 0.1, "index::2", 0.5), result.get().get(1));
+    }
+
+    public void testPredictBatchSkipsCallsOverBudget() {
+        MachineLearningNodeClient mlClient = mock(MachineLearningNodeClient.class);
+        MLAccessor mlAccessor = new MLAccessor(mlClient);
+        List<QueryHitsGroup> groups = List.of(new QueryHitsGroup("query one", null, Map.of("index::1", "document one")));
+        LlmCallBudget budget = new LlmCallBudget(1, 0);
+
+        AtomicReference<Map<Integer, Map<String, Double>>> result = new AtomicReference<>();
+        mlAccessor.predictBatch("model", 4000, groups, budget, ActionListener.wrap(result::set, e -> fail(e.getMessage())));
+
+        verify(mlClient, never()).predict(any(), any(MLInput.class), any());
+        assertTrue("Groups of skipped batches are reported as unrated", result.get().isEmpty());
+        assertTrue(budget.isExhausted());
+        assertEquals(0, budget.getUsedCalls());
+    }
+
+    private ModelTensorOutput modelOutput(String content) {
+        ModelTensor tensor = ModelTensor.builder()
+            .dataAsMap(Map.of("choices", List.of(Map.of("message", Map.of("content", content)))))
+            .build();
+        ModelTensors tensors = ModelTensors.builder().mlModelTensors(List.of(tensor)).build();
+        return ModelTensorOutput.builder().mlModelOutputs(List.of(tensors)).build();
+    }
+}
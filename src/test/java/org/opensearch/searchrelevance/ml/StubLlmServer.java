@@ -0,0 +1,247 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.ml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.SuppressForbidden;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded HTTP server standing in for an OpenAI-style chat completion endpoint, so that LLM judgments can be
+ * exercised end to end without a real remote model. Every hit found in the prompt is rated; both the single-query
+ * and the batched prompt formats are understood.
+ * Latency, the rate of 429 responses and the shape of the returned content are configurable.
+ */
+@SuppressForbidden(reason = "uses the JDK http server and a dedicated executor to serve stub model responses")
+public class StubLlmServer implements AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger(StubLlmServer.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Pattern HIT_ID_PATTERN = Pattern.compile("\"id\":\"([^\"]+)\"");
+    private static final Pattern BATCH_QUERY_PATTERN = Pattern.compile("Query (\\d+) - SearchText:");
+    public static final String CHAT_COMPLETIONS_PATH = "/v1/chat/completions";
+
+    /**
+     * Shape of the message content returned by the stub
+     */
+    public enum ResponseShape {
+        /** a plain JSON array of ratings */
+        JSON_ARRAY,
+        /** a JSON array wrapped in a markdown code fence, as chat models commonly answer */
+        MARKDOWN_FENCED,
+        /** free text that cannot be parsed as ratings */
+        MALFORMED
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final double throttleRate;
+    private final ResponseShape responseShape;
+    private final Random random;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong throttledCount = new AtomicLong();
+    private final AtomicLong ratedHitCount = new AtomicLong();
+    private final List<Long> latenciesNanos = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * @param latencyMillis time spent before answering every request
+     * @param throttleRate probability between 0 and 1 of answering a request with 429 Too Many Requests
+     * @param responseShape shape of the message content of successful responses
+     * @param seed seed of the random source deciding which requests are throttled and which ratings are returned
+     */
+    public StubLlmServer(long latencyMillis, double throttleRate, ResponseShape responseShape, long seed) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.throttleRate = throttleRate;
+        this.responseShape = responseShape;
+        this.random = new Random(seed);
+        this.executor = Executors.newCachedThreadPool();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext(CHAT_COMPLETIONS_PATH, this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    public StubLlmServer start() {
+        server.start();
+        LOGGER.info("Stub LLM server listening on {}", getEndpoint());
+        return this;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String getEndpoint() {
+        InetSocketAddress address = server.getAddress();
+        String host = address.getAddress().getHostAddress();
+        return String.format(Locale.ROOT, "http://%s:%d%s", host, address.getPort(), CHAT_COMPLETIONS_PATH);
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getThrottledCount() {
+        return throttledCount.get();
+    }
+
+    public long getRatedHitCount() {
+        return ratedHitCount.get();
+    }
+
+    /**
+     * Latency percentile in milliseconds of the requests served so far, throttled requests included.
+     */
+    public double getLatencyPercentileMillis(double percentile) {
+        List<Long> sorted;
+        synchronized (latenciesNanos) {
+            sorted = new ArrayList<>(latenciesNanos);
+        }
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return TimeUnit.NANOSECONDS.toMicros(sorted.get(Math.max(0, Math.min(rank, sorted.size() - 1)))) / 1000.0;
+    }
+
+    private void handle(HttpExchange exchange) {
+        long start = System.nanoTime();
+        requestCount.incrementAndGet();
+        try {
+            String body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            sleep(latencyMillis);
+
+            if (nextDouble() < throttleRate) {
+                throttledCount.incrementAndGet();
+                send(exchange, 429, "{\"error\":{\"message\":\"Rate limit reached\",\"type\":\"rate_limit_exceeded\"}}");
+                return;
+            }
+
+            String content = buildContent(extractPrompt(body));
+            ObjectNode response = OBJECT_MAPPER.createObjectNode();
+            ObjectNode choice = response.putArray("choices").addObject();
+            choice.putObject("message").put("role", "assistant").put("content", content);
+            send(exchange, 200, OBJECT_MAPPER.writeValueAsString(response));
+        } catch (Exception e) {
+            LOGGER.warn("Stub LLM server failed to answer request", e);
+            try {
+                send(exchange, 500, "{\"error\":{\"message\":\"stub failure\"}}");
+            } catch (IOException sendError) {
+                LOGGER.debug("Failed to send error response", sendError);
+            }
+        } finally {
+            latenciesNanos.add(System.nanoTime() - start);
+            exchange.close();
+        }
+    }
+
+    private String extractPrompt(String body) throws IOException {
+        JsonNode messages = OBJECT_MAPPER.readTree(body).path("messages");
+        if (!messages.isArray() || messages.isEmpty()) {
+            return "";
+        }
+        return messages.get(messages.size() - 1).path("content").asText();
+    }
+
+    private String buildContent(String prompt) throws IOException {
+        ArrayNode ratings = OBJECT_MAPPER.createArrayNode();
+        Matcher batchMatcher = BATCH_QUERY_PATTERN.matcher(prompt);
+        List<Integer> segmentStarts = new ArrayList<>();
+        List<Integer> queryIndices = new ArrayList<>();
+        while (batchMatcher.find()) {
+            segmentStarts.add(batchMatcher.start());
+            queryIndices.add(Integer.parseInt(batchMatcher.group(1)));
+        }
+
+        if (segmentStarts.isEmpty()) {
+            addRatings(ratings, prompt, null);
+        } else {
+            for (int i = 0; i < segmentStarts.size(); i++) {
+                int end = i + 1 < segmentStarts.size() ? segmentStarts.get(i + 1) : prompt.length();
+                addRatings(ratings, prompt.substring(segmentStarts.get(i), end), queryIndices.get(i));
+            }
+        }
+
+        String json = OBJECT_MAPPER.writeValueAsString(ratings);
+        return switch (responseShape) {
+            case JSON_ARRAY -> json;
+            case MARKDOWN_FENCED -> "```json\n" + json + "\n```";
+            case MALFORMED -> "I am unable to rate these documents.";
+        };
+    }
+
+    private void addRatings(ArrayNode ratings, String segment, Integer queryIndex) {
+        Matcher hitMatcher = HIT_ID_PATTERN.matcher(segment);
+        while (hitMatcher.find()) {
+            ObjectNode rating = ratings.addObject();
+            if (queryIndex != null) {
+                rating.put("query_index", queryIndex);
+            }
+            rating.put("id", hitMatcher.group(1));
+            rating.put("rating_score", Math.round(nextDouble() * 10) / 10.0);
+            ratedHitCount.incrementAndGet();
+        }
+    }
+
+    private double nextDouble() {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
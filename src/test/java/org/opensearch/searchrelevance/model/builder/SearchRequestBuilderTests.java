@@ -9,12 +9,15 @@ package org.opensearch.searchrelevance.model.builder;
 
 import static org.opensearch.searchrelevance.common.PluginConstants.WILDCARD_QUERY_TEXT;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.index.query.WrapperQueryBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.SearchContext;
 import org.opensearch.test.OpenSearchTestCase;
 
 public class SearchRequestBuilderTests extends OpenSearchTestCase {
@@ -138,6 +141,81 @@ public class SearchRequestBuilderTests extends OpenSearchTestCase {
             IllegalArgumentException.class,
             () -> SearchRequestBuilder.buildRequestForHybridSearch(TEST_INDEX, hybridQuery, Map.of(), TEST_QUERY_TEXT, TEST_SIZE)
         );
-        assertEquals("invalid hybrid query: expected exactly [2] sub-queries but found [1]", exception.getMessage());
+        assertEquals("invalid hybrid query: expected between [2] and [5] sub-queries but found [1]", exception.getMessage());
+    }
+
+    public void testBuildRequestsForHybridSubQueries() {
+        String hybridQuery =
+            "{\"_source\":{\"exclude\":[\"passage_embedding\"]},\"query\":{\"hybrid\":{\"queries\":[{\"match\":{\"name\":\""
+                + WILDCARD_QUERY_TEXT
+                + "\"}},{\"match\":{\"title\":\""
+                + WILDCARD_QUERY_TEXT
+                + "\"}}],\"filter\":{\"term\":{\"category\":\"shoes\"}}}}}";
+
+        List<SearchRequest> searchRequests = SearchRequestBuilder.buildRequestsForHybridSubQueries(
+            TEST_INDEX,
+            hybridQuery,
+            TEST_QUERY_TEXT,
+            TEST_SIZE
+        );
+
+        assertEquals(2, searchRequests.size());
+        for (SearchRequest searchRequest : searchRequests) {
+            assertEquals(TEST_INDEX, searchRequest.indices()[0]);
+            assertEquals(TEST_SIZE, searchRequest.source().size());
+            assertFalse(searchRequest.source().fetchSource().fetchSource());
+            String subQuery = new String(((WrapperQueryBuilder) searchRequest.source().query()).source(), StandardCharsets.UTF_8);
+            assertTrue(subQuery, subQuery.contains(TEST_QUERY_TEXT) && subQuery.contains("category"));
+        }
+    }
+
+    public void testBuildSearchRequestIdOnly() {
+        String query = "{\"_source\":[\"title\"],\"explain\":true,\"highlight\":{\"fields\":{\"title\":{}}},"
+            + "\"query\":{\"match\":{\"title\":\""
+            + WILDCARD_QUERY_TEXT
+            + "\"}}}";
+
+        SearchSourceBuilder fullSource = SearchRequestBuilder.buildSearchRequest(TEST_INDEX, query, TEST_QUERY_TEXT, null, TEST_SIZE)
+            .source();
+        SearchSourceBuilder idOnlySource = SearchRequestBuilder.buildSearchRequest(
+            TEST_INDEX,
+            query,
+            TEST_QUERY_TEXT,
+            null,
+            TEST_SIZE,
+            true
+        ).source();
+
+        assertTrue(fullSource.fetchSource().fetchSource());
+        assertNotNull(fullSource.highlighter());
+        assertTrue(fullSource.explain());
+
+        assertFalse(idOnlySource.fetchSource().fetchSource());
+        assertEquals(SearchContext.TRACK_TOTAL_HITS_DISABLED, idOnlySource.trackTotalHitsUpTo().intValue());
+        assertNull(idOnlySource.highlighter());
+        assertFalse(idOnlySource.explain());
+        // the ids of the hits are still fetched
+        assertNull(idOnlySource.storedFields());
+        assertEquals(TEST_SIZE, idOnlySource.size());
+    }
+
+    public void testBuildRequestForHybridSearchIdOnly() {
+        String hybridQuery = "{\"query\":{\"hybrid\":{\"queries\":[{\"match\":{\"name\":\""
+            + WILDCARD_QUERY_TEXT
+            + "\"}},{\"match\":{\"description\":\""
+            + WILDCARD_QUERY_TEXT
+            + "\"}}]}}}";
+
+        SearchSourceBuilder idOnlySource = SearchRequestBuilder.buildRequestForHybridSearch(
+            TEST_INDEX,
+            hybridQuery,
+            Map.of(),
+            TEST_QUERY_TEXT,
+            TEST_SIZE,
+            true
+        ).source();
+
+        assertFalse(idOnlySource.fetchSource().fetchSource());
+        assertEquals(SearchContext.TRACK_TOTAL_HITS_DISABLED, idOnlySource.trackTotalHitsUpTo().intValue());
     }
 }
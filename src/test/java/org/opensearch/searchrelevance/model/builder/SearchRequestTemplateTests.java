@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model.builder;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.WILDCARD_QUERY_TEXT;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.WrapperQueryBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SearchRequestTemplateTests extends OpenSearchTestCase {
+
+    private static final String TEST_INDEX = "test_index";
+    private static final int TEST_SIZE = 10;
+
+    public void testBuildRequestsForDifferentQueryTexts() throws Exception {
+        SearchRequestTemplate template = SearchRequestTemplate.compile(
+            "{\"query\":{\"multi_match\":{\"query\":\"" + WILDCARD_QUERY_TEXT + "\",\"fields\":[\"title\",\"description\"]}}}"
+        );
+
+        SearchRequest first = template.buildSearchRequest(TEST_INDEX, "red shoes", null, TEST_SIZE, false);
+        SearchRequest second = template.buildSearchRequest(TEST_INDEX, "blue boots", null, TEST_SIZE, false);
+
+        assertEquals("red shoes", multiMatchQuery(first));
+        assertEquals("blue boots", multiMatchQuery(second));
+    }
+
+    public void testQueryTextIsEscaped() throws Exception {
+        SearchRequestTemplate template = SearchRequestTemplate.compile(
+            "{\"query\":{\"match\":{\"title\":\"" + WILDCARD_QUERY_TEXT + "\"}}}"
+        );
+        String queryText = "12\" \\ pipe";
+
+        SearchRequest searchRequest = template.buildSearchRequest(TEST_INDEX, queryText, null, TEST_SIZE, false);
+
+        Map<String, Object> match = (Map<String, Object>) wrappedQuery(searchRequest).get("match");
+        assertEquals(queryText, match.get("title"));
+    }
+
+    public void testRequestsDoNotShareSource() {
+        SearchRequestTemplate template = SearchRequestTemplate.compile(
+            "{\"_source\":[\"title\"],\"highlight\":{\"fields\":{\"title\":{}}},\"query\":{\"match\":{\"title\":\""
+                + WILDCARD_QUERY_TEXT
+                + "\"}}}"
+        );
+
+        SearchSourceBuilder idOnlySource = template.buildSearchRequest(TEST_INDEX, "shoes", null, 5, true).source();
+        SearchSourceBuilder fullSource = template.buildSearchRequest(TEST_INDEX, "shoes", null, TEST_SIZE, false).source();
+
+        assertNotSame(idOnlySource, fullSource);
+        assertFalse(idOnlySource.fetchSource().fetchSource());
+        assertNull(idOnlySource.highlighter());
+        assertEquals(5, idOnlySource.size());
+        assertTrue(fullSource.fetchSource().fetchSource());
+        assertNotNull(fullSource.highlighter());
+        assertEquals(TEST_SIZE, fullSource.size());
+    }
+
+    public void testPlaceholderOutsideOfQuery() {
+        SearchRequestTemplate template = SearchRequestTemplate.compile(
+            "{\"query\":{\"match\":{\"title\":\""
+                + WILDCARD_QUERY_TEXT
+                + "\"}},\"post_filter\":{\"term\":{\"keywords\":\""
+                + WILDCARD_QUERY_TEXT
+                + "\"}}}"
+        );
+
+        SearchSourceBuilder first = template.buildSearchRequest(TEST_INDEX, "shoes", null, TEST_SIZE, false).source();
+        SearchSourceBuilder second = template.buildSearchRequest(TEST_INDEX, "boots", null, TEST_SIZE, false).source();
+
+        assertTrue(first.postFilter().toString().contains("shoes"));
+        assertTrue(second.postFilter().toString().contains("boots"));
+    }
+
+    public void testHybridSubQueries() throws Exception {
+        SearchRequestTemplate template = SearchRequestTemplate.compile(
+            "{\"query\":{\"hybrid\":{\"queries\":[{\"match\":{\"name\":\""
+                + WILDCARD_QUERY_TEXT
+                + "\"}},{\"match\":{\"title\":\""
+                + WILDCARD_QUERY_TEXT
+                + "\"}}]}}}"
+        );
+
+        List<SearchRequest> searchRequests = template.buildRequestsForHybridSubQueries(TEST_INDEX, "shoes", TEST_SIZE);
+
+        assertEquals(2, searchRequests.size());
+        assertEquals(Map.of("name", "shoes"), wrappedQuery(searchRequests.get(0)).get("match"));
+        assertEquals(Map.of("title", "shoes"), wrappedQuery(searchRequests.get(1)).get("match"));
+    }
+
+    public void testHybridRequestOfNonHybridQueryFails() {
+        SearchRequestTemplate template = SearchRequestTemplate.compile(
+            "{\"query\":{\"match\":{\"title\":\"" + WILDCARD_QUERY_TEXT + "\"}}}"
+        );
+
+        // a non-hybrid query is still a valid template for plain search requests
+        assertNotNull(template.buildSearchRequest(TEST_INDEX, "shoes", null, TEST_SIZE, false));
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> template.buildRequestForHybridSearch(TEST_INDEX, Map.of(), "shoes", TEST_SIZE, false)
+        );
+        expectThrows(IllegalArgumentException.class, () -> template.buildRequestsForHybridSubQueries(TEST_INDEX, "shoes", TEST_SIZE));
+    }
+
+    public void testCompileInvalidJson() {
+        expectThrows(IllegalArgumentException.class, () -> SearchRequestTemplate.compile("{\"query\":invalid}"));
+    }
+
+    private static String multiMatchQuery(SearchRequest searchRequest) throws Exception {
+        Map<String, Object> multiMatch = (Map<String, Object>) wrappedQuery(searchRequest).get("multi_match");
+        return (String) multiMatch.get("query");
+    }
+
+    public void testForQueryReusesTheCompiledTemplate() {
+        String query = "{\"query\":{\"match\":{\"title\":\"" + WILDCARD_QUERY_TEXT + "\"}},\"size\":5}";
+
+        assertSame(SearchRequestTemplate.forQuery(query), SearchRequestTemplate.forQuery(query));
+        assertNotSame(SearchRequestTemplate.forQuery(query), SearchRequestTemplate.compile(query));
+    }
+
+    public void testForQueryRejectsInvalidQuery() {
+        expectThrows(IllegalArgumentException.class, () -> SearchRequestTemplate.forQuery("{\"query\":invalid}"));
+    }
+
+    private static Map<String, Object> wrappedQuery(SearchRequest searchRequest) throws Exception {
+        String query = new String(((WrapperQueryBuilder) searchRequest.source().query()).source(), StandardCharsets.UTF_8);
+        try (
+            XContentParser parser = JsonXContent.jsonXContent.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.IGNORE_DEPRECATIONS,
+                query
+            )
+        ) {
+            return parser.map();
+        }
+    }
+}
@@ -11,6 +11,10 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_CACHE_INDEX;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_HYBRID_LOCAL_RECOMBINATION_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_ID_ONLY_SEARCH_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_MAX_CONCURRENT_SEARCHES;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_MAX_IN_FLIGHT_QUERIES;
 import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT;
 import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_STATS_ENABLED;
 import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_WORKBENCH_ENABLED;
@@ -42,6 +46,7 @@ import org.opensearch.plugins.SystemIndexPlugin;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.script.ScriptService;
 import org.opensearch.searchrelevance.dao.EvaluationResultDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
 import org.opensearch.searchrelevance.dao.ExperimentDao;
 import org.opensearch.searchrelevance.dao.ExperimentVariantDao;
 import org.opensearch.searchrelevance.dao.JudgmentCacheDao;
@@ -49,13 +54,20 @@ import org.opensearch.searchrelevance.dao.JudgmentDao;
 import org.opensearch.searchrelevance.dao.QuerySetDao;
 import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
 import org.opensearch.searchrelevance.executors.ExperimentTaskManager;
+import org.opensearch.searchrelevance.executors.LlmJudgmentTaskManager;
+import org.opensearch.searchrelevance.experiment.JudgmentRatingIndexCache;
 import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
 import org.opensearch.searchrelevance.metrics.MetricsHelper;
 import org.opensearch.searchrelevance.ml.MLAccessor;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
 import org.opensearch.searchrelevance.stats.info.InfoStatsManager;
+import org.opensearch.searchrelevance.stats.tasks.TaskStatsManager;
 import org.opensearch.searchrelevance.transport.experiment.DeleteExperimentAction;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentPartitionAction;
 import org.opensearch.searchrelevance.transport.experiment.GetExperimentAction;
+import org.opensearch.searchrelevance.transport.experiment.GetExperimentResultsAction;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentAction;
+import org.opensearch.searchrelevance.transport.experiment.ResumeExperimentAction;
 import org.opensearch.searchrelevance.transport.queryset.DeleteQuerySetAction;
 import org.opensearch.searchrelevance.transport.queryset.GetQuerySetAction;
 import org.opensearch.searchrelevance.transport.queryset.PostQuerySetAction;
@@ -105,11 +117,16 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
         SearchConfigurationDao.class,
         JudgmentDao.class,
         EvaluationResultDao.class,
+        ExperimentResultDao.class,
         JudgmentCacheDao.class,
         MLAccessor.class,
         MetricsHelper.class,
         InfoStatsManager.class,
-        ExperimentTaskManager.class
+        TaskStatsManager.class,
+        SearchRelevanceSettingsAccessor.class,
+        ExperimentTaskManager.class,
+        LlmJudgmentTaskManager.class,
+        JudgmentRatingIndexCache.class
     );
 
     @Override
@@ -131,7 +148,15 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
             new ClusterSettings(
                 settings,
                 new HashSet<>(
-                    Arrays.asList(SEARCH_RELEVANCE_WORKBENCH_ENABLED, SEARCH_RELEVANCE_STATS_ENABLED, SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT)
+                    Arrays.asList(
+                        SEARCH_RELEVANCE_WORKBENCH_ENABLED,
+                        SEARCH_RELEVANCE_STATS_ENABLED,
+                        SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT,
+                        SEARCH_RELEVANCE_EXPERIMENT_MAX_IN_FLIGHT_QUERIES,
+                        SEARCH_RELEVANCE_EXPERIMENT_MAX_CONCURRENT_SEARCHES,
+                        SEARCH_RELEVANCE_EXPERIMENT_HYBRID_LOCAL_RECOMBINATION_ENABLED,
+                        SEARCH_RELEVANCE_EXPERIMENT_ID_ONLY_SEARCH_ENABLED
+                    )
                 )
             )
         );
@@ -182,7 +207,7 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
     }
 
     public void testTotalRestHandlers() {
-        assertEquals(14, plugin.getRestHandlers(Settings.EMPTY, null, null, null, null, null, null).size());
+        assertEquals(17, plugin.getRestHandlers(Settings.EMPTY, null, null, null, null, null, null).size());
     }
 
     public void testQuerySetTransportIsAdded() {
@@ -204,13 +229,22 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
             actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof DeleteSearchConfigurationAction).count()
         );
         assertEquals(1, actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof PutExperimentAction).count());
+        assertEquals(
+            1,
+            actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof ExperimentPartitionAction).count()
+        );
+        assertEquals(1, actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof ResumeExperimentAction).count());
         assertEquals(1, actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof GetExperimentAction).count());
+        assertEquals(
+            1,
+            actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof GetExperimentResultsAction).count()
+        );
         assertEquals(1, actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof DeleteExperimentAction).count());
     }
 
     public void testGetSettings() {
         List<Setting<?>> settings = plugin.getSettings();
-        assertEquals(3, settings.size());
+        assertEquals(8, settings.size());
 
         Setting<?> setting0 = settings.get(0);
         assertEquals("plugins.search_relevance.workbench_enabled", setting0.getKey());
@@ -223,5 +257,21 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
         Setting<?> setting2 = settings.get(2);
         assertEquals("plugins.search_relevance.query_set.maximum", setting2.getKey());
         assertEquals(1000, setting2.get(Settings.EMPTY));
+
+        Setting<?> setting3 = settings.get(3);
+        assertEquals("plugins.search_relevance.experiment.max_in_flight_queries", setting3.getKey());
+        assertEquals(50, setting3.get(Settings.EMPTY));
+
+        Setting<?> setting4 = settings.get(4);
+        assertEquals("plugins.search_relevance.experiment.max_concurrent_searches", setting4.getKey());
+        assertEquals(0, setting4.get(Settings.EMPTY));
+
+        Setting<?> setting5 = settings.get(5);
+        assertEquals("plugins.search_relevance.experiment.hybrid_local_recombination_enabled", setting5.getKey());
+        assertEquals(false, setting5.get(Settings.EMPTY));
+
+        Setting<?> setting6 = settings.get(6);
+        assertEquals("plugins.search_relevance.experiment.id_only_search_enabled", setting6.getKey());
+        assertEquals(true, setting6.get(Settings.EMPTY));
     }
 }
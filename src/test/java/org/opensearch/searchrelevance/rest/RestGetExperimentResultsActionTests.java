@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.plugin.SearchRelevanceRestTestCase;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+import org.opensearch.searchrelevance.transport.experiment.GetExperimentResultsAction;
+
+public class RestGetExperimentResultsActionTests extends SearchRelevanceRestTestCase {
+
+    private RestGetExperimentResultsAction restGetExperimentResultsAction;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        restGetExperimentResultsAction = new RestGetExperimentResultsAction(settingsAccessor);
+        when(channel.newBuilder()).thenReturn(JsonXContent.contentBuilder());
+        when(channel.newErrorBuilder()).thenReturn(JsonXContent.contentBuilder());
+    }
+
+    public void testPrepareRequest_WorkbenchDisabled() throws Exception {
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(false);
+        RestRequest request = createGetRestRequestWithParams("experiments", "test_experimentId/results", Map.of("id", "test_experimentId"));
+        when(channel.request()).thenReturn(request);
+
+        restGetExperimentResultsAction.handleRequest(request, channel, client);
+
+        ArgumentCaptor<BytesRestResponse> responseCaptor = ArgumentCaptor.forClass(BytesRestResponse.class);
+        verify(channel).sendResponse(responseCaptor.capture());
+        assertEquals(RestStatus.FORBIDDEN, responseCaptor.getValue().status());
+    }
+
+    public void testGetResultsPage() throws Exception {
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        Map<String, String> params = new HashMap<>();
+        params.put("id", "test_experimentId");
+        params.put("size", "20");
+        params.put("search_after", "last_result_id");
+        RestRequest request = createGetRestRequestWithParams("experiments", "test_experimentId/results", params);
+        when(channel.request()).thenReturn(request);
+
+        ArgumentCaptor<OpenSearchDocRequest> requestCaptor = ArgumentCaptor.forClass(OpenSearchDocRequest.class);
+        SearchResponse mockResponse = mock(SearchResponse.class);
+        when(mockResponse.status()).thenReturn(RestStatus.OK);
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(2);
+            listener.onResponse(mockResponse);
+            return null;
+        }).when(client).execute(eq(GetExperimentResultsAction.INSTANCE), requestCaptor.capture(), any());
+
+        restGetExperimentResultsAction.handleRequest(request, channel, client);
+
+        OpenSearchDocRequest capturedRequest = requestCaptor.getValue();
+        assertEquals("test_experimentId", capturedRequest.getId());
+        assertEquals(20, capturedRequest.getSearchSourceBuilder().size());
+        assertArrayEquals(new Object[] { "last_result_id" }, capturedRequest.getSearchSourceBuilder().searchAfter());
+        assertEquals(1, capturedRequest.getSearchSourceBuilder().sorts().size());
+        verify(channel).sendResponse(any(BytesRestResponse.class));
+    }
+
+    public void testGetResultsDefaultPageSize() throws Exception {
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        RestRequest request = createGetRestRequestWithParams("experiments", "test_experimentId/results", Map.of("id", "test_experimentId"));
+        when(channel.request()).thenReturn(request);
+
+        ArgumentCaptor<OpenSearchDocRequest> requestCaptor = ArgumentCaptor.forClass(OpenSearchDocRequest.class);
+        doAnswer(invocation -> null).when(client).execute(eq(GetExperimentResultsAction.INSTANCE), requestCaptor.capture(), any());
+
+        restGetExperimentResultsAction.handleRequest(request, channel, client);
+
+        assertEquals(100, requestCaptor.getValue().getSearchSourceBuilder().size());
+        assertNull(requestCaptor.getValue().getSearchSourceBuilder().searchAfter());
+    }
+
+    public void testGetResultsInvalidPageSize() {
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        Map<String, String> params = new HashMap<>();
+        params.put("id", "test_experimentId");
+        params.put("size", "5000");
+        RestRequest request = createGetRestRequestWithParams("experiments", "test_experimentId/results", params);
+        when(channel.request()).thenReturn(request);
+
+        SearchRelevanceException exception = expectThrows(
+            SearchRelevanceException.class,
+            () -> restGetExperimentResultsAction.handleRequest(request, channel, client)
+        );
+        assertEquals(RestStatus.BAD_REQUEST, exception.status());
+        verify(client, never()).execute(eq(GetExperimentResultsAction.INSTANCE), any(), any());
+    }
+}
@@ -12,6 +12,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.util.Locale;
 
 import org.mockito.ArgumentCaptor;
 import org.opensearch.action.DocWriteResponse;
@@ -22,6 +23,7 @@ import org.opensearch.core.rest.RestStatus;
 import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.model.HybridOptimizerStrategy;
 import org.opensearch.searchrelevance.plugin.SearchRelevanceRestTestCase;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
@@ -53,6 +55,15 @@ public class RestPutExperimentActionTests extends SearchRelevanceRestTestCase {
         + "\"size\": 10"
         + "}";
 
+    private static final String HYBRID_OPTIMIZER_CONTENT = "{"
+        + "\"type\": \"HYBRID_OPTIMIZER\","
+        + "\"querySetId\": \"test_query_set_id\","
+        + "\"searchConfigurationList\": [\"config1\"],"
+        + "\"judgmentList\": [\"judgment1\"],"
+        + "\"size\": 10,"
+        + "%s"
+        + "}";
+
     @Override
     public void setUp() throws Exception {
         super.setUp();
@@ -153,4 +164,49 @@ public class RestPutExperimentActionTests extends SearchRelevanceRestTestCase {
         );
         assertTrue(exception.getMessage().contains("POINTWISE_EVALUATION"));
     }
+
+    public void testPutExperiment_NonNumericSearchBudget() throws Exception {
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        RestRequest request = createPutRestRequestWithContent(hybridOptimizerContent("\"searchBudget\": \"many\""), "experiments");
+        when(channel.request()).thenReturn(request);
+
+        SearchRelevanceException exception = expectThrows(
+            SearchRelevanceException.class,
+            () -> restPutExperimentAction.handleRequest(request, channel, client)
+        );
+        assertEquals(RestStatus.BAD_REQUEST, exception.status());
+        assertTrue(exception.getMessage().contains("searchBudget must be an integer"));
+    }
+
+    public void testPutExperiment_NonBooleanDistributedExecution() throws Exception {
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        RestRequest request = createPutRestRequestWithContent(hybridOptimizerContent("\"distributedExecution\": \"yes\""), "experiments");
+        when(channel.request()).thenReturn(request);
+
+        SearchRelevanceException exception = expectThrows(
+            SearchRelevanceException.class,
+            () -> restPutExperimentAction.handleRequest(request, channel, client)
+        );
+        assertEquals(RestStatus.BAD_REQUEST, exception.status());
+        assertTrue(exception.getMessage().contains("distributedExecution must be a boolean"));
+    }
+
+    public void testPutExperiment_InvalidOptimizerListsEveryStrategy() throws Exception {
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        RestRequest request = createPutRestRequestWithContent(hybridOptimizerContent("\"optimizer\": \"RANDOM\""), "experiments");
+        when(channel.request()).thenReturn(request);
+
+        SearchRelevanceException exception = expectThrows(
+            SearchRelevanceException.class,
+            () -> restPutExperimentAction.handleRequest(request, channel, client)
+        );
+        assertEquals(RestStatus.BAD_REQUEST, exception.status());
+        for (HybridOptimizerStrategy strategy : HybridOptimizerStrategy.values()) {
+            assertTrue(exception.getMessage().contains(strategy.name()));
+        }
+    }
+
+    private static String hybridOptimizerContent(String optimizerFields) {
+        return String.format(Locale.ROOT, HYBRID_OPTIMIZER_CONTENT, optimizerFields);
+    }
 }
@@ -233,6 +233,85 @@ public class RestPutJudgmentActionTests extends SearchRelevanceRestTestCase {
         assertEquals(RestStatus.BAD_REQUEST, exception.status());
     }
 
+    public void testPutLlmJudgment_InvalidSchedulingWeight() throws Exception {
+        // Setup
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        String content = LLM_JUDGMENT_CONTENT.replace("\"ignoreFailure\": false", "\"ignoreFailure\": false, \"schedulingWeight\": 0");
+        RestRequest request = createPutRestRequestWithContent(content, "judgment");
+        when(channel.request()).thenReturn(request);
+
+        // Execute and verify
+        SearchRelevanceException exception = expectThrows(
+            SearchRelevanceException.class,
+            () -> restPutJudgmentAction.handleRequest(request, channel, client)
+        );
+        assertEquals("schedulingWeight must be between 1 and 100", exception.getMessage());
+        assertEquals(RestStatus.BAD_REQUEST, exception.status());
+    }
+
+    public void testPutLlmJudgment_NonBooleanOption() throws Exception {
+        // Setup
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        String content = LLM_JUDGMENT_CONTENT.replace("\"ignoreFailure\": false", "\"ignoreFailure\": \"no\"");
+        RestRequest request = createPutRestRequestWithContent(content, "judgment");
+        when(channel.request()).thenReturn(request);
+
+        // Execute and verify
+        SearchRelevanceException exception = expectThrows(
+            SearchRelevanceException.class,
+            () -> restPutJudgmentAction.handleRequest(request, channel, client)
+        );
+        assertEquals("ignoreFailure must be a boolean, got: no", exception.getMessage());
+        assertEquals(RestStatus.BAD_REQUEST, exception.status());
+    }
+
+    public void testPutLlmJudgment_NonIntegerSize() throws Exception {
+        // Setup
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        String content = LLM_JUDGMENT_CONTENT.replace("\"size\": 10", "\"size\": 2.5");
+        RestRequest request = createPutRestRequestWithContent(content, "judgment");
+        when(channel.request()).thenReturn(request);
+
+        // Execute and verify
+        SearchRelevanceException exception = expectThrows(
+            SearchRelevanceException.class,
+            () -> restPutJudgmentAction.handleRequest(request, channel, client)
+        );
+        assertEquals("size must be an integer, got: 2.5", exception.getMessage());
+        assertEquals(RestStatus.BAD_REQUEST, exception.status());
+    }
+
+    public void testPutLlmJudgment_PoolingNdcgAtDefaultIsLeftToTheJob() throws Exception {
+        // Setup
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        RestRequest request = createPutRestRequestWithContent(LLM_JUDGMENT_CONTENT, "judgment");
+        when(channel.request()).thenReturn(request);
+        ArgumentCaptor<PutLlmJudgmentRequest> requestCaptor = ArgumentCaptor.forClass(PutLlmJudgmentRequest.class);
+
+        // Execute
+        restPutJudgmentAction.handleRequest(request, channel, client);
+
+        // Verify
+        verify(client).execute(eq(PutJudgmentAction.INSTANCE), requestCaptor.capture(), any());
+        assertNull(requestCaptor.getValue().getPoolingNdcgAt());
+    }
+
+    public void testPutLlmJudgment_InvalidPoolingNdcgAt() throws Exception {
+        // Setup
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        String content = LLM_JUDGMENT_CONTENT.replace("\"ignoreFailure\": false", "\"ignoreFailure\": false, \"poolingNdcgAt\": 0");
+        RestRequest request = createPutRestRequestWithContent(content, "judgment");
+        when(channel.request()).thenReturn(request);
+
+        // Execute and verify
+        SearchRelevanceException exception = expectThrows(
+            SearchRelevanceException.class,
+            () -> restPutJudgmentAction.handleRequest(request, channel, client)
+        );
+        assertEquals("poolingNdcgAt must be a positive integer", exception.getMessage());
+        assertEquals(RestStatus.BAD_REQUEST, exception.status());
+    }
+
     public void testPutJudgment_Failure() throws Exception {
         // Setup
         when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
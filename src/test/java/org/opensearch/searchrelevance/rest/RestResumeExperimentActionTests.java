@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.searchrelevance.plugin.SearchRelevanceRestTestCase;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+import org.opensearch.searchrelevance.transport.experiment.ResumeExperimentAction;
+import org.opensearch.test.rest.FakeRestRequest;
+
+public class RestResumeExperimentActionTests extends SearchRelevanceRestTestCase {
+
+    private RestResumeExperimentAction restResumeExperimentAction;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        restResumeExperimentAction = new RestResumeExperimentAction(settingsAccessor);
+        when(channel.newBuilder()).thenReturn(JsonXContent.contentBuilder());
+        when(channel.newErrorBuilder()).thenReturn(JsonXContent.contentBuilder());
+    }
+
+    public void testResumeExperiment_WorkbenchDisabled() throws Exception {
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(false);
+        RestRequest request = createResumeRestRequest("test_experimentId");
+        when(channel.request()).thenReturn(request);
+
+        restResumeExperimentAction.handleRequest(request, channel, client);
+
+        ArgumentCaptor<BytesRestResponse> responseCaptor = ArgumentCaptor.forClass(BytesRestResponse.class);
+        verify(channel).sendResponse(responseCaptor.capture());
+        assertEquals(RestStatus.FORBIDDEN, responseCaptor.getValue().status());
+        verify(client, never()).execute(eq(ResumeExperimentAction.INSTANCE), any(), any());
+    }
+
+    public void testResumeExperiment_Success() throws Exception {
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        RestRequest request = createResumeRestRequest("test_experimentId");
+        when(channel.request()).thenReturn(request);
+
+        ArgumentCaptor<OpenSearchDocRequest> requestCaptor = ArgumentCaptor.forClass(OpenSearchDocRequest.class);
+        IndexResponse mockResponse = mock(IndexResponse.class);
+        when(mockResponse.getId()).thenReturn("test_experimentId");
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(2);
+            listener.onResponse(mockResponse);
+            return null;
+        }).when(client).execute(eq(ResumeExperimentAction.INSTANCE), requestCaptor.capture(), any());
+
+        restResumeExperimentAction.handleRequest(request, channel, client);
+
+        assertEquals("test_experimentId", requestCaptor.getValue().getId());
+        ArgumentCaptor<BytesRestResponse> responseCaptor = ArgumentCaptor.forClass(BytesRestResponse.class);
+        verify(channel).sendResponse(responseCaptor.capture());
+        assertEquals(RestStatus.OK, responseCaptor.getValue().status());
+        String content = responseCaptor.getValue().content().utf8ToString();
+        assertTrue(content.contains("\"experiment_id\":\"test_experimentId\""));
+        assertTrue(content.contains("\"status\":\"PROCESSING\""));
+    }
+
+    private RestRequest createResumeRestRequest(String experimentId) {
+        return new FakeRestRequest.Builder(NamedXContentRegistry.EMPTY).withParams(new HashMap<>(Map.of("id", experimentId)))
+            .withMethod(RestRequest.Method.POST)
+            .withPath("/_plugins/_search_relevance/experiments/" + experimentId + "/_resume")
+            .build();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.plugin.SearchRelevanceRestTestCase;
+import org.opensearch.searchrelevance.transport.judgment.ResumeJudgmentAction;
+import org.opensearch.searchrelevance.transport.judgment.ResumeJudgmentRequest;
+import org.opensearch.test.rest.FakeRestRequest;
+
+public class RestResumeJudgmentActionTests extends SearchRelevanceRestTestCase {
+
+    private RestResumeJudgmentAction restResumeJudgmentAction;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        restResumeJudgmentAction = new RestResumeJudgmentAction(settingsAccessor);
+        when(channel.newBuilder()).thenReturn(JsonXContent.contentBuilder());
+        when(channel.newErrorBuilder()).thenReturn(JsonXContent.contentBuilder());
+    }
+
+    public void testResumeJudgment_WorkbenchDisabled() throws Exception {
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(false);
+        RestRequest request = createResumeRestRequest("test_judgmentId");
+        when(channel.request()).thenReturn(request);
+
+        restResumeJudgmentAction.handleRequest(request, channel, client);
+
+        ArgumentCaptor<BytesRestResponse> responseCaptor = ArgumentCaptor.forClass(BytesRestResponse.class);
+        verify(channel).sendResponse(responseCaptor.capture());
+        assertEquals(RestStatus.FORBIDDEN, responseCaptor.getValue().status());
+        verify(client, never()).execute(eq(ResumeJudgmentAction.INSTANCE), any(), any());
+    }
+
+    public void testResumeJudgment_Success() throws Exception {
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        RestRequest request = createResumeRestRequest("test_judgmentId");
+        when(channel.request()).thenReturn(request);
+
+        ArgumentCaptor<ResumeJudgmentRequest> requestCaptor = ArgumentCaptor.forClass(ResumeJudgmentRequest.class);
+        IndexResponse mockResponse = mock(IndexResponse.class);
+        when(mockResponse.getId()).thenReturn("test_judgmentId");
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(2);
+            listener.onResponse(mockResponse);
+            return null;
+        }).when(client).execute(eq(ResumeJudgmentAction.INSTANCE), requestCaptor.capture(), any());
+
+        restResumeJudgmentAction.handleRequest(request, channel, client);
+
+        assertEquals("test_judgmentId", requestCaptor.getValue().getId());
+        assertNull(requestCaptor.getValue().getMaxInputTokens());
+        assertNull(requestCaptor.getValue().getMaxLLMCalls());
+        ArgumentCaptor<BytesRestResponse> responseCaptor = ArgumentCaptor.forClass(BytesRestResponse.class);
+        verify(channel).sendResponse(responseCaptor.capture());
+        assertEquals(RestStatus.OK, responseCaptor.getValue().status());
+        String content = responseCaptor.getValue().content().utf8ToString();
+        assertTrue(content.contains("\"judgment_id\":\"test_judgmentId\""));
+        assertTrue(content.contains("\"status\":\"PROCESSING\""));
+    }
+
+    public void testResumeJudgment_WithNewBudget() throws Exception {
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        RestRequest request = createResumeRestRequest("test_judgmentId", "{\"maxInputTokens\": 50000, \"maxLLMCalls\": 20}");
+        when(channel.request()).thenReturn(request);
+
+        ArgumentCaptor<ResumeJudgmentRequest> requestCaptor = ArgumentCaptor.forClass(ResumeJudgmentRequest.class);
+        restResumeJudgmentAction.handleRequest(request, channel, client);
+
+        verify(client).execute(eq(ResumeJudgmentAction.INSTANCE), requestCaptor.capture(), any());
+        assertEquals(Long.valueOf(50000), requestCaptor.getValue().getMaxInputTokens());
+        assertEquals(Integer.valueOf(20), requestCaptor.getValue().getMaxLLMCalls());
+    }
+
+    public void testResumeJudgment_NegativeBudget() throws Exception {
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        RestRequest request = createResumeRestRequest("test_judgmentId", "{\"maxLLMCalls\": -1}");
+        when(channel.request()).thenReturn(request);
+
+        SearchRelevanceException exception = expectThrows(
+            SearchRelevanceException.class,
+            () -> restResumeJudgmentAction.handleRequest(request, channel, client)
+        );
+        assertEquals(RestStatus.BAD_REQUEST, exception.status());
+        verify(client, never()).execute(eq(ResumeJudgmentAction.INSTANCE), any(), any());
+    }
+
+    private RestRequest createResumeRestRequest(String judgmentId) {
+        return new FakeRestRequest.Builder(NamedXContentRegistry.EMPTY).withParams(new HashMap<>(Map.of("id", judgmentId)))
+            .withMethod(RestRequest.Method.POST)
+            .withPath("/_plugins/_search_relevance/judgments/" + judgmentId + "/_resume")
+            .build();
+    }
+
+    private RestRequest createResumeRestRequest(String judgmentId, String content) {
+        return new FakeRestRequest.Builder(NamedXContentRegistry.EMPTY).withParams(new HashMap<>(Map.of("id", judgmentId)))
+            .withMethod(RestRequest.Method.POST)
+            .withPath("/_plugins/_search_relevance/judgments/" + judgmentId + "/_resume")
+            .withContent(new BytesArray(content), MediaTypeRegistry.JSON)
+            .build();
+    }
+}
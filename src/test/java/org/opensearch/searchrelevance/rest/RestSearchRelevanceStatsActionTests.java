@@ -37,6 +37,7 @@ import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
 import org.opensearch.searchrelevance.stats.SearchRelevanceStatsInput;
 import org.opensearch.searchrelevance.stats.events.EventStatName;
 import org.opensearch.searchrelevance.stats.info.InfoStatName;
+import org.opensearch.searchrelevance.stats.tasks.TaskStatName;
 import org.opensearch.searchrelevance.transport.stats.SearchRelevanceStatsAction;
 import org.opensearch.searchrelevance.transport.stats.SearchRelevanceStatsRequest;
 import org.opensearch.searchrelevance.transport.stats.SearchRelevanceStatsResponse;
@@ -95,6 +96,7 @@ public class RestSearchRelevanceStatsActionTests extends SearchRelevanceRestTest
         SearchRelevanceStatsInput capturedInput = argumentCaptor.getValue().getSearchRelevanceStatsInput();
         assertEquals(capturedInput.getEventStatNames(), EnumSet.allOf(EventStatName.class));
         assertEquals(capturedInput.getInfoStatNames(), EnumSet.allOf(InfoStatName.class));
+        assertEquals(capturedInput.getTaskStatNames(), EnumSet.allOf(TaskStatName.class));
         assertFalse(capturedInput.isFlatten());
         assertFalse(capturedInput.isIncludeMetadata());
         assertTrue(capturedInput.isIncludeIndividualNodes());
@@ -131,6 +133,8 @@ public class RestSearchRelevanceStatsActionTests extends SearchRelevanceRestTest
 
         assertEquals(capturedInput.getEventStatNames(), EnumSet.allOf(EventStatName.class));
         assertEquals(capturedInput.getInfoStatNames(), EnumSet.allOf(InfoStatName.class));
+        // task metrics are only reported for individual nodes
+        assertEquals(capturedInput.getTaskStatNames(), EnumSet.noneOf(TaskStatName.class));
         assertTrue(capturedInput.isFlatten());
         assertTrue(capturedInput.isIncludeMetadata());
         assertFalse(capturedInput.isIncludeIndividualNodes());
@@ -184,6 +188,7 @@ public class RestSearchRelevanceStatsActionTests extends SearchRelevanceRestTest
         SearchRelevanceStatsInput capturedInput = argumentCaptor.getValue().getSearchRelevanceStatsInput();
         assertEquals(capturedInput.getEventStatNames(), EnumSet.noneOf(EventStatName.class));
         assertEquals(capturedInput.getInfoStatNames(), EnumSet.noneOf(InfoStatName.class));
+        assertEquals(capturedInput.getTaskStatNames(), EnumSet.noneOf(TaskStatName.class));
     }
 
     public void test_handleRequest_disabledForbidden() throws Exception {
@@ -235,6 +240,24 @@ public class RestSearchRelevanceStatsActionTests extends SearchRelevanceRestTest
         assertTrue(capturedInput.isIncludeMetadata());
     }
 
+    public void test_execute_taskStatParameter() throws Exception {
+        RestSearchRelevanceStatsAction restSearchRelevanceStatsAction = new RestSearchRelevanceStatsAction(settingsAccessor, clusterUtil);
+
+        Map<String, String> params = new HashMap<>();
+        params.put("stat", TaskStatName.LLM_JUDGMENT_TASKS.getNameString());
+        RestRequest request = new FakeRestRequest.Builder(NamedXContentRegistry.EMPTY).withParams(params).build();
+
+        restSearchRelevanceStatsAction.handleRequest(request, channel, client);
+
+        ArgumentCaptor<SearchRelevanceStatsRequest> argumentCaptor = ArgumentCaptor.forClass(SearchRelevanceStatsRequest.class);
+        verify(client, times(1)).execute(eq(SearchRelevanceStatsAction.INSTANCE), argumentCaptor.capture(), any());
+
+        SearchRelevanceStatsInput capturedInput = argumentCaptor.getValue().getSearchRelevanceStatsInput();
+        assertEquals(capturedInput.getTaskStatNames(), EnumSet.of(TaskStatName.LLM_JUDGMENT_TASKS));
+        assertEquals(capturedInput.getEventStatNames(), EnumSet.noneOf(EventStatName.class));
+        assertEquals(capturedInput.getInfoStatNames(), EnumSet.noneOf(InfoStatName.class));
+    }
+
     public void test_execute_statParameters_olderVersion() throws Exception {
         when(clusterUtil.getClusterMinVersion()).thenReturn(Version.V_3_0_0);
 
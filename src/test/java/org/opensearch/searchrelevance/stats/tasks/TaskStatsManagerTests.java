@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.stats.tasks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.util.TestUtils.xContentBuilderToMap;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Map;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.searchrelevance.executors.ExperimentTaskManager;
+import org.opensearch.searchrelevance.executors.LlmJudgmentTaskManager;
+import org.opensearch.searchrelevance.stats.common.StatSnapshot;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TaskStatsManagerTests extends OpenSearchTestCase {
+
+    private static final Map<String, Object> METRICS = Map.of("available_permits", 3, "queued_tasks", 7);
+    private static final Map<String, Object> EXPERIMENT_METRICS = Map.of(
+        "queued_threads",
+        5,
+        "stages",
+        Map.of("search", Map.of("queue_depth", 5, "mean_service_time_ms", 12.5))
+    );
+
+    public void test_getStats() {
+        LlmJudgmentTaskManager llmJudgmentTaskManager = mock(LlmJudgmentTaskManager.class);
+        ExperimentTaskManager experimentTaskManager = mock(ExperimentTaskManager.class);
+        when(llmJudgmentTaskManager.getConcurrencyMetrics()).thenReturn(METRICS);
+        TaskStatsManager taskStatsManager = new TaskStatsManager(llmJudgmentTaskManager, experimentTaskManager);
+
+        Map<TaskStatName, TaskStatSnapshot> stats = taskStatsManager.getStats(EnumSet.of(TaskStatName.LLM_JUDGMENT_TASKS));
+
+        assertEquals(1, stats.size());
+        assertEquals(METRICS, stats.get(TaskStatName.LLM_JUDGMENT_TASKS).getValue());
+        verify(experimentTaskManager, never()).getConcurrencyMetrics();
+    }
+
+    public void test_getStats_experimentTasks() {
+        LlmJudgmentTaskManager llmJudgmentTaskManager = mock(LlmJudgmentTaskManager.class);
+        ExperimentTaskManager experimentTaskManager = mock(ExperimentTaskManager.class);
+        when(llmJudgmentTaskManager.getConcurrencyMetrics()).thenReturn(METRICS);
+        when(experimentTaskManager.getConcurrencyMetrics()).thenReturn(EXPERIMENT_METRICS);
+        TaskStatsManager taskStatsManager = new TaskStatsManager(llmJudgmentTaskManager, experimentTaskManager);
+
+        Map<TaskStatName, TaskStatSnapshot> stats = taskStatsManager.getStats(EnumSet.allOf(TaskStatName.class));
+
+        assertEquals(2, stats.size());
+        assertEquals(METRICS, stats.get(TaskStatName.LLM_JUDGMENT_TASKS).getValue());
+        assertEquals(EXPERIMENT_METRICS, stats.get(TaskStatName.EXPERIMENT_TASKS).getValue());
+    }
+
+    public void test_getStats_noneRequested() {
+        LlmJudgmentTaskManager llmJudgmentTaskManager = mock(LlmJudgmentTaskManager.class);
+        ExperimentTaskManager experimentTaskManager = mock(ExperimentTaskManager.class);
+        TaskStatsManager taskStatsManager = new TaskStatsManager(llmJudgmentTaskManager, experimentTaskManager);
+
+        assertTrue(taskStatsManager.getStats(EnumSet.noneOf(TaskStatName.class)).isEmpty());
+        verify(llmJudgmentTaskManager, never()).getConcurrencyMetrics();
+        verify(experimentTaskManager, never()).getConcurrencyMetrics();
+    }
+
+    public void test_snapshotStreams_nestedStageMetrics() throws IOException {
+        TaskStatSnapshot snapshot = new TaskStatSnapshot(TaskStatName.EXPERIMENT_TASKS, EXPERIMENT_METRICS);
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        snapshot.writeTo(output);
+        TaskStatSnapshot read = new TaskStatSnapshot(output.bytes().streamInput());
+
+        assertEquals(TaskStatName.EXPERIMENT_TASKS, read.getStatName());
+        assertEquals(EXPERIMENT_METRICS, read.getValue());
+    }
+
+    public void test_snapshotStreams() throws IOException {
+        TaskStatSnapshot snapshot = new TaskStatSnapshot(TaskStatName.LLM_JUDGMENT_TASKS, METRICS);
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        snapshot.writeTo(output);
+        StreamInput in = output.bytes().streamInput();
+        TaskStatSnapshot read = new TaskStatSnapshot(in);
+
+        assertEquals(TaskStatName.LLM_JUDGMENT_TASKS, read.getStatName());
+        assertEquals(METRICS, read.getValue());
+    }
+
+    public void test_snapshotToXContent() throws IOException {
+        TaskStatSnapshot snapshot = new TaskStatSnapshot(TaskStatName.LLM_JUDGMENT_TASKS, METRICS);
+        XContentBuilder builder = JsonXContent.contentBuilder();
+        snapshot.toXContent(builder, ToXContent.EMPTY_PARAMS);
+
+        Map<String, Object> responseMap = xContentBuilderToMap(builder);
+
+        assertEquals(METRICS, responseMap.get(StatSnapshot.VALUE_FIELD));
+        assertEquals(TaskStatType.TASK_METRICS.getTypeString(), responseMap.get(StatSnapshot.STAT_TYPE_FIELD));
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentPartitionAction;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentPartitionRequest;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentPartitionResponse;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.RemoteTransportException;
+import org.opensearch.transport.TransportRequestOptions;
+import org.opensearch.transport.TransportResponseHandler;
+import org.opensearch.transport.TransportService;
+
+public class PartitionSchedulerTests extends OpenSearchTestCase {
+
+    private static final TimeValue TIMEOUT_PER_QUERY_TEXT = TimeValue.timeValueSeconds(10);
+
+    private DiscoveryNode node;
+    private ClusterService clusterService;
+    private TransportService transportService;
+    private TaskManager taskManager;
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final List<Runnable> timers = new ArrayList<>();
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        node = new DiscoveryNode(
+            "node",
+            new TransportAddress(TransportAddress.META_ADDRESS, 9300),
+            Map.of(),
+            DiscoveryNodeRole.BUILT_IN_ROLES,
+            Version.CURRENT
+        );
+        ClusterState clusterState = mock(ClusterState.class);
+        when(clusterState.nodes()).thenReturn(DiscoveryNodes.builder().add(node).localNodeId(node.getId()).build());
+        clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(clusterState);
+        when(clusterService.localNode()).thenReturn(node);
+        taskManager = mock(TaskManager.class);
+        when(taskManager.register(any(), any(), any())).thenAnswer(invocation -> {
+            TaskAwareRequest request = invocation.getArgument(2);
+            String type = invocation.getArgument(0);
+            String action = invocation.getArgument(1);
+            return request.createTask(attempts.incrementAndGet(), type, action, TaskId.EMPTY_TASK_ID, Map.of());
+        });
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.schedule(any(), any(), any())).thenAnswer(invocation -> {
+            timers.add(invocation.getArgument(0));
+            return mock(Scheduler.ScheduledCancellable.class);
+        });
+        transportService = mock(TransportService.class);
+        when(transportService.getTaskManager()).thenReturn(taskManager);
+        when(transportService.getThreadPool()).thenReturn(threadPool);
+    }
+
+    public void testPartitionsAreBalancedAndKeepQueryOrder() {
+        List<String> queryTexts = IntStream.range(0, 25).mapToObj(i -> "query" + i).collect(Collectors.toList());
+
+        List<List<String>> partitions = PartitionScheduler.partition(queryTexts, 3);
+
+        assertEquals(3 * PartitionScheduler.PARTITIONS_PER_NODE, partitions.size());
+        assertEquals(queryTexts, partitions.stream().flatMap(List::stream).collect(Collectors.toList()));
+        partitions.forEach(partition -> assertTrue(partition.size() == 2 || partition.size() == 3));
+    }
+
+    public void testFewQueryTextsGetOnePartitionEach() {
+        assertEquals(List.of(List.of("a"), List.of("b")), PartitionScheduler.partition(List.of("a", "b"), 3));
+        assertTrue(PartitionScheduler.partition(List.of(), 3).isEmpty());
+    }
+
+    public void testPartitionTimeoutGrowsWithPartitionSize() {
+        PartitionScheduler<ExperimentPartitionRequest, ExperimentPartitionResponse> scheduler = scheduler();
+
+        assertEquals(PartitionScheduler.MIN_PARTITION_TIMEOUT, scheduler.partitionTimeout(1));
+        assertEquals(TimeValue.timeValueMinutes(10), scheduler.partitionTimeout(60));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testTimedOutPartitionIsCancelledAndReassignedOnceTheNodeReportsBack() {
+        List<TransportRequestOptions> sentOptions = new ArrayList<>();
+        List<TransportResponseHandler<ExperimentPartitionResponse>> handlers = new ArrayList<>();
+        doAnswer(invocation -> {
+            sentOptions.add(invocation.getArgument(4));
+            TransportResponseHandler<ExperimentPartitionResponse> handler = invocation.getArgument(5);
+            if (sentOptions.size() == 1) {
+                handlers.add(handler);
+            } else {
+                handler.handleResponse(new ExperimentPartitionResponse(1));
+            }
+            return null;
+        }).when(transportService).sendChildRequest(eq(node), eq(ExperimentPartitionAction.NAME), any(), any(), any(), any());
+
+        AtomicInteger evaluated = new AtomicInteger();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicBoolean completed = run(List.of("red shoes"), evaluated, false, failure);
+
+        assertEquals(1, timers.size());
+        long graceMillis = PartitionScheduler.CANCELLATION_GRACE_PERIOD.millis();
+        assertEquals(PartitionScheduler.MIN_PARTITION_TIMEOUT.millis() + graceMillis, sentOptions.get(0).timeout().millis());
+
+        timers.get(0).run();
+        ArgumentCaptor<CancellableTask> cancelledAttempt = ArgumentCaptor.forClass(CancellableTask.class);
+        verify(taskManager).cancelTaskAndDescendants(cancelledAttempt.capture(), any(), eq(false), any());
+        assertTrue(cancelledAttempt.getValue().shouldCancelChildrenOnCancellation());
+        assertEquals("The node keeps the partition until it reports back", 1, sentOptions.size());
+
+        handlers.get(0).handleException(new RemoteTransportException("cancelled", new TaskCancelledException("partition timed out")));
+
+        assertEquals(2, sentOptions.size());
+        assertTrue(completed.get());
+        assertNull(failure.get());
+        assertEquals(1, evaluated.get());
+        verify(taskManager).unregister(cancelledAttempt.getValue());
+        verify(taskManager, times(2)).unregister(any());
+    }
+
+    public void testPartitionFailingAllAttemptsFailsTheJob() {
+        AtomicInteger sent = failEveryAttempt();
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        run(List.of("red shoes"), new AtomicInteger(), false, failure);
+
+        assertEquals(PartitionScheduler.MAX_PARTITION_ATTEMPTS, sent.get());
+        assertTrue(failure.get() instanceof RemoteTransportException);
+        verify(taskManager, never()).cancelTaskAndDescendants(any(), any(), anyBoolean(), any());
+    }
+
+    public void testPartitionFailingAllAttemptsIsSkippedWhenFailuresAreSkipped() {
+        AtomicInteger sent = failEveryAttempt();
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicInteger evaluated = new AtomicInteger();
+        AtomicBoolean completed = run(List.of("red shoes"), evaluated, true, failure);
+
+        assertEquals(PartitionScheduler.MAX_PARTITION_ATTEMPTS, sent.get());
+        assertTrue(completed.get());
+        assertNull(failure.get());
+        assertEquals(0, evaluated.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private AtomicInteger failEveryAttempt() {
+        AtomicInteger sent = new AtomicInteger();
+        doAnswer(invocation -> {
+            sent.incrementAndGet();
+            TransportResponseHandler<ExperimentPartitionResponse> handler = invocation.getArgument(5);
+            handler.handleException(new RemoteTransportException("search failed", new IllegalStateException("search failed")));
+            return null;
+        }).when(transportService).sendChildRequest(eq(node), eq(ExperimentPartitionAction.NAME), any(), any(), any(), any());
+        return sent;
+    }
+
+    private AtomicBoolean run(
+        List<String> queryTexts,
+        AtomicInteger evaluated,
+        boolean skipFailedPartitions,
+        AtomicReference<Exception> failure
+    ) {
+        AtomicBoolean completed = new AtomicBoolean();
+        scheduler().run(
+            "experiment experiment",
+            queryTexts,
+            partitionQueryTexts -> new ExperimentPartitionRequest(
+                "experiment",
+                ExperimentType.PAIRWISE_COMPARISON,
+                Map.of(),
+                List.of(),
+                10,
+                null,
+                partitionQueryTexts
+            ),
+            (evaluatedNode, response) -> evaluated.addAndGet(response.getEvaluatedQueryTexts()),
+            skipFailedPartitions,
+            ActionListener.wrap(done -> completed.set(true), failure::set)
+        );
+        return completed;
+    }
+
+    private PartitionScheduler<ExperimentPartitionRequest, ExperimentPartitionResponse> scheduler() {
+        return new PartitionScheduler<>(
+            transportService,
+            clusterService,
+            ExperimentPartitionAction.NAME,
+            ExperimentPartitionResponse::new,
+            TIMEOUT_PER_QUERY_TEXT
+        );
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class DeleteExperimentTransportActionTests extends OpenSearchTestCase {
+
+    private ExperimentDao experimentDao;
+    private ExperimentResultDao experimentResultDao;
+    private DeleteExperimentTransportAction transportAction;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        experimentDao = mock(ExperimentDao.class);
+        experimentResultDao = mock(ExperimentResultDao.class);
+        transportAction = new DeleteExperimentTransportAction(
+            mock(ClusterService.class),
+            mock(TransportService.class),
+            new ActionFilters(Collections.emptySet()),
+            experimentDao,
+            experimentResultDao
+        );
+    }
+
+    public void testDeletesTheResultsOfTheExperiment() {
+        DeleteResponse deleteResponse = mock(DeleteResponse.class);
+        mockDeleteExperiment(deleteResponse);
+        doAnswer(invocation -> {
+            ActionListener<BulkByScrollResponse> listener = invocation.getArgument(1);
+            listener.onResponse(mock(BulkByScrollResponse.class));
+            return null;
+        }).when(experimentResultDao).deleteExperimentResults(eq("experiment"), any());
+
+        AtomicReference<DeleteResponse> response = new AtomicReference<>();
+        transportAction.doExecute(
+            mock(Task.class),
+            new OpenSearchDocRequest("experiment"),
+            ActionListener.wrap(response::set, e -> fail("the delete should succeed"))
+        );
+
+        assertSame(deleteResponse, response.get());
+        verify(experimentResultDao).deleteExperimentResults(eq("experiment"), any());
+    }
+
+    public void testFailedResultDeletionIsReported() {
+        mockDeleteExperiment(mock(DeleteResponse.class));
+        IllegalStateException error = new IllegalStateException("delete by query failed");
+        doAnswer(invocation -> {
+            ActionListener<BulkByScrollResponse> listener = invocation.getArgument(1);
+            listener.onFailure(error);
+            return null;
+        }).when(experimentResultDao).deleteExperimentResults(eq("experiment"), any());
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        transportAction.doExecute(
+            mock(Task.class),
+            new OpenSearchDocRequest("experiment"),
+            ActionListener.wrap(response -> fail("the delete should fail"), failure::set)
+        );
+
+        assertSame(error, failure.get());
+    }
+
+    public void testEmptyExperimentIdIsRejected() {
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        transportAction.doExecute(
+            mock(Task.class),
+            new OpenSearchDocRequest(" "),
+            ActionListener.wrap(response -> fail("the delete should fail"), failure::set)
+        );
+
+        assertNotNull(failure.get());
+        verify(experimentDao, never()).deleteExperiment(any(), any());
+        verify(experimentResultDao, never()).deleteExperimentResults(any(), any());
+    }
+
+    private void mockDeleteExperiment(DeleteResponse deleteResponse) {
+        doAnswer(invocation -> {
+            ActionListener<DeleteResponse> listener = invocation.getArgument(1);
+            listener.onResponse(deleteResponse);
+            return null;
+        }).when(experimentDao).deleteExperiment(eq("experiment"), any());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportResponseHandler;
+import org.opensearch.transport.TransportService;
+
+public class ExperimentPartitionCoordinatorTests extends OpenSearchTestCase {
+
+    @SuppressWarnings("unchecked")
+    public void testEvaluatedQueryTextsAreCountedByNode() {
+        DiscoveryNode node = new DiscoveryNode(
+            "node",
+            new TransportAddress(TransportAddress.META_ADDRESS, 9300),
+            Map.of(),
+            DiscoveryNodeRole.BUILT_IN_ROLES,
+            Version.CURRENT
+        );
+        ClusterState clusterState = mock(ClusterState.class);
+        when(clusterState.nodes()).thenReturn(DiscoveryNodes.builder().add(node).localNodeId(node.getId()).build());
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(clusterState);
+        when(clusterService.localNode()).thenReturn(node);
+
+        TaskManager taskManager = mock(TaskManager.class);
+        when(taskManager.register(any(), any(), any())).thenReturn(mock(CancellableTask.class));
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.schedule(any(), any(), any())).thenReturn(mock(Scheduler.ScheduledCancellable.class));
+        TransportService transportService = mock(TransportService.class);
+        when(transportService.getTaskManager()).thenReturn(taskManager);
+        when(transportService.getThreadPool()).thenReturn(threadPool);
+        List<ExperimentPartitionRequest> sentRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            ExperimentPartitionRequest request = invocation.getArgument(2);
+            sentRequests.add(request);
+            TransportResponseHandler<ExperimentPartitionResponse> handler = invocation.getArgument(5);
+            handler.handleResponse(new ExperimentPartitionResponse(request.getQueryTexts().size()));
+            return null;
+        }).when(transportService).sendChildRequest(eq(node), eq(ExperimentPartitionAction.NAME), any(), any(), any(), any());
+
+        AtomicReference<Map<String, Integer>> evaluated = new AtomicReference<>();
+        new ExperimentPartitionCoordinator(transportService, clusterService).run(
+            "experiment",
+            ExperimentType.PAIRWISE_COMPARISON,
+            Map.of(),
+            List.of("red shoes", "blue shoes"),
+            List.of(),
+            10,
+            null,
+            ActionListener.wrap(evaluated::set, e -> fail("the experiment should be evaluated"))
+        );
+
+        assertEquals(2, sentRequests.size());
+        assertEquals("experiment", sentRequests.get(0).getExperimentId());
+        assertEquals(Map.of("node", 2), evaluated.get());
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.experiment.HybridOptimizerExperimentProcessor;
+import org.opensearch.searchrelevance.experiment.PointwiseExperimentProcessor;
+import org.opensearch.searchrelevance.metrics.MetricsHelper;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ExperimentQueryTextRunnerTests extends OpenSearchTestCase {
+
+    private static final int MAX_IN_FLIGHT_QUERIES = 2;
+
+    private MetricsHelper metricsHelper;
+    private ExperimentResultDao experimentResultDao;
+    private ExperimentQueryTextRunner runner;
+    private Map<String, ActionListener<Map<String, Object>>> inFlightQueries;
+    private List<String> storedQueryTexts;
+    private AtomicInteger maxObservedInFlight;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        metricsHelper = mock(MetricsHelper.class);
+        experimentResultDao = mock(ExperimentResultDao.class);
+        SearchRelevanceSettingsAccessor settingsAccessor = mock(SearchRelevanceSettingsAccessor.class);
+        when(settingsAccessor.getMaxInFlightExperimentQueries()).thenReturn(MAX_IN_FLIGHT_QUERIES);
+        runner = new ExperimentQueryTextRunner(
+            experimentResultDao,
+            metricsHelper,
+            mock(HybridOptimizerExperimentProcessor.class),
+            mock(PointwiseExperimentProcessor.class),
+            settingsAccessor
+        );
+
+        inFlightQueries = new LinkedHashMap<>();
+        storedQueryTexts = new ArrayList<>();
+        maxObservedInFlight = new AtomicInteger(0);
+        doAnswer(invocation -> {
+            inFlightQueries.put(invocation.getArgument(0), invocation.getArgument(3));
+            maxObservedInFlight.accumulateAndGet(inFlightQueries.size(), Math::max);
+            return null;
+        }).when(metricsHelper).processPairwiseMetrics(anyString(), any(), anyInt(), any());
+        doAnswer(invocation -> {
+            ExperimentResult experimentResult = invocation.getArgument(0);
+            storedQueryTexts.add(experimentResult.getQueryText());
+            ActionListener<Object> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(experimentResultDao).putExperimentResultBulk(any(), any());
+    }
+
+    public void testAtMostMaxInFlightQueryTextsAreEvaluated() {
+        List<String> queryTexts = List.of("query0", "query1", "query2", "query3", "query4");
+        AtomicReference<Integer> evaluated = new AtomicReference<>();
+
+        run(queryTexts, ActionListener.wrap(evaluated::set, e -> fail("the run should succeed")));
+
+        assertEquals(List.of("query0", "query1"), new ArrayList<>(inFlightQueries.keySet()));
+        while (!inFlightQueries.isEmpty()) {
+            complete(inFlightQueries.keySet().iterator().next());
+        }
+
+        assertEquals(MAX_IN_FLIGHT_QUERIES, maxObservedInFlight.get());
+        assertEquals(queryTexts, storedQueryTexts);
+        assertEquals(Integer.valueOf(queryTexts.size()), evaluated.get());
+    }
+
+    public void testCompletionAdmitsTheNextQueryText() {
+        run(List.of("query0", "query1", "query2"), ActionListener.wrap(evaluated -> {}, e -> fail("the run should succeed")));
+
+        complete("query1");
+
+        assertEquals(List.of("query0", "query2"), new ArrayList<>(inFlightQueries.keySet()));
+        assertEquals(List.of("query1"), storedQueryTexts);
+    }
+
+    public void testFailureStopsAdmittingQueryTexts() {
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        run(List.of("query0", "query1", "query2"), ActionListener.wrap(evaluated -> fail("the run should fail"), failure::set));
+
+        inFlightQueries.remove("query0").onFailure(new IllegalStateException("search failed"));
+        complete("query1");
+
+        assertTrue(failure.get() instanceof IllegalStateException);
+        assertTrue(inFlightQueries.isEmpty());
+        verify(metricsHelper, times(MAX_IN_FLIGHT_QUERIES)).processPairwiseMetrics(anyString(), any(), anyInt(), any());
+    }
+
+    public void testCancellationStopsAdmittingQueryTexts() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        runner.run(
+            "experiment",
+            ExperimentType.PAIRWISE_COMPARISON,
+            Map.of(),
+            List.of("query0", "query1", "query2"),
+            List.of(),
+            10,
+            null,
+            cancelled::get,
+            ActionListener.wrap(evaluated -> fail("a cancelled run should fail"), failure::set)
+        );
+
+        cancelled.set(true);
+        complete("query0");
+
+        assertTrue(failure.get() instanceof TaskCancelledException);
+        assertEquals("The completed query text is still stored", List.of("query0"), storedQueryTexts);
+        assertEquals(List.of("query1"), new ArrayList<>(inFlightQueries.keySet()));
+        verify(metricsHelper, times(MAX_IN_FLIGHT_QUERIES)).processPairwiseMetrics(anyString(), any(), anyInt(), any());
+    }
+
+    private void run(List<String> queryTexts, ActionListener<Integer> listener) {
+        runner.run("experiment", ExperimentType.PAIRWISE_COMPARISON, Map.of(), queryTexts, List.of(), 10, null, listener);
+    }
+
+    private void complete(String queryText) {
+        inFlightQueries.remove(queryText).onResponse(new HashMap<>());
+    }
+}
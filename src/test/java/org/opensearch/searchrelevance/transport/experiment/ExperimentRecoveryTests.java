@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EXPERIMENT;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.lucene.search.TotalHits;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.block.ClusterBlocks;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class ExperimentRecoveryTests extends OpenSearchTestCase {
+
+    private static final String LOCAL_NODE_ID = "local_node";
+
+    private ExperimentDao experimentDao;
+    private ExperimentRecovery experimentRecovery;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        experimentDao = mock(ExperimentDao.class);
+        experimentRecovery = new ExperimentRecovery(mock(ClusterService.class), experimentDao, mock(ThreadPool.class));
+    }
+
+    public void testFailsExperimentsCoordinatedByThisNode() throws Exception {
+        Map<String, Object> optimizerSummary = Map.of("optimizer", Map.of("strategy", "TPE"));
+        mockProcessingExperiments(
+            List.of(
+                experimentSource("orphaned", LOCAL_NODE_ID, List.of(optimizerSummary)),
+                experimentSource("elsewhere", "other_node", List.of())
+            )
+        );
+
+        experimentRecovery.failOrphanedExperiments(LOCAL_NODE_ID);
+
+        ArgumentCaptor<Experiment> experimentCaptor = ArgumentCaptor.forClass(Experiment.class);
+        verify(experimentDao).updateExperiment(experimentCaptor.capture(), any());
+        Experiment failedExperiment = experimentCaptor.getValue();
+        assertEquals("orphaned", failedExperiment.id());
+        assertEquals(AsyncStatus.ERROR, failedExperiment.status());
+        assertEquals(
+            List.of(optimizerSummary, Map.of(ExperimentRecovery.ERROR, ExperimentRecovery.INTERRUPTED_ERROR)),
+            failedExperiment.results()
+        );
+        assertEquals(LOCAL_NODE_ID, failedExperiment.metadata().get("coordinatorNodeId"));
+    }
+
+    public void testSkipsExperimentsStillRunningOnThisNode() throws Exception {
+        mockProcessingExperiments(List.of(experimentSource("running", LOCAL_NODE_ID, List.of())));
+        assertTrue(ExperimentRecovery.markActive("running"));
+        try {
+            assertFalse(ExperimentRecovery.markActive("running"));
+
+            experimentRecovery.failOrphanedExperiments(LOCAL_NODE_ID);
+
+            verify(experimentDao, never()).updateExperiment(any(), any());
+        } finally {
+            ExperimentRecovery.markInactive("running");
+        }
+        assertFalse(ExperimentRecovery.isActive("running"));
+    }
+
+    public void testFailsExperimentsOfNodesThatLeft() throws Exception {
+        mockProcessingExperiments(
+            List.of(experimentSource("orphaned", "removed_node", List.of()), experimentSource("elsewhere", "other_node", List.of()))
+        );
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(ThreadPool.Names.GENERIC)).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        ExperimentRecovery recovery = new ExperimentRecovery(mock(ClusterService.class), experimentDao, threadPool);
+        // the node started without an experiment index, so there is nothing to recover
+        recovery.clusterChanged(clusterChangedEvent(false, false, List.of()));
+        verify(experimentDao, never()).listExperiment(any(), any());
+
+        recovery.clusterChanged(clusterChangedEvent(true, true, List.of("removed_node")));
+
+        ArgumentCaptor<Experiment> experimentCaptor = ArgumentCaptor.forClass(Experiment.class);
+        verify(experimentDao).updateExperiment(experimentCaptor.capture(), any());
+        assertEquals("orphaned", experimentCaptor.getValue().id());
+        assertEquals(AsyncStatus.ERROR, experimentCaptor.getValue().status());
+        assertEquals(
+            List.of(Map.of(ExperimentRecovery.ERROR, ExperimentRecovery.NODE_LEFT_ERROR)),
+            experimentCaptor.getValue().results()
+        );
+    }
+
+    public void testOnlyTheClusterManagerFailsExperimentsOfNodesThatLeft() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        ExperimentRecovery recovery = new ExperimentRecovery(mock(ClusterService.class), experimentDao, threadPool);
+        recovery.clusterChanged(clusterChangedEvent(false, false, List.of()));
+
+        recovery.clusterChanged(clusterChangedEvent(true, false, List.of("removed_node")));
+
+        verify(threadPool, never()).executor(any());
+        verify(experimentDao, never()).listExperiment(any(), any());
+    }
+
+    private static ClusterChangedEvent clusterChangedEvent(
+        boolean hasExperimentIndex,
+        boolean clusterManager,
+        List<String> removedNodeIds
+    ) {
+        Metadata metadata = mock(Metadata.class);
+        when(metadata.hasIndex(EXPERIMENT.getIndexName())).thenReturn(hasExperimentIndex);
+        ClusterState state = mock(ClusterState.class);
+        when(state.blocks()).thenReturn(ClusterBlocks.EMPTY_CLUSTER_BLOCK);
+        when(state.metadata()).thenReturn(metadata);
+        List<DiscoveryNode> removedNodes = removedNodeIds.stream().map(id -> {
+            DiscoveryNode node = mock(DiscoveryNode.class);
+            when(node.getId()).thenReturn(id);
+            return node;
+        }).collect(Collectors.toList());
+        DiscoveryNodes.Delta nodesDelta = mock(DiscoveryNodes.Delta.class);
+        when(nodesDelta.removedNodes()).thenReturn(removedNodes);
+        ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+        when(event.state()).thenReturn(state);
+        when(event.localNodeClusterManager()).thenReturn(clusterManager);
+        when(event.nodesRemoved()).thenReturn(!removedNodes.isEmpty());
+        when(event.nodesDelta()).thenReturn(nodesDelta);
+        return event;
+    }
+
+    private void mockProcessingExperiments(List<Map<String, Object>> sources) throws Exception {
+        SearchHit[] hits = new SearchHit[sources.size()];
+        for (int i = 0; i < sources.size(); i++) {
+            hits[i] = new SearchHit(i, (String) sources.get(i).get(Experiment.ID), Map.of(), Map.of());
+            hits[i].sourceRef(BytesReference.bytes(XContentFactory.jsonBuilder().map(sources.get(i))));
+        }
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
+            return null;
+        }).when(experimentDao).listExperiment(any(), any());
+    }
+
+    private static Map<String, Object> experimentSource(String id, String coordinatorNodeId, List<Map<String, Object>> results) {
+        return Map.of(
+            Experiment.ID,
+            id,
+            Experiment.TIME_STAMP,
+            "2025-01-01T00:00:00.000Z",
+            Experiment.TYPE,
+            ExperimentType.HYBRID_OPTIMIZER.name(),
+            Experiment.STATUS,
+            AsyncStatus.PROCESSING.name(),
+            Experiment.QUERY_SET_ID,
+            "query_set",
+            Experiment.SEARCH_CONFIGURATION_LIST,
+            List.of("search_config"),
+            Experiment.JUDGMENT_LIST,
+            List.of("judgment"),
+            Experiment.SIZE,
+            10,
+            Experiment.RESULTS,
+            results,
+            Experiment.METADATA,
+            Map.of("coordinatorNodeId", coordinatorNodeId, "optimizer", "TPE")
+        );
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class GetExperimentResultsTransportActionTests extends OpenSearchTestCase {
+
+    private ExperimentResultDao experimentResultDao;
+    private GetExperimentResultsTransportAction transportAction;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        experimentResultDao = mock(ExperimentResultDao.class);
+        transportAction = new GetExperimentResultsTransportAction(
+            mock(TransportService.class),
+            new ActionFilters(Collections.emptySet()),
+            experimentResultDao
+        );
+    }
+
+    public void testPagesThroughTheResultsOfTheExperiment() {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().size(5);
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(2);
+            listener.onResponse(searchResponse);
+            return null;
+        }).when(experimentResultDao).listExperimentResults(eq("experiment"), eq(sourceBuilder), any());
+
+        AtomicReference<SearchResponse> response = new AtomicReference<>();
+        transportAction.doExecute(
+            mock(Task.class),
+            new OpenSearchDocRequest("experiment", sourceBuilder),
+            ActionListener.wrap(response::set, e -> fail("the request should succeed"))
+        );
+
+        assertSame(searchResponse, response.get());
+    }
+
+    public void testDaoFailureIsReported() {
+        doThrow(new IllegalStateException("index closed")).when(experimentResultDao).listExperimentResults(any(), any(), any());
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        transportAction.doExecute(
+            mock(Task.class),
+            new OpenSearchDocRequest("experiment", new SearchSourceBuilder()),
+            ActionListener.wrap(response -> fail("the request should fail"), failure::set)
+        );
+
+        assertTrue(failure.get() instanceof SearchRelevanceException);
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, ((SearchRelevanceException) failure.get()).status());
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
+import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.ExperimentTaskManager;
+import org.opensearch.searchrelevance.experiment.JudgmentRatingIndexCache;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.metrics.MetricsHelper;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class PutExperimentTransportActionTests extends OpenSearchTestCase {
+
+    private static final String EXPERIMENT_ID = "experiment";
+    private static final String LOCAL_NODE_ID = "local_node";
+
+    private ExperimentDao experimentDao;
+    private ExperimentResultDao experimentResultDao;
+    private QuerySetDao querySetDao;
+    private PutExperimentTransportAction transportAction;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        experimentDao = mock(ExperimentDao.class);
+        experimentResultDao = mock(ExperimentResultDao.class);
+        querySetDao = mock(QuerySetDao.class);
+        DiscoveryNode localNode = mock(DiscoveryNode.class);
+        when(localNode.getId()).thenReturn(LOCAL_NODE_ID);
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.localNode()).thenReturn(localNode);
+        transportAction = new PutExperimentTransportAction(
+            clusterService,
+            mock(TransportService.class),
+            new ActionFilters(Collections.emptySet()),
+            experimentDao,
+            experimentResultDao,
+            querySetDao,
+            mock(SearchConfigurationDao.class),
+            mock(MetricsHelper.class),
+            mock(JudgmentRatingIndexCache.class),
+            mock(ExperimentTaskManager.class),
+            mock(SearchRelevanceSettingsAccessor.class),
+            mock(SearchRelevanceIndicesManager.class)
+        );
+        ExperimentRecovery.markActive(EXPERIMENT_ID);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        ExperimentRecovery.markInactive(EXPERIMENT_ID);
+        super.tearDown();
+    }
+
+    public void testResumeKeepsTheCheckpointAndTakesOverTheExperiment() {
+        Map<String, Object> optimizerSummary = Map.of("optimizer", Map.of("strategy", "TPE"));
+        doAnswer(invocation -> {
+            ActionListener<Set<String>> listener = invocation.getArgument(1);
+            listener.onResponse(Set.of("red shoes"));
+            return null;
+        }).when(experimentResultDao).getCompletedQueryTexts(eq(EXPERIMENT_ID), any());
+        IndexResponse indexResponse = mock(IndexResponse.class);
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(1);
+            listener.onResponse(indexResponse);
+            return null;
+        }).when(experimentDao).updateExperiment(any(), any());
+
+        AtomicReference<IndexResponse> response = new AtomicReference<>();
+        transportAction.resumeExperiment(
+            failedExperiment(List.of(optimizerSummary, Map.of(ExperimentRecovery.ERROR, "search failed"))),
+            ActionListener.wrap(response::set, e -> fail("the experiment should be resumed"))
+        );
+
+        assertSame(indexResponse, response.get());
+        ArgumentCaptor<Experiment> experimentCaptor = ArgumentCaptor.forClass(Experiment.class);
+        verify(experimentDao).updateExperiment(experimentCaptor.capture(), any());
+        Experiment resumedExperiment = experimentCaptor.getValue();
+        assertEquals(AsyncStatus.PROCESSING, resumedExperiment.status());
+        // the error of the earlier run is dropped, the checkpointed optimizer summary is kept
+        assertEquals(List.of(optimizerSummary), resumedExperiment.results());
+        assertEquals(LOCAL_NODE_ID, resumedExperiment.metadata().get("coordinatorNodeId"));
+        assertEquals("TPE", resumedExperiment.metadata().get("optimizer"));
+        assertEquals(20, resumedExperiment.metadata().get("searchBudget"));
+        verify(querySetDao).getQuerySet(eq("query_set"), any());
+        assertTrue(ExperimentRecovery.isActive(EXPERIMENT_ID));
+    }
+
+    public void testResumeFailsWhenTheCompletedQueryTextsCannotBeRead() {
+        doAnswer(invocation -> {
+            ActionListener<Set<String>> listener = invocation.getArgument(1);
+            listener.onFailure(new IllegalStateException("search failed"));
+            return null;
+        }).when(experimentResultDao).getCompletedQueryTexts(eq(EXPERIMENT_ID), any());
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        transportAction.resumeExperiment(
+            failedExperiment(List.of()),
+            ActionListener.wrap(response -> fail("the resume should fail"), failure::set)
+        );
+
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, ((SearchRelevanceException) failure.get()).status());
+        verify(experimentDao, never()).updateExperiment(any(), any());
+        assertFalse(ExperimentRecovery.isActive(EXPERIMENT_ID));
+    }
+
+    private static Experiment failedExperiment(List<Map<String, Object>> results) {
+        return new Experiment(
+            EXPERIMENT_ID,
+            "2025-01-01T00:00:00.000Z",
+            ExperimentType.HYBRID_OPTIMIZER,
+            AsyncStatus.ERROR,
+            "query_set",
+            List.of("search_config"),
+            List.of("judgment"),
+            10,
+            results,
+            Map.of("coordinatorNodeId", "removed_node", "optimizer", "TPE", "searchBudget", 20, "distributedExecution", false)
+        );
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class ResumeExperimentTransportActionTests extends OpenSearchTestCase {
+
+    private static final String EXPERIMENT_ID = "experiment";
+    private static final String LOCAL_NODE_ID = "local_node";
+    private static final String LIVE_NODE_ID = "live_node";
+
+    private ExperimentDao experimentDao;
+    private PutExperimentTransportAction putExperimentTransportAction;
+    private ResumeExperimentTransportAction transportAction;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        experimentDao = mock(ExperimentDao.class);
+        putExperimentTransportAction = mock(PutExperimentTransportAction.class);
+        DiscoveryNodes nodes = mock(DiscoveryNodes.class);
+        when(nodes.getLocalNodeId()).thenReturn(LOCAL_NODE_ID);
+        when(nodes.nodeExists(LOCAL_NODE_ID)).thenReturn(true);
+        when(nodes.nodeExists(LIVE_NODE_ID)).thenReturn(true);
+        ClusterState clusterState = mock(ClusterState.class);
+        when(clusterState.nodes()).thenReturn(nodes);
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(clusterState);
+        transportAction = new ResumeExperimentTransportAction(
+            clusterService,
+            mock(TransportService.class),
+            new ActionFilters(Collections.emptySet()),
+            experimentDao,
+            putExperimentTransportAction
+        );
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        ExperimentRecovery.markInactive(EXPERIMENT_ID);
+        super.tearDown();
+    }
+
+    public void testMissingExperimentIsNotFound() throws Exception {
+        mockExperiment(null);
+
+        assertEquals(RestStatus.NOT_FOUND, resumeFailure().status());
+        verify(putExperimentTransportAction, never()).resumeExperiment(any(), any());
+    }
+
+    public void testCompletedExperimentIsRejected() throws Exception {
+        mockExperiment(experimentSource(AsyncStatus.COMPLETED, LOCAL_NODE_ID));
+
+        assertEquals(RestStatus.BAD_REQUEST, resumeFailure().status());
+        verify(putExperimentTransportAction, never()).resumeExperiment(any(), any());
+    }
+
+    public void testExperimentProcessingOnALiveNodeIsRejected() throws Exception {
+        mockExperiment(experimentSource(AsyncStatus.PROCESSING, LIVE_NODE_ID));
+
+        assertEquals(RestStatus.CONFLICT, resumeFailure().status());
+        verify(putExperimentTransportAction, never()).resumeExperiment(any(), any());
+        assertFalse(ExperimentRecovery.isActive(EXPERIMENT_ID));
+    }
+
+    public void testExperimentProcessingOnThisNodeIsRejected() throws Exception {
+        mockExperiment(experimentSource(AsyncStatus.PROCESSING, LOCAL_NODE_ID));
+        assertTrue(ExperimentRecovery.markActive(EXPERIMENT_ID));
+
+        assertEquals(RestStatus.CONFLICT, resumeFailure().status());
+        verify(putExperimentTransportAction, never()).resumeExperiment(any(), any());
+    }
+
+    public void testExperimentProcessingOnARemovedNodeIsResumed() throws Exception {
+        mockExperiment(experimentSource(AsyncStatus.PROCESSING, "removed_node"));
+
+        resume(ActionListener.wrap(response -> {}, e -> fail("the experiment should be resumed")));
+
+        verify(putExperimentTransportAction).resumeExperiment(any(), any());
+        assertTrue(ExperimentRecovery.isActive(EXPERIMENT_ID));
+    }
+
+    public void testFailedExperimentIsResumed() throws Exception {
+        mockExperiment(experimentSource(AsyncStatus.ERROR, LIVE_NODE_ID));
+
+        resume(ActionListener.wrap(response -> {}, e -> fail("the experiment should be resumed")));
+
+        verify(putExperimentTransportAction).resumeExperiment(any(), any());
+    }
+
+    private SearchRelevanceException resumeFailure() {
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        resume(ActionListener.wrap(response -> fail("the resume should be rejected"), failure::set));
+        return (SearchRelevanceException) failure.get();
+    }
+
+    private void resume(ActionListener<IndexResponse> listener) {
+        transportAction.doExecute(mock(Task.class), new OpenSearchDocRequest(EXPERIMENT_ID), listener);
+    }
+
+    private void mockExperiment(Map<String, Object> source) throws Exception {
+        SearchHit[] hits = new SearchHit[0];
+        if (source != null) {
+            SearchHit hit = new SearchHit(1, EXPERIMENT_ID, Map.of(), Map.of());
+            hit.sourceRef(BytesReference.bytes(XContentFactory.jsonBuilder().map(source)));
+            hits = new SearchHit[] { hit };
+        }
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
+            return null;
+        }).when(experimentDao).getExperiment(eq(EXPERIMENT_ID), any());
+    }
+
+    private static Map<String, Object> experimentSource(AsyncStatus status, String coordinatorNodeId) {
+        return Map.of(
+            Experiment.ID,
+            EXPERIMENT_ID,
+            Experiment.TIME_STAMP,
+            "2025-01-01T00:00:00.000Z",
+            Experiment.TYPE,
+            ExperimentType.PAIRWISE_COMPARISON.name(),
+            Experiment.STATUS,
+            status.name(),
+            Experiment.QUERY_SET_ID,
+            "query_set",
+            Experiment.SEARCH_CONFIGURATION_LIST,
+            List.of("search_config1", "search_config2"),
+            Experiment.JUDGMENT_LIST,
+            List.of(),
+            Experiment.SIZE,
+            10,
+            Experiment.RESULTS,
+            List.of(),
+            Experiment.METADATA,
+            Map.of("coordinatorNodeId", coordinatorNodeId)
+        );
+    }
+}
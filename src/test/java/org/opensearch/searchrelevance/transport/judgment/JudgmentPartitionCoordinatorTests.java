@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.opensearch.searchrelevance.common.PluginConstants.DISTRIBUTED_JUDGING;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_INPUT_TOKENS;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_LLM_CALLS;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.model.QuerySet;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class JudgmentPartitionCoordinatorTests extends OpenSearchTestCase {
+
+    public void testPartitionMetadataSplitsBudgets() {
+        Map<String, Object> metadata = Map.of(DISTRIBUTED_JUDGING, true, MAX_INPUT_TOKENS, 1000L, MAX_LLM_CALLS, 3, "size", 5);
+
+        Map<String, Object> partitionMetadata = JudgmentPartitionCoordinator.partitionMetadata(metadata, 1, 10);
+
+        assertFalse(partitionMetadata.containsKey(DISTRIBUTED_JUDGING));
+        assertEquals(100L, partitionMetadata.get(MAX_INPUT_TOKENS));
+        assertEquals("A limited budget never becomes unlimited", 1, partitionMetadata.get(MAX_LLM_CALLS));
+        assertEquals(5, partitionMetadata.get("size"));
+    }
+
+    public void testPartitionMetadataKeepsUnlimitedBudgets() {
+        Map<String, Object> metadata = Map.of(MAX_INPUT_TOKENS, 0L, MAX_LLM_CALLS, 0);
+
+        Map<String, Object> partitionMetadata = JudgmentPartitionCoordinator.partitionMetadata(metadata, 1, 10);
+
+        assertEquals(0L, partitionMetadata.get(MAX_INPUT_TOKENS));
+        assertEquals(0, partitionMetadata.get(MAX_LLM_CALLS));
+    }
+
+    public void testQuerySetLookupFailureFailsTheJob() {
+        QuerySetDao querySetDao = mock(QuerySetDao.class);
+        TransportService transportService = mock(TransportService.class);
+        doAnswer(invocation -> {
+            ActionListener<QuerySet> listener = invocation.getArgument(1);
+            listener.onFailure(new SearchRelevanceException("QuerySet not found: query-set", RestStatus.NOT_FOUND));
+            return null;
+        }).when(querySetDao).getQuerySetAsync(eq("query-set"), any());
+        JudgmentPartitionCoordinator coordinator = new JudgmentPartitionCoordinator(
+            transportService,
+            mock(ClusterService.class),
+            querySetDao
+        );
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        coordinator.generateJudgmentRating(
+            "judgment",
+            Map.of("querySetId", "query-set"),
+            Set.of(),
+            result -> fail("no partition should be judged"),
+            ActionListener.wrap(results -> fail("the job should fail"), failure::set)
+        );
+
+        assertTrue(failure.get() instanceof SearchRelevanceException);
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, ((SearchRelevanceException) failure.get()).status());
+        verifyNoInteractions(transportService);
+    }
+}
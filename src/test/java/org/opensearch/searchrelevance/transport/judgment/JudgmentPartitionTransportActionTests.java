@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.searchrelevance.judgments.BaseJudgmentsProcessor;
+import org.opensearch.searchrelevance.judgments.JudgmentsProcessorFactory;
+import org.opensearch.searchrelevance.model.JudgmentType;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class JudgmentPartitionTransportActionTests extends OpenSearchTestCase {
+
+    private static final List<Map<String, Object>> RATINGS = List.of(Map.of("query", "red shoes"));
+
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private boolean cancelWhileJudging = false;
+    private JudgmentPartitionTransportAction transportAction;
+    private CancellableTask task;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        super.setUp();
+        BaseJudgmentsProcessor processor = mock(BaseJudgmentsProcessor.class);
+        doAnswer(invocation -> {
+            BooleanSupplier processorCancelled = invocation.getArgument(3);
+            cancelled.set(cancelWhileJudging);
+            assertEquals("The processor sees the cancellation of the partition", cancelWhileJudging, processorCancelled.getAsBoolean());
+            ActionListener<List<Map<String, Object>>> listener = invocation.getArgument(4);
+            listener.onResponse(RATINGS);
+            return null;
+        }).when(processor).generateJudgmentRating(anyMap(), anySet(), any(), any(BooleanSupplier.class), any());
+        JudgmentsProcessorFactory judgmentsProcessorFactory = mock(JudgmentsProcessorFactory.class);
+        when(judgmentsProcessorFactory.getProcessor(JudgmentType.LLM_JUDGMENT)).thenReturn(processor);
+        transportAction = new JudgmentPartitionTransportAction(
+            mock(TransportService.class),
+            new ActionFilters(Collections.emptySet()),
+            judgmentsProcessorFactory
+        );
+        task = mock(CancellableTask.class);
+        when(task.isCancelled()).thenAnswer(invocation -> cancelled.get());
+    }
+
+    public void testPartitionTaskIsCancellable() {
+        JudgmentPartitionRequest request = new JudgmentPartitionRequest("judgment", Map.of(), List.of("red shoes"));
+
+        CancellableTask partitionTask = (CancellableTask) request.createTask(
+            1,
+            "transport",
+            JudgmentPartitionAction.NAME,
+            TaskId.EMPTY_TASK_ID,
+            Map.of()
+        );
+
+        assertTrue(partitionTask.shouldCancelChildrenOnCancellation());
+        assertEquals("judgment[judgment], query texts[1]", partitionTask.getDescription());
+    }
+
+    public void testPartitionReturnsItsRatings() {
+        AtomicReference<List<Map<String, Object>>> ratings = new AtomicReference<>();
+        execute(ActionListener.wrap(response -> ratings.set(response.getJudgmentRatings()), e -> fail("the partition should be judged")));
+
+        assertEquals(RATINGS, ratings.get());
+    }
+
+    public void testCancelledPartitionDoesNotReturnItsRatings() {
+        cancelWhileJudging = true;
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        execute(ActionListener.wrap(response -> fail("a cancelled partition should fail"), failure::set));
+
+        assertTrue(failure.get() instanceof TaskCancelledException);
+    }
+
+    private void execute(ActionListener<JudgmentPartitionResponse> listener) {
+        transportAction.doExecute(task, new JudgmentPartitionRequest("judgment", Map.of(), List.of("red shoes")), listener);
+    }
+}
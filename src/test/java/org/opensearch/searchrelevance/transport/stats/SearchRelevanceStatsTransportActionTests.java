@@ -34,6 +34,9 @@ import org.opensearch.searchrelevance.stats.events.TimestampedEventStatSnapshot;
 import org.opensearch.searchrelevance.stats.info.CountableInfoStatSnapshot;
 import org.opensearch.searchrelevance.stats.info.InfoStatName;
 import org.opensearch.searchrelevance.stats.info.InfoStatsManager;
+import org.opensearch.searchrelevance.stats.tasks.TaskStatName;
+import org.opensearch.searchrelevance.stats.tasks.TaskStatSnapshot;
+import org.opensearch.searchrelevance.stats.tasks.TaskStatsManager;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
@@ -58,6 +61,9 @@ public class SearchRelevanceStatsTransportActionTests extends OpenSearchTestCase
     @Mock
     private InfoStatsManager infoStatsManager;
 
+    @Mock
+    private TaskStatsManager taskStatsManager;
+
     private SearchRelevanceStatsTransportAction transportAction;
     private ClusterName clusterName;
 
@@ -76,7 +82,8 @@ public class SearchRelevanceStatsTransportActionTests extends OpenSearchTestCase
             transportService,
             actionFilters,
             eventStatsManager,
-            infoStatsManager
+            infoStatsManager,
+            taskStatsManager
         );
     }
 
@@ -340,4 +347,49 @@ public class SearchRelevanceStatsTransportActionTests extends OpenSearchTestCase
 
         verify(eventStatsManager).getTimestampedEventStatSnapshots(eventStats);
     }
+
+    public void test_nodeOperation_taskStats() {
+        EnumSet<TaskStatName> taskStats = EnumSet.of(TaskStatName.LLM_JUDGMENT_TASKS);
+        SearchRelevanceStatsInput input = SearchRelevanceStatsInput.builder()
+            .eventStatNames(EnumSet.noneOf(EventStatName.class))
+            .taskStatNames(taskStats)
+            .build();
+        SearchRelevanceStatsRequest request = new SearchRelevanceStatsRequest(new String[] {}, input);
+
+        DiscoveryNode localNode = mock(DiscoveryNode.class);
+        when(clusterService.localNode()).thenReturn(localNode);
+        TaskStatSnapshot snapshot = new TaskStatSnapshot(TaskStatName.LLM_JUDGMENT_TASKS, Map.of("queued_tasks", 4));
+        when(taskStatsManager.getStats(taskStats)).thenReturn(Map.of(TaskStatName.LLM_JUDGMENT_TASKS, snapshot));
+
+        SearchRelevanceStatsNodeResponse response = transportAction.nodeOperation(new SearchRelevanceStatsNodeRequest(request));
+
+        assertEquals(snapshot, response.getTaskStats().get(TaskStatName.LLM_JUDGMENT_TASKS));
+        verify(taskStatsManager).getStats(taskStats);
+    }
+
+    public void test_newResponse_taskStatsReportedPerNodeOnly() {
+        SearchRelevanceStatsInput input = SearchRelevanceStatsInput.builder()
+            .eventStatNames(EnumSet.noneOf(EventStatName.class))
+            .infoStatNames(EnumSet.noneOf(InfoStatName.class))
+            .taskStatNames(EnumSet.of(TaskStatName.LLM_JUDGMENT_TASKS))
+            .includeIndividualNodes(true)
+            .includeAllNodes(true)
+            .build();
+        SearchRelevanceStatsRequest request = new SearchRelevanceStatsRequest(new String[] {}, input);
+
+        DiscoveryNode node = mock(DiscoveryNode.class);
+        when(node.getId()).thenReturn("test-node-1");
+        TaskStatSnapshot snapshot = new TaskStatSnapshot(TaskStatName.LLM_JUDGMENT_TASKS, Map.of("queued_tasks", 4));
+        List<SearchRelevanceStatsNodeResponse> responses = List.of(
+            new SearchRelevanceStatsNodeResponse(node, new HashMap<>(), Map.of(TaskStatName.LLM_JUDGMENT_TASKS, snapshot))
+        );
+
+        SearchRelevanceStatsResponse response = transportAction.newResponse(request, responses, new ArrayList<>());
+
+        StatSnapshot<?> nodeTaskStat = response.getNodeIdToNodeEventStats()
+            .get("test-node-1")
+            .get(TaskStatName.LLM_JUDGMENT_TASKS.getFullPath());
+        assertEquals(Map.of("queued_tasks", 4), nodeTaskStat.getValue());
+        assertFalse(response.getAggregatedNodeStats().containsKey(TaskStatName.LLM_JUDGMENT_TASKS.getFullPath()));
+    }
 }
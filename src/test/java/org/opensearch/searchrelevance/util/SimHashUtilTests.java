@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.util;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.opensearch.searchrelevance.utils.SimHashUtil;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SimHashUtilTests extends OpenSearchTestCase {
+
+    private static final String SHOE = "Nike Air Zoom running shoes for men, lightweight mesh upper with responsive cushioning for daily "
+        + "training and long runs";
+    private static final String KNIFE_SET = "Stainless steel kitchen knife set with wooden block, includes chef knife, bread knife and "
+        + "paring knife";
+
+    public void testFingerprintIgnoresCaseAndPunctuation() {
+        long fingerprint = SimHashUtil.fingerprint(SHOE);
+        assertEquals(fingerprint, SimHashUtil.fingerprint(SHOE.toUpperCase(Locale.ROOT)));
+        assertEquals(fingerprint, SimHashUtil.fingerprint(SHOE.replace(",", " -") + "!"));
+    }
+
+    public void testDifferentTextsAreFarApart() {
+        assertTrue(SimHashUtil.hammingDistance(SimHashUtil.fingerprint(SHOE), SimHashUtil.fingerprint(KNIFE_SET)) > 3);
+    }
+
+    public void testClusterNearDuplicates() {
+        Map<String, String> texts = new LinkedHashMap<>();
+        texts.put("index::1", SHOE);
+        texts.put("index::2", KNIFE_SET);
+        texts.put("index::3", SHOE + "!");
+        texts.put("index::4", "");
+        texts.put("index::5", null);
+        texts.put("index::6", " ");
+
+        Map<String, List<String>> clusters = SimHashUtil.clusterNearDuplicates(texts, 3);
+
+        assertEquals(Map.of("index::1", List.of("index::3")), clusters);
+    }
+}